@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import com.google.gson.stream.JsonWriter;
+import com.vta4j.model.Bus;
+import com.vta4j.model.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The benchmarks of the response serialization of the VTA4j application, from a {@link Set} of buses to the bytes of
+ * a response body.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializeBenchmark {
+    /**
+     * The fixture name of this benchmark.
+     */
+    @Param({"stop", "hub", "agency"})
+    public String fixture;
+
+    /**
+     * The buses of this benchmark.
+     */
+    private Set<Bus> buses;
+
+    /**
+     * Loads the buses of the fixture of this benchmark.
+     */
+    @Setup
+    public void setup() {
+        byte[] body = Fixtures.getBody(this.fixture);
+
+        this.buses = Fixtures.parse(body);
+    } //setup
+
+    /**
+     * Serializes the buses of this benchmark as a JSON snapshot.
+     *
+     * @return the JSON snapshot of the buses of this benchmark
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public byte[] json() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (JsonWriter jsonWriter = new JsonWriter(new Utf8Writer(outputStream))) {
+            BusMessageConverter.writeSnapshot(jsonWriter, 1L, this.buses);
+        } //end try
+
+        return outputStream.toByteArray();
+    } //json
+
+    /**
+     * Serializes the buses of this benchmark as a gzip-compressed JSON snapshot.
+     *
+     * @return the gzip-compressed JSON snapshot of the buses of this benchmark
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        byte[] bytes = this.json();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 4);
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bytes);
+        } //end try
+
+        return outputStream.toByteArray();
+    } //jsonGzip
+
+    /**
+     * Serializes the buses of this benchmark in the binary format of the {@link BinaryBusEncoder} class.
+     *
+     * @return the binary snapshot of the buses of this benchmark
+     */
+    @Benchmark
+    public byte[] binary() {
+        return BinaryBusEncoder.encode(1L, this.buses);
+    } //binary
+}
\ No newline at end of file
@@ -0,0 +1,388 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An open-loop load generator for the {@code api/buses} endpoint of the VTA4j application. Requests are sent at a
+ * fixed rate regardless of how quickly earlier ones complete, and each latency is measured from the time the request
+ * was due rather than the time it was sent, so a stalled server is not hidden by coordinated omission. Requests cycle
+ * through a range of stop IDs. If the URL of a {@link StubServer} is given, the number of upstream calls made during
+ * the measurement is reported as well.
+ * <p>
+ * The options are:
+ * <pre>
+ * --target=http://localhost:6942 the base URL of the application
+ * --rps=100                      the target number of requests per second
+ * --duration=30s                 the length of the measurement
+ * --warmup=5s                    the length of the warmup, whose requests are not measured
+ * --first-stop=60461             the first stop ID to request
+ * --stops=100                    the number of stop IDs to cycle through
+ * --stub=                        the base URL of the stub server, or empty
+ * </pre>
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+public final class LoadGenerator {
+    /**
+     * The pattern of the request count in the statistics of a stub server of the {@link LoadGenerator} class.
+     */
+    private static final Pattern REQUESTS_PATTERN;
+
+    static {
+        REQUESTS_PATTERN = Pattern.compile("\"requests\":\\s*(\\d+)");
+    } //static
+
+    /**
+     * The HTTP client of this load generator.
+     */
+    private final HttpClient client;
+
+    /**
+     * The base URL of the application of this load generator.
+     */
+    private final String target;
+
+    /**
+     * The first stop ID of this load generator.
+     */
+    private final int firstStopId;
+
+    /**
+     * The number of stop IDs of this load generator.
+     */
+    private final int stopCount;
+
+    /**
+     * The measured latencies of this load generator, in nanoseconds.
+     */
+    private final long[] latencies;
+
+    /**
+     * The number of measured latencies of this load generator.
+     */
+    private final AtomicInteger latencyCount;
+
+    /**
+     * The response counts of this load generator, keyed by status code.
+     */
+    private final Map<Integer, LongAdder> statusCounts;
+
+    /**
+     * The failure counter of this load generator.
+     */
+    private final LongAdder failureCount;
+
+    /**
+     * The number of requests in flight of this load generator.
+     */
+    private final AtomicLong inFlight;
+
+    /**
+     * Constructs an instance of the {@link LoadGenerator} class.
+     *
+     * @param target the base URL of the application to be used in construction
+     * @param firstStopId the first stop ID to be used in construction
+     * @param stopCount the number of stop IDs to be used in construction
+     * @param maximumRequests the maximum number of measured requests to be used in construction
+     * @throws NullPointerException if the specified base URL is {@code null}
+     * @throws IllegalArgumentException if the specified number of stop IDs or maximum number of measured requests is
+     * not positive
+     */
+    public LoadGenerator(String target, int firstStopId, int stopCount, int maximumRequests) {
+        Objects.requireNonNull(target, "the specified base URL is null");
+
+        if (stopCount <= 0) {
+            throw new IllegalArgumentException("the specified number of stop IDs is not positive");
+        } else if (maximumRequests <= 0) {
+            throw new IllegalArgumentException("the specified maximum number of measured requests is not positive");
+        } //end if
+
+        this.client = HttpClient.newBuilder()
+                                .version(HttpClient.Version.HTTP_1_1)
+                                .connectTimeout(Duration.ofSeconds(5L))
+                                .build();
+
+        this.target = target.endsWith("/") ? target.substring(0, target.length() - 1) : target;
+
+        this.firstStopId = firstStopId;
+
+        this.stopCount = stopCount;
+
+        this.latencies = new long[maximumRequests];
+
+        this.latencyCount = new AtomicInteger();
+
+        this.statusCounts = new ConcurrentHashMap<>();
+
+        this.failureCount = new LongAdder();
+
+        this.inFlight = new AtomicLong();
+    } //LoadGenerator
+
+    /**
+     * Sends the request with the specified sequence number, which was due at the specified time.
+     *
+     * @param sequence the sequence number to be used in the operation
+     * @param dueTime the due time, in nanoseconds, to be used in the operation
+     * @param measured whether the latency of the request is measured
+     */
+    private void send(long sequence, long dueTime, boolean measured) {
+        int stopId = this.firstStopId + (int) (sequence % this.stopCount);
+
+        URI uri = URI.create("%s/api/buses?stopId=%d".formatted(this.target, stopId));
+
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                                         .timeout(Duration.ofSeconds(30L))
+                                         .header("Accept-Encoding", "gzip")
+                                         .GET()
+                                         .build();
+
+        this.inFlight.incrementAndGet();
+
+        this.client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                   .whenComplete((response, throwable) -> {
+                       long latency = System.nanoTime() - dueTime;
+
+                       this.inFlight.decrementAndGet();
+
+                       if (!measured) {
+                           return;
+                       } //end if
+
+                       if (throwable != null) {
+                           this.failureCount.increment();
+                       } else {
+                           this.statusCounts.computeIfAbsent(response.statusCode(), key -> new LongAdder())
+                                            .increment();
+                       } //end if
+
+                       int index = this.latencyCount.getAndIncrement();
+
+                       if (index < this.latencies.length) {
+                           this.latencies[index] = latency;
+                       } //end if
+                   });
+    } //send
+
+    /**
+     * Returns the number of requests served by the stub server at the specified base URL, or {@code -1} if it cannot
+     * be determined.
+     *
+     * @param stub the base URL of the stub server to be used in the operation, or {@code null}
+     * @return the number of requests served by the stub server at the specified base URL, or {@code -1} if it cannot
+     * be determined
+     */
+    private long getUpstreamCount(String stub) {
+        if ((stub == null) || stub.isEmpty()) {
+            return -1L;
+        } //end if
+
+        URI uri = URI.create("%s/stats".formatted(stub));
+
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                                         .GET()
+                                         .build();
+
+        String body;
+
+        try {
+            body = this.client.send(request, HttpResponse.BodyHandlers.ofString())
+                              .body();
+        } catch (IOException e) {
+            return -1L;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+
+            return -1L;
+        } //end try catch
+
+        Matcher matcher = LoadGenerator.REQUESTS_PATTERN.matcher(body);
+
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : -1L;
+    } //getUpstreamCount
+
+    /**
+     * Returns the specified percentile of the specified sorted latencies, in milliseconds.
+     *
+     * @param latencies the sorted latencies to be used in the operation
+     * @param percentile the percentile to be used in the operation
+     * @return the specified percentile of the specified sorted latencies, in milliseconds
+     */
+    private static double getPercentile(long[] latencies, double percentile) {
+        if (latencies.length == 0) {
+            return Double.NaN;
+        } //end if
+
+        int index = (int) Math.ceil((percentile / 100.0) * latencies.length) - 1;
+
+        index = Math.max(0, Math.min(index, latencies.length - 1));
+
+        return latencies[index] / 1_000_000.0;
+    } //getPercentile
+
+    /**
+     * Drives the application at the specified rate for the specified warmup and measurement, then prints a report.
+     *
+     * @param rps the target number of requests per second to be used in the operation
+     * @param warmup the warmup to be used in the operation
+     * @param duration the measurement duration to be used in the operation
+     * @param stub the base URL of the stub server to be used in the operation, or {@code null}
+     * @throws InterruptedException if the operation is interrupted
+     */
+    public void run(int rps, Duration warmup, Duration duration, String stub) throws InterruptedException {
+        long period = TimeUnit.SECONDS.toNanos(1L) / rps;
+
+        long startTime = System.nanoTime();
+
+        long measureTime = startTime + warmup.toNanos();
+
+        long endTime = measureTime + duration.toNanos();
+
+        AtomicLong sequence = new AtomicLong();
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        scheduler.scheduleAtFixedRate(() -> {
+            long now = System.nanoTime();
+
+            long next = sequence.get();
+
+            long dueTime = startTime + (next * period);
+
+            while ((dueTime <= now) && (dueTime < endTime)) {
+                this.send(next, dueTime, dueTime >= measureTime);
+
+                next = sequence.incrementAndGet();
+
+                dueTime = startTime + (next * period);
+            } //end while
+        }, 0L, Math.max(period, TimeUnit.MILLISECONDS.toNanos(1L)), TimeUnit.NANOSECONDS);
+
+        TimeUnit.NANOSECONDS.sleep(Math.max(0L, measureTime - System.nanoTime()));
+
+        long upstreamStart = this.getUpstreamCount(stub);
+
+        TimeUnit.NANOSECONDS.sleep(Math.max(0L, endTime - System.nanoTime()));
+
+        scheduler.shutdownNow();
+
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30L);
+
+        while ((this.inFlight.get() > 0L) && (System.nanoTime() < drainDeadline)) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        } //end while
+
+        long upstreamEnd = this.getUpstreamCount(stub);
+
+        int count = Math.min(this.latencyCount.get(), this.latencies.length);
+
+        long[] sorted = Arrays.copyOf(this.latencies, count);
+
+        Arrays.sort(sorted);
+
+        double seconds = duration.toNanos() / 1_000_000_000.0;
+
+        Map<Integer, Long> statuses = new TreeMap<>();
+
+        this.statusCounts.forEach((status, adder) -> statuses.put(status, adder.sum()));
+
+        System.out.printf("requests     %d (%d failed, %d still in flight)%n", this.latencyCount.get(),
+                          this.failureCount.sum(), this.inFlight.get());
+
+        System.out.printf("throughput   %.1f requests/s (target %d)%n", count / seconds, rps);
+
+        System.out.printf("latency      p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms%n",
+                          LoadGenerator.getPercentile(sorted, 50.0), LoadGenerator.getPercentile(sorted, 90.0),
+                          LoadGenerator.getPercentile(sorted, 99.0), LoadGenerator.getPercentile(sorted, 99.9),
+                          LoadGenerator.getPercentile(sorted, 100.0));
+
+        System.out.printf("statuses     %s%n", statuses);
+
+        if ((upstreamStart >= 0L) && (upstreamEnd >= 0L)) {
+            long upstreamCalls = upstreamEnd - upstreamStart;
+
+            double ratio = (count == 0) ? 0.0 : ((double) upstreamCalls / count);
+
+            System.out.printf("upstream     %d calls (%.3f per request)%n", upstreamCalls, ratio);
+        } //end if
+    } //run
+
+    /**
+     * Runs a load generator with the specified command-line options.
+     *
+     * @param args the command-line arguments to be used in the operation
+     * @throws InterruptedException if the operation is interrupted
+     */
+    public static void main(String[] args) throws InterruptedException {
+        Options options = new Options(args);
+
+        String target = options.getString("target", "http://localhost:6942");
+
+        int rps = options.getInt("rps", 100);
+
+        Duration duration = options.getDuration("duration", Duration.ofSeconds(30L));
+
+        Duration warmup = options.getDuration("warmup", Duration.ofSeconds(5L));
+
+        int firstStopId = options.getInt("first-stop", 60461);
+
+        int stopCount = options.getInt("stops", 100);
+
+        String stub = options.getString("stub", "");
+
+        if (rps <= 0) {
+            throw new IllegalArgumentException("the target number of requests per second is not positive");
+        } //end if
+
+        long maximumRequests = (rps * duration.toSeconds()) + rps;
+
+        LoadGenerator loadGenerator = new LoadGenerator(target, firstStopId, stopCount,
+                                                        (int) Math.min(maximumRequests, Integer.MAX_VALUE - 8));
+
+        loadGenerator.run(rps, warmup, duration, stub);
+    } //main
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.load;
+
+import org.springframework.boot.convert.DurationStyle;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The command-line options of a VTA4j load-testing tool, given as {@code --name=value}.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+final class Options {
+    /**
+     * The values of these options, keyed by name.
+     */
+    private final Map<String, String> values;
+
+    /**
+     * Constructs an instance of the {@link Options} class.
+     *
+     * @param args the command-line arguments to be used in construction
+     * @throws NullPointerException if the specified command-line arguments are {@code null}
+     * @throws IllegalArgumentException if an argument is not of the form {@code --name=value}
+     */
+    Options(String[] args) {
+        Objects.requireNonNull(args, "the specified command-line arguments are null");
+
+        this.values = new HashMap<>();
+
+        for (String arg : args) {
+            int index = arg.indexOf('=');
+
+            if (!arg.startsWith("--") || (index == -1)) {
+                String message = "the argument \"%s\" is not of the form --name=value".formatted(arg);
+
+                throw new IllegalArgumentException(message);
+            } //end if
+
+            String name = arg.substring(2, index);
+
+            String value = arg.substring(index + 1);
+
+            this.values.put(name, value);
+        } //end for
+    } //Options
+
+    /**
+     * Returns the value of the option with the specified name, or the specified default value if it was not given.
+     *
+     * @param name the name to be used in the operation
+     * @param defaultValue the default value to be used in the operation
+     * @return the value of the option with the specified name, or the specified default value if it was not given
+     */
+    String getString(String name, String defaultValue) {
+        return this.values.getOrDefault(name, defaultValue);
+    } //getString
+
+    /**
+     * Returns the integer value of the option with the specified name, or the specified default value if it was not
+     * given.
+     *
+     * @param name the name to be used in the operation
+     * @param defaultValue the default value to be used in the operation
+     * @return the integer value of the option with the specified name, or the specified default value if it was not
+     * given
+     * @throws NumberFormatException if the value of the option is not an integer
+     */
+    int getInt(String name, int defaultValue) {
+        String value = this.values.get(name);
+
+        return (value == null) ? defaultValue : Integer.parseInt(value);
+    } //getInt
+
+    /**
+     * Returns the decimal value of the option with the specified name, or the specified default value if it was not
+     * given.
+     *
+     * @param name the name to be used in the operation
+     * @param defaultValue the default value to be used in the operation
+     * @return the decimal value of the option with the specified name, or the specified default value if it was not
+     * given
+     * @throws NumberFormatException if the value of the option is not a number
+     */
+    double getDouble(String name, double defaultValue) {
+        String value = this.values.get(name);
+
+        return (value == null) ? defaultValue : Double.parseDouble(value);
+    } //getDouble
+
+    /**
+     * Returns the duration value of the option with the specified name, such as {@code 50ms} or {@code 30s}, or the
+     * specified default value if it was not given.
+     *
+     * @param name the name to be used in the operation
+     * @param defaultValue the default value to be used in the operation
+     * @return the duration value of the option with the specified name, or the specified default value if it was not
+     * given
+     * @throws IllegalArgumentException if the value of the option is not a duration
+     */
+    Duration getDuration(String name, Duration defaultValue) {
+        String value = this.values.get(name);
+
+        return (value == null) ? defaultValue : DurationStyle.detectAndParse(value);
+    } //getDuration
+}
\ No newline at end of file
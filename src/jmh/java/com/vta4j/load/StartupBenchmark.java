@@ -0,0 +1,369 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.load;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark of the startup time and first-request latency of the VTA4j application, comparing a plain JVM launch,
+ * a JVM launch with the class data sharing archive of the {@code cds} profile, and the executable of the
+ * {@code native} profile. Each variant is started several times. Startup time is measured from launch until the
+ * server port accepts connections, and first-request latency is measured for one request sent right after, so that
+ * lazy initialization on the request path is counted. The resident set size after the first request is reported where
+ * the operating system exposes it.
+ * <p>
+ * The options are:
+ * <pre>
+ * --jar=target/VTA4j-0.0.1-SNAPSHOT.jar     the jar built by the cds profile, or empty to skip both JVM variants
+ * --archive=target/VTA4j-0.0.1-SNAPSHOT.jsa the archive built by the cds profile, or empty to skip the CDS variant
+ * --native=target/vta4j                     the executable built by the native profile, or empty to skip it
+ * --runs=5                                  the number of launches of each variant
+ * --port=6960                               the server port of each launch
+ * --path=/api/buses/stats                   the path of the first request
+ * --timeout=60s                             the longest a launch may take to accept connections
+ * --app-args=                               additional space-separated arguments of the application
+ * </pre>
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+public final class StartupBenchmark {
+    /**
+     * The measurements of one launch of a variant.
+     *
+     * @param startup the time until the server port accepted connections, in nanoseconds
+     * @param firstRequest the latency of the first request, in nanoseconds
+     * @param status the status code of the first request
+     * @param rss the resident set size after the first request, in kilobytes, or {@code -1} if it is unknown
+     */
+    private record Launch(long startup, long firstRequest, int status, long rss) {
+    }
+
+    /**
+     * The HTTP client of this benchmark.
+     */
+    private final HttpClient client;
+
+    /**
+     * The server port of this benchmark.
+     */
+    private final int port;
+
+    /**
+     * The path of the first request of this benchmark.
+     */
+    private final String path;
+
+    /**
+     * The launch timeout of this benchmark.
+     */
+    private final Duration timeout;
+
+    /**
+     * The additional application arguments of this benchmark.
+     */
+    private final List<String> appArgs;
+
+    /**
+     * Constructs an instance of the {@link StartupBenchmark} class.
+     *
+     * @param port the server port to be used in construction
+     * @param path the path of the first request to be used in construction
+     * @param timeout the launch timeout to be used in construction
+     * @param appArgs the additional application arguments to be used in construction
+     * @throws NullPointerException if the specified path, timeout, or application arguments are {@code null}
+     */
+    public StartupBenchmark(int port, String path, Duration timeout, List<String> appArgs) {
+        this.client = HttpClient.newHttpClient();
+
+        this.port = port;
+
+        this.path = Objects.requireNonNull(path, "the specified path is null");
+
+        this.timeout = Objects.requireNonNull(timeout, "the specified timeout is null");
+
+        this.appArgs = List.copyOf(Objects.requireNonNull(appArgs, "the specified application arguments are null"));
+    } //StartupBenchmark
+
+    /**
+     * Returns whether the server port of this benchmark accepts connections.
+     *
+     * @return {@code true}, if the server port of this benchmark accepts connections and {@code false} otherwise
+     */
+    private boolean isListening() {
+        InetSocketAddress address = new InetSocketAddress("localhost", this.port);
+
+        try (Socket socket = new Socket()) {
+            socket.connect(address, 100);
+
+            return true;
+        } catch (IOException e) {
+            return false;
+        } //end try catch
+    } //isListening
+
+    /**
+     * Returns the resident set size of the process with the specified ID, in kilobytes, or {@code -1} if it is
+     * unknown.
+     *
+     * @param pid the process ID to be used in the operation
+     * @return the resident set size of the process with the specified ID, in kilobytes, or {@code -1}
+     */
+    private static long getRss(long pid) {
+        Path statusPath = Path.of("/proc", String.valueOf(pid), "status");
+
+        try {
+            for (String line : Files.readAllLines(statusPath)) {
+                if (line.startsWith("VmRSS:")) {
+                    String[] fields = line.substring(6)
+                                          .strip()
+                                          .split("\\s+");
+
+                    return Long.parseLong(fields[0]);
+                } //end if
+            } //end for
+        } catch (IOException | RuntimeException e) {
+            return -1L;
+        } //end try catch
+
+        return -1L;
+    } //getRss
+
+    /**
+     * Stops the specified process and its descendants, forcibly if it does not exit within ten seconds.
+     *
+     * @param process the process to be used in the operation
+     * @throws InterruptedException if the operation is interrupted
+     */
+    private static void stop(Process process) throws InterruptedException {
+        List<ProcessHandle> descendants = process.descendants()
+                                                 .toList();
+
+        process.destroy();
+
+        if (!process.waitFor(10L, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+
+            process.waitFor();
+        } //end if
+
+        descendants.forEach(ProcessHandle::destroyForcibly);
+    } //stop
+
+    /**
+     * Launches the specified command once and measures its startup and first request.
+     *
+     * @param command the command to be used in the operation
+     * @return the measurements of the launch
+     * @throws IOException if the command cannot be started, does not accept connections in time, or the first request
+     * fails
+     * @throws InterruptedException if the operation is interrupted
+     */
+    private Launch launch(List<String> command) throws IOException, InterruptedException {
+        if (this.isListening()) {
+            throw new IOException("port %d is already in use".formatted(this.port));
+        } //end if
+
+        List<String> arguments = new ArrayList<>(command);
+
+        arguments.add("--server.port=%d".formatted(this.port));
+
+        arguments.addAll(this.appArgs);
+
+        ProcessBuilder builder = new ProcessBuilder(arguments).redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                                                              .redirectError(ProcessBuilder.Redirect.DISCARD);
+
+        long startTime = System.nanoTime();
+
+        Process process = builder.start();
+
+        try {
+            long deadline = startTime + this.timeout.toNanos();
+
+            while (!this.isListening()) {
+                if (!process.isAlive()) {
+                    throw new IOException("the application exited with %d".formatted(process.exitValue()));
+                } else if (System.nanoTime() > deadline) {
+                    throw new IOException("the application did not start within %s".formatted(this.timeout));
+                } //end if
+
+                TimeUnit.MILLISECONDS.sleep(5L);
+            } //end while
+
+            long startup = System.nanoTime() - startTime;
+
+            URI uri = URI.create("http://localhost:%d%s".formatted(this.port, this.path));
+
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                                             .timeout(this.timeout)
+                                             .build();
+
+            long requestTime = System.nanoTime();
+
+            HttpResponse<Void> response = this.client.send(request, HttpResponse.BodyHandlers.discarding());
+
+            long firstRequest = System.nanoTime() - requestTime;
+
+            long rss = StartupBenchmark.getRss(process.pid());
+
+            return new Launch(startup, firstRequest, response.statusCode(), rss);
+        } finally {
+            StartupBenchmark.stop(process);
+        } //end try finally
+    } //launch
+
+    /**
+     * Returns the median of the specified values.
+     *
+     * @param values the values to be used in the operation
+     * @return the median of the specified values
+     */
+    private static double getMedian(long[] values) {
+        long[] sorted = values.clone();
+
+        Arrays.sort(sorted);
+
+        int middle = sorted.length / 2;
+
+        if ((sorted.length % 2) == 0) {
+            return (sorted[middle - 1] + sorted[middle]) / 2.0;
+        } //end if
+
+        return sorted[middle];
+    } //getMedian
+
+    /**
+     * Launches the specified command the specified number of times and prints a report of its measurements.
+     *
+     * @param name the name of the variant to be used in the operation
+     * @param command the command to be used in the operation
+     * @param runs the number of launches to be used in the operation
+     * @throws IOException if a launch fails
+     * @throws InterruptedException if the operation is interrupted
+     */
+    public void run(String name, List<String> command, int runs) throws IOException, InterruptedException {
+        long[] startups = new long[runs];
+
+        long[] firstRequests = new long[runs];
+
+        long[] rssValues = new long[runs];
+
+        Map<Integer, Integer> statuses = new LinkedHashMap<>();
+
+        for (int i = 0; i < runs; i++) {
+            Launch launch = this.launch(command);
+
+            startups[i] = launch.startup();
+
+            firstRequests[i] = launch.firstRequest();
+
+            rssValues[i] = launch.rss();
+
+            statuses.merge(launch.status(), 1, Integer::sum);
+        } //end for
+
+        double startup = StartupBenchmark.getMedian(startups) / 1_000_000.0;
+
+        double startupMinimum = Arrays.stream(startups)
+                                      .min()
+                                      .orElse(0L) / 1_000_000.0;
+
+        double firstRequest = StartupBenchmark.getMedian(firstRequests) / 1_000_000.0;
+
+        double rss = StartupBenchmark.getMedian(rssValues) / 1_024.0;
+
+        System.out.printf("%-7s startup %8.1f ms (min %8.1f ms)  first request %7.1f ms  rss %7.1f MB  statuses %s%n",
+                          name, startup, startupMinimum, firstRequest, rss, statuses);
+    } //run
+
+    /**
+     * Runs a startup benchmark with the specified command-line options.
+     *
+     * @param args the command-line arguments to be used in the operation
+     * @throws IOException if a launch fails
+     * @throws InterruptedException if the operation is interrupted
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Options options = new Options(args);
+
+        String jar = options.getString("jar", "target/VTA4j-0.0.1-SNAPSHOT.jar");
+
+        String archive = options.getString("archive", "target/VTA4j-0.0.1-SNAPSHOT.jsa");
+
+        String executable = options.getString("native", "target/vta4j");
+
+        int runs = options.getInt("runs", 5);
+
+        int port = options.getInt("port", 6960);
+
+        String path = options.getString("path", "/api/buses/stats");
+
+        Duration timeout = options.getDuration("timeout", Duration.ofSeconds(60L));
+
+        String appArgs = options.getString("app-args", "")
+                                .strip();
+
+        if (runs <= 0) {
+            throw new IllegalArgumentException("the number of launches is not positive");
+        } //end if
+
+        List<String> appArgList = appArgs.isEmpty() ? List.of() : List.of(appArgs.split("\\s+"));
+
+        StartupBenchmark benchmark = new StartupBenchmark(port, path, timeout, appArgList);
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java")
+                          .toString();
+
+        if (!jar.isEmpty() && Files.exists(Path.of(jar))) {
+            benchmark.run("jvm", List.of(java, "-Xshare:auto", "-jar", jar), runs);
+
+            if (!archive.isEmpty() && Files.exists(Path.of(archive))) {
+                String archiveOption = "-XX:SharedArchiveFile=%s".formatted(archive);
+
+                benchmark.run("cds", List.of(java, archiveOption, "-Xshare:auto", "-jar", jar), runs);
+            } //end if
+        } //end if
+
+        if (!executable.isEmpty() && Files.exists(Path.of(executable))) {
+            benchmark.run("native", List.of(executable), runs);
+        } //end if
+    } //main
+}
\ No newline at end of file
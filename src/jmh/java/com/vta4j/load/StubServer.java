@@ -0,0 +1,364 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.vta4j.model.Fixtures;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A local stub of the 511 StopMonitoring API for load testing the VTA4j application without touching the real API.
+ * Each stop is answered with a gzip-compressed fixture generated once per stop, after a configurable latency, and a
+ * configurable fraction of requests fail with {@code 503 Service Unavailable}. The number of requests served is
+ * reported as JSON at {@code /stats}.
+ * <p>
+ * The options are:
+ * <pre>
+ * --port=8511          the port to listen on
+ * --latency=0ms        the latency added to every response
+ * --jitter=0ms         the maximum random latency added on top of the latency
+ * --error-rate=0       the fraction of requests that fail
+ * --visits=6           the number of visits per stop
+ * --agency-visits=4000 the number of visits of a response for the whole agency
+ * </pre>
+ * Point the application at it with {@code vta4j.upstream.base-url=http://localhost:8511/transit}.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+public final class StubServer {
+    /**
+     * The stop ID of a response for the whole agency of the {@link StubServer} class.
+     */
+    private static final int AGENCY;
+
+    static {
+        AGENCY = -1;
+    } //static
+
+    /**
+     * The latency of this stub server, in nanoseconds.
+     */
+    private final long latency;
+
+    /**
+     * The maximum jitter of this stub server, in nanoseconds.
+     */
+    private final long jitter;
+
+    /**
+     * The error rate of this stub server.
+     */
+    private final double errorRate;
+
+    /**
+     * The number of visits per stop of this stub server.
+     */
+    private final int visitCount;
+
+    /**
+     * The number of visits of a response for the whole agency of this stub server.
+     */
+    private final int agencyVisitCount;
+
+    /**
+     * The gzip-compressed bodies of this stub server, keyed by stop ID.
+     */
+    private final Map<Integer, byte[]> bodies;
+
+    /**
+     * The scheduler of delayed responses of this stub server.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The request counter of this stub server.
+     */
+    private final LongAdder requestCount;
+
+    /**
+     * The error counter of this stub server.
+     */
+    private final LongAdder errorCount;
+
+    /**
+     * Constructs an instance of the {@link StubServer} class.
+     *
+     * @param latency the latency to be used in construction
+     * @param jitter the maximum jitter to be used in construction
+     * @param errorRate the error rate to be used in construction
+     * @param visitCount the number of visits per stop to be used in construction
+     * @param agencyVisitCount the number of visits of a response for the whole agency to be used in construction
+     * @throws NullPointerException if the specified latency or maximum jitter is {@code null}
+     * @throws IllegalArgumentException if the specified latency or maximum jitter is negative, the specified error rate
+     * is not between zero and one, or a specified number of visits is negative
+     */
+    public StubServer(Duration latency, Duration jitter, double errorRate, int visitCount, int agencyVisitCount) {
+        Objects.requireNonNull(latency, "the specified latency is null");
+
+        Objects.requireNonNull(jitter, "the specified maximum jitter is null");
+
+        if (latency.isNegative() || jitter.isNegative()) {
+            throw new IllegalArgumentException("the specified latency or maximum jitter is negative");
+        } else if ((errorRate < 0.0) || (errorRate > 1.0)) {
+            throw new IllegalArgumentException("the specified error rate is not between zero and one");
+        } else if ((visitCount < 0) || (agencyVisitCount < 0)) {
+            throw new IllegalArgumentException("the specified number of visits is negative");
+        } //end if
+
+        this.latency = latency.toNanos();
+
+        this.jitter = jitter.toNanos();
+
+        this.errorRate = errorRate;
+
+        this.visitCount = visitCount;
+
+        this.agencyVisitCount = agencyVisitCount;
+
+        this.bodies = new ConcurrentHashMap<>();
+
+        AtomicInteger threadCount = new AtomicInteger();
+
+        ThreadFactory threadFactory = runnable -> {
+            String name = "stub-%d".formatted(threadCount.incrementAndGet());
+
+            Thread thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        };
+
+        int threads = Runtime.getRuntime()
+                             .availableProcessors();
+
+        this.scheduler = Executors.newScheduledThreadPool(threads, threadFactory);
+
+        this.requestCount = new LongAdder();
+
+        this.errorCount = new LongAdder();
+    } //StubServer
+
+    /**
+     * Returns the stop ID in the query of the specified exchange, or {@link #AGENCY} if there is none.
+     *
+     * @param exchange the exchange to be used in the operation
+     * @return the stop ID in the query of the specified exchange, or {@link #AGENCY} if there is none
+     */
+    private static int getStopId(HttpExchange exchange) {
+        String query = exchange.getRequestURI()
+                               .getRawQuery();
+
+        if (query == null) {
+            return StubServer.AGENCY;
+        } //end if
+
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith("stopcode=")) {
+                String value = parameter.substring("stopcode=".length());
+
+                try {
+                    return Integer.parseInt(value);
+                } catch (NumberFormatException e) {
+                    return StubServer.AGENCY;
+                } //end try catch
+            } //end if
+        } //end for
+
+        return StubServer.AGENCY;
+    } //getStopId
+
+    /**
+     * Returns the gzip-compressed body of a response for the stop with the specified ID.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return the gzip-compressed body of a response for the stop with the specified ID
+     */
+    private byte[] getBody(int stopId) {
+        return this.bodies.computeIfAbsent(stopId, key -> {
+            byte[] body;
+
+            if (key == StubServer.AGENCY) {
+                body = Fixtures.getBody(60461, this.agencyVisitCount);
+            } else {
+                body = Fixtures.getBody(key, this.visitCount);
+            } //end if
+
+            return Fixtures.gzip(body);
+        });
+    } //getBody
+
+    /**
+     * Sends a response to the specified exchange, failing it at the error rate of this stub server.
+     *
+     * @param exchange the exchange to be used in the operation
+     */
+    private void respond(HttpExchange exchange) {
+        try (exchange) {
+            if (ThreadLocalRandom.current()
+                                 .nextDouble() < this.errorRate) {
+                this.errorCount.increment();
+
+                exchange.sendResponseHeaders(503, -1);
+
+                return;
+            } //end if
+
+            int stopId = StubServer.getStopId(exchange);
+
+            byte[] body = this.getBody(stopId);
+
+            exchange.getResponseHeaders()
+                    .set("Content-Type", "application/json; charset=utf-8");
+
+            exchange.getResponseHeaders()
+                    .set("Content-Encoding", "gzip");
+
+            exchange.sendResponseHeaders(200, body.length);
+
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            } //end try
+        } catch (IOException e) {
+            this.errorCount.increment();
+        } //end try catch
+    } //respond
+
+    /**
+     * Handles a StopMonitoring request, responding after the latency of this stub server without holding a thread.
+     *
+     * @param exchange the exchange to be used in the operation
+     */
+    private void handleStopMonitoring(HttpExchange exchange) {
+        this.requestCount.increment();
+
+        long delay = this.latency;
+
+        if (this.jitter > 0L) {
+            delay += ThreadLocalRandom.current()
+                                      .nextLong(this.jitter + 1L);
+        } //end if
+
+        if (delay == 0L) {
+            this.respond(exchange);
+        } else {
+            this.scheduler.schedule(() -> this.respond(exchange), delay, TimeUnit.NANOSECONDS);
+        } //end if
+    } //handleStopMonitoring
+
+    /**
+     * Handles a statistics request.
+     *
+     * @param exchange the exchange to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void handleStats(HttpExchange exchange) throws IOException {
+        String json = "{\"requests\": %d, \"errors\": %d}".formatted(this.requestCount.sum(), this.errorCount.sum());
+
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders()
+                .set("Content-Type", "application/json");
+
+        exchange.sendResponseHeaders(200, body.length);
+
+        try (exchange; OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        } //end try
+    } //handleStats
+
+    /**
+     * Starts this stub server on the specified port.
+     *
+     * @param port the port to be used in the operation
+     * @return the started HTTP server
+     * @throws IOException if an I/O error occurs
+     */
+    public HttpServer start(int port) throws IOException {
+        InetSocketAddress address = new InetSocketAddress(port);
+
+        HttpServer server = HttpServer.create(address, 1024);
+
+        server.createContext("/transit/StopMonitoring", this::handleStopMonitoring);
+
+        server.createContext("/stats", this::handleStats);
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+
+        server.setExecutor(executor);
+
+        server.start();
+
+        return server;
+    } //start
+
+    /**
+     * Runs a stub server with the specified command-line options until the process is stopped.
+     *
+     * @param args the command-line arguments to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    public static void main(String[] args) throws IOException {
+        Options options = new Options(args);
+
+        int port = options.getInt("port", 8511);
+
+        Duration latency = options.getDuration("latency", Duration.ZERO);
+
+        Duration jitter = options.getDuration("jitter", Duration.ZERO);
+
+        double errorRate = options.getDouble("error-rate", 0.0);
+
+        int visitCount = options.getInt("visits", 6);
+
+        int agencyVisitCount = options.getInt("agency-visits", 4000);
+
+        StubServer stubServer = new StubServer(latency, jitter, errorRate, visitCount, agencyVisitCount);
+
+        stubServer.start(port);
+
+        String message = "Serving StopMonitoring at http://localhost:%d/transit with a latency of %s + %s, an error "
+            + "rate of %s, and %d visits per stop";
+
+        System.out.println(message.formatted(port, latency, jitter, errorRate, visitCount));
+    } //main
+}
\ No newline at end of file
@@ -0,0 +1,408 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The StopMonitoring fixtures of the VTA4j benchmarks. The named fixtures are anonymised payloads in the shape of a
+ * recorded 511 response, generated from a fixed seed so that every run measures the same bytes: {@code stop} is a
+ * single quiet stop, {@code hub} is a busy transit center, and {@code agency} is a response for every monitored stop
+ * of the agency. About one visit in fifty has no arrival time, as in recorded responses, so the skip path is
+ * exercised. Any other name is read as the path of a recorded response, which may be gzip-compressed if its name
+ * ends with {@code .gz}.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+public final class Fixtures {
+    /**
+     * The seed of the {@link Fixtures} class.
+     */
+    private static final long SEED;
+
+    /**
+     * The response time of the {@link Fixtures} class.
+     */
+    private static final Instant RESPONSE_TIME;
+
+    /**
+     * The line names of the {@link Fixtures} class.
+     */
+    private static final String[] LINE_NAMES;
+
+    /**
+     * The stop names of the {@link Fixtures} class.
+     */
+    private static final String[] STOP_NAMES;
+
+    static {
+        SEED = 60461L;
+
+        RESPONSE_TIME = Instant.parse("2022-04-23T19:50:05Z");
+
+        LINE_NAMES = new String[] {
+            "EASTRIDGE - PALO ALTO",
+            "ALUM ROCK - DE ANZA COLLEGE",
+            "BERRYESSA - SANTA TERESA",
+            "MOUNTAIN VIEW - WINCHESTER",
+            "SAN JOSE DIRIDON - MILPITAS",
+            "SUNNYVALE - STANFORD RESEARCH PARK",
+            "GILROY - MORGAN HILL",
+            "CUPERTINO - SAN JOSE STATE"
+        };
+
+        STOP_NAMES = new String[] {
+            "Santa Clara & 1st",
+            "Palo Alto Transit Center",
+            "Eastridge Transit Center",
+            "Diridon Station",
+            "Alum Rock & King",
+            "El Camino & Castro",
+            "De Anza College",
+            "Great Mall Transit Center",
+            "Stevens Creek & Wolfe",
+            "Monterey & Blossom Hill"
+        };
+    } //static
+
+    /**
+     * Returns the name of the stop with the specified ID.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return the name of the stop with the specified ID
+     */
+    private static String getStopName(int stopId) {
+        int index = stopId % Fixtures.STOP_NAMES.length;
+
+        return "%s #%d".formatted(Fixtures.STOP_NAMES[index], stopId);
+    } //getStopName
+
+    /**
+     * Writes a reference to a dated vehicle journey using the specified JSON writer.
+     *
+     * @param jsonWriter the JSON writer to be used in the operation
+     * @param journeyId the journey ID to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeJourneyRef(JsonWriter jsonWriter, int journeyId) throws IOException {
+        jsonWriter.name("FramedVehicleJourneyRef")
+                  .beginObject()
+                  .name("DataFrameRef")
+                  .value("2022-04-23")
+                  .name("DatedVehicleJourneyRef")
+                  .value("%07d".formatted(journeyId))
+                  .endObject();
+    } //writeJourneyRef
+
+    /**
+     * Writes a monitored stop visit of a random bus at the stop with the specified ID using the specified JSON
+     * writer.
+     *
+     * @param jsonWriter the JSON writer to be used in the operation
+     * @param random the random number generator to be used in the operation
+     * @param stopId the stop ID to be used in the operation
+     * @param vehicleId the vehicle ID to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeVisit(JsonWriter jsonWriter, Random random, int stopId, int vehicleId)
+        throws IOException {
+        int lineIndex = random.nextInt(Fixtures.LINE_NAMES.length);
+
+        String lineId = String.valueOf(20 + (lineIndex * 3));
+
+        boolean west = random.nextBoolean();
+
+        String direction = west ? "WEST" : "EAST";
+
+        int destinationId = 60000 + (lineIndex * 10) + (west ? 1 : 2);
+
+        String destinationName = Fixtures.getStopName(destinationId);
+
+        String arrivalTime = null;
+
+        if (random.nextInt(50) != 0) {
+            long seconds = random.nextInt(90 * 60);
+
+            arrivalTime = Fixtures.RESPONSE_TIME.plusSeconds(seconds)
+                                                .truncatedTo(ChronoUnit.SECONDS)
+                                                .toString();
+        } //end if
+
+        String stopRef = String.valueOf(stopId);
+
+        jsonWriter.beginObject()
+                  .name("RecordedAtTime")
+                  .value("2022-04-23T19:50:00Z")
+                  .name("MonitoringRef")
+                  .value(stopRef)
+                  .name("MonitoredVehicleJourney")
+                  .beginObject()
+                  .name("LineRef")
+                  .value(lineId)
+                  .name("DirectionRef")
+                  .value(direction);
+
+        Fixtures.writeJourneyRef(jsonWriter, vehicleId);
+
+        jsonWriter.name("PublishedLineName")
+                  .value(Fixtures.LINE_NAMES[lineIndex])
+                  .name("OperatorRef")
+                  .value("SC")
+                  .name("OriginRef")
+                  .value("60001")
+                  .name("OriginName")
+                  .value("Origin")
+                  .name("DestinationRef")
+                  .value(String.valueOf(destinationId))
+                  .name("DestinationName")
+                  .value(destinationName)
+                  .name("Monitored")
+                  .value(true)
+                  .name("InCongestion")
+                  .nullValue()
+                  .name("VehicleLocation")
+                  .beginObject()
+                  .name("Longitude")
+                  .value("-121.%02d".formatted(random.nextInt(100)))
+                  .name("Latitude")
+                  .value("37.%02d".formatted(random.nextInt(100)))
+                  .endObject()
+                  .name("Bearing")
+                  .nullValue()
+                  .name("Occupancy")
+                  .nullValue()
+                  .name("VehicleRef")
+                  .value(String.valueOf(vehicleId))
+                  .name("MonitoredCall")
+                  .beginObject()
+                  .name("StopPointRef")
+                  .value(stopRef)
+                  .name("StopPointName")
+                  .value(Fixtures.getStopName(stopId))
+                  .name("VehicleLocationAtStop")
+                  .value("")
+                  .name("VehicleAtStop")
+                  .value("")
+                  .name("DestinationDisplay")
+                  .value(destinationName)
+                  .name("AimedArrivalTime")
+                  .value(arrivalTime)
+                  .name("ExpectedArrivalTime")
+                  .value(arrivalTime)
+                  .name("AimedDepartureTime")
+                  .value(arrivalTime)
+                  .name("ExpectedDepartureTime")
+                  .nullValue()
+                  .name("Distances")
+                  .value("")
+                  .endObject()
+                  .endObject()
+                  .endObject();
+    } //writeVisit
+
+    /**
+     * Returns a generated StopMonitoring response with the specified number of visits spread over the specified
+     * number of stops, starting with the stop with the specified ID.
+     *
+     * @param firstStopId the first stop ID to be used in the operation
+     * @param stopCount the number of stops to be used in the operation
+     * @param visitCount the number of visits to be used in the operation
+     * @return a generated StopMonitoring response with the specified number of visits spread over the specified number
+     * of stops, starting with the stop with the specified ID
+     */
+    private static String generate(int firstStopId, int stopCount, int visitCount) {
+        Random random = new Random(Fixtures.SEED + firstStopId);
+
+        String responseTimestamp = Fixtures.RESPONSE_TIME.toString();
+
+        StringWriter stringWriter = new StringWriter();
+
+        stringWriter.write('\uFEFF');
+
+        try (JsonWriter jsonWriter = new JsonWriter(stringWriter)) {
+            jsonWriter.beginObject()
+                      .name("ServiceDelivery")
+                      .beginObject()
+                      .name("ResponseTimestamp")
+                      .value(responseTimestamp)
+                      .name("ProducerRef")
+                      .value("SC")
+                      .name("Status")
+                      .value(true)
+                      .name("StopMonitoringDelivery")
+                      .beginObject()
+                      .name("version")
+                      .value("1.4")
+                      .name("ResponseTimestamp")
+                      .value(responseTimestamp)
+                      .name("Status")
+                      .value(true)
+                      .name("MonitoredStopVisit")
+                      .beginArray();
+
+            for (int i = 0; i < visitCount; i++) {
+                int stopId = firstStopId + (i % stopCount);
+
+                Fixtures.writeVisit(jsonWriter, random, stopId, 1000 + i);
+            } //end for
+
+            jsonWriter.endArray()
+                      .endObject()
+                      .endObject()
+                      .endObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+
+        return stringWriter.toString();
+    } //generate
+
+    /**
+     * Returns a single generated monitored stop visit that has every required field.
+     *
+     * @return a single generated monitored stop visit that has every required field
+     */
+    public static byte[] getVisit() {
+        Random random = new Random(Fixtures.SEED);
+
+        StringWriter stringWriter = new StringWriter();
+
+        try (JsonWriter jsonWriter = new JsonWriter(stringWriter)) {
+            Fixtures.writeVisit(jsonWriter, random, 60461, 1000);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+
+        return stringWriter.toString()
+                           .getBytes(StandardCharsets.UTF_8);
+    } //getVisit
+
+    /**
+     * Returns the uncompressed body of the fixture with the specified name.
+     *
+     * @param name the name to be used in the operation
+     * @return the uncompressed body of the fixture with the specified name
+     * @throws NullPointerException if the specified name is {@code null}
+     * @throws UncheckedIOException if an I/O error occurs while reading a recorded response
+     */
+    public static byte[] getBody(String name) {
+        Objects.requireNonNull(name, "the specified name is null");
+
+        String body = switch (name) {
+            case "stop" -> Fixtures.generate(60461, 1, 6);
+            case "hub" -> Fixtures.generate(60461, 1, 60);
+            case "agency" -> Fixtures.generate(60461, 400, 4000);
+            default -> null;
+        };
+
+        if (body != null) {
+            return body.getBytes(StandardCharsets.UTF_8);
+        } //end if
+
+        Path path = Path.of(name);
+
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            if (name.endsWith(".gz")) {
+                return new GZIPInputStream(inputStream).readAllBytes();
+            } //end if
+
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+    } //getBody
+
+    /**
+     * Returns the uncompressed body of a generated response for the stop with the specified ID with the specified
+     * number of visits.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param visitCount the number of visits to be used in the operation
+     * @return the uncompressed body of a generated response for the stop with the specified ID with the specified
+     * number of visits
+     */
+    public static byte[] getBody(int stopId, int visitCount) {
+        return Fixtures.generate(stopId, 1, visitCount)
+                       .getBytes(StandardCharsets.UTF_8);
+    } //getBody
+
+    /**
+     * Returns the specified body compressed with gzip, as the 511 API sends it.
+     *
+     * @param body the body to be used in the operation
+     * @return the specified body compressed with gzip
+     * @throws NullPointerException if the specified body is {@code null}
+     */
+    public static byte[] gzip(byte[] body) {
+        Objects.requireNonNull(body, "the specified body is null");
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 4);
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+
+        return outputStream.toByteArray();
+    } //gzip
+
+    /**
+     * Returns a {@link Set} of the buses parsed from the specified body.
+     *
+     * @param body the body to be used in the operation
+     * @return a {@link Set} of the buses parsed from the specified body
+     * @throws NullPointerException if the specified body is {@code null}
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    public static Set<Bus> parse(byte[] body) {
+        Objects.requireNonNull(body, "the specified body is null");
+
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8)) {
+            return Model.parseBody(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+    } //parse
+}
\ No newline at end of file
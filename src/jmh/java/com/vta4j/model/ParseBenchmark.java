@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * The benchmarks of the decoding path of the VTA4j application, from a gzip-compressed StopMonitoring response to a
+ * {@link Set} of buses.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+    /**
+     * The size of the decompression buffer of the {@link ParseBenchmark} class, which matches that of the
+     * {@link Model} class.
+     */
+    private static final int BUFFER_SIZE;
+
+    static {
+        BUFFER_SIZE = 8192;
+    } //static
+
+    /**
+     * The fixture name of this benchmark.
+     */
+    @Param({"stop", "hub", "agency"})
+    public String fixture;
+
+    /**
+     * The uncompressed body of this benchmark.
+     */
+    private byte[] body;
+
+    /**
+     * The gzip-compressed body of this benchmark.
+     */
+    private byte[] gzipBody;
+
+    /**
+     * The drain buffer of this benchmark.
+     */
+    private byte[] buffer;
+
+    /**
+     * Loads the fixture of this benchmark.
+     */
+    @Setup
+    public void setup() {
+        this.body = Fixtures.getBody(this.fixture);
+
+        this.gzipBody = Fixtures.gzip(this.body);
+
+        this.buffer = new byte[ParseBenchmark.BUFFER_SIZE];
+    } //setup
+
+    /**
+     * Parses the uncompressed body of this benchmark.
+     *
+     * @return the buses parsed from the uncompressed body of this benchmark
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public Set<Bus> parseBody() throws IOException {
+        InputStream inputStream = new ByteArrayInputStream(this.body);
+
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            return Model.parseBody(reader);
+        } //end try
+    } //parseBody
+
+    /**
+     * Decompresses the gzip-compressed body of this benchmark without parsing it.
+     *
+     * @return the number of bytes decompressed
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public long gunzip() throws IOException {
+        InputStream inputStream = new ByteArrayInputStream(this.gzipBody);
+
+        long count = 0L;
+
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(inputStream, ParseBenchmark.BUFFER_SIZE)) {
+            int bytesRead;
+
+            while ((bytesRead = gzipInputStream.read(this.buffer)) != -1) {
+                count += bytesRead;
+            } //end while
+        } //end try
+
+        return count;
+    } //gunzip
+
+    /**
+     * Decompresses and parses the gzip-compressed body of this benchmark, as the model does for every upstream
+     * response.
+     *
+     * @return the buses parsed from the gzip-compressed body of this benchmark
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public Set<Bus> decode() throws IOException {
+        InputStream inputStream = new ByteArrayInputStream(this.gzipBody);
+
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(inputStream, ParseBenchmark.BUFFER_SIZE);
+             Reader reader = new InputStreamReader(gzipInputStream, StandardCharsets.UTF_8)) {
+            return Model.parseBody(reader);
+        } //end try
+    } //decode
+}
\ No newline at end of file
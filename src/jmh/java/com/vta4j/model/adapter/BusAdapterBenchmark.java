@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.adapter;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.vta4j.model.Bus;
+import com.vta4j.model.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmarks of the {@link BusAdapter} class, reading one monitored stop visit and writing one bus.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusAdapterBenchmark {
+    /**
+     * The visit of this benchmark.
+     */
+    private byte[] visit;
+
+    /**
+     * The bus of this benchmark.
+     */
+    private Bus bus;
+
+    /**
+     * Loads the visit of this benchmark and the bus it describes.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.visit = Fixtures.getVisit();
+
+        this.bus = this.readBus();
+
+        if (this.bus == null) {
+            throw new IllegalStateException("the fixture visit is missing a required field");
+        } //end if
+    } //setup
+
+    /**
+     * Reads the visit of this benchmark.
+     *
+     * @return the bus read from the visit of this benchmark
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public Bus readBus() throws IOException {
+        InputStream inputStream = new ByteArrayInputStream(this.visit);
+
+        Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+
+        try (JsonReader jsonReader = new JsonReader(reader)) {
+            return BusAdapter.readBus(jsonReader);
+        } //end try
+    } //readBus
+
+    /**
+     * Writes the bus of this benchmark to a writer that discards its output.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void writeBus() throws IOException {
+        Writer writer = Writer.nullWriter();
+
+        try (JsonWriter jsonWriter = new JsonWriter(writer)) {
+            BusAdapter.writeBus(jsonWriter, this.bus);
+        } //end try
+    } //writeBus
+}
\ No newline at end of file
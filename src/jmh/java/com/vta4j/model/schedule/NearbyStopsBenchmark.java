@@ -0,0 +1,244 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.schedule;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * The benchmarks of the nearby stops lookup of the VTA4j application, from a location to the stops nearest it in a
+ * compiled schedule index. Locations are drawn from the bounding box of the stops, so some fall in dense downtown
+ * clusters and some in sparse outskirts.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NearbyStopsBenchmark {
+    /**
+     * The number of locations of the {@link NearbyStopsBenchmark} class, which must be a power of two.
+     */
+    private static final int LOCATION_COUNT;
+
+    static {
+        LOCATION_COUNT = 1024;
+    } //static
+
+    /**
+     * The feed of this benchmark, either {@code synthetic} for stops spread over Santa Clara County with dense
+     * clusters, or the path of a GTFS static feed.
+     */
+    @Param("synthetic")
+    public String feed;
+
+    /**
+     * The number of stops of a synthetic feed of this benchmark.
+     */
+    @Param({"4000", "40000"})
+    public int stops;
+
+    /**
+     * The number of nearby stops looked up by this benchmark.
+     */
+    @Param({"5", "20"})
+    public int count;
+
+    /**
+     * The temporary directory of this benchmark.
+     */
+    private Path directory;
+
+    /**
+     * The schedule index of this benchmark.
+     */
+    private ScheduleIndex index;
+
+    /**
+     * The latitudes of the locations of this benchmark, in degrees.
+     */
+    private double[] latitudes;
+
+    /**
+     * The longitudes of the locations of this benchmark, in degrees.
+     */
+    private double[] longitudes;
+
+    /**
+     * The next location of this benchmark.
+     */
+    private int next;
+
+    /**
+     * Writes a synthetic feed with the stop count of this benchmark to the specified path. Half of the stops are
+     * spread evenly over the county, and half are clustered around a few downtowns.
+     *
+     * @param feedPath the feed path to be used in the operation
+     * @param random the random number generator to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeFeed(Path feedPath, Random random) throws IOException {
+        double[][] centers = {
+            {37.3352, -121.8811},
+            {37.4419, -122.1430},
+            {37.3688, -122.0363},
+            {37.2358, -121.9624}
+        };
+
+        StringBuilder stopsTable = new StringBuilder("stop_id,stop_code,stop_name,stop_lat,stop_lon\n");
+
+        for (int i = 0; i < this.stops; i++) {
+            double latitude;
+
+            double longitude;
+
+            if ((i % 2) == 0) {
+                latitude = 37.1 + (random.nextDouble() * 0.4);
+
+                longitude = -122.2 + (random.nextDouble() * 0.6);
+            } else {
+                double[] center = centers[random.nextInt(centers.length)];
+
+                latitude = center[0] + (random.nextGaussian() * 0.01);
+
+                longitude = center[1] + (random.nextGaussian() * 0.01);
+            } //end if
+
+            stopsTable.append("S%d,%d,Stop %d,%.6f,%.6f\n".formatted(i, 60_000 + i, i, latitude, longitude));
+        } //end for
+
+        Map<String, String> tables = Map.of(
+            "routes.txt", "route_id,route_short_name,route_long_name,route_type\n",
+            "stops.txt", stopsTable.toString(),
+            "trips.txt", "route_id,service_id,trip_id\n",
+            "stop_times.txt", "trip_id,arrival_time,departure_time,stop_id,stop_sequence\n"
+        );
+
+        try (OutputStream outputStream = Files.newOutputStream(feedPath);
+             ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            for (Map.Entry<String, String> entry : tables.entrySet()) {
+                zipOutputStream.putNextEntry(new ZipEntry(entry.getKey()));
+
+                zipOutputStream.write(entry.getValue()
+                                           .getBytes(StandardCharsets.UTF_8));
+
+                zipOutputStream.closeEntry();
+            } //end for
+        } //end try
+    } //writeFeed
+
+    /**
+     * Compiles the feed of this benchmark and draws its locations.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("vta4j-nearby");
+
+        Random random = new Random(42L);
+
+        Path feedPath;
+
+        if (this.feed.equals("synthetic")) {
+            feedPath = this.directory.resolve("gtfs.zip");
+
+            this.writeFeed(feedPath, random);
+        } else {
+            feedPath = Path.of(this.feed);
+        } //end if
+
+        Path indexPath = this.directory.resolve("schedule.idx");
+
+        GtfsCompiler.compile(feedPath, indexPath);
+
+        this.index = ScheduleIndex.open(indexPath);
+
+        this.latitudes = new double[NearbyStopsBenchmark.LOCATION_COUNT];
+
+        this.longitudes = new double[NearbyStopsBenchmark.LOCATION_COUNT];
+
+        for (int i = 0; i < NearbyStopsBenchmark.LOCATION_COUNT; i++) {
+            this.latitudes[i] = 37.1 + (random.nextDouble() * 0.4);
+
+            this.longitudes[i] = -122.2 + (random.nextDouble() * 0.6);
+        } //end for
+
+        this.next = 0;
+    } //setup
+
+    /**
+     * Deletes the temporary files of this benchmark.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.directory.resolve("gtfs.zip"));
+
+        Files.deleteIfExists(this.directory.resolve("schedule.idx"));
+
+        Files.deleteIfExists(this.directory);
+    } //tearDown
+
+    /**
+     * Looks up the stops nearest the next location of this benchmark.
+     *
+     * @return the stops nearest the next location of this benchmark
+     */
+    @Benchmark
+    public List<NearbyStop> getNearbyStops() {
+        int location = this.next;
+
+        this.next = (location + 1) & (NearbyStopsBenchmark.LOCATION_COUNT - 1);
+
+        return this.index.getNearbyStops(this.latitudes[location], this.longitudes[location], this.count);
+    } //getNearbyStops
+}
\ No newline at end of file
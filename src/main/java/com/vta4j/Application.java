@@ -26,21 +26,114 @@ package com.vta4j;
 
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * An instance of the VTA4j application.
+ * <p>
+ * The keep-alive timeout of pooled upstream connections is the {@code jdk.httpclient.keepalive.timeout} system
+ * property, in seconds, which the JDK reads once, when its connection pool is first used. It is therefore set at
+ * launch: {@link #main(String[])} defaults it to 60 seconds before anything else runs, and a
+ * {@code -Djdk.httpclient.keepalive.timeout} JVM option takes precedence.
+ * <p>
+ * If {@code vta4j.startup.training-run} is {@code true}, the application sends itself a request to each of a few
+ * endpoints once it has started and then exits. This loads the classes of startup and of a first request, so that a
+ * run with {@code -XX:ArchiveClassesAtExit} records them in a class data sharing archive.
  *
  * @author Logan Kulinski, lbkulinski@gmail.com
- * @version April 19, 2022
+ * @version October 17, 2026
  */
 @SpringBootApplication
 public class Application {
+    /**
+     * The paths requested by a training run of the {@link Application} class.
+     */
+    private static final List<String> TRAINING_PATHS;
+
+    /**
+     * The name of the system property that controls the keep-alive timeout of pooled connections, in seconds.
+     */
+    private static final String KEEP_ALIVE_PROPERTY;
+
+    /**
+     * The default keep-alive timeout of pooled connections of the {@link Application} class, in seconds.
+     */
+    private static final String DEFAULT_KEEP_ALIVE;
+
+    static {
+        TRAINING_PATHS = List.of(
+            "/api/buses?stopId=60461",
+            "/api/buses?stopId=60461,60462",
+            "/api/buses/nearby?latitude=37.3352&longitude=-121.8811",
+            "/api/buses/stats",
+            "/actuator/health"
+        );
+
+        KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+
+        DEFAULT_KEEP_ALIVE = "60";
+    } //static
+
+    /**
+     * Sends a request to each training path of the application with the specified context. Responses are discarded,
+     * and a failed request is skipped.
+     *
+     * @param context the context to be used in the operation
+     * @throws InterruptedException if the operation is interrupted
+     */
+    private static void train(ConfigurableApplicationContext context) throws InterruptedException {
+        Environment environment = context.getEnvironment();
+
+        String port = environment.getProperty("local.server.port", "6942");
+
+        HttpClient client = HttpClient.newHttpClient();
+
+        for (String path : Application.TRAINING_PATHS) {
+            URI uri = URI.create("http://localhost:%s%s".formatted(port, path));
+
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                                             .timeout(Duration.ofSeconds(30L))
+                                             .build();
+
+            try {
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+            } catch (IOException e) {
+                continue;
+            } //end try catch
+        } //end for
+    } //train
+
     /**
      * Runs an instance of the VTA4j application.
      *
      * @param args the command line arguments
+     * @throws InterruptedException if a training run is interrupted
      */
-    public static void main(String[] args) {
-        SpringApplication.run(Application.class, args);
+    public static void main(String[] args) throws InterruptedException {
+        if (System.getProperty(Application.KEEP_ALIVE_PROPERTY) == null) {
+            System.setProperty(Application.KEEP_ALIVE_PROPERTY, Application.DEFAULT_KEEP_ALIVE);
+        } //end if
+
+        ConfigurableApplicationContext context = SpringApplication.run(Application.class, args);
+
+        Environment environment = context.getEnvironment();
+
+        boolean trainingRun = environment.getProperty("vta4j.startup.training-run", Boolean.class, false);
+
+        if (trainingRun) {
+            Application.train(context);
+
+            int exitCode = SpringApplication.exit(context);
+
+            System.exit(exitCode);
+        } //end if
     } //main
 }
\ No newline at end of file
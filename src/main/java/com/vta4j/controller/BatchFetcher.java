@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import org.springframework.stereotype.Component;
+import org.springframework.beans.factory.annotation.Value;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+import com.vta4j.model.Bus;
+import com.vta4j.model.BusSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A fetcher of VTA4j bus data for batches of stops. The stops of a batch are fetched concurrently under a single
+ * deadline, and each stop is given its own status, so that one slow or failing stop does not hold up the others. No
+ * thread waits for the batch: its result is a future completed when every stop has answered or timed out.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+public final class BatchFetcher {
+    /**
+     * The logger of the {@link BatchFetcher} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger();
+    } //static
+
+    /**
+     * The bus source of this fetcher.
+     */
+    private final BusSource busSource;
+
+    /**
+     * The per-batch deadline of this fetcher.
+     */
+    private final Duration deadline;
+
+    /**
+     * The maximum number of stops in a batch of this fetcher.
+     */
+    private final int maximumStops;
+
+    /**
+     * Constructs an instance of the {@link BatchFetcher} class.
+     *
+     * @param busSource the bus source to be used in construction
+     * @param deadline the per-batch deadline to be used in construction
+     * @param maximumStops the maximum number of stops in a batch to be used in construction
+     * @throws NullPointerException if the specified bus source or per-batch deadline is {@code null}
+     * @throws IllegalArgumentException if the specified per-batch deadline or maximum number of stops is not positive
+     */
+    public BatchFetcher(BusSource busSource, @Value("${vta4j.batch.deadline:5s}") Duration deadline,
+                        @Value("${vta4j.batch.maximum-stops:20}") int maximumStops) {
+        Objects.requireNonNull(busSource, "the specified bus source is null");
+
+        Objects.requireNonNull(deadline, "the specified per-batch deadline is null");
+
+        if (deadline.isNegative() || deadline.isZero()) {
+            throw new IllegalArgumentException("the specified per-batch deadline is not positive");
+        } else if (maximumStops <= 0) {
+            throw new IllegalArgumentException("the specified maximum number of stops is not positive");
+        } //end if
+
+        this.busSource = busSource;
+
+        this.deadline = deadline;
+
+        this.maximumStops = maximumStops;
+    } //BatchFetcher
+
+    /**
+     * Returns the maximum number of stops in a batch of this fetcher.
+     *
+     * @return the maximum number of stops in a batch of this fetcher
+     */
+    public int getMaximumStops() {
+        return this.maximumStops;
+    } //getMaximumStops
+
+    /**
+     * Returns the status of the stop with the specified ID given the outcome of its fetch.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param buses the buses to be used in the operation, or {@code null} if the fetch failed
+     * @param throwable the throwable to be used in the operation, or {@code null} if the fetch succeeded
+     * @return the status of the stop with the specified ID given the outcome of its fetch
+     */
+    private StopStatus getStatus(int stopId, Set<Bus> buses, Throwable throwable) {
+        if (throwable == null) {
+            return StopStatus.success(buses);
+        } //end if
+
+        Throwable cause = (throwable instanceof CompletionException) ? throwable.getCause() : throwable;
+
+        if (cause instanceof TimeoutException) {
+            String message = "the request for stop %d timed out".formatted(stopId);
+
+            return StopStatus.failure(message);
+        } //end if
+
+        BatchFetcher.LOGGER.atError()
+                           .withThrowable(cause)
+                           .log();
+
+        String message = "the request for stop %d failed".formatted(stopId);
+
+        return StopStatus.failure(message);
+    } //getStatus
+
+    /**
+     * Returns a future of the status of the stop with the specified ID, completed by the deadline of this fetcher.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return a future of the status of the stop with the specified ID
+     */
+    private CompletableFuture<StopStatus> fetch(int stopId) {
+        CompletableFuture<Set<Bus>> future;
+
+        try {
+            future = this.busSource.getBusesAsync(stopId);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        } //end try catch
+
+        return future.orTimeout(this.deadline.toNanos(), TimeUnit.NANOSECONDS)
+                     .handle((buses, throwable) -> this.getStatus(stopId, buses, throwable));
+    } //fetch
+
+    /**
+     * Fetches the buses at the stops with the specified IDs concurrently, and returns a future of the status of each
+     * stop, keyed by stop ID in the order given. Stops that have not been fetched when the deadline passes are
+     * reported as timed out.
+     *
+     * @param stopIds the stop IDs to be used in the operation
+     * @return a future of the status of each stop, keyed by stop ID in the order given
+     * @throws NullPointerException if the specified stop IDs are {@code null}
+     * @throws IllegalArgumentException if more than the maximum number of stops are specified
+     */
+    public CompletableFuture<Map<Integer, StopStatus>> fetchAsync(Collection<Integer> stopIds) {
+        Objects.requireNonNull(stopIds, "the specified stop IDs are null");
+
+        List<Integer> distinctIds = stopIds.stream()
+                                           .distinct()
+                                           .toList();
+
+        if (distinctIds.size() > this.maximumStops) {
+            String message = "the specified stop IDs exceed the maximum of %d".formatted(this.maximumStops);
+
+            throw new IllegalArgumentException(message);
+        } //end if
+
+        List<CompletableFuture<StopStatus>> futures = new ArrayList<>();
+
+        for (int stopId : distinctIds) {
+            futures.add(this.fetch(stopId));
+        } //end for
+
+        CompletableFuture<?>[] futureArray = futures.toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(futureArray)
+                                .thenApply(ignored -> {
+                                    Map<Integer, StopStatus> statuses = new LinkedHashMap<>();
+
+                                    for (int i = 0; i < distinctIds.size(); i++) {
+                                        statuses.put(distinctIds.get(i), futures.get(i)
+                                                                                .join());
+                                    } //end for
+
+                                    return statuses;
+                                });
+    } //fetchAsync
+}
\ No newline at end of file
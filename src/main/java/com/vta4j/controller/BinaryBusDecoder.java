@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import com.vta4j.model.Bus;
+import com.vta4j.model.Line;
+import com.vta4j.model.Stop;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A decoder of VTA4j bus snapshots written by the {@link BinaryBusEncoder}. Arrival times are decoded at the UTC
+ * offset they were written with.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+public final class BinaryBusDecoder {
+    /**
+     * A decoded snapshot.
+     *
+     * @param version the version of the snapshot
+     * @param buses the buses of the snapshot
+     */
+    public record Snapshot(long version, Set<Bus> buses) {
+    }
+
+    /**
+     * The buffer of this decoder.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Constructs an instance of the {@link BinaryBusDecoder} class.
+     *
+     * @param bytes the bytes to be used in construction
+     */
+    private BinaryBusDecoder(byte[] bytes) {
+        this.buffer = ByteBuffer.wrap(bytes);
+    } //BinaryBusDecoder
+
+    /**
+     * Reads an unsigned varint from the buffer of this decoder.
+     *
+     * @return the unsigned varint read from the buffer of this decoder
+     */
+    private long readVarint() {
+        long value = 0L;
+
+        int shift = 0;
+
+        while (true) {
+            int b = this.buffer.get() & 0xFF;
+
+            value |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            } //end if
+
+            shift += 7;
+        } //end while
+    } //readVarint
+
+    /**
+     * Reads a zigzag-encoded signed varint from the buffer of this decoder.
+     *
+     * @return the signed varint read from the buffer of this decoder
+     */
+    private long readSignedVarint() {
+        long zigzag = this.readVarint();
+
+        return (zigzag >>> 1) ^ -(zigzag & 1L);
+    } //readSignedVarint
+
+    /**
+     * Reads a snapshot from the buffer of this decoder.
+     *
+     * @return the snapshot read from the buffer of this decoder
+     * @throws IllegalArgumentException if the buffer of this decoder does not hold a binary bus snapshot
+     */
+    private Snapshot read() {
+        if ((this.buffer.get() != 'V') || (this.buffer.get() != 'B') ||
+            (this.buffer.get() != BinaryBusEncoder.FORMAT)) {
+            throw new IllegalArgumentException("the specified bytes are not a binary bus snapshot");
+        } //end if
+
+        long version = this.readVarint();
+
+        String[] strings = new String[(int) this.readVarint()];
+
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[(int) this.readVarint()];
+
+            this.buffer.get(bytes);
+
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        } //end for
+
+        int busCount = (int) this.readVarint();
+
+        Set<Bus> buses = new HashSet<>();
+
+        long time = 0L;
+
+        int offset = 0;
+
+        for (int i = 0; i < busCount; i++) {
+            int flags = this.buffer.get();
+
+            String id = null;
+
+            if ((flags & BinaryBusEncoder.HAS_ID) != 0) {
+                id = strings[(int) this.readVarint()];
+            } //end if
+
+            Line line = new Line(strings[(int) this.readVarint()], strings[(int) this.readVarint()]);
+
+            Stop stop = new Stop(strings[(int) this.readVarint()], strings[(int) this.readVarint()]);
+
+            Stop destination = null;
+
+            if ((flags & BinaryBusEncoder.HAS_DESTINATION) != 0) {
+                destination = new Stop(strings[(int) this.readVarint()], strings[(int) this.readVarint()]);
+            } //end if
+
+            String direction = strings[(int) this.readVarint()];
+
+            time += this.readSignedVarint();
+
+            if ((flags & BinaryBusEncoder.OFFSET_CHANGED) != 0) {
+                offset = (int) this.readSignedVarint();
+            } //end if
+
+            ZonedDateTime arrivalTime = Instant.ofEpochSecond(time)
+                                               .atZone(ZoneOffset.ofTotalSeconds(offset));
+
+            boolean scheduled = (flags & BinaryBusEncoder.SCHEDULED) != 0;
+
+            buses.add(new Bus(id, line, stop, destination, direction, arrivalTime, scheduled));
+        } //end for
+
+        if (this.buffer.hasRemaining()) {
+            throw new IllegalArgumentException("the specified bytes have trailing bytes after the last bus");
+        } //end if
+
+        return new Snapshot(version, buses);
+    } //read
+
+    /**
+     * Decodes the specified bytes written by the {@link BinaryBusEncoder}.
+     *
+     * @param bytes the bytes to be used in the operation
+     * @return the snapshot decoded from the specified bytes
+     * @throws NullPointerException if the specified bytes are {@code null}
+     * @throws IllegalArgumentException if the specified bytes are not a complete binary bus snapshot
+     */
+    public static Snapshot decode(byte[] bytes) {
+        Objects.requireNonNull(bytes, "the specified bytes are null");
+
+        try {
+            return new BinaryBusDecoder(bytes).read();
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("the specified bytes are a truncated binary bus snapshot", e);
+        } //end try catch
+    } //decode
+}
\ No newline at end of file
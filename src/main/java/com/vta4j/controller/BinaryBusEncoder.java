@@ -0,0 +1,295 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import org.springframework.http.MediaType;
+import com.vta4j.model.Bus;
+import com.vta4j.model.Line;
+import com.vta4j.model.Stop;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An encoder of VTA4j bus snapshots in a compact binary format, served in place of JSON to clients that accept
+ * {@code application/vnd.vta4j.buses}. Every string is written once to a per-response string table and referred to by
+ * index, and arrival times are written as differences in epoch seconds between buses sorted by arrival time. Integers
+ * are unsigned LEB128 varints, and signed integers are zigzag-encoded first. Sub-second precision is not kept.
+ * <p>
+ * The layout is:
+ * <pre>
+ * magic        'V' 'B'
+ * format       byte, 1
+ * version      varint, the snapshot version
+ * strings      varint count, then for each string a varint byte length and its UTF-8 bytes
+ * buses        varint count, then for each bus:
+ *   flags      byte, 1 = has ID, 2 = has destination, 4 = scheduled, 8 = offset changed
+ *   id         varint string index, if it has an ID
+ *   line       varint string indices of the line ID and name
+ *   stop       varint string indices of the stop ID and name
+ *   destination varint string indices of the destination ID and name, if it has one
+ *   direction  varint string index
+ *   arrival    zigzag varint, epoch seconds since the previous bus's arrival, or since the epoch for the first
+ *   offset     zigzag varint, UTC offset in seconds, if it changed from the previous bus's, which starts at zero
+ * </pre>
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+public final class BinaryBusEncoder {
+    /**
+     * The media type value of the binary format of the {@link BinaryBusEncoder} class.
+     */
+    public static final String MEDIA_TYPE_VALUE;
+
+    /**
+     * The media type of the binary format of the {@link BinaryBusEncoder} class.
+     */
+    public static final MediaType MEDIA_TYPE;
+
+    /**
+     * The format version of the {@link BinaryBusEncoder} class.
+     */
+    static final int FORMAT;
+
+    /**
+     * The has ID flag of the {@link BinaryBusEncoder} class.
+     */
+    static final int HAS_ID;
+
+    /**
+     * The has destination flag of the {@link BinaryBusEncoder} class.
+     */
+    static final int HAS_DESTINATION;
+
+    /**
+     * The scheduled flag of the {@link BinaryBusEncoder} class.
+     */
+    static final int SCHEDULED;
+
+    /**
+     * The offset changed flag of the {@link BinaryBusEncoder} class.
+     */
+    static final int OFFSET_CHANGED;
+
+    static {
+        MEDIA_TYPE_VALUE = "application/vnd.vta4j.buses";
+
+        MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+        FORMAT = 1;
+
+        HAS_ID = 1;
+
+        HAS_DESTINATION = 2;
+
+        SCHEDULED = 4;
+
+        OFFSET_CHANGED = 8;
+    } //static
+
+    /**
+     * Writes the specified value as an unsigned varint to the specified output stream.
+     *
+     * @param outputStream the output stream to be used in the operation
+     * @param value the value to be used in the operation
+     */
+    private static void writeVarint(ByteArrayOutputStream outputStream, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            outputStream.write((int) ((value & 0x7FL) | 0x80L));
+
+            value >>>= 7;
+        } //end while
+
+        outputStream.write((int) value);
+    } //writeVarint
+
+    /**
+     * Writes the specified value as a zigzag-encoded varint to the specified output stream.
+     *
+     * @param outputStream the output stream to be used in the operation
+     * @param value the value to be used in the operation
+     */
+    private static void writeSignedVarint(ByteArrayOutputStream outputStream, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+
+        BinaryBusEncoder.writeVarint(outputStream, zigzag);
+    } //writeSignedVarint
+
+    /**
+     * Writes the index of the specified string to the specified output stream, adding it to the specified string
+     * table if necessary.
+     *
+     * @param outputStream the output stream to be used in the operation
+     * @param strings the string table to be used in the operation
+     * @param string the string to be used in the operation
+     */
+    private static void writeString(ByteArrayOutputStream outputStream, Map<String, Integer> strings,
+                                    String string) {
+        Integer index = strings.get(string);
+
+        if (index == null) {
+            index = strings.size();
+
+            strings.put(string, index);
+        } //end if
+
+        BinaryBusEncoder.writeVarint(outputStream, index);
+    } //writeString
+
+    /**
+     * Writes the specified stop, as its ID and name, to the specified output stream.
+     *
+     * @param outputStream the output stream to be used in the operation
+     * @param strings the string table to be used in the operation
+     * @param stop the stop to be used in the operation
+     */
+    private static void writeStop(ByteArrayOutputStream outputStream, Map<String, Integer> strings, Stop stop) {
+        BinaryBusEncoder.writeString(outputStream, strings, stop.id());
+
+        BinaryBusEncoder.writeString(outputStream, strings, stop.name());
+    } //writeStop
+
+    /**
+     * Returns the specified buses of the specified version in the binary format.
+     *
+     * @param version the version to be used in the operation
+     * @param buses the buses to be used in the operation
+     * @return the specified buses of the specified version in the binary format
+     * @throws NullPointerException if the specified buses are {@code null}
+     */
+    public static byte[] encode(long version, Set<Bus> buses) {
+        Objects.requireNonNull(buses, "the specified buses are null");
+
+        List<Bus> sortedBuses = new ArrayList<>(buses);
+
+        Comparator<Bus> comparator = Comparator.comparing(bus -> bus.arrivalTime()
+                                                                    .toInstant());
+
+        sortedBuses.sort(comparator);
+
+        Map<String, Integer> strings = new HashMap<>();
+
+        ByteArrayOutputStream busStream = new ByteArrayOutputStream(sortedBuses.size() * 16);
+
+        long previousTime = 0L;
+
+        int previousOffset = 0;
+
+        for (Bus bus : sortedBuses) {
+            ZonedDateTime arrivalTime = bus.arrivalTime();
+
+            long time = arrivalTime.toEpochSecond();
+
+            int offset = arrivalTime.getOffset()
+                                    .getTotalSeconds();
+
+            int flags = 0;
+
+            if (bus.id() != null) {
+                flags |= BinaryBusEncoder.HAS_ID;
+            } //end if
+
+            if (bus.destination() != null) {
+                flags |= BinaryBusEncoder.HAS_DESTINATION;
+            } //end if
+
+            if (bus.scheduled()) {
+                flags |= BinaryBusEncoder.SCHEDULED;
+            } //end if
+
+            if (offset != previousOffset) {
+                flags |= BinaryBusEncoder.OFFSET_CHANGED;
+            } //end if
+
+            busStream.write(flags);
+
+            if (bus.id() != null) {
+                BinaryBusEncoder.writeString(busStream, strings, bus.id());
+            } //end if
+
+            Line line = bus.line();
+
+            BinaryBusEncoder.writeString(busStream, strings, line.id());
+
+            BinaryBusEncoder.writeString(busStream, strings, line.name());
+
+            BinaryBusEncoder.writeStop(busStream, strings, bus.stop());
+
+            if (bus.destination() != null) {
+                BinaryBusEncoder.writeStop(busStream, strings, bus.destination());
+            } //end if
+
+            BinaryBusEncoder.writeString(busStream, strings, bus.direction());
+
+            BinaryBusEncoder.writeSignedVarint(busStream, time - previousTime);
+
+            if (offset != previousOffset) {
+                BinaryBusEncoder.writeSignedVarint(busStream, offset);
+            } //end if
+
+            previousTime = time;
+
+            previousOffset = offset;
+        } //end for
+
+        String[] table = new String[strings.size()];
+
+        strings.forEach((string, index) -> table[index] = string);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(busStream.size() + (table.length * 16) + 16);
+
+        outputStream.write('V');
+
+        outputStream.write('B');
+
+        outputStream.write(BinaryBusEncoder.FORMAT);
+
+        BinaryBusEncoder.writeVarint(outputStream, version);
+
+        BinaryBusEncoder.writeVarint(outputStream, table.length);
+
+        for (String string : table) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+            BinaryBusEncoder.writeVarint(outputStream, bytes.length);
+
+            outputStream.writeBytes(bytes);
+        } //end for
+
+        BinaryBusEncoder.writeVarint(outputStream, sortedBuses.size());
+
+        outputStream.writeBytes(busStream.toByteArray());
+
+        return outputStream.toByteArray();
+    } //encode
+}
\ No newline at end of file
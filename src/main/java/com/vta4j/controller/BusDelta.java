@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import com.vta4j.model.Bus;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The changes to the buses at a stop between two versions of its snapshot. Buses are matched by their ID and line.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ * @param version the version the changes lead to
+ * @param since the version the changes start from
+ * @param added the buses that were added
+ * @param updated the buses that were updated, as of the newer version
+ * @param removed the buses that were removed, as of the older version
+ */
+public record BusDelta(long version, long since, List<Bus> added, List<Bus> updated, List<Bus> removed) {
+    /**
+     * Constructs an instance of the {@link BusDelta} class.
+     *
+     * @param version the version to be used in construction
+     * @param since the since version to be used in construction
+     * @param added the added buses to be used in construction
+     * @param updated the updated buses to be used in construction
+     * @param removed the removed buses to be used in construction
+     * @throws NullPointerException if the specified added, updated, or removed buses are {@code null}
+     */
+    public BusDelta {
+        Objects.requireNonNull(added, "the specified added buses are null");
+
+        Objects.requireNonNull(updated, "the specified updated buses are null");
+
+        Objects.requireNonNull(removed, "the specified removed buses are null");
+    } //BusDelta
+}
\ No newline at end of file
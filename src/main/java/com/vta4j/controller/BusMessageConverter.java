@@ -0,0 +1,383 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import org.springframework.stereotype.Component;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import com.google.gson.stream.JsonWriter;
+import com.vta4j.model.Bus;
+import com.vta4j.model.Stop;
+import com.vta4j.model.adapter.BusAdapter;
+import com.vta4j.model.schedule.NearbyStop;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An HTTP message converter of VTA4j bus responses. Responses are streamed to the output with Gson's
+ * {@link JsonWriter} and the {@link BusAdapter}, without reflection or intermediate maps or strings, and in the same
+ * shape as Spring's JSON mapper would write them.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+public final class BusMessageConverter extends AbstractHttpMessageConverter<Object> {
+    /**
+     * Constructs an instance of the {@link BusMessageConverter} class.
+     */
+    public BusMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    } //BusMessageConverter
+
+    /**
+     * Writes a successful response containing the specified buses using the specified JSON writer.
+     *
+     * @param jsonWriter the JSON writer to be used in the operation
+     * @param buses the buses to be used in the operation
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if the specified JSON writer or buses are {@code null}
+     */
+    public static void writeBuses(JsonWriter jsonWriter, Collection<Bus> buses) throws IOException {
+        Objects.requireNonNull(jsonWriter, "the specified JSON writer is null");
+
+        Objects.requireNonNull(buses, "the specified buses are null");
+
+        jsonWriter.beginObject();
+
+        jsonWriter.name("success");
+
+        jsonWriter.value(true);
+
+        jsonWriter.name("buses");
+
+        BusAdapter.writeBuses(jsonWriter, buses);
+
+        jsonWriter.endObject();
+    } //writeBuses
+
+    /**
+     * Writes a successful response containing the specified version of a stop's buses using the specified JSON
+     * writer.
+     *
+     * @param jsonWriter the JSON writer to be used in the operation
+     * @param version the version to be used in the operation
+     * @param buses the buses to be used in the operation
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if the specified JSON writer or buses are {@code null}
+     */
+    public static void writeSnapshot(JsonWriter jsonWriter, long version, Set<Bus> buses) throws IOException {
+        Objects.requireNonNull(jsonWriter, "the specified JSON writer is null");
+
+        Objects.requireNonNull(buses, "the specified buses are null");
+
+        jsonWriter.beginObject();
+
+        jsonWriter.name("success");
+
+        jsonWriter.value(true);
+
+        jsonWriter.name("version");
+
+        jsonWriter.value(version);
+
+        jsonWriter.name("buses");
+
+        BusAdapter.writeBuses(jsonWriter, buses);
+
+        jsonWriter.endObject();
+    } //writeSnapshot
+
+    /**
+     * Writes the key of the specified bus, its ID and line ID, using the specified JSON writer.
+     *
+     * @param jsonWriter the JSON writer to be used in the operation
+     * @param bus the bus to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeKey(JsonWriter jsonWriter, Bus bus) throws IOException {
+        jsonWriter.beginObject();
+
+        jsonWriter.name("id");
+
+        jsonWriter.value(bus.id());
+
+        jsonWriter.name("line");
+
+        String lineId = bus.line()
+                           .id();
+
+        jsonWriter.value(lineId);
+
+        jsonWriter.endObject();
+    } //writeKey
+
+    /**
+     * Writes a successful response containing the specified delta using the specified JSON writer. Added and updated
+     * buses are written in full, and removed buses are written as their keys.
+     *
+     * @param jsonWriter the JSON writer to be used in the operation
+     * @param delta the delta to be used in the operation
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if the specified JSON writer or delta is {@code null}
+     */
+    public static void writeDelta(JsonWriter jsonWriter, BusDelta delta) throws IOException {
+        Objects.requireNonNull(jsonWriter, "the specified JSON writer is null");
+
+        Objects.requireNonNull(delta, "the specified delta is null");
+
+        jsonWriter.beginObject();
+
+        jsonWriter.name("success");
+
+        jsonWriter.value(true);
+
+        jsonWriter.name("version");
+
+        jsonWriter.value(delta.version());
+
+        jsonWriter.name("since");
+
+        jsonWriter.value(delta.since());
+
+        jsonWriter.name("added");
+
+        BusAdapter.writeBuses(jsonWriter, delta.added());
+
+        jsonWriter.name("updated");
+
+        BusAdapter.writeBuses(jsonWriter, delta.updated());
+
+        jsonWriter.name("removed");
+
+        jsonWriter.beginArray();
+
+        for (Bus bus : delta.removed()) {
+            BusMessageConverter.writeKey(jsonWriter, bus);
+        } //end for
+
+        jsonWriter.endArray();
+
+        jsonWriter.endObject();
+    } //writeDelta
+
+    /**
+     * Writes the specified stop status using the specified JSON writer.
+     *
+     * @param jsonWriter the JSON writer to be used in the operation
+     * @param status the stop status to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeStatus(JsonWriter jsonWriter, StopStatus status) throws IOException {
+        if (status.success()) {
+            BusMessageConverter.writeBuses(jsonWriter, status.buses());
+
+            return;
+        } //end if
+
+        jsonWriter.beginObject();
+
+        jsonWriter.name("success");
+
+        jsonWriter.value(false);
+
+        jsonWriter.name("message");
+
+        jsonWriter.value(status.message());
+
+        jsonWriter.endObject();
+    } //writeStatus
+
+    /**
+     * Writes the specified batch response using the specified JSON writer.
+     *
+     * @param jsonWriter the JSON writer to be used in the operation
+     * @param response the batch response to be used in the operation
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if the specified JSON writer or batch response is {@code null}
+     */
+    public static void writeBatch(JsonWriter jsonWriter, BatchResponse response) throws IOException {
+        Objects.requireNonNull(jsonWriter, "the specified JSON writer is null");
+
+        Objects.requireNonNull(response, "the specified batch response is null");
+
+        jsonWriter.beginObject();
+
+        jsonWriter.name("success");
+
+        jsonWriter.value(true);
+
+        jsonWriter.name("stops");
+
+        jsonWriter.beginObject();
+
+        for (Map.Entry<Integer, StopStatus> entry : response.stops()
+                                                            .entrySet()) {
+            String stopId = String.valueOf(entry.getKey());
+
+            jsonWriter.name(stopId);
+
+            BusMessageConverter.writeStatus(jsonWriter, entry.getValue());
+        } //end for
+
+        jsonWriter.endObject();
+
+        jsonWriter.endObject();
+    } //writeBatch
+
+    /**
+     * Writes the specified nearby stops response using the specified JSON writer. Each stop is written with its
+     * location and distance, followed by its status if its buses were requested.
+     *
+     * @param jsonWriter the JSON writer to be used in the operation
+     * @param response the nearby stops response to be used in the operation
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if the specified JSON writer or nearby stops response is {@code null}
+     */
+    public static void writeNearby(JsonWriter jsonWriter, NearbyResponse response) throws IOException {
+        Objects.requireNonNull(jsonWriter, "the specified JSON writer is null");
+
+        Objects.requireNonNull(response, "the specified nearby stops response is null");
+
+        jsonWriter.beginObject();
+
+        jsonWriter.name("success");
+
+        jsonWriter.value(true);
+
+        jsonWriter.name("stops");
+
+        jsonWriter.beginArray();
+
+        for (NearbyStop nearbyStop : response.stops()) {
+            Stop stop = nearbyStop.stop();
+
+            jsonWriter.beginObject();
+
+            jsonWriter.name("id");
+
+            jsonWriter.value(stop.id());
+
+            jsonWriter.name("name");
+
+            jsonWriter.value(stop.name());
+
+            jsonWriter.name("latitude");
+
+            jsonWriter.value(nearbyStop.latitude());
+
+            jsonWriter.name("longitude");
+
+            jsonWriter.value(nearbyStop.longitude());
+
+            jsonWriter.name("distance");
+
+            jsonWriter.value(nearbyStop.distance());
+
+            StopStatus status = response.statuses()
+                                        .get(stop.id());
+
+            if (status != null) {
+                jsonWriter.name("status");
+
+                BusMessageConverter.writeStatus(jsonWriter, status);
+            } //end if
+
+            jsonWriter.endObject();
+        } //end for
+
+        jsonWriter.endArray();
+
+        jsonWriter.endObject();
+    } //writeNearby
+
+    /**
+     * Returns whether the specified class is supported by this converter.
+     *
+     * @param clazz the class to be used in the operation
+     * @return {@code true}, if the specified class is supported by this converter and {@code false} otherwise
+     */
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return BatchResponse.class.isAssignableFrom(clazz) || NearbyResponse.class.isAssignableFrom(clazz);
+    } //supports
+
+    /**
+     * Returns whether the specified class can be read by this converter, which only writes.
+     *
+     * @param clazz the class to be used in the operation
+     * @param mediaType the media type to be used in the operation
+     * @return {@code false}
+     */
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    } //canRead
+
+    /**
+     * Throws an {@link HttpMessageNotReadableException}, since this converter only writes.
+     *
+     * @param clazz the class to be used in the operation
+     * @param inputMessage the input message to be used in the operation
+     * @return nothing
+     * @throws HttpMessageNotReadableException always
+     */
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("bus responses cannot be read", inputMessage);
+    } //readInternal
+
+    /**
+     * Streams the specified batch or nearby stops response to the body of the specified output message.
+     *
+     * @param response the response to be used in the operation
+     * @param outputMessage the output message to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    protected void writeInternal(Object response, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream outputStream = outputMessage.getBody();
+
+        Writer writer = new Utf8Writer(outputStream);
+
+        JsonWriter jsonWriter = new JsonWriter(writer);
+
+        if (response instanceof NearbyResponse nearbyResponse) {
+            BusMessageConverter.writeNearby(jsonWriter, nearbyResponse);
+        } else {
+            BusMessageConverter.writeBatch(jsonWriter, (BatchResponse) response);
+        } //end if
+
+        jsonWriter.flush();
+    } //writeInternal
+}
\ No newline at end of file
@@ -0,0 +1,445 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import org.springframework.stereotype.Component;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.http.MediaType;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+import com.vta4j.model.Bus;
+import com.vta4j.model.BusSource;
+import com.vta4j.model.upstream.UpstreamScheduler;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * A streamer of VTA4j bus data over server-sent events. Each stop with at least one subscriber is refreshed once
+ * per interval from the bus source, and the stop's encoded snapshot is pushed to every subscriber of that stop only
+ * when its entity tag differs from the previous one. Subscribers count as viewers of their stop for the
+ * {@link UpstreamScheduler}. Refreshes fetch without blocking, so a slow upstream service never holds a streamer
+ * thread; the snapshot is encoded and pushed on a streamer thread once the fetch completes.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+public final class BusStreamer {
+    /**
+     * The subscribers of a stop and the last payload pushed to them.
+     */
+    private static final class Subscription {
+        /**
+         * The emitters of this subscription.
+         */
+        private final List<SseEmitter> emitters;
+
+        /**
+         * Whether a refresh of this subscription is in progress.
+         */
+        private final AtomicBoolean refreshing;
+
+        /**
+         * The entity tag of the last payload of this subscription.
+         */
+        private volatile String etag;
+
+        /**
+         * The last payload of this subscription.
+         */
+        private volatile String payload;
+
+        /**
+         * Constructs an instance of the {@link Subscription} class.
+         */
+        private Subscription() {
+            this.emitters = new CopyOnWriteArrayList<>();
+
+            this.refreshing = new AtomicBoolean();
+        } //Subscription
+    } //Subscription
+
+    /**
+     * The logger of the {@link BusStreamer} class.
+     */
+    private static final Logger LOGGER;
+
+    /**
+     * The name of bus events of the {@link BusStreamer} class.
+     */
+    private static final String EVENT_NAME;
+
+    static {
+        LOGGER = LogManager.getLogger();
+
+        EVENT_NAME = "buses";
+    } //static
+
+    /**
+     * The bus source of this streamer.
+     */
+    private final BusSource busSource;
+
+    /**
+     * The upstream scheduler of this streamer.
+     */
+    private final UpstreamScheduler scheduler;
+
+    /**
+     * The snapshot encoder of this streamer.
+     */
+    private final SnapshotEncoder snapshotEncoder;
+
+    /**
+     * The refresh interval of this streamer.
+     */
+    private final Duration interval;
+
+    /**
+     * The emitter timeout of this streamer.
+     */
+    private final Duration timeout;
+
+    /**
+     * The executor of this streamer.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * The subscriptions of this streamer, keyed by stop ID.
+     */
+    private final Map<Integer, Subscription> subscriptions;
+
+    /**
+     * The push count of this streamer.
+     */
+    private final LongAdder pushCount;
+
+    /**
+     * Constructs an instance of the {@link BusStreamer} class.
+     *
+     * @param busSource the bus source to be used in construction
+     * @param scheduler the upstream scheduler to be used in construction
+     * @param snapshotEncoder the snapshot encoder to be used in construction
+     * @param interval the refresh interval to be used in construction
+     * @param timeout the emitter timeout to be used in construction
+     * @param threads the number of executor threads to be used in construction
+     * @throws NullPointerException if the specified bus source, upstream scheduler, snapshot encoder, refresh
+     * interval, or emitter timeout is {@code null}
+     * @throws IllegalArgumentException if the specified refresh interval or number of executor threads is not
+     * positive
+     */
+    public BusStreamer(BusSource busSource, UpstreamScheduler scheduler, SnapshotEncoder snapshotEncoder,
+                       @Value("${vta4j.stream.interval:15s}") Duration interval,
+                       @Value("${vta4j.stream.timeout:30m}") Duration timeout,
+                       @Value("${vta4j.stream.threads:4}") int threads) {
+        Objects.requireNonNull(busSource, "the specified bus source is null");
+
+        Objects.requireNonNull(scheduler, "the specified upstream scheduler is null");
+
+        Objects.requireNonNull(snapshotEncoder, "the specified snapshot encoder is null");
+
+        Objects.requireNonNull(interval, "the specified refresh interval is null");
+
+        Objects.requireNonNull(timeout, "the specified emitter timeout is null");
+
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("the specified refresh interval is not positive");
+        } else if (threads <= 0) {
+            throw new IllegalArgumentException("the specified number of executor threads is not positive");
+        } //end if
+
+        this.busSource = busSource;
+
+        this.scheduler = scheduler;
+
+        this.snapshotEncoder = snapshotEncoder;
+
+        this.interval = interval;
+
+        this.timeout = timeout;
+
+        AtomicInteger threadCount = new AtomicInteger();
+
+        this.executor = Executors.newScheduledThreadPool(threads, runnable -> {
+            String name = "bus-streamer-%d".formatted(threadCount.incrementAndGet());
+
+            Thread thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        this.subscriptions = new ConcurrentHashMap<>();
+
+        this.pushCount = new LongAdder();
+    } //BusStreamer
+
+    /**
+     * Sends the specified payload to the specified emitter.
+     *
+     * @param emitter the emitter to be used in the operation
+     * @param payload the payload to be used in the operation
+     */
+    private void send(SseEmitter emitter, String payload) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event()
+                                                     .name(BusStreamer.EVENT_NAME)
+                                                     .data(payload, MediaType.APPLICATION_JSON);
+
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        } //end try catch
+    } //send
+
+    /**
+     * Sends a keep-alive comment to the specified emitter, so that broken connections are detected.
+     *
+     * @param emitter the emitter to be used in the operation
+     */
+    private void sendKeepAlive(SseEmitter emitter) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event()
+                                                     .comment("keep-alive");
+
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        } //end try catch
+    } //sendKeepAlive
+
+    /**
+     * Pushes the snapshot of the specified buses to the subscribers of the stop with the specified ID if the stop's
+     * data changed, and a keep-alive comment otherwise.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param subscription the subscription to be used in the operation
+     * @param buses the buses to be used in the operation
+     */
+    private void push(int stopId, Subscription subscription, Set<Bus> buses) {
+        EncodedSnapshot snapshot;
+
+        try {
+            snapshot = this.snapshotEncoder.encode(stopId, buses);
+        } catch (UncheckedIOException e) {
+            BusStreamer.LOGGER.atError()
+                              .withThrowable(e)
+                              .log();
+
+            return;
+        } //end try catch
+
+        if (Objects.equals(snapshot.etag(), subscription.etag)) {
+            subscription.emitters.forEach(this::sendKeepAlive);
+
+            return;
+        } //end if
+
+        String payload = new String(snapshot.body(), StandardCharsets.UTF_8);
+
+        subscription.etag = snapshot.etag();
+
+        subscription.payload = payload;
+
+        for (SseEmitter emitter : subscription.emitters) {
+            this.send(emitter, payload);
+
+            this.pushCount.increment();
+        } //end for
+    } //push
+
+    /**
+     * Refreshes the subscription of the stop with the specified ID, pushing a new payload to its subscribers if the
+     * stop's data changed. The buses are fetched without blocking the calling thread, and the subscription stays
+     * marked as refreshing until the fetch completes.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param subscription the subscription to be used in the operation
+     */
+    private void refresh(int stopId, Subscription subscription) {
+        if (!subscription.refreshing.compareAndSet(false, true)) {
+            return;
+        } //end if
+
+        CompletableFuture<Set<Bus>> future;
+
+        try {
+            this.scheduler.recordViews(stopId, subscription.emitters.size());
+
+            future = this.busSource.getBusesAsync(stopId);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        } //end try catch
+
+        future.whenCompleteAsync((buses, throwable) -> {
+            try {
+                if (throwable != null) {
+                    BusStreamer.LOGGER.atError()
+                                      .withThrowable(throwable)
+                                      .log();
+                } else {
+                    this.push(stopId, subscription, buses);
+                } //end if
+            } catch (RuntimeException e) {
+                BusStreamer.LOGGER.atError()
+                                  .withThrowable(e)
+                                  .log();
+            } finally {
+                subscription.refreshing.set(false);
+            } //end try catch finally
+        }, this.executor);
+    } //refresh
+
+    /**
+     * Submits a refresh of every stop that has at least one subscriber.
+     */
+    private void refreshAll() {
+        this.subscriptions.forEach((stopId, subscription) -> this.executor.execute(() -> this.refresh(stopId,
+                                                                                                      subscription)));
+    } //refreshAll
+
+    /**
+     * Removes the specified emitter from the subscription of the stop with the specified ID, and removes the
+     * subscription if it has no subscribers left.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param emitter the emitter to be used in the operation
+     */
+    private void unsubscribe(int stopId, SseEmitter emitter) {
+        this.subscriptions.computeIfPresent(stopId, (key, subscription) -> {
+            subscription.emitters.remove(emitter);
+
+            return subscription.emitters.isEmpty() ? null : subscription;
+        });
+    } //unsubscribe
+
+    /**
+     * Returns a new emitter subscribed to the bus data of the stop with the specified ID. The latest payload is sent
+     * immediately if one is available, and otherwise a refresh of the stop is started.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return a new emitter subscribed to the bus data of the stop with the specified ID
+     */
+    public SseEmitter subscribe(int stopId) {
+        SseEmitter emitter = new SseEmitter(this.timeout.toMillis());
+
+        Subscription subscription = this.subscriptions.compute(stopId, (key, current) -> {
+            Subscription value = (current == null) ? new Subscription() : current;
+
+            value.emitters.add(emitter);
+
+            return value;
+        });
+
+        emitter.onCompletion(() -> this.unsubscribe(stopId, emitter));
+
+        emitter.onTimeout(() -> this.unsubscribe(stopId, emitter));
+
+        emitter.onError(throwable -> this.unsubscribe(stopId, emitter));
+
+        String payload = subscription.payload;
+
+        if (payload == null) {
+            this.executor.execute(() -> this.refresh(stopId, subscription));
+        } else {
+            this.send(emitter, payload);
+        } //end if
+
+        return emitter;
+    } //subscribe
+
+    /**
+     * Returns the number of subscribers of the stop with the specified ID.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return the number of subscribers of the stop with the specified ID
+     */
+    public int getSubscriberCount(int stopId) {
+        Subscription subscription = this.subscriptions.get(stopId);
+
+        return (subscription == null) ? 0 : subscription.emitters.size();
+    } //getSubscriberCount
+
+    /**
+     * Returns the statistics of this streamer.
+     *
+     * @return the statistics of this streamer
+     */
+    public StreamStats getStats() {
+        int stops = this.subscriptions.size();
+
+        int subscribers = this.subscriptions.values()
+                                            .stream()
+                                            .mapToInt(subscription -> subscription.emitters.size())
+                                            .sum();
+
+        long pushes = this.pushCount.sum();
+
+        return new StreamStats(stops, subscribers, pushes);
+    } //getStats
+
+    /**
+     * Starts the periodic refresh of this streamer.
+     */
+    @PostConstruct
+    public void start() {
+        long period = this.interval.toMillis();
+
+        this.executor.scheduleWithFixedDelay(this::refreshAll, period, period, TimeUnit.MILLISECONDS);
+    } //start
+
+    /**
+     * Stops the periodic refresh of this streamer and completes every emitter.
+     */
+    @PreDestroy
+    public void stop() {
+        this.executor.shutdownNow();
+
+        this.subscriptions.values()
+                          .forEach(subscription -> subscription.emitters.forEach(SseEmitter::complete));
+
+        this.subscriptions.clear();
+    } //stop
+}
\ No newline at end of file
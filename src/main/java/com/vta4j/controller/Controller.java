@@ -32,33 +32,661 @@ import java.util.Map;
 import org.springframework.web.bind.annotation.RequestParam;
 import java.util.Set;
 import com.vta4j.model.Bus;
-import com.vta4j.model.Model;
+import com.vta4j.model.BusSource;
+import com.vta4j.model.adapter.InternPoolMaintainer;
+import com.vta4j.model.adapter.InternStats;
+import java.util.HashMap;
+import java.util.ArrayList;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.http.HttpStatus;
+import java.util.Objects;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.web.bind.annotation.RequestHeader;
+import java.time.Duration;
+import com.vta4j.model.schedule.NearbyStop;
+import com.vta4j.model.schedule.ScheduleStats;
+import com.vta4j.model.schedule.StaticSchedule;
+import com.vta4j.model.capture.CaptureLog;
+import com.vta4j.model.capture.CaptureStats;
+import com.vta4j.model.history.HistoryStats;
+import com.vta4j.model.history.PredictionAccuracy;
+import com.vta4j.model.history.PredictionStore;
+import java.time.Instant;
+import com.vta4j.model.upstream.UpstreamClient;
+import com.vta4j.model.upstream.UpstreamStats;
+import com.vta4j.model.index.ArrivalIndex;
+import com.vta4j.model.index.ArrivalStats;
+import java.util.Optional;
+import java.util.function.IntFunction;
 
 /**
  * A controller of the VTA4j application.
  *
  * @author Logan Kulinski, lbkulinski@gmail.com
- * @version April 19, 2022
+ * @version October 17, 2026
  */
 @RestController
 @RequestMapping("api/buses")
 public final class Controller {
     /**
-     * Returns a response to a {@code GET} request for VTA4j bus data using the specified stop ID.
+     * The bus source of this controller.
+     */
+    private final BusSource busSource;
+
+    /**
+     * The intern pool maintainer of this controller.
+     */
+    private final InternPoolMaintainer internPoolMaintainer;
+
+    /**
+     * The bus streamer of this controller.
+     */
+    private final BusStreamer busStreamer;
+
+    /**
+     * The batch fetcher of this controller.
+     */
+    private final BatchFetcher batchFetcher;
+
+    /**
+     * The snapshot encoder of this controller.
+     */
+    private final SnapshotEncoder snapshotEncoder;
+
+    /**
+     * The static schedule of this controller.
+     */
+    private final StaticSchedule schedule;
+
+    /**
+     * The capture log of this controller.
+     */
+    private final CaptureLog captureLog;
+
+    /**
+     * The prediction store of this controller.
+     */
+    private final PredictionStore predictionStore;
+
+    /**
+     * The arrival index of this controller.
+     */
+    private final ArrivalIndex arrivalIndex;
+
+    /**
+     * The upstream client of this controller.
+     */
+    private final UpstreamClient upstreamClient;
+
+    /**
+     * The cache control of single-stop responses of this controller.
+     */
+    private final CacheControl cacheControl;
+
+    /**
+     * The maximum number of stops of a nearby request without buses of this controller.
+     */
+    private final int maximumNearbyStops;
+
+    /**
+     * Constructs an instance of the {@link Controller} class.
+     *
+     * @param busSource the bus source to be used in construction
+     * @param internPoolMaintainer the intern pool maintainer to be used in construction
+     * @param busStreamer the bus streamer to be used in construction
+     * @param batchFetcher the batch fetcher to be used in construction
+     * @param snapshotEncoder the snapshot encoder to be used in construction
+     * @param schedule the static schedule to be used in construction
+     * @param captureLog the capture log to be used in construction
+     * @param predictionStore the prediction store to be used in construction
+     * @param arrivalIndex the arrival index to be used in construction
+     * @param upstreamClient the upstream client to be used in construction
+     * @param maxAge the maximum age of single-stop responses to be used in construction
+     * @param maximumNearbyStops the maximum number of stops of a nearby request without buses to be used in
+     * construction
+     * @throws NullPointerException if the specified bus source, intern pool maintainer, bus streamer, batch fetcher,
+     * snapshot encoder, static schedule, capture log, prediction store, arrival index, upstream client, or maximum
+     * age is {@code null}
+     * @throws IllegalArgumentException if the specified maximum number of nearby stops is not positive
+     */
+    public Controller(BusSource busSource, InternPoolMaintainer internPoolMaintainer, BusStreamer busStreamer,
+                      BatchFetcher batchFetcher, SnapshotEncoder snapshotEncoder, StaticSchedule schedule,
+                      CaptureLog captureLog, PredictionStore predictionStore, ArrivalIndex arrivalIndex,
+                      UpstreamClient upstreamClient, @Value("${vta4j.snapshot.max-age:5s}") Duration maxAge,
+                      @Value("${vta4j.nearby.maximum-stops:100}") int maximumNearbyStops) {
+        this.busSource = Objects.requireNonNull(busSource, "the specified bus source is null");
+
+        this.internPoolMaintainer = Objects.requireNonNull(internPoolMaintainer,
+                                                           "the specified intern pool maintainer is null");
+
+        this.busStreamer = Objects.requireNonNull(busStreamer, "the specified bus streamer is null");
+
+        this.batchFetcher = Objects.requireNonNull(batchFetcher, "the specified batch fetcher is null");
+
+        this.snapshotEncoder = Objects.requireNonNull(snapshotEncoder, "the specified snapshot encoder is null");
+
+        this.schedule = Objects.requireNonNull(schedule, "the specified static schedule is null");
+
+        this.captureLog = Objects.requireNonNull(captureLog, "the specified capture log is null");
+
+        this.predictionStore = Objects.requireNonNull(predictionStore, "the specified prediction store is null");
+
+        this.arrivalIndex = Objects.requireNonNull(arrivalIndex, "the specified arrival index is null");
+
+        this.upstreamClient = Objects.requireNonNull(upstreamClient, "the specified upstream client is null");
+
+        Objects.requireNonNull(maxAge, "the specified maximum age is null");
+
+        this.cacheControl = CacheControl.maxAge(maxAge)
+                                        .mustRevalidate();
+
+        if (maximumNearbyStops <= 0) {
+            throw new IllegalArgumentException("the specified maximum number of nearby stops is not positive");
+        } //end if
+
+        this.maximumNearbyStops = maximumNearbyStops;
+    } //Controller
+
+    /**
+     * Returns whether the specified {@code Accept-Encoding} header value accepts gzip.
+     *
+     * @param acceptEncoding the {@code Accept-Encoding} header value to be used in the operation, or {@code null}
+     * @return {@code true}, if the specified {@code Accept-Encoding} header value accepts gzip and {@code false}
+     * otherwise
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        } //end if
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+
+            String name = parts[0].strip();
+
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            } //end if
+
+            double quality = 1.0;
+
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].strip();
+
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0.0;
+                    } //end try catch
+                } //end if
+            } //end for
+
+            return quality > 0.0;
+        } //end for
+
+        return false;
+    } //acceptsGzip
+
+    /**
+     * Returns whether the specified {@code Accept} header value prefers the binary format of the
+     * {@link BinaryBusEncoder} to JSON.
+     *
+     * @param accept the {@code Accept} header value to be used in the operation, or {@code null}
+     * @return {@code true}, if the specified {@code Accept} header value prefers the binary format to JSON and
+     * {@code false} otherwise
+     */
+    private static boolean acceptsBinary(String accept) {
+        if (accept == null) {
+            return false;
+        } //end if
+
+        List<MediaType> mediaTypes;
+
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        } //end try catch
+
+        MediaType.sortBySpecificityAndQuality(mediaTypes);
+
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() <= 0.0) {
+                continue;
+            } else if (mediaType.equalsTypeAndSubtype(BinaryBusEncoder.MEDIA_TYPE)) {
+                return true;
+            } else if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                return false;
+            } //end if
+        } //end for
+
+        return false;
+    } //acceptsBinary
+
+    /**
+     * Returns a response serving the specified encoded snapshot. A matching {@code If-None-Match} header is answered
+     * with {@code 304 Not Modified}, and the gzip variant is served, with its own entity tag, to clients that accept
+     * it. A stale snapshot is marked with its age in the {@code Age} header and a {@code 110 Response is Stale}
+     * warning.
+     *
+     * @param snapshot the encoded snapshot to be used in the operation
+     * @param staleAge the age of the snapshot to be used in the operation, or an empty {@link Optional} if it is
+     * fresh
+     * @param ifNoneMatch the {@code If-None-Match} header value to be used in the operation, or {@code null}
+     * @param acceptEncoding the {@code Accept-Encoding} header value to be used in the operation, or {@code null}
+     * @return a response serving the specified encoded snapshot
+     */
+    private ResponseEntity<?> toResponse(EncodedSnapshot snapshot, Optional<Duration> staleAge, String ifNoneMatch,
+                                         String acceptEncoding) {
+        HttpHeaders staleHeaders = new HttpHeaders();
+
+        staleAge.ifPresent(age -> {
+            staleHeaders.set(HttpHeaders.AGE, String.valueOf(age.toSeconds()));
+
+            staleHeaders.set(HttpHeaders.WARNING, "110 - \"Response is Stale\"");
+        });
+
+        boolean gzip = Controller.acceptsGzip(acceptEncoding);
+
+        String etag = gzip ? snapshot.gzipEtag() : snapshot.etag();
+
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                 .eTag(etag)
+                                 .cacheControl(this.cacheControl)
+                                 .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                                 .headers(staleHeaders)
+                                 .build();
+        } //end if
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                                                           .contentType(snapshot.contentType())
+                                                           .eTag(etag)
+                                                           .cacheControl(this.cacheControl)
+                                                           .varyBy(HttpHeaders.ACCEPT,
+                                                                   HttpHeaders.ACCEPT_ENCODING)
+                                                           .headers(staleHeaders);
+
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                          .body(snapshot.gzip());
+        } //end if
+
+        return builder.body(snapshot.body());
+    } //toResponse
+
+    /**
+     * Returns a response reporting that the buses at the stop with the specified ID are unavailable, so that a failed
+     * fetch is not mistaken for a stop with no buses.
      *
      * @param stopId the stop ID to be used in the operation
-     * @return a response to a {@code GET} request for VTA4j bus data using the specified stop ID
+     * @return a response reporting that the buses at the stop with the specified ID are unavailable
      */
-    @GetMapping
-    public ResponseEntity<Map<String, ?>> read(@RequestParam int stopId) {
-        Set<Bus> buses = Model.getBuses(stopId);
+    private static ResponseEntity<?> newFailure(int stopId) {
+        String message = "the request for stop %d failed".formatted(stopId);
 
         Map<String, ?> responseMap = Map.of(
+            "success", false,
+            "message", message
+        );
+
+        return new ResponseEntity<>(responseMap, HttpStatus.SERVICE_UNAVAILABLE);
+    } //newFailure
+
+    /**
+     * Returns a response to a {@code GET} request for VTA4j bus data using the specified stop IDs. A single stop ID
+     * is answered with that stop's buses, served from bytes encoded once per snapshot with an {@code ETag}, so that
+     * a client presenting the current tag in {@code If-None-Match} receives {@code 304 Not Modified}. A
+     * comma-separated list of stop IDs is fetched concurrently and answered with a map of stop ID to that stop's own
+     * success flag and buses or error message. The response is returned as a future, so the container thread is
+     * released while upstream I/O is pending.
+     * <p>
+     * Single-stop responses carry the stop's current version. A client that specifies the version it holds as
+     * {@code since} is answered with only the buses that were added, updated, or removed since, or with the full
+     * snapshot if that version is too old. The {@code since} parameter is ignored for lists of stop IDs.
+     * <p>
+     * A client whose {@code Accept} header prefers {@code application/vnd.vta4j.buses} is sent a single stop's full
+     * snapshot in the compact binary format of the {@link BinaryBusEncoder} instead of JSON.
+     * <p>
+     * A single stop whose buses could not be fetched is answered with {@code 503 Service Unavailable} rather than an
+     * empty list, and a stop in a list is reported with its own error message. A single stop served from a stale
+     * snapshot while it is refreshed carries its age in the {@code Age} header.
+     *
+     * @param stopId the stop IDs to be used in the operation
+     * @param since the version held by the client to be used in the operation, or {@code null}
+     * @param accept the {@code Accept} header value to be used in the operation, or {@code null}
+     * @param ifNoneMatch the {@code If-None-Match} header value to be used in the operation, or {@code null}
+     * @param acceptEncoding the {@code Accept-Encoding} header value to be used in the operation, or {@code null}
+     * @return a future of a response to a {@code GET} request for VTA4j bus data using the specified stop IDs
+     */
+    @GetMapping
+    public CompletableFuture<ResponseEntity<?>> read(@RequestParam List<Integer> stopId,
+                                                     @RequestParam(required = false) Long since,
+                                                     @RequestHeader(value = HttpHeaders.ACCEPT,
+                                                                    required = false) String accept,
+                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH,
+                                                                    required = false) String ifNoneMatch,
+                                                     @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING,
+                                                                    required = false) String acceptEncoding) {
+        Map<String, ?> responseMap;
+
+        if (stopId.isEmpty()) {
+            responseMap = Map.of(
+                "success", false,
+                "message", "no stop IDs were specified"
+            );
+
+            ResponseEntity<?> response = new ResponseEntity<>(responseMap, HttpStatus.BAD_REQUEST);
+
+            return CompletableFuture.completedFuture(response);
+        } else if (stopId.size() == 1) {
+            int id = stopId.get(0);
+
+            return this.busSource.getBusesAsync(id)
+                                 .<ResponseEntity<?>>thenApply(buses -> {
+                                     EncodedSnapshot snapshot;
+
+                                     if (Controller.acceptsBinary(accept)) {
+                                         snapshot = this.snapshotEncoder.encodeBinary(id, buses);
+                                     } else if (since == null) {
+                                         snapshot = this.snapshotEncoder.encode(id, buses);
+                                     } else {
+                                         snapshot = this.snapshotEncoder.encodeSince(id, buses, since);
+                                     } //end if
+
+                                     Optional<Duration> staleAge = this.busSource.getStaleAge(id);
+
+                                     return this.toResponse(snapshot, staleAge, ifNoneMatch, acceptEncoding);
+                                 })
+                                 .exceptionally(throwable -> Controller.newFailure(id));
+        } //end if
+
+        CompletableFuture<Map<Integer, StopStatus>> stopsFuture;
+
+        try {
+            stopsFuture = this.batchFetcher.fetchAsync(stopId);
+        } catch (IllegalArgumentException e) {
+            responseMap = Map.of(
+                "success", false,
+                "message", e.getMessage()
+            );
+
+            ResponseEntity<?> response = new ResponseEntity<>(responseMap, HttpStatus.BAD_REQUEST);
+
+            return CompletableFuture.completedFuture(response);
+        } //end try catch
+
+        return stopsFuture.thenApply(stops -> {
+            BatchResponse batchResponse = new BatchResponse(stops);
+
+            return new ResponseEntity<>(batchResponse, HttpStatus.OK);
+        });
+    } //read
+
+    /**
+     * Returns a stream of server-sent events for VTA4j bus data using the specified stop ID. A {@code buses} event
+     * with the same body as {@link #read(List, Long, String, String, String)} for a single stop is sent when the
+     * stream opens and whenever the stop's data changes.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return a stream of server-sent events for VTA4j bus data using the specified stop ID
+     */
+    @GetMapping(value = "stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam int stopId) {
+        return this.busStreamer.subscribe(stopId);
+    } //stream
+
+    /**
+     * Returns a response to a {@code GET} request for the accuracy of the arrival predictions for the line with the
+     * specified ID at the stop with the specified ID over the specified window, by whole minutes of lead time. The
+     * window is an ISO-8601 duration, such as {@code P7D}, ending now.
+     *
+     * @param lineId the line ID to be used in the operation
+     * @param stopId the stop ID to be used in the operation
+     * @param window the window to be used in the operation
+     * @return a response to a {@code GET} request for the accuracy of the arrival predictions for the line with the
+     * specified ID at the stop with the specified ID
+     */
+    @GetMapping("accuracy")
+    public ResponseEntity<Map<String, ?>> readAccuracy(@RequestParam String lineId, @RequestParam int stopId,
+                                                       @RequestParam(defaultValue = "P7D") Duration window) {
+        Map<String, ?> responseMap;
+
+        if (!this.predictionStore.isEnabled()) {
+            responseMap = Map.of(
+                "success", false,
+                "message", "prediction history is disabled"
+            );
+
+            return new ResponseEntity<>(responseMap, HttpStatus.SERVICE_UNAVAILABLE);
+        } else if (window.isNegative() || window.isZero()) {
+            responseMap = Map.of(
+                "success", false,
+                "message", "the specified window is not positive"
+            );
+
+            return new ResponseEntity<>(responseMap, HttpStatus.BAD_REQUEST);
+        } //end if
+
+        Instant to = Instant.now();
+
+        Instant from = to.minus(window);
+
+        String stopIdString = String.valueOf(stopId);
+
+        List<PredictionAccuracy> accuracies = this.predictionStore.getAccuracy(lineId, stopIdString, from, to);
+
+        responseMap = Map.of(
             "success", true,
-            "buses", buses
+            "accuracy", accuracies
         );
 
         return new ResponseEntity<>(responseMap, HttpStatus.OK);
-    } //read
+    } //readAccuracy
+
+    /**
+     * Returns a response listing the specified arrivals, or reporting that the specified limit is not positive.
+     *
+     * @param arrivals the function of the limit returning the arrivals to be used in the operation
+     * @param limit the limit to be used in the operation
+     * @return a response listing the specified arrivals
+     */
+    private static ResponseEntity<?> toArrivalsResponse(IntFunction<List<Bus>> arrivals, int limit) {
+        if (limit <= 0) {
+            Map<String, ?> responseMap = Map.of(
+                "success", false,
+                "message", "the specified limit is not positive"
+            );
+
+            return new ResponseEntity<>(responseMap, HttpStatus.BAD_REQUEST);
+        } //end if
+
+        List<Bus> buses = arrivals.apply(limit);
+
+        byte[] body = SnapshotEncoder.encodeBuses(buses);
+
+        return ResponseEntity.ok()
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(body);
+    } //toArrivalsResponse
+
+    /**
+     * Returns a response to a {@code GET} request for the upcoming arrivals of the vehicle with the specified ID at
+     * every stop, sorted by arrival time and answered from the arrival index without any upstream call.
+     *
+     * @param vehicleId the vehicle ID to be used in the operation
+     * @param limit the maximum number of arrivals to be used in the operation
+     * @return a response to a {@code GET} request for the upcoming arrivals of the vehicle with the specified ID
+     */
+    @GetMapping("vehicle")
+    public ResponseEntity<?> readVehicle(@RequestParam String vehicleId,
+                                         @RequestParam(defaultValue = "20") int limit) {
+        Instant now = Instant.now();
+
+        return Controller.toArrivalsResponse(maximum -> this.arrivalIndex.getVehicleArrivals(vehicleId, now, maximum),
+                                             limit);
+    } //readVehicle
+
+    /**
+     * Returns a response to a {@code GET} request for the upcoming arrivals on the line with the specified ID at every
+     * stop, sorted by arrival time and answered from the arrival index without any upstream call.
+     *
+     * @param lineId the line ID to be used in the operation
+     * @param limit the maximum number of arrivals to be used in the operation
+     * @return a response to a {@code GET} request for the upcoming arrivals on the line with the specified ID
+     */
+    @GetMapping("line")
+    public ResponseEntity<?> readLine(@RequestParam String lineId, @RequestParam(defaultValue = "100") int limit) {
+        Instant now = Instant.now();
+
+        return Controller.toArrivalsResponse(maximum -> this.arrivalIndex.getLineArrivals(lineId, now, maximum),
+                                             limit);
+    } //readLine
+
+    /**
+     * Returns a response to a {@code GET} request for the stops nearest the specified location, sorted from nearest
+     * to farthest with their locations and distances in meters. If buses are requested, each stop's buses are fetched
+     * as in a batch request and included with the stop, so the number of stops is limited to the maximum of a batch;
+     * otherwise, it is limited to {@code vta4j.nearby.maximum-stops}.
+     * The stops are found in the static schedule, so the request is answered with {@code 503 Service Unavailable}
+     * until one is loaded.
+     *
+     * @param latitude the latitude, in degrees, to be used in the operation
+     * @param longitude the longitude, in degrees, to be used in the operation
+     * @param count the maximum number of stops to be used in the operation
+     * @param buses whether to include the buses of each stop
+     * @return a future of a response to a {@code GET} request for the stops nearest the specified location
+     */
+    @GetMapping("nearby")
+    public CompletableFuture<ResponseEntity<?>> readNearby(@RequestParam double latitude,
+                                                           @RequestParam double longitude,
+                                                           @RequestParam(defaultValue = "5") int count,
+                                                           @RequestParam(defaultValue = "false") boolean buses) {
+        int maximumStops = buses ? this.batchFetcher.getMaximumStops() : this.maximumNearbyStops;
+
+        String message = null;
+
+        if (!(Math.abs(latitude) <= 90.0)) {
+            message = "the specified latitude is out of range";
+        } else if (!(Math.abs(longitude) <= 180.0)) {
+            message = "the specified longitude is out of range";
+        } else if ((count <= 0) || (count > maximumStops)) {
+            message = "the specified count is not between 1 and %d".formatted(maximumStops);
+        } //end if
+
+        Map<String, ?> responseMap;
+
+        if (message != null) {
+            responseMap = Map.of(
+                "success", false,
+                "message", message
+            );
+
+            ResponseEntity<?> response = new ResponseEntity<>(responseMap, HttpStatus.BAD_REQUEST);
+
+            return CompletableFuture.completedFuture(response);
+        } else if (!this.schedule.isLoaded()) {
+            responseMap = Map.of(
+                "success", false,
+                "message", "no static schedule is loaded"
+            );
+
+            ResponseEntity<?> response = new ResponseEntity<>(responseMap, HttpStatus.SERVICE_UNAVAILABLE);
+
+            return CompletableFuture.completedFuture(response);
+        } //end if
+
+        List<NearbyStop> nearbyStops = this.schedule.getNearbyStops(latitude, longitude, count);
+
+        List<Integer> stopIds = new ArrayList<>();
+
+        if (buses) {
+            for (NearbyStop nearbyStop : nearbyStops) {
+                String id = nearbyStop.stop()
+                                      .id();
+
+                try {
+                    stopIds.add(Integer.parseInt(id));
+                } catch (NumberFormatException e) {
+                    continue;
+                } //end try catch
+            } //end for
+        } //end if
+
+        if (stopIds.isEmpty()) {
+            NearbyResponse nearbyResponse = new NearbyResponse(nearbyStops, Map.of());
+
+            ResponseEntity<?> response = new ResponseEntity<>(nearbyResponse, HttpStatus.OK);
+
+            return CompletableFuture.completedFuture(response);
+        } //end if
+
+        return this.batchFetcher.fetchAsync(stopIds)
+                                .thenApply(stops -> {
+                                    Map<String, StopStatus> statuses = new HashMap<>();
+
+                                    stops.forEach((stopId, status) -> statuses.put(String.valueOf(stopId), status));
+
+                                    NearbyResponse nearbyResponse = new NearbyResponse(nearbyStops, statuses);
+
+                                    return new ResponseEntity<>(nearbyResponse, HttpStatus.OK);
+                                });
+    } //readNearby
+
+    /**
+     * Returns a response to a {@code GET} request for the statistics of the VTA4j bus source.
+     *
+     * @return a response to a {@code GET} request for the statistics of the VTA4j bus source
+     */
+    @GetMapping("stats")
+    public ResponseEntity<Map<String, ?>> readStats() {
+        Map<String, Object> responseMap = new HashMap<>();
+
+        responseMap.put("success", true);
+
+        Map<String, ?> stats = this.busSource.getStats();
+
+        responseMap.putAll(stats);
+
+        Map<String, InternStats> internStats = this.internPoolMaintainer.getStats();
+
+        responseMap.put("intern", internStats);
+
+        StreamStats streamStats = this.busStreamer.getStats();
+
+        responseMap.put("stream", streamStats);
+
+        SnapshotStats snapshotStats = this.snapshotEncoder.getStats();
+
+        responseMap.put("snapshot", snapshotStats);
+
+        ScheduleStats scheduleStats = this.schedule.getStats();
+
+        responseMap.put("schedule", scheduleStats);
+
+        CaptureStats captureStats = this.captureLog.getStats();
+
+        responseMap.put("capture", captureStats);
+
+        HistoryStats historyStats = this.predictionStore.getStats();
+
+        responseMap.put("history", historyStats);
+
+        ArrivalStats arrivalStats = this.arrivalIndex.getStats();
+
+        responseMap.put("arrivals", arrivalStats);
+
+        UpstreamStats upstreamStats = this.upstreamClient.getStats();
+
+        responseMap.put("upstream", upstreamStats);
+
+        return new ResponseEntity<>(responseMap, HttpStatus.OK);
+    } //readStats
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import org.springframework.http.MediaType;
+import java.util.Objects;
+
+/**
+ * The encoded response body of a snapshot of the buses at a stop, in one representation. Arrays are compared by
+ * identity, since a snapshot is only ever encoded once per representation. The gzip variant is a different
+ * representation, so it has its own strong entity tag, the tag of the body with a {@code -gz} suffix.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ * @param body the bytes of the body
+ * @param gzip the gzip-compressed bytes of the body
+ * @param etag the quoted entity tag of the uncompressed body, derived from its content
+ * @param contentType the content type of the body
+ */
+public record EncodedSnapshot(byte[] body, byte[] gzip, String etag, MediaType contentType) {
+    /**
+     * Returns the quoted entity tag of the gzip-compressed body of this snapshot.
+     *
+     * @return the quoted entity tag of the gzip-compressed body of this snapshot
+     */
+    public String gzipEtag() {
+        int end = this.etag.length() - 1;
+
+        return "%s-gz\"".formatted(this.etag.substring(0, end));
+    } //gzipEtag
+
+    /**
+     * Returns whether the specified {@code If-None-Match} header value matches either entity tag of this snapshot,
+     * so that a cache holding one variant is revalidated regardless of the variant it would be served next.
+     *
+     * @param ifNoneMatch the {@code If-None-Match} header value to be used in the operation, or {@code null}
+     * @return {@code true}, if the specified {@code If-None-Match} header value matches either entity tag of this
+     * snapshot and {@code false} otherwise
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        } //end if
+
+        String gzipEtag = this.gzipEtag();
+
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.strip();
+
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            } //end if
+
+            if (Objects.equals(tag, "*") || Objects.equals(tag, this.etag) || Objects.equals(tag, gzipEtag)) {
+                return true;
+            } //end if
+        } //end for
+
+        return false;
+    } //matches
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import com.vta4j.model.cluster.ClusterSource;
+import javax.servlet.http.HttpServletRequest;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A controller of the VTA4j application that serves the snapshot of the cluster leader to its followers, and a
+ * heartbeat that peers probe to elect the leader. It is enabled
+ * by setting {@code vta4j.ingestion.mode} to {@code cluster}, and it only answers callers that present
+ * {@code vta4j.cluster.secret}, or loopback callers if no secret is set.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@RestController
+@RequestMapping("internal/cluster")
+@ConditionalOnProperty(name = "vta4j.ingestion.mode", havingValue = "cluster")
+public final class ReplicationController {
+    /**
+     * The cluster source of this controller.
+     */
+    private final ClusterSource clusterSource;
+
+    /**
+     * Constructs an instance of the {@link ReplicationController} class.
+     *
+     * @param clusterSource the cluster source to be used in construction
+     * @throws NullPointerException if the specified cluster source is {@code null}
+     */
+    public ReplicationController(ClusterSource clusterSource) {
+        this.clusterSource = Objects.requireNonNull(clusterSource, "the specified cluster source is null");
+    } //ReplicationController
+
+    /**
+     * Returns a response rejecting the specified request, if its caller is not a member of the cluster.
+     *
+     * @param request the request to be used in the operation
+     * @return a response rejecting the specified request, or an empty {@link Optional} if its caller is a member of
+     * the cluster
+     */
+    private Optional<ResponseEntity<?>> reject(HttpServletRequest request) {
+        String remoteAddress = request.getRemoteAddr();
+
+        String secret = request.getHeader(ClusterSource.SECRET_HEADER);
+
+        if (this.clusterSource.isAuthorized(remoteAddress, secret)) {
+            return Optional.empty();
+        } //end if
+
+        Map<String, ?> responseMap = Map.of(
+            "success", false,
+            "message", "the caller is not a member of this cluster"
+        );
+
+        ResponseEntity<?> response = new ResponseEntity<>(responseMap, HttpStatus.FORBIDDEN);
+
+        return Optional.of(response);
+    } //reject
+
+    /**
+     * Returns a response to a {@code GET} request for the heartbeat of this node, which is {@code 204 No Content}
+     * whenever this node is running. An unauthorized caller is answered with {@code 403 Forbidden}.
+     *
+     * @param request the request to be used in the operation
+     * @return a response to a {@code GET} request for the heartbeat of this node
+     */
+    @GetMapping("heartbeat")
+    public ResponseEntity<?> readHeartbeat(HttpServletRequest request) {
+        Optional<ResponseEntity<?>> rejection = this.reject(request);
+
+        return rejection.orElseGet(() -> ResponseEntity.noContent()
+                                                       .build());
+    } //readHeartbeat
+
+    /**
+     * Returns a response to a {@code GET} request for the snapshot of this node. The snapshot is sent in the format of
+     * the {@link BinaryBusEncoder} if its version is newer than the specified version, and {@code 204 No Content} is
+     * sent otherwise. A node that is not the leader answers with {@code 503 Service Unavailable}, so a follower with a
+     * stale leader URL does not replicate from another follower. An unauthorized caller is answered with
+     * {@code 403 Forbidden}.
+     *
+     * @param since the version held by the follower to be used in the operation
+     * @param request the request to be used in the operation
+     * @return a response to a {@code GET} request for the snapshot of this node
+     */
+    @GetMapping("snapshot")
+    public ResponseEntity<?> readSnapshot(@RequestParam(defaultValue = "0") long since, HttpServletRequest request) {
+        Optional<ResponseEntity<?>> rejection = this.reject(request);
+
+        if (rejection.isPresent()) {
+            return rejection.get();
+        } else if (!this.clusterSource.isLeader()) {
+            Map<String, ?> responseMap = Map.of(
+                "success", false,
+                "message", "this node is not the leader"
+            );
+
+            return new ResponseEntity<>(responseMap, HttpStatus.SERVICE_UNAVAILABLE);
+        } //end if
+
+        Optional<byte[]> snapshot = this.clusterSource.getSnapshot(since);
+
+        if (snapshot.isEmpty()) {
+            return ResponseEntity.noContent()
+                                 .build();
+        } //end if
+
+        return ResponseEntity.ok()
+                             .contentType(BinaryBusEncoder.MEDIA_TYPE)
+                             .body(snapshot.get());
+    } //readSnapshot
+}
\ No newline at end of file
@@ -0,0 +1,617 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import org.springframework.stereotype.Component;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import com.google.gson.stream.JsonWriter;
+import com.vta4j.model.Bus;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.HashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An encoder of VTA4j bus snapshots. Bus sources hand out the same {@link Set} instance for as long as a stop's
+ * snapshot is current, so each snapshot is serialized, compressed, and hashed once, and every later request for it is
+ * answered with the same bytes. Snapshots are serialized with the {@link BusMessageConverter}.
+ * <p>
+ * Every change to a stop's buses is given a new, increasing version, and the buses of a bounded number of recent
+ * versions are kept, so that a client holding one of them can be sent only the buses that were added, updated, or
+ * removed since. Deltas are encoded once per pair of versions.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+public final class SnapshotEncoder {
+    /**
+     * The key of a bus, which identifies it across versions of a snapshot.
+     *
+     * @param id the vehicle ID of the bus
+     * @param lineId the line ID of the bus
+     */
+    private record Key(String id, String lineId) {
+    }
+
+    /**
+     * An action that writes to a JSON writer.
+     */
+    @FunctionalInterface
+    private interface JsonAction {
+        /**
+         * Writes to the specified JSON writer.
+         *
+         * @param jsonWriter the JSON writer to be used in the operation
+         * @throws IOException if an I/O error occurs
+         */
+        void write(JsonWriter jsonWriter) throws IOException;
+    } //JsonAction
+
+    /**
+     * A past version of a stop's buses.
+     *
+     * @param version the version
+     * @param buses the buses of the version, keyed by their keys, or {@code null} if they could not all be keyed
+     */
+    private record Version(long version, Map<Key, Bus> buses) {
+    }
+
+    /**
+     * The encoded snapshot of a stop, along with the buses it was encoded from.
+     */
+    private static final class Entry {
+        /**
+         * The buses of this entry.
+         */
+        private volatile Set<Bus> buses;
+
+        /**
+         * The version of this entry.
+         */
+        private final long version;
+
+        /**
+         * The buses of this entry, keyed by their keys, or {@code null} if they could not all be keyed.
+         */
+        private final Map<Key, Bus> keyedBuses;
+
+        /**
+         * The previous versions of this entry, most recent first.
+         */
+        private final Version[] history;
+
+        /**
+         * The snapshot of this entry.
+         */
+        private final EncodedSnapshot snapshot;
+
+        /**
+         * The binary snapshot of this entry, or {@code null} if it has not been encoded yet.
+         */
+        private volatile EncodedSnapshot binarySnapshot;
+
+        /**
+         * The encoded deltas of this entry, keyed by the version they start from.
+         */
+        private final Map<Long, EncodedSnapshot> deltas;
+
+        /**
+         * The last access time of this entry, in nanoseconds.
+         */
+        private volatile long accessTime;
+
+        /**
+         * Constructs an instance of the {@link Entry} class.
+         *
+         * @param buses the buses to be used in construction
+         * @param version the version to be used in construction
+         * @param history the history to be used in construction
+         * @param snapshot the snapshot to be used in construction
+         * @param accessTime the access time to be used in construction
+         */
+        private Entry(Set<Bus> buses, long version, Version[] history, EncodedSnapshot snapshot, long accessTime) {
+            this.buses = buses;
+
+            this.version = version;
+
+            this.keyedBuses = SnapshotEncoder.key(buses);
+
+            this.history = history;
+
+            this.snapshot = snapshot;
+
+            this.binarySnapshot = null;
+
+            this.deltas = new ConcurrentHashMap<>();
+
+            this.accessTime = accessTime;
+        } //Entry
+    } //Entry
+
+    /**
+     * The number of bytes of the content hash used in entity tags of the {@link SnapshotEncoder} class.
+     */
+    private static final int ETAG_BYTES;
+
+    static {
+        ETAG_BYTES = 16;
+    } //static
+
+    /**
+     * The maximum size of this encoder.
+     */
+    private final int maximumSize;
+
+    /**
+     * The number of past versions kept per stop by this encoder.
+     */
+    private final int historySize;
+
+    /**
+     * The entries of this encoder, keyed by stop ID.
+     */
+    private final Map<Integer, Entry> entries;
+
+    /**
+     * The last version handed out by this encoder. It starts from the current time in microseconds, so that versions
+     * keep increasing across restarts and a version held by a client is never reused for different buses.
+     */
+    private final AtomicLong lastVersion;
+
+    /**
+     * The encode count of this encoder.
+     */
+    private final LongAdder encodeCount;
+
+    /**
+     * The reuse count of this encoder.
+     */
+    private final LongAdder reuseCount;
+
+    /**
+     * The delta count of this encoder.
+     */
+    private final LongAdder deltaCount;
+
+    /**
+     * Constructs an instance of the {@link SnapshotEncoder} class.
+     *
+     * @param maximumSize the maximum size to be used in construction
+     * @param historySize the history size to be used in construction
+     * @throws IllegalArgumentException if the specified maximum size is not positive or the specified history size is
+     * negative
+     */
+    public SnapshotEncoder(@Value("${vta4j.snapshot.maximum-size:10000}") int maximumSize,
+                           @Value("${vta4j.snapshot.history:8}") int historySize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("the specified maximum size is not positive");
+        } else if (historySize < 0) {
+            throw new IllegalArgumentException("the specified history size is negative");
+        } //end if
+
+        this.maximumSize = maximumSize;
+
+        this.historySize = historySize;
+
+        this.entries = new ConcurrentHashMap<>();
+
+        this.lastVersion = new AtomicLong(System.currentTimeMillis() * 1_000L);
+
+        this.encodeCount = new LongAdder();
+
+        this.reuseCount = new LongAdder();
+
+        this.deltaCount = new LongAdder();
+    } //SnapshotEncoder
+
+    /**
+     * Returns the specified buses keyed by their keys, or {@code null} if a bus has no ID or two buses share a key.
+     *
+     * @param buses the buses to be used in the operation
+     * @return the specified buses keyed by their keys, or {@code null} if a bus has no ID or two buses share a key
+     */
+    private static Map<Key, Bus> key(Set<Bus> buses) {
+        Map<Key, Bus> keyedBuses = new HashMap<>();
+
+        for (Bus bus : buses) {
+            if (bus.id() == null) {
+                return null;
+            } //end if
+
+            String lineId = bus.line()
+                               .id();
+
+            Key key = new Key(bus.id(), lineId);
+
+            if (keyedBuses.put(key, bus) != null) {
+                return null;
+            } //end if
+        } //end for
+
+        return keyedBuses;
+    } //key
+
+    /**
+     * Returns the JSON bytes written by the specified action.
+     *
+     * @param action the action to be used in the operation
+     * @return the JSON bytes written by the specified action
+     */
+    private static byte[] toJson(JsonAction action) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (JsonWriter jsonWriter = new JsonWriter(new Utf8Writer(outputStream))) {
+            action.write(jsonWriter);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+
+        return outputStream.toByteArray();
+    } //toJson
+
+    /**
+     * Returns the gzip-compressed form of the specified bytes.
+     *
+     * @param bytes the bytes to be used in the operation
+     * @return the gzip-compressed form of the specified bytes
+     */
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 4);
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+
+        return outputStream.toByteArray();
+    } //gzip
+
+    /**
+     * Returns a quoted entity tag derived from the SHA-256 hash of the specified bytes.
+     *
+     * @param bytes the bytes to be used in the operation
+     * @return a quoted entity tag derived from the SHA-256 hash of the specified bytes
+     */
+    private static String etag(byte[] bytes) {
+        MessageDigest digest;
+
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } //end try catch
+
+        byte[] hash = digest.digest(bytes);
+
+        byte[] prefix = Arrays.copyOf(hash, SnapshotEncoder.ETAG_BYTES);
+
+        String hex = HexFormat.of()
+                              .formatHex(prefix);
+
+        return "\"%s\"".formatted(hex);
+    } //etag
+
+    /**
+     * Evicts the least recently used entries from this encoder until it is back under its maximum size.
+     */
+    private void evict() {
+        int excess = this.entries.size() - this.maximumSize;
+
+        if (excess <= 0) {
+            return;
+        } //end if
+
+        int target = excess + (this.maximumSize / 10);
+
+        Comparator<Map.Entry<Integer, Entry>> comparator = Comparator.comparingLong(mapEntry -> mapEntry.getValue()
+                                                                                                        .accessTime);
+
+        List<Map.Entry<Integer, Entry>> victims = this.entries.entrySet()
+                                                              .stream()
+                                                              .sorted(comparator)
+                                                              .limit(target)
+                                                              .map(mapEntry -> Map.entry(mapEntry.getKey(),
+                                                                                         mapEntry.getValue()))
+                                                              .toList();
+
+        victims.forEach(victim -> this.entries.remove(victim.getKey(), victim.getValue()));
+    } //evict
+
+    /**
+     * Returns the encoded form of the specified body of the specified content type.
+     *
+     * @param body the body to be used in the operation
+     * @param contentType the content type to be used in the operation
+     * @return the encoded form of the specified body of the specified content type
+     */
+    private static EncodedSnapshot toSnapshot(byte[] body, MediaType contentType) {
+        byte[] gzip = SnapshotEncoder.gzip(body);
+
+        String etag = SnapshotEncoder.etag(body);
+
+        return new EncodedSnapshot(body, gzip, etag, contentType);
+    } //toSnapshot
+
+    /**
+     * Returns the entry following the specified previous entry for the specified buses. The previous entry is kept
+     * if the specified buses are equal to its own, and a new version is encoded otherwise.
+     *
+     * @param previous the previous entry to be used in the operation, or {@code null}
+     * @param buses the buses to be used in the operation
+     * @param now the current time, in nanoseconds, to be used in the operation
+     * @return the entry following the specified previous entry for the specified buses
+     */
+    private Entry next(Entry previous, Set<Bus> buses, long now) {
+        if ((previous != null) && ((previous.buses == buses) || previous.buses.equals(buses))) {
+            previous.buses = buses;
+
+            previous.accessTime = now;
+
+            this.reuseCount.increment();
+
+            return previous;
+        } //end if
+
+        long version = this.lastVersion.incrementAndGet();
+
+        Version[] history;
+
+        if (previous == null) {
+            history = new Version[0];
+        } else {
+            int length = Math.min(previous.history.length + 1, this.historySize);
+
+            history = new Version[length];
+
+            if (length > 0) {
+                history[0] = new Version(previous.version, previous.keyedBuses);
+
+                System.arraycopy(previous.history, 0, history, 1, length - 1);
+            } //end if
+        } //end if
+
+        byte[] json = SnapshotEncoder.toJson(jsonWriter -> BusMessageConverter.writeSnapshot(jsonWriter, version,
+                                                                                             buses));
+
+        EncodedSnapshot snapshot = SnapshotEncoder.toSnapshot(json, MediaType.APPLICATION_JSON);
+
+        this.encodeCount.increment();
+
+        return new Entry(buses, version, history, snapshot, now);
+    } //next
+
+    /**
+     * Returns the current entry for the specified buses at the stop with the specified ID.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param buses the buses to be used in the operation
+     * @return the current entry for the specified buses at the stop with the specified ID
+     * @throws NullPointerException if the specified buses are {@code null}
+     */
+    private Entry update(int stopId, Set<Bus> buses) {
+        Objects.requireNonNull(buses, "the specified buses are null");
+
+        long now = System.nanoTime();
+
+        Entry entry = this.entries.get(stopId);
+
+        if ((entry != null) && (entry.buses == buses)) {
+            entry.accessTime = now;
+
+            this.reuseCount.increment();
+
+            return entry;
+        } //end if
+
+        entry = this.entries.compute(stopId, (key, previous) -> this.next(previous, buses, now));
+
+        if (this.entries.size() > this.maximumSize) {
+            this.evict();
+        } //end if
+
+        return entry;
+    } //update
+
+    /**
+     * Returns the encoded delta from the specified version to the specified entry, or {@code null} if the specified
+     * version is no longer known or the buses of either version could not all be keyed.
+     *
+     * @param entry the entry to be used in the operation
+     * @param since the since version to be used in the operation
+     * @return the encoded delta from the specified version to the specified entry, or {@code null}
+     */
+    private EncodedSnapshot encodeDelta(Entry entry, long since) {
+        Map<Key, Bus> current = entry.keyedBuses;
+
+        Map<Key, Bus> past = null;
+
+        if (since == entry.version) {
+            past = current;
+        } else {
+            for (Version version : entry.history) {
+                if (version.version() == since) {
+                    past = version.buses();
+
+                    break;
+                } //end if
+            } //end for
+        } //end if
+
+        if ((current == null) || (past == null)) {
+            return null;
+        } //end if
+
+        List<Bus> added = new ArrayList<>();
+
+        List<Bus> updated = new ArrayList<>();
+
+        List<Bus> removed = new ArrayList<>();
+
+        for (Map.Entry<Key, Bus> mapEntry : current.entrySet()) {
+            Bus bus = mapEntry.getValue();
+
+            Bus pastBus = past.get(mapEntry.getKey());
+
+            if (pastBus == null) {
+                added.add(bus);
+            } else if (!pastBus.equals(bus)) {
+                updated.add(bus);
+            } //end if
+        } //end for
+
+        for (Map.Entry<Key, Bus> mapEntry : past.entrySet()) {
+            if (!current.containsKey(mapEntry.getKey())) {
+                removed.add(mapEntry.getValue());
+            } //end if
+        } //end for
+
+        BusDelta delta = new BusDelta(entry.version, since, added, updated, removed);
+
+        byte[] json = SnapshotEncoder.toJson(jsonWriter -> BusMessageConverter.writeDelta(jsonWriter, delta));
+
+        this.deltaCount.increment();
+
+        return SnapshotEncoder.toSnapshot(json, MediaType.APPLICATION_JSON);
+    } //encodeDelta
+
+    /**
+     * Returns the encoded response body for the specified buses at the stop with the specified ID. The body is the
+     * same as {@code {"success": true, "version": version, "buses": buses}}, and is only serialized when the
+     * specified buses differ from the ones that were last encoded for the stop, which is also when the stop's version
+     * changes.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param buses the buses to be used in the operation
+     * @return the encoded response body for the specified buses at the stop with the specified ID
+     * @throws NullPointerException if the specified buses are {@code null}
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    public EncodedSnapshot encode(int stopId, Set<Bus> buses) {
+        Entry entry = this.update(stopId, buses);
+
+        return entry.snapshot;
+    } //encode
+
+    /**
+     * Returns the encoded response body for the specified buses at the stop with the specified ID in the binary format
+     * of the {@link BinaryBusEncoder}. The binary body of a version is only encoded when it is first requested, and
+     * has its own entity tag.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param buses the buses to be used in the operation
+     * @return the encoded response body for the specified buses at the stop with the specified ID in the binary
+     * format
+     * @throws NullPointerException if the specified buses are {@code null}
+     */
+    public EncodedSnapshot encodeBinary(int stopId, Set<Bus> buses) {
+        Entry entry = this.update(stopId, buses);
+
+        EncodedSnapshot binarySnapshot = entry.binarySnapshot;
+
+        if (binarySnapshot == null) {
+            byte[] body = BinaryBusEncoder.encode(entry.version, entry.buses);
+
+            binarySnapshot = SnapshotEncoder.toSnapshot(body, BinaryBusEncoder.MEDIA_TYPE);
+
+            entry.binarySnapshot = binarySnapshot;
+
+            this.encodeCount.increment();
+        } //end if
+
+        return binarySnapshot;
+    } //encodeBinary
+
+    /**
+     * Returns the encoded response body for the changes to the buses at the stop with the specified ID since the
+     * specified version. The body contains the current version and the buses that were added, updated, or removed,
+     * matched by ID and line, as written by {@link BusMessageConverter#writeDelta(JsonWriter, BusDelta)}. The full
+     * snapshot, as returned by {@link #encode(int, Set)}, is returned instead if the specified version is too old or
+     * unknown, or if the buses cannot be matched because one has no ID or two share an ID and line.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param buses the buses to be used in the operation
+     * @param since the since version to be used in the operation
+     * @return the encoded response body for the changes to the buses at the stop with the specified ID since the
+     * specified version, or the full snapshot
+     * @throws NullPointerException if the specified buses are {@code null}
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    public EncodedSnapshot encodeSince(int stopId, Set<Bus> buses, long since) {
+        Entry entry = this.update(stopId, buses);
+
+        EncodedSnapshot delta = entry.deltas.computeIfAbsent(since, key -> this.encodeDelta(entry, key));
+
+        return (delta == null) ? entry.snapshot : delta;
+    } //encodeSince
+
+    /**
+     * Returns a successful JSON response body containing the specified buses, in the order of the specified
+     * collection. Unlike stop snapshots, the result is not versioned or cached.
+     *
+     * @param buses the buses to be used in the operation
+     * @return a successful JSON response body containing the specified buses
+     * @throws NullPointerException if the specified buses are {@code null}
+     */
+    public static byte[] encodeBuses(Collection<Bus> buses) {
+        Objects.requireNonNull(buses, "the specified buses are null");
+
+        return SnapshotEncoder.toJson(jsonWriter -> BusMessageConverter.writeBuses(jsonWriter, buses));
+    } //encodeBuses
+
+    /**
+     * Returns the statistics of this encoder.
+     *
+     * @return the statistics of this encoder
+     */
+    public SnapshotStats getStats() {
+        int size = this.entries.size();
+
+        long encodes = this.encodeCount.sum();
+
+        long reuses = this.reuseCount.sum();
+
+        long deltas = this.deltaCount.sum();
+
+        return new SnapshotStats(size, encodes, reuses, deltas);
+    } //getStats
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import com.vta4j.model.Bus;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The status of one stop of a batch request.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ * @param buses the buses of the stop, or {@code null} if it could not be fetched
+ * @param message the error message of the stop, or {@code null} if it was fetched
+ */
+public record StopStatus(Set<Bus> buses, String message) {
+    /**
+     * Returns a status of a stop that was fetched with the specified buses.
+     *
+     * @param buses the buses to be used in the operation
+     * @return a status of a stop that was fetched with the specified buses
+     * @throws NullPointerException if the specified buses are {@code null}
+     */
+    public static StopStatus success(Set<Bus> buses) {
+        Objects.requireNonNull(buses, "the specified buses are null");
+
+        return new StopStatus(buses, null);
+    } //success
+
+    /**
+     * Returns a status of a stop that could not be fetched for the specified reason.
+     *
+     * @param message the message to be used in the operation
+     * @return a status of a stop that could not be fetched for the specified reason
+     * @throws NullPointerException if the specified message is {@code null}
+     */
+    public static StopStatus failure(String message) {
+        Objects.requireNonNull(message, "the specified message is null");
+
+        return new StopStatus(null, message);
+    } //failure
+
+    /**
+     * Returns whether the stop of this status was fetched.
+     *
+     * @return {@code true}, if the stop of this status was fetched and {@code false} otherwise
+     */
+    public boolean success() {
+        return this.message == null;
+    } //success
+}
\ No newline at end of file
@@ -0,0 +1,245 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * An unsynchronized writer that encodes characters as UTF-8 into a byte buffer and flushes it to an output stream.
+ * JSON output is almost entirely ASCII, which is copied byte for byte, and the many small writes of a JSON writer
+ * avoid the locking and charset encoder calls of {@link java.io.OutputStreamWriter}.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+final class Utf8Writer extends Writer {
+    /**
+     * The default buffer size of the {@link Utf8Writer} class.
+     */
+    private static final int BUFFER_SIZE;
+
+    static {
+        BUFFER_SIZE = 8192;
+    } //static
+
+    /**
+     * The output stream of this writer.
+     */
+    private final OutputStream outputStream;
+
+    /**
+     * The buffer of this writer.
+     */
+    private final byte[] buffer;
+
+    /**
+     * The number of bytes in the buffer of this writer.
+     */
+    private int count;
+
+    /**
+     * The pending high surrogate of this writer, or {@code 0} if there is none.
+     */
+    private char highSurrogate;
+
+    /**
+     * Constructs an instance of the {@link Utf8Writer} class.
+     *
+     * @param outputStream the output stream to be used in construction
+     * @throws NullPointerException if the specified output stream is {@code null}
+     */
+    Utf8Writer(OutputStream outputStream) {
+        this.outputStream = Objects.requireNonNull(outputStream, "the specified output stream is null");
+
+        this.buffer = new byte[Utf8Writer.BUFFER_SIZE];
+    } //Utf8Writer
+
+    /**
+     * Writes the buffer of this writer to its output stream.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void drain() throws IOException {
+        if (this.count > 0) {
+            this.outputStream.write(this.buffer, 0, this.count);
+
+            this.count = 0;
+        } //end if
+    } //drain
+
+    /**
+     * Encodes the specified code point into the buffer of this writer.
+     *
+     * @param codePoint the code point to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void encode(int codePoint) throws IOException {
+        if ((this.buffer.length - this.count) < 4) {
+            this.drain();
+        } //end if
+
+        if (codePoint < 0x80) {
+            this.buffer[this.count++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            this.buffer[this.count++] = (byte) (0xC0 | (codePoint >> 6));
+
+            this.buffer[this.count++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            this.buffer[this.count++] = (byte) (0xE0 | (codePoint >> 12));
+
+            this.buffer[this.count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+
+            this.buffer[this.count++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else {
+            this.buffer[this.count++] = (byte) (0xF0 | (codePoint >> 18));
+
+            this.buffer[this.count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+
+            this.buffer[this.count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+
+            this.buffer[this.count++] = (byte) (0x80 | (codePoint & 0x3F));
+        } //end if
+    } //encode
+
+    /**
+     * Writes the specified character, pairing surrogates and replacing unpaired ones with {@code '?'}.
+     *
+     * @param c the character to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeChar(char c) throws IOException {
+        if (this.highSurrogate != 0) {
+            char high = this.highSurrogate;
+
+            this.highSurrogate = 0;
+
+            if (Character.isLowSurrogate(c)) {
+                this.encode(Character.toCodePoint(high, c));
+
+                return;
+            } //end if
+
+            this.encode('?');
+        } //end if
+
+        if (Character.isHighSurrogate(c)) {
+            this.highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            this.encode('?');
+        } else {
+            this.encode(c);
+        } //end if
+    } //writeChar
+
+    /**
+     * Writes the specified character.
+     *
+     * @param c the character to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void write(int c) throws IOException {
+        this.writeChar((char) c);
+    } //write
+
+    /**
+     * Writes the specified portion of the specified character array.
+     *
+     * @param chars the character array to be used in the operation
+     * @param offset the offset to be used in the operation
+     * @param length the length to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+
+        for (int i = offset; i < (offset + length); i++) {
+            char c = chars[i];
+
+            if ((c < 0x80) && (this.highSurrogate == 0) && (this.count < this.buffer.length)) {
+                this.buffer[this.count++] = (byte) c;
+            } else {
+                this.writeChar(c);
+            } //end if
+        } //end for
+    } //write
+
+    /**
+     * Writes the specified portion of the specified string.
+     *
+     * @param string the string to be used in the operation
+     * @param offset the offset to be used in the operation
+     * @param length the length to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void write(String string, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, string.length());
+
+        for (int i = offset; i < (offset + length); i++) {
+            char c = string.charAt(i);
+
+            if ((c < 0x80) && (this.highSurrogate == 0) && (this.count < this.buffer.length)) {
+                this.buffer[this.count++] = (byte) c;
+            } else {
+                this.writeChar(c);
+            } //end if
+        } //end for
+    } //write
+
+    /**
+     * Writes the buffer of this writer to its output stream and flushes it.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        this.drain();
+
+        this.outputStream.flush();
+    } //flush
+
+    /**
+     * Writes the buffer of this writer to its output stream and closes it.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.highSurrogate != 0) {
+            this.highSurrogate = 0;
+
+            this.encode('?');
+        } //end if
+
+        this.drain();
+
+        this.outputStream.close();
+    } //close
+}
\ No newline at end of file
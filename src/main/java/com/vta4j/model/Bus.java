@@ -38,8 +38,10 @@ import java.util.Objects;
  * @param destination the destination of this bus
  * @param direction the direction of this bus
  * @param arrivalTime the arrival time of this bus
+ * @param scheduled whether the arrival time of this bus is taken from the static schedule rather than real-time data
  */
-public record Bus(String id, Line line, Stop stop, Stop destination, String direction, ZonedDateTime arrivalTime) {
+public record Bus(String id, Line line, Stop stop, Stop destination, String direction, ZonedDateTime arrivalTime,
+                  boolean scheduled) {
     /**
      * Constructs an instance of the {@link Bus} class.
      *
@@ -49,6 +51,7 @@ public record Bus(String id, Line line, Stop stop, Stop destination, String dire
      * @param destination the destination to be used in construction
      * @param direction the direction to be used in construction
      * @param arrivalTime the arrival time to be used in construction
+     * @param scheduled the scheduled flag to be used in construction
      * @throws NullPointerException if the specified line, stop, direction, prediction time, or arrival time is
      * {@code null}
      */
@@ -61,4 +64,19 @@ public record Bus(String id, Line line, Stop stop, Stop destination, String dire
 
         Objects.requireNonNull(arrivalTime, "the specified arrival time is null");
     } //Bus
+
+    /**
+     * Constructs an instance of the {@link Bus} class with a real-time arrival time.
+     *
+     * @param id the ID to be used in construction
+     * @param line the line to be used in construction
+     * @param stop the stop to be used in construction
+     * @param destination the destination to be used in construction
+     * @param direction the direction to be used in construction
+     * @param arrivalTime the arrival time to be used in construction
+     * @throws NullPointerException if the specified line, stop, direction, or arrival time is {@code null}
+     */
+    public Bus(String id, Line line, Stop stop, Stop destination, String direction, ZonedDateTime arrivalTime) {
+        this(id, line, stop, destination, direction, arrivalTime, false);
+    } //Bus
 }
\ No newline at end of file
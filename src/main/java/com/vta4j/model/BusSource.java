@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A source of bus data for the VTA4j application.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+public interface BusSource {
+    /**
+     * Returns a {@link Set} of buses set to arrive at the stop with the specified ID.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return a {@link Set} of buses set to arrive at the stop with the specified ID
+     */
+    Set<Bus> getBuses(int stopId);
+
+    /**
+     * Returns a future of a {@link Set} of buses set to arrive at the stop with the specified ID. Sources that answer
+     * from memory complete it immediately, which is the default.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return a future of a {@link Set} of buses set to arrive at the stop with the specified ID
+     */
+    default CompletableFuture<Set<Bus>> getBusesAsync(int stopId) {
+        Set<Bus> buses = this.getBuses(stopId);
+
+        return CompletableFuture.completedFuture(buses);
+    } //getBusesAsync
+
+    /**
+     * Returns the age of the buses this source holds for the stop with the specified ID, if they are stale. Sources
+     * that always serve current data report none, which is the default.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return the age of the buses this source holds for the stop with the specified ID, or an empty
+     * {@link Optional} if they are not stale
+     */
+    default Optional<Duration> getStaleAge(int stopId) {
+        return Optional.empty();
+    } //getStaleAge
+
+    /**
+     * Returns the statistics of this source, keyed by name.
+     *
+     * @return the statistics of this source, keyed by name
+     */
+    Map<String, ?> getStats();
+}
\ No newline at end of file
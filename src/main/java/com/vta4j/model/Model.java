@@ -24,210 +24,780 @@
 
 package com.vta4j.model;
 
-import com.google.gson.*;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.vta4j.model.adapter.BusAdapter;
+import com.vta4j.model.capture.CaptureEntry;
+import com.vta4j.model.capture.CaptureLog;
+import com.vta4j.model.history.PredictionStore;
+import com.vta4j.model.schedule.StaticSchedule;
+import com.vta4j.model.upstream.UpstreamClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.GZIPInputStream;
 
 /**
- * A model of the VTA4j application.
+ * A model of the VTA4j application. Each stage of an upstream fetch is metered: the compressed and decompressed size
+ * of each payload, the time spent decompressing and parsing it, the visits it contained and how many were skipped,
+ * and whether it yielded buses, was genuinely empty, was rejected by the upstream service, or failed. A failed fetch
+ * is never reported as an empty stop; it falls back to the static schedule if one is loaded, and fails otherwise. If
+ * capturing is enabled, every raw response is also appended to the {@link CaptureLog}, and the predictions of every
+ * successful fetch are recorded in the {@link PredictionStore}.
  *
  * @author Logan Kulinski, lbkulinski@gmail.com
- * @version April 19, 2022
+ * @version October 17, 2026
  */
+@Component
 public final class Model {
+    /**
+     * A service delivery read from a StopMonitoring response.
+     */
+    static final class Delivery {
+        /**
+         * The buses of this delivery.
+         */
+        final Set<Bus> buses;
+
+        /**
+         * The number of monitored stop visits of this delivery.
+         */
+        int visitCount;
+
+        /**
+         * The number of monitored stop visits of this delivery that were skipped.
+         */
+        int skipCount;
+
+        /**
+         * The status of this delivery, or {@code null} if it has not been read.
+         */
+        Boolean status;
+
+        /**
+         * Constructs an instance of the {@link Delivery} class.
+         */
+        private Delivery() {
+            this.buses = new HashSet<>();
+        } //Delivery
+    } //Delivery
+
+    /**
+     * An input stream that counts the bytes read from it.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        /**
+         * The number of bytes read from this input stream.
+         */
+        private long count;
+
+        /**
+         * Constructs an instance of the {@link CountingInputStream} class.
+         *
+         * @param inputStream the input stream to be used in construction
+         */
+        private CountingInputStream(InputStream inputStream) {
+            super(inputStream);
+        } //CountingInputStream
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+
+            if (value != -1) {
+                this.count++;
+            } //end if
+
+            return value;
+        } //read
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int bytesRead = super.read(bytes, offset, length);
+
+            if (bytesRead != -1) {
+                this.count += bytesRead;
+            } //end if
+
+            return bytesRead;
+        } //read
+
+        @Override
+        public long skip(long length) throws IOException {
+            long bytesSkipped = super.skip(length);
+
+            this.count += bytesSkipped;
+
+            return bytesSkipped;
+        } //skip
+    } //CountingInputStream
+
     /**
      * The logger of the {@link Model} class.
      */
     private static final Logger LOGGER;
 
     /**
-     * The API key of the {@link Model} class.
+     * The size of the decompression buffer of the {@link Model} class.
      */
-    private static final String API_KEY;
+    private static final int BUFFER_SIZE;
 
     static {
         LOGGER = LogManager.getLogger();
 
-        API_KEY = Model.getApiKey();
+        BUFFER_SIZE = 8192;
     } //static
 
     /**
-     * Returns the API key of the VTA4j application.
+     * The upstream client of this model.
+     */
+    private final UpstreamClient client;
+
+    /**
+     * The static schedule of this model.
+     */
+    private final StaticSchedule schedule;
+
+    /**
+     * The capture log of this model.
+     */
+    private final CaptureLog captureLog;
+
+    /**
+     * The prediction store of this model.
+     */
+    private final PredictionStore predictionStore;
+
+    /**
+     * The upstream base URL of this model.
+     */
+    private final String baseUrl;
+
+    /**
+     * The agency of this model.
+     */
+    private final String agency;
+
+    /**
+     * The API key of this model, or {@code null} if none is configured.
+     */
+    private final String apiKey;
+
+    /**
+     * The compressed payload size summary of this model.
+     */
+    private final DistributionSummary compressedSize;
+
+    /**
+     * The decompressed payload size summary of this model.
+     */
+    private final DistributionSummary decompressedSize;
+
+    /**
+     * The parse timer of this model.
+     */
+    private final Timer parseTimer;
+
+    /**
+     * The visits per payload summary of this model.
+     */
+    private final DistributionSummary visitSummary;
+
+    /**
+     * The skipped visit counter of this model.
+     */
+    private final Counter skipCounter;
+
+    /**
+     * The counter of fetches that yielded buses of this model.
+     */
+    private final Counter busesCounter;
+
+    /**
+     * The counter of fetches that were genuinely empty of this model.
+     */
+    private final Counter emptyCounter;
+
+    /**
+     * The counter of fetches that were rejected by the upstream service of this model.
+     */
+    private final Counter rejectedCounter;
+
+    /**
+     * The counter of fetches that failed of this model.
+     */
+    private final Counter errorCounter;
+
+    /**
+     * The counter of failed fetches served from the static schedule of this model.
+     */
+    private final Counter fallbackCounter;
+
+    /**
+     * The counter of failed fetches with no static schedule to fall back to of this model.
+     */
+    private final Counter unavailableCounter;
+
+    /**
+     * Constructs an instance of the {@link Model} class.
      *
-     * @return the API key of the VTA4j application
+     * @param client the upstream client to be used in construction
+     * @param schedule the static schedule to be used in construction
+     * @param captureLog the capture log to be used in construction
+     * @param predictionStore the prediction store to be used in construction
+     * @param registry the meter registry to be used in construction
+     * @param baseUrl the upstream base URL to be used in construction
+     * @param agency the agency to be used in construction
+     * @param apiKey the API key to be used in construction, or an empty string
+     * @throws NullPointerException if the specified upstream client, static schedule, capture log, prediction store,
+     * meter registry, upstream base URL, agency, or API key is {@code null}
      */
-    private static String getApiKey() {
-        String pathString = "src/main/resources/api_key.properties";
+    public Model(UpstreamClient client, StaticSchedule schedule, CaptureLog captureLog, PredictionStore predictionStore,
+                 MeterRegistry registry,
+                 @Value("${vta4j.upstream.base-url:https://api.511.org/transit}") String baseUrl,
+                 @Value("${vta4j.upstream.agency:SC}") String agency,
+                 @Value("${vta4j.upstream.api-key:}") String apiKey) {
+        this.client = Objects.requireNonNull(client, "the specified upstream client is null");
 
-        Path path = Path.of(pathString);
+        this.schedule = Objects.requireNonNull(schedule, "the specified static schedule is null");
 
-        Properties properties = new Properties();
+        this.captureLog = Objects.requireNonNull(captureLog, "the specified capture log is null");
 
-        try (BufferedReader reader = Files.newBufferedReader(path)) {
-            properties.load(reader);
-        } catch (IOException e) {
-            Model.LOGGER.atError()
-                        .withThrowable(e)
-                        .log();
+        this.predictionStore = Objects.requireNonNull(predictionStore, "the specified prediction store is null");
 
-            return null;
-        } //end try catch
+        Objects.requireNonNull(baseUrl, "the specified upstream base URL is null");
 
-        return properties.getProperty("api_key");
-    } //getApiKey
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+
+        this.agency = Objects.requireNonNull(agency, "the specified agency is null");
+
+        Objects.requireNonNull(apiKey, "the specified API key is null");
+
+        this.apiKey = apiKey.isBlank() ? null : apiKey.strip();
+
+        if (this.apiKey == null) {
+            Model.LOGGER.atWarn()
+                        .log("No API key is configured; set vta4j.upstream.api-key to fetch real-time data");
+        } //end if
+
+        Objects.requireNonNull(registry, "the specified meter registry is null");
+
+        this.compressedSize = Model.newPayloadSummary(registry, "gzip");
+
+        this.decompressedSize = Model.newPayloadSummary(registry, "identity");
+
+        this.parseTimer = Timer.builder("vta4j.upstream.parse")
+                               .description("The time spent decompressing and parsing upstream payloads")
+                               .publishPercentileHistogram()
+                               .register(registry);
+
+        this.visitSummary = DistributionSummary.builder("vta4j.upstream.visits")
+                                               .description("The monitored stop visits per upstream payload")
+                                               .publishPercentileHistogram()
+                                               .register(registry);
+
+        this.skipCounter = Counter.builder("vta4j.upstream.visits.skipped")
+                                  .description("The monitored stop visits that were missing a required field")
+                                  .register(registry);
+
+        this.busesCounter = Model.newResultCounter(registry, "buses");
+
+        this.emptyCounter = Model.newResultCounter(registry, "empty");
+
+        this.rejectedCounter = Model.newResultCounter(registry, "rejected");
+
+        this.errorCounter = Model.newResultCounter(registry, "error");
+
+        this.fallbackCounter = Model.newFallbackCounter(registry, "served");
+
+        this.unavailableCounter = Model.newFallbackCounter(registry, "unavailable");
+    } //Model
 
     /**
-     * Returns a {@link Set} of buses parsed from the specified body.
+     * Returns a new payload size summary with the specified encoding registered in the specified meter registry.
+     *
+     * @param registry the meter registry to be used in the operation
+     * @param encoding the encoding to be used in the operation
+     * @return a new payload size summary with the specified encoding registered in the specified meter registry
+     */
+    private static DistributionSummary newPayloadSummary(MeterRegistry registry, String encoding) {
+        return DistributionSummary.builder("vta4j.upstream.payload")
+                                  .description("The size of upstream payloads")
+                                  .baseUnit("bytes")
+                                  .tag("encoding", encoding)
+                                  .publishPercentileHistogram()
+                                  .register(registry);
+    } //newPayloadSummary
+
+    /**
+     * Returns a new fetch result counter with the specified result registered in the specified meter registry.
+     *
+     * @param registry the meter registry to be used in the operation
+     * @param result the result to be used in the operation
+     * @return a new fetch result counter with the specified result registered in the specified meter registry
+     */
+    private static Counter newResultCounter(MeterRegistry registry, String result) {
+        return Counter.builder("vta4j.upstream.results")
+                      .description("The upstream fetches, by result")
+                      .tag("result", result)
+                      .register(registry);
+    } //newResultCounter
+
+    /**
+     * Returns a new fallback counter with the specified result registered in the specified meter registry.
+     *
+     * @param registry the meter registry to be used in the operation
+     * @param result the result to be used in the operation
+     * @return a new fallback counter with the specified result registered in the specified meter registry
+     */
+    private static Counter newFallbackCounter(MeterRegistry registry, String result) {
+        return Counter.builder("vta4j.schedule.fallbacks")
+                      .description("The failed upstream fetches of a stop, by whether the static schedule served them")
+                      .tag("result", result)
+                      .register(registry);
+    } //newFallbackCounter
+
+    /**
+     * Reads a status using the specified JSON reader.
+     *
+     * @param jsonReader the JSON reader to be used in the operation
+     * @return the status read using the specified JSON reader
+     * @throws IOException if an I/O error occurs
+     */
+    private static boolean readStatus(JsonReader jsonReader) throws IOException {
+        if (jsonReader.peek() == JsonToken.STRING) {
+            String status = jsonReader.nextString();
+
+            return Boolean.parseBoolean(status);
+        } //end if
+
+        return jsonReader.nextBoolean();
+    } //readStatus
+
+    /**
+     * Reads a monitored stop visit array using the specified JSON reader and adds its buses to the specified
+     * delivery. A visit that is missing a required field is skipped and counted.
+     *
+     * @param jsonReader the JSON reader to be used in the operation
+     * @param delivery the delivery to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void readMonitoredStopVisit(JsonReader jsonReader, Delivery delivery) throws IOException {
+        jsonReader.beginArray();
+
+        while (jsonReader.hasNext()) {
+            Bus bus = BusAdapter.readBus(jsonReader);
+
+            delivery.visitCount++;
+
+            if (bus == null) {
+                delivery.skipCount++;
+            } else {
+                delivery.buses.add(bus);
+            } //end if
+        } //end while
+
+        jsonReader.endArray();
+    } //readMonitoredStopVisit
+
+    /**
+     * Reads a stop monitoring delivery using the specified JSON reader and adds its buses to the specified delivery.
+     *
+     * @param jsonReader the JSON reader to be used in the operation
+     * @param delivery the delivery to be used in the operation
+     * @return the status of the stop monitoring delivery
+     * @throws IOException if an I/O error occurs
+     */
+    private static boolean readStopMonitoringDelivery(JsonReader jsonReader, Delivery delivery) throws IOException {
+        boolean status = false;
+
+        jsonReader.beginObject();
+
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.skipValue();
+
+                continue;
+            } //end if
+
+            switch (name) {
+                case "Status" -> status = Model.readStatus(jsonReader);
+                case "MonitoredStopVisit" -> Model.readMonitoredStopVisit(jsonReader, delivery);
+                default -> jsonReader.skipValue();
+            } //end switch
+        } //end while
+
+        jsonReader.endObject();
+
+        return status;
+    } //readStopMonitoringDelivery
+
+    /**
+     * Reads a service delivery using the specified JSON reader and adds its buses to the specified delivery.
+     *
+     * @param jsonReader the JSON reader to be used in the operation
+     * @param delivery the delivery to be used in the operation
+     * @return the combined status of the service delivery and its stop monitoring delivery
+     * @throws IOException if an I/O error occurs
+     */
+    private static boolean readServiceDelivery(JsonReader jsonReader, Delivery delivery) throws IOException {
+        boolean status0 = false;
+
+        boolean status1 = false;
+
+        jsonReader.beginObject();
+
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.skipValue();
+
+                continue;
+            } //end if
+
+            switch (name) {
+                case "Status" -> status0 = Model.readStatus(jsonReader);
+                case "StopMonitoringDelivery" -> status1 = Model.readStopMonitoringDelivery(jsonReader, delivery);
+                default -> jsonReader.skipValue();
+            } //end switch
+        } //end while
+
+        jsonReader.endObject();
+
+        return status0 && status1;
+    } //readServiceDelivery
+
+    /**
+     * Returns the service delivery read from the specified body. The body is streamed, so only one monitored stop
+     * visit is held in memory at a time.
      *
      * @param body the body to be used in the operation
-     * @return a {@link Set} of buses parsed from the specified body
+     * @return the service delivery read from the specified body
+     * @throws IOException if an I/O error occurs
      * @throws NullPointerException if the specified body is {@code null}
+     * @throws JsonParseException if the specified body does not contain a service delivery
      */
-    private static Set<Bus> parseBody(String body) {
+    static Delivery readDelivery(Reader body) throws IOException {
         Objects.requireNonNull(body, "the specified body is null");
 
-        BusAdapter busAdapter = new BusAdapter();
+        JsonReader jsonReader = new JsonReader(body);
 
-        GsonBuilder builder = new GsonBuilder();
+        Delivery delivery = new Delivery();
 
-        builder.registerTypeAdapter(Bus.class, busAdapter);
+        jsonReader.beginObject();
 
-        Gson gson = builder.create();
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
 
-        JsonObject object = gson.fromJson(body, JsonObject.class);
+            if (Objects.equals(name, "ServiceDelivery") && (jsonReader.peek() != JsonToken.NULL)) {
+                delivery.status = Model.readServiceDelivery(jsonReader, delivery);
+            } else {
+                jsonReader.skipValue();
+            } //end if
+        } //end while
 
-        JsonObject serviceDelivery = object.getAsJsonObject("ServiceDelivery");
+        jsonReader.endObject();
 
-        boolean status0 = serviceDelivery.getAsJsonPrimitive("Status")
-                                         .getAsBoolean();
+        if (delivery.status == null) {
+            throw new JsonParseException("the specified body does not contain a service delivery");
+        } //end if
 
-        if (!status0) {
+        return delivery;
+    } //readDelivery
+
+    /**
+     * Returns a {@link Set} of buses parsed from the specified body, which is empty if the status of its service
+     * delivery is {@code false}.
+     *
+     * @param body the body to be used in the operation
+     * @return a {@link Set} of buses parsed from the specified body
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if the specified body is {@code null}
+     * @throws JsonParseException if the specified body does not contain a service delivery
+     */
+    static Set<Bus> parseBody(Reader body) throws IOException {
+        Delivery delivery = Model.readDelivery(body);
+
+        if (!delivery.status) {
             return Set.of();
         } //end if
 
-        JsonObject stopMonitoringDelivery = serviceDelivery.getAsJsonObject("StopMonitoringDelivery");
+        return Collections.unmodifiableSet(delivery.buses);
+    } //parseBody
 
-        boolean status1 = stopMonitoringDelivery.getAsJsonPrimitive("Status")
-                                                .getAsBoolean();
+    /**
+     * Returns a {@link Set} of buses parsed from the specified gzip-compressed body, which is empty if the status of
+     * its service delivery is {@code false}.
+     *
+     * @param body the gzip-compressed body to be used in the operation
+     * @return a {@link Set} of buses parsed from the specified gzip-compressed body
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if the specified body is {@code null}
+     * @throws JsonParseException if the specified body does not contain a service delivery
+     */
+    public static Set<Bus> parseCompressedBody(byte[] body) throws IOException {
+        Objects.requireNonNull(body, "the specified body is null");
 
-        if (!status1) {
-            return Set.of();
+        try (InputStream inputStream = new ByteArrayInputStream(body);
+             GZIPInputStream gzipInputStream = new GZIPInputStream(inputStream, Model.BUFFER_SIZE);
+             Reader reader = new InputStreamReader(gzipInputStream, StandardCharsets.UTF_8)) {
+            return Model.parseBody(reader);
+        } //end try
+    } //parseCompressedBody
+
+    /**
+     * Returns the service delivery decoded from the gzip-compressed body of the specified response, recording its
+     * size before and after decompression, the time spent decoding it, and its visits.
+     *
+     * @param response the response to be used in the operation
+     * @return the service delivery decoded from the gzip-compressed body of the specified response
+     * @throws IllegalStateException if the status code of the specified response is not successful
+     * @throws UncheckedIOException if an I/O error occurs
+     * @throws JsonParseException if the body of the specified response does not contain a service delivery
+     */
+    private Delivery decode(HttpResponse<byte[]> response) {
+        int statusCode = response.statusCode();
+
+        if ((statusCode / 100) != 2) {
+            String message = "the upstream service responded with status %d".formatted(statusCode);
+
+            throw new IllegalStateException(message);
         } //end if
 
-        JsonArray monitoredStopVisit = stopMonitoringDelivery.getAsJsonArray("MonitoredStopVisit");
+        byte[] body = response.body();
 
-        Set<Bus> buses = new HashSet<>();
+        this.compressedSize.record(body.length);
 
-        for (JsonElement element : monitoredStopVisit) {
-            Bus bus;
+        long startTime = System.nanoTime();
 
-            try {
-                bus = gson.fromJson(element, Bus.class);
-            } catch (Exception e) {
-                Model.LOGGER.atError()
-                            .withThrowable(e)
-                            .log();
+        Delivery delivery;
 
-                bus = null;
-            } //end try catch
+        try (InputStream inputStream = new ByteArrayInputStream(body);
+             GZIPInputStream gzipInputStream = new GZIPInputStream(inputStream, Model.BUFFER_SIZE);
+             CountingInputStream countingInputStream = new CountingInputStream(gzipInputStream);
+             Reader reader = new InputStreamReader(countingInputStream, StandardCharsets.UTF_8)) {
+            delivery = Model.readDelivery(reader);
 
-            if (bus != null) {
-                buses.add(bus);
-            } //end if
-        } //end for
+            this.decompressedSize.record(countingInputStream.count);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            this.parseTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        } //end try catch finally
 
-        return Collections.unmodifiableSet(buses);
-    } //parseBody
+        this.visitSummary.record(delivery.visitCount);
+
+        if (delivery.skipCount > 0) {
+            this.skipCounter.increment(delivery.skipCount);
+        } //end if
+
+        return delivery;
+    } //decode
 
     /**
-     * Returns a {@link Set} of buses set to arrive at the stop with the specified ID.
+     * Returns the buses of the specified delivery, counting the result of its fetch and recording its predictions. A
+     * delivery whose status is {@code false} is counted as rejected and treated as a failure, so it is not mistaken
+     * for an empty stop.
      *
-     * @param stopId the stop ID to be used in the operation
-     * @return a {@link Set} of buses set to arrive at the stop with the specified ID
+     * @param delivery the delivery to be used in the operation, or {@code null} if the fetch failed
+     * @param throwable the throwable to be used in the operation, or {@code null} if the fetch succeeded
+     * @return the buses of the specified delivery
+     * @throws CompletionException if the fetch failed or the delivery was rejected
      */
-    public static Set<Bus> getBuses(int stopId) {
-        if (Model.API_KEY == null) {
+    private Set<Bus> getBuses(Delivery delivery, Throwable throwable) {
+        if (throwable != null) {
+            this.errorCounter.increment();
+
+            Model.LOGGER.atError()
+                        .withThrowable(throwable)
+                        .log();
+
+            if (throwable instanceof CompletionException completionException) {
+                throw completionException;
+            } //end if
+
+            throw new CompletionException(throwable);
+        } else if (!delivery.status) {
+            this.rejectedCounter.increment();
+
+            throw new CompletionException(new IllegalStateException("the upstream service rejected the request"));
+        } else if (delivery.buses.isEmpty()) {
+            this.emptyCounter.increment();
+
             return Set.of();
         } //end if
 
-        String query = "api_key=%s&agency=SC&stopcode=%d&format=json".formatted(Model.API_KEY, stopId);
+        this.busesCounter.increment();
 
-        String uriString = "https://api.511.org/transit/StopMonitoring?%s".formatted(query);
+        this.predictionStore.record(delivery.buses, Instant.now());
 
-        URI uri;
+        return Collections.unmodifiableSet(delivery.buses);
+    } //getBuses
 
-        try {
-            uri = new URI(uriString);
-        } catch (URISyntaxException e) {
-            Model.LOGGER.atError()
-                        .withThrowable(e)
-                        .log();
+    /**
+     * Appends the specified response to the stop with the specified ID to the capture log of this model, if capturing
+     * is enabled. A request that failed without a response is captured with a status of {@code 0} and an empty body.
+     *
+     * @param stopId the stop ID to be used in the operation, or {@link CaptureLog#AGENCY}
+     * @param response the response to be used in the operation, or {@code null} if the request failed
+     */
+    private void capture(int stopId, HttpResponse<byte[]> response) {
+        if (!this.captureLog.isEnabled()) {
+            return;
+        } //end if
 
-            return Set.of();
-        } //end try catch
+        long timestamp = System.currentTimeMillis();
+
+        int status = (response == null) ? 0 : response.statusCode();
+
+        byte[] body = ((response == null) || (response.body() == null)) ? new byte[0] : response.body();
 
-        HttpRequest request = HttpRequest.newBuilder(uri)
-                                         .GET()
-                                         .build();
+        CaptureEntry entry = new CaptureEntry(timestamp, stopId, status, body);
 
-        HttpClient client = HttpClient.newBuilder()
-                                      .build();
+        this.captureLog.append(entry);
+    } //capture
 
-        HttpResponse.BodyHandler<InputStream> bodyHandler = HttpResponse.BodyHandlers.ofInputStream();
+    /**
+     * Returns a future of a {@link Set} of buses parsed from the StopMonitoring response to the specified query for
+     * the stop with the specified ID. The future is completed exceptionally if the request fails, the response cannot
+     * be parsed, or the upstream service rejects the request.
+     *
+     * @param query the query to be used in the operation
+     * @param stopId the stop ID to be used in the operation, or {@link CaptureLog#AGENCY}
+     * @return a future of a {@link Set} of buses parsed from the StopMonitoring response to the specified query
+     */
+    private CompletableFuture<Set<Bus>> fetchAsync(String query, int stopId) {
+        String uriString = "%s/StopMonitoring?%s".formatted(this.baseUrl, query);
 
-        HttpResponse<InputStream> response;
+        CompletableFuture<Delivery> future;
 
         try {
-            response = client.send(request, bodyHandler);
-        } catch (IOException | InterruptedException e) {
-            Model.LOGGER.atError()
-                        .withThrowable(e)
-                        .log();
+            URI uri = new URI(uriString);
 
-            return Set.of();
+            future = this.client.sendAsync(uri)
+                                .whenComplete((response, throwable) -> this.capture(stopId, response))
+                                .thenApply(this::decode);
+        } catch (URISyntaxException e) {
+            future = CompletableFuture.failedFuture(e);
         } //end try catch
 
-        byte[] bytes;
+        return future.handle(this::getBuses);
+    } //fetchAsync
 
-        try (InputStream inputStream = response.body();
-             GZIPInputStream gzipInputStream = new GZIPInputStream(inputStream)) {
-            bytes = gzipInputStream.readAllBytes();
-        } catch (IOException e) {
-            Model.LOGGER.atError()
-                        .withThrowable(e)
-                        .log();
+    /**
+     * Returns the buses of the static schedule at the stop with the specified ID after a fetch failed with the
+     * specified throwable.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param throwable the throwable to be used in the operation
+     * @return the buses of the static schedule at the stop with the specified ID
+     * @throws CompletionException if no static schedule is loaded
+     */
+    private Set<Bus> getScheduledBuses(int stopId, Throwable throwable) {
+        if (!this.schedule.isLoaded()) {
+            this.unavailableCounter.increment();
 
-            return Set.of();
-        } //end try catch
+            if (throwable instanceof CompletionException completionException) {
+                throw completionException;
+            } //end if
+
+            throw new CompletionException(throwable);
+        } //end if
 
-        String body = new String(bytes);
+        this.fallbackCounter.increment();
 
-        Set<Bus> buses;
+        return this.schedule.getBuses(stopId);
+    } //getScheduledBuses
 
-        try {
-            buses = Model.parseBody(body);
-        } catch (RuntimeException e) {
-            Model.LOGGER.atError()
-                        .withThrowable(e)
-                        .log();
+    /**
+     * Returns a future of a {@link Set} of buses of the static schedule at the stop with the specified ID, for when
+     * no real-time data is available for the specified reason. The future is completed exceptionally with that reason
+     * if no static schedule is loaded.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param cause the reason no real-time data is available to be used in the operation
+     * @return a future of a {@link Set} of buses of the static schedule at the stop with the specified ID
+     * @throws NullPointerException if the specified cause is {@code null}
+     */
+    public CompletableFuture<Set<Bus>> getScheduledBusesAsync(int stopId, Throwable cause) {
+        Objects.requireNonNull(cause, "the specified cause is null");
 
-            return Set.of();
-        } //end try catch
+        return CompletableFuture.<Set<Bus>>failedFuture(cause)
+                                .exceptionally(throwable -> this.getScheduledBuses(stopId, throwable));
+    } //getScheduledBusesAsync
 
-        return buses;
-    } //getBuses
+    /**
+     * Returns a future of a {@link Set} of buses set to arrive at the stop with the specified ID, fetched from the
+     * upstream service. The request is sent and its body decoded without blocking the calling thread. The future is
+     * completed exceptionally if there is no API key or the request fails or times out, so that callers holding an
+     * older real-time snapshot can keep it, and fall back to {@link #getScheduledBusesAsync(int, Throwable)} only
+     * when they hold none.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return a future of a {@link Set} of buses set to arrive at the stop with the specified ID
+     */
+    public CompletableFuture<Set<Bus>> fetchBusesAsync(int stopId) {
+        if (this.apiKey == null) {
+            IllegalStateException exception = new IllegalStateException("there is no API key");
+
+            return CompletableFuture.failedFuture(exception);
+        } //end if
+
+        String query = "api_key=%s&agency=%s&stopcode=%d&format=json".formatted(this.apiKey, this.agency, stopId);
+
+        return this.fetchAsync(query, stopId);
+    } //fetchBusesAsync
+
+    /**
+     * Returns a future of a {@link Set} of every bus set to arrive at a monitored stop of the agency, completed with
+     * an empty {@link Optional} if the request fails.
+     *
+     * @return a future of a {@link Set} of every bus set to arrive at a monitored stop of the agency
+     */
+    public CompletableFuture<Optional<Set<Bus>>> getAllBusesAsync() {
+        if (this.apiKey == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        } //end if
+
+        String query = "api_key=%s&agency=%s&format=json".formatted(this.apiKey, this.agency);
+
+        return this.fetchAsync(query, CaptureLog.AGENCY)
+                   .handle((buses, throwable) -> Optional.ofNullable(buses));
+    } //getAllBusesAsync
+
+    /**
+     * Returns a {@link Set} of every bus set to arrive at a monitored stop of the agency, if the request succeeds.
+     *
+     * @return a {@link Set} of every bus set to arrive at a monitored stop of the agency, if the request succeeds
+     */
+    public Optional<Set<Bus>> getAllBuses() {
+        return this.getAllBusesAsync()
+                   .join();
+    } //getAllBuses
 }
\ No newline at end of file
@@ -26,39 +26,195 @@ package com.vta4j.model.adapter;
 
 import com.google.gson.TypeAdapter;
 import com.vta4j.model.Bus;
-import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.LogManager;
 import com.google.gson.stream.JsonWriter;
 import com.vta4j.model.Line;
 import java.io.IOException;
 import com.vta4j.model.Stop;
 import java.util.Objects;
 import com.google.gson.stream.JsonReader;
-import java.util.Map;
 import java.time.Instant;
-import java.time.format.DateTimeParseException;
 import java.time.ZonedDateTime;
 import java.time.ZoneId;
-import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import com.google.gson.stream.JsonToken;
-import java.util.HashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A GSON type adapter for the {@link Bus} class.
  * 
  * @author Logan Kulinski, lbkulinski@gmail.com
- * @version April 23, 2022
+ * @version October 17, 2026
  */
 public final class BusAdapter extends TypeAdapter<Bus> {
     /**
-     * The logger of the {@link BusAdapter} class.
+     * A mutable holder for the fields of a bus journey as they are read. One instance is reused per thread, so
+     * reading a journey does not allocate a map or box its fields.
      */
-    private static final Logger LOGGER;
+    private static final class BusBuilder {
+        /**
+         * The ID of this builder.
+         */
+        private String id;
+
+        /**
+         * The line ID of this builder.
+         */
+        private String lineId;
+
+        /**
+         * The line name of this builder.
+         */
+        private String lineName;
+
+        /**
+         * The stop ID of this builder.
+         */
+        private String stopId;
+
+        /**
+         * The stop name of this builder.
+         */
+        private String stopName;
+
+        /**
+         * The destination ID of this builder.
+         */
+        private String destinationId;
+
+        /**
+         * The destination name of this builder.
+         */
+        private String destinationName;
+
+        /**
+         * The direction of this builder.
+         */
+        private String direction;
+
+        /**
+         * The arrival time of this builder.
+         */
+        private ZonedDateTime arrivalTime;
+
+        /**
+         * Clears the fields of this builder.
+         */
+        private void reset() {
+            this.id = null;
+
+            this.lineId = null;
+
+            this.lineName = null;
+
+            this.stopId = null;
+
+            this.stopName = null;
+
+            this.destinationId = null;
+
+            this.destinationName = null;
+
+            this.direction = null;
+
+            this.arrivalTime = null;
+        } //reset
+
+        /**
+         * Returns a bus built from the fields of this builder, or {@code null} if a required field is missing.
+         *
+         * @return a bus built from the fields of this builder, or {@code null} if a required field is missing
+         */
+        private Bus build() {
+            if ((this.lineId == null) || (this.lineName == null) || (this.stopId == null) || (this.stopName == null)
+                || (this.destinationId == null) || (this.destinationName == null) || (this.direction == null)
+                || (this.arrivalTime == null)) {
+                return null;
+            } //end if
+
+            Line line = BusAdapter.LINE_POOL.intern(this.lineId, this.lineName);
+
+            Stop stop = BusAdapter.STOP_POOL.intern(this.stopId, this.stopName);
+
+            Stop destination = BusAdapter.DESTINATION_POOL.intern(this.destinationId, this.destinationName);
+
+            return new Bus(this.id, line, stop, destination, this.direction, this.arrivalTime);
+        } //build
+    } //BusBuilder
+
+    /**
+     * The zone ID of arrival times of the {@link BusAdapter} class.
+     */
+    private static final ZoneId ZONE_ID;
+
+    /**
+     * The per-thread bus builder of the {@link BusAdapter} class.
+     */
+    private static final ThreadLocal<BusBuilder> BUILDER;
+
+    /**
+     * The number of incomplete bus journeys read by the {@link BusAdapter} class.
+     */
+    private static final LongAdder INCOMPLETE_COUNT;
+
+    /**
+     * The line intern pool of the {@link BusAdapter} class.
+     */
+    private static final InternPool<Line> LINE_POOL;
+
+    /**
+     * The stop intern pool of the {@link BusAdapter} class.
+     */
+    private static final InternPool<Stop> STOP_POOL;
+
+    /**
+     * The destination intern pool of the {@link BusAdapter} class.
+     */
+    private static final InternPool<Stop> DESTINATION_POOL;
 
     static {
-        LOGGER = LogManager.getLogger();
+        ZONE_ID = ZoneId.of("GMT-07:00");
+
+        BUILDER = ThreadLocal.withInitial(BusBuilder::new);
+
+        INCOMPLETE_COUNT = new LongAdder();
+
+        int maximumSize = 20_000;
+
+        LINE_POOL = new InternPool<>(Line::new, maximumSize);
+
+        STOP_POOL = new InternPool<>(Stop::new, maximumSize);
+
+        DESTINATION_POOL = new InternPool<>(Stop::new, maximumSize);
     } //static
 
+    /**
+     * Returns the line intern pool of the {@link BusAdapter} class.
+     *
+     * @return the line intern pool of the {@link BusAdapter} class
+     */
+    public static InternPool<Line> getLinePool() {
+        return BusAdapter.LINE_POOL;
+    } //getLinePool
+
+    /**
+     * Returns the stop intern pool of the {@link BusAdapter} class.
+     *
+     * @return the stop intern pool of the {@link BusAdapter} class
+     */
+    public static InternPool<Stop> getStopPool() {
+        return BusAdapter.STOP_POOL;
+    } //getStopPool
+
+    /**
+     * Returns the destination intern pool of the {@link BusAdapter} class.
+     *
+     * @return the destination intern pool of the {@link BusAdapter} class
+     */
+    public static InternPool<Stop> getDestinationPool() {
+        return BusAdapter.DESTINATION_POOL;
+    } //getDestinationPool
+
     /**
      * Writes the specified line using the specified JSON writer.
      * 
@@ -87,34 +243,136 @@ public final class BusAdapter extends TypeAdapter<Bus> {
     } //writeLine
 
     /**
-     * Writes the specified destination using the specified JSON writer.
-     * 
+     * Writes the specified stop under the specified name using the specified JSON writer.
+     *
      * @param jsonWriter the JSON writer to be used in the operation
-     * @param destination the destination to be used in the operation
+     * @param name the name to be used in the operation
+     * @param stop the stop to be used in the operation, or {@code null}
      * @throws IOException if an I/O error occurs
      */
-    private static void writeDestination(JsonWriter jsonWriter, Stop destination) throws IOException {
-        jsonWriter.name("destination");
+    private static void writeStop(JsonWriter jsonWriter, String name, Stop stop) throws IOException {
+        jsonWriter.name(name);
+
+        if (stop == null) {
+            jsonWriter.nullValue();
+
+            return;
+        } //end if
 
         jsonWriter.beginObject();
 
         jsonWriter.name("id");
 
-        String id = destination.id();
+        String id = stop.id();
 
         jsonWriter.value(id);
 
         jsonWriter.name("name");
 
-        String name = destination.name();
+        String stopName = stop.name();
 
-        jsonWriter.value(name);
+        jsonWriter.value(stopName);
 
         jsonWriter.endObject();
-    } //writeDestination
+    } //writeStop
 
     /**
-     * Writes the specified bus using the specified JSON writer.
+     * Writes the specified value as zero-padded decimal digits into the specified array.
+     *
+     * @param chars the array to be used in the operation
+     * @param index the index of the first digit to be used in the operation
+     * @param value the value to be used in the operation
+     * @param count the number of digits to be used in the operation
+     * @return the index after the last digit
+     */
+    private static int putDigits(char[] chars, int index, int value, int count) {
+        for (int i = (index + count) - 1; i >= index; i--) {
+            chars[i] = (char) ('0' + (value % 10));
+
+            value /= 10;
+        } //end for
+
+        return index + count;
+    } //putDigits
+
+    /**
+     * Returns the specified time formatted exactly as {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} formats it,
+     * without building a formatter. Times outside the four-digit years or with sub-minute offsets are handed to the
+     * formatter.
+     *
+     * @param time the time to be used in the operation
+     * @return the specified time formatted as an ISO offset date-time
+     */
+    static String formatTime(ZonedDateTime time) {
+        int year = time.getYear();
+
+        int offsetSeconds = time.getOffset()
+                                .getTotalSeconds();
+
+        if ((year < 0) || (year > 9999) || ((offsetSeconds % 60) != 0)) {
+            return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(time);
+        } //end if
+
+        char[] chars = new char[35];
+
+        int index = BusAdapter.putDigits(chars, 0, year, 4);
+
+        chars[index++] = '-';
+
+        index = BusAdapter.putDigits(chars, index, time.getMonthValue(), 2);
+
+        chars[index++] = '-';
+
+        index = BusAdapter.putDigits(chars, index, time.getDayOfMonth(), 2);
+
+        chars[index++] = 'T';
+
+        index = BusAdapter.putDigits(chars, index, time.getHour(), 2);
+
+        chars[index++] = ':';
+
+        index = BusAdapter.putDigits(chars, index, time.getMinute(), 2);
+
+        chars[index++] = ':';
+
+        index = BusAdapter.putDigits(chars, index, time.getSecond(), 2);
+
+        int nano = time.getNano();
+
+        if (nano != 0) {
+            int count = 9;
+
+            while ((nano % 10) == 0) {
+                nano /= 10;
+
+                count--;
+            } //end while
+
+            chars[index++] = '.';
+
+            index = BusAdapter.putDigits(chars, index, nano, count);
+        } //end if
+
+        if (offsetSeconds == 0) {
+            chars[index++] = 'Z';
+        } else {
+            chars[index++] = (offsetSeconds < 0) ? '-' : '+';
+
+            int offsetMinutes = Math.abs(offsetSeconds) / 60;
+
+            index = BusAdapter.putDigits(chars, index, offsetMinutes / 60, 2);
+
+            chars[index++] = ':';
+
+            index = BusAdapter.putDigits(chars, index, offsetMinutes % 60, 2);
+        } //end if
+
+        return new String(chars, 0, index);
+    } //formatTime
+
+    /**
+     * Writes the specified bus using the specified JSON writer. The fields are written in the same order and format
+     * as Spring's JSON mapper writes the {@link Bus} record.
      *
      * @param jsonWriter the JSON writer to be used in the operation
      * @param bus the bus to be used in the operation
@@ -126,13 +384,25 @@ public final class BusAdapter extends TypeAdapter<Bus> {
 
         Objects.requireNonNull(bus, "the specified bus is null");
 
+        jsonWriter.beginObject();
+
+        jsonWriter.name("id");
+
+        String id = bus.id();
+
+        jsonWriter.value(id);
+
         Line line = bus.line();
 
         BusAdapter.writeLine(jsonWriter, line);
 
+        Stop stop = bus.stop();
+
+        BusAdapter.writeStop(jsonWriter, "stop", stop);
+
         Stop destination = bus.destination();
 
-        BusAdapter.writeDestination(jsonWriter, destination);
+        BusAdapter.writeStop(jsonWriter, "destination", destination);
 
         jsonWriter.name("direction");
 
@@ -142,14 +412,39 @@ public final class BusAdapter extends TypeAdapter<Bus> {
 
         jsonWriter.name("arrivalTime");
 
-        String arrivalTime = bus.arrivalTime()
-                                .toString();
+        String arrivalTime = BusAdapter.formatTime(bus.arrivalTime());
 
         jsonWriter.value(arrivalTime);
 
+        jsonWriter.name("scheduled");
+
+        jsonWriter.value(bus.scheduled());
+
         jsonWriter.endObject();
     } //writeBus
 
+    /**
+     * Writes the specified buses as an array using the specified JSON writer.
+     *
+     * @param jsonWriter the JSON writer to be used in the operation
+     * @param buses the buses to be used in the operation
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if the specified JSON writer or buses are {@code null}
+     */
+    public static void writeBuses(JsonWriter jsonWriter, Collection<Bus> buses) throws IOException {
+        Objects.requireNonNull(jsonWriter, "the specified JSON writer is null");
+
+        Objects.requireNonNull(buses, "the specified buses are null");
+
+        jsonWriter.beginArray();
+
+        for (Bus bus : buses) {
+            BusAdapter.writeBus(jsonWriter, bus);
+        } //end for
+
+        jsonWriter.endArray();
+    } //writeBuses
+
     /**
      * Writes the specified bus using the specified JSON writer.
      *
@@ -163,54 +458,174 @@ public final class BusAdapter extends TypeAdapter<Bus> {
     } //write
 
     /**
-     * Reads an arrival time using the specified JSON reader and bus data.
-     * 
-     * @param jsonReader the JSON reader to be used in the operation
-     * @param busData the bus data to be used in the operation
-     * @throws IOException if an I/O error occurs
+     * Returns the value of the decimal digit at the specified index of the specified string, or {@code -1} if the
+     * character at that index is not a digit.
+     *
+     * @param string the string to be used in the operation
+     * @param index the index to be used in the operation
+     * @return the value of the decimal digit at the specified index of the specified string, or {@code -1}
      */
-    private static void readArrivalTime(JsonReader jsonReader, Map<String, Object> busData) throws IOException {
-        String arrivalTimeString = jsonReader.nextString();
+    private static int digit(String string, int index) {
+        char character = string.charAt(index);
+
+        if ((character < '0') || (character > '9')) {
+            return -1;
+        } //end if
 
-        Instant instant;
-        
-        try {
-            instant = Instant.parse(arrivalTimeString);
-        } catch (DateTimeParseException e) {
-            BusAdapter.LOGGER.atError()
-                             .withThrowable(e)
-                             .log();
+        return character - '0';
+    } //digit
 
-            return;
-        } //end try catch
+    /**
+     * Returns the value of the specified number of decimal digits starting at the specified index of the specified
+     * string, or {@code -1} if any of those characters is not a digit.
+     *
+     * @param string the string to be used in the operation
+     * @param index the index to be used in the operation
+     * @param count the number of digits to be used in the operation
+     * @return the value of the decimal digits starting at the specified index of the specified string, or {@code -1}
+     */
+    private static int number(String string, int index, int count) {
+        int value = 0;
+
+        for (int i = index; i < (index + count); i++) {
+            int digit = BusAdapter.digit(string, i);
+
+            if (digit == -1) {
+                return -1;
+            } //end if
+
+            value = (value * 10) + digit;
+        } //end for
+
+        return value;
+    } //number
+
+    /**
+     * Returns the number of days from the epoch to the specified date, using the proleptic Gregorian calendar.
+     *
+     * @param year the year to be used in the operation
+     * @param month the month to be used in the operation
+     * @param day the day of the month to be used in the operation
+     * @return the number of days from the epoch to the specified date
+     */
+    private static long epochDay(int year, int month, int day) {
+        long shiftedYear = (month <= 2) ? (year - 1) : year;
+
+        long era = Math.floorDiv(shiftedYear, 400L);
+
+        long yearOfEra = shiftedYear - (era * 400L);
+
+        long shiftedMonth = (month + 9) % 12;
+
+        long dayOfYear = (((153L * shiftedMonth) + 2L) / 5L) + (day - 1);
+
+        long dayOfEra = (yearOfEra * 365L) + (yearOfEra / 4L) - (yearOfEra / 100L) + dayOfYear;
+
+        return (era * 146097L) + dayOfEra - 719468L;
+    } //epochDay
+
+    /**
+     * Returns an instant parsed from the specified UTC timestamp in the fixed {@code yyyy-MM-ddTHH:mm:ss[.S+]Z}
+     * format used by the 511 API, or {@code null} if the timestamp is not in that format. Unlike
+     * {@link Instant#parse(CharSequence)}, this method does not build a parser or throw on invalid input.
+     *
+     * @param timestamp the timestamp to be used in the operation
+     * @return an instant parsed from the specified timestamp, or {@code null} if it is not in the fixed format
+     */
+    static Instant parseInstant(String timestamp) {
+        int length = timestamp.length();
+
+        if ((length < 20) || (timestamp.charAt(4) != '-') || (timestamp.charAt(7) != '-')
+            || (timestamp.charAt(10) != 'T') || (timestamp.charAt(13) != ':') || (timestamp.charAt(16) != ':')
+            || (timestamp.charAt(length - 1) != 'Z')) {
+            return null;
+        } //end if
+
+        int year = BusAdapter.number(timestamp, 0, 4);
 
-        String zoneIdString = "GMT-07:00";
+        int month = BusAdapter.number(timestamp, 5, 2);
 
-        ZonedDateTime arrivalTime;
+        int day = BusAdapter.number(timestamp, 8, 2);
 
-        try {
-            ZoneId zoneId = ZoneId.of(zoneIdString);
+        int hour = BusAdapter.number(timestamp, 11, 2);
 
-            arrivalTime = ZonedDateTime.ofInstant(instant, zoneId);
-        } catch (DateTimeException e) {
-            BusAdapter.LOGGER.atError()
-                             .withThrowable(e)
-                             .log();
+        int minute = BusAdapter.number(timestamp, 14, 2);
 
+        int second = BusAdapter.number(timestamp, 17, 2);
+
+        if ((year == -1) || (month < 1) || (month > 12) || (day < 1) || (hour == -1) || (hour > 23)
+            || (minute == -1) || (minute > 59) || (second == -1) || (second > 59)) {
+            return null;
+        } //end if
+
+        boolean leapYear = ((year % 4) == 0) && (((year % 100) != 0) || ((year % 400) == 0));
+
+        int monthLength = switch (month) {
+            case 2 -> leapYear ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+
+        if (day > monthLength) {
+            return null;
+        } //end if
+
+        int nanos = 0;
+
+        if (length > 20) {
+            int fractionLength = length - 21;
+
+            if ((timestamp.charAt(19) != '.') || (fractionLength < 1) || (fractionLength > 9)) {
+                return null;
+            } //end if
+
+            int fraction = BusAdapter.number(timestamp, 20, fractionLength);
+
+            if (fraction == -1) {
+                return null;
+            } //end if
+
+            nanos = fraction;
+
+            for (int i = fractionLength; i < 9; i++) {
+                nanos *= 10;
+            } //end for
+        } //end if
+
+        long epochSecond = (BusAdapter.epochDay(year, month, day) * 86_400L) + (hour * 3_600L) + (minute * 60L)
+            + second;
+
+        return Instant.ofEpochSecond(epochSecond, nanos);
+    } //parseInstant
+
+    /**
+     * Reads an arrival time using the specified JSON reader and bus builder. A timestamp that cannot be parsed is
+     * ignored, which leaves the bus incomplete.
+     * 
+     * @param jsonReader the JSON reader to be used in the operation
+     * @param builder the bus builder to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void readArrivalTime(JsonReader jsonReader, BusBuilder builder) throws IOException {
+        String arrivalTimeString = jsonReader.nextString();
+
+        Instant instant = BusAdapter.parseInstant(arrivalTimeString);
+
+        if (instant == null) {
             return;
-        } //end try catch
+        } //end if
 
-        busData.put("arrivalTime", arrivalTime);
+        builder.arrivalTime = ZonedDateTime.ofInstant(instant, BusAdapter.ZONE_ID);
     } //readArrivalTime
 
     /**
-     * Reads a monitored call using the specified JSON reader and bus data.
+     * Reads a monitored call using the specified JSON reader and bus builder.
      *
      * @param jsonReader the JSON reader to be used in the operation
-     * @param busData the bus data to be used in the operation
+     * @param builder the bus builder to be used in the operation
      * @throws IOException if an I/O error occurs
      */
-    private static void readMonitoredCall(JsonReader jsonReader, Map<String, Object> busData) throws IOException {
+    private static void readMonitoredCall(JsonReader jsonReader, BusBuilder builder) throws IOException {
         jsonReader.beginObject();
 
         while (jsonReader.hasNext()) {
@@ -223,19 +638,9 @@ public final class BusAdapter extends TypeAdapter<Bus> {
             } //end if
 
             switch (name) {
-                case "StopPointRef" -> {
-                    String stopId = jsonReader.nextString();
-
-                    busData.put("stopId", stopId);
-                } //case "StopPointRef"
-                case "StopPointName" -> {
-                    String stopName = jsonReader.nextString();
-
-                    busData.put("stopName", stopName);
-                } //case "StopPointName"
-                case "ExpectedArrivalTime" -> {
-                    BusAdapter.readArrivalTime(jsonReader, busData);
-                } //case "ExpectedArrivalTime"
+                case "StopPointRef" -> builder.stopId = jsonReader.nextString();
+                case "StopPointName" -> builder.stopName = jsonReader.nextString();
+                case "ExpectedArrivalTime" -> BusAdapter.readArrivalTime(jsonReader, builder);
                 default -> jsonReader.skipValue();
             } //end switch
         } //end while
@@ -244,14 +649,13 @@ public final class BusAdapter extends TypeAdapter<Bus> {
     } //readMonitoredCall
 
     /**
-     * Reads a monitored vehicle journey using the specified JSON reader and bus data.
+     * Reads a monitored vehicle journey using the specified JSON reader and bus builder.
      *
      * @param jsonReader the JSON reader to be used in the operation
-     * @param busData the bus data to be used in the operation
+     * @param builder the bus builder to be used in the operation
      * @throws IOException if an I/O error occurs
      */
-    private static void readMonitoredVehicleJourney(JsonReader jsonReader,
-                                                    Map<String, Object> busData) throws IOException {
+    private static void readMonitoredVehicleJourney(JsonReader jsonReader, BusBuilder builder) throws IOException {
         jsonReader.beginObject();
 
         while (jsonReader.hasNext()) {
@@ -264,37 +668,13 @@ public final class BusAdapter extends TypeAdapter<Bus> {
             } //end if
 
             switch (name) {
-                case "VehicleRef" -> {
-                    String id = jsonReader.nextString();
-
-                    busData.put("id", id);
-                } //case "VehicleRef"
-                case "LineRef" -> {
-                    String lineId = jsonReader.nextString();
-
-                    busData.put("lineId", lineId);
-                } //case "LineRef"
-                case "PublishedLineName" -> {
-                    String lineName = jsonReader.nextString();
-
-                    busData.put("lineName", lineName);
-                } //case "PublishedLineName"
-                case "DirectionRef" -> {
-                    String direction = jsonReader.nextString();
-
-                    busData.put("direction", direction);
-                } //case "DirectionRef"
-                case "DestinationRef" -> {
-                    String destinationId = jsonReader.nextString();
-
-                    busData.put("destinationId", destinationId);
-                } //case "DestinationRef"
-                case "DestinationName" -> {
-                    String destinationName = jsonReader.nextString();
-
-                    busData.put("destinationName", destinationName);
-                } //case "DestinationRef"
-                case "MonitoredCall" -> BusAdapter.readMonitoredCall(jsonReader, busData);
+                case "VehicleRef" -> builder.id = jsonReader.nextString();
+                case "LineRef" -> builder.lineId = jsonReader.nextString();
+                case "PublishedLineName" -> builder.lineName = jsonReader.nextString();
+                case "DirectionRef" -> builder.direction = jsonReader.nextString();
+                case "DestinationRef" -> builder.destinationId = jsonReader.nextString();
+                case "DestinationName" -> builder.destinationName = jsonReader.nextString();
+                case "MonitoredCall" -> BusAdapter.readMonitoredCall(jsonReader, builder);
                 default -> jsonReader.skipValue();
             } //end switch
         } //end while
@@ -303,16 +683,21 @@ public final class BusAdapter extends TypeAdapter<Bus> {
     } //readMonitoredVehicleJourney
 
     /**
-     * Reads a bus journey using the specified JSON reader.
+     * Reads a bus journey using the specified JSON reader. A journey that is missing a required field is consumed,
+     * counted, and reported as {@code null} rather than as an exception.
      *
      * @param jsonReader the JSON reader to be used in the operation
+     * @return the bus read using the specified JSON reader, or {@code null} if the journey is missing a required
+     * field
      * @throws IOException if an I/O error occurs
      * @throws NullPointerException if the specified JSON reader is {@code null}
      */
     public static Bus readBus(JsonReader jsonReader) throws IOException {
         Objects.requireNonNull(jsonReader, "the specified JSON reader is null");
 
-        Map<String, Object> busData = new HashMap<>();
+        BusBuilder builder = BusAdapter.BUILDER.get();
+
+        builder.reset();
 
         jsonReader.beginObject();
 
@@ -326,51 +711,38 @@ public final class BusAdapter extends TypeAdapter<Bus> {
             } //end if
 
             if (Objects.equals(name, "MonitoredVehicleJourney")) {
-                BusAdapter.readMonitoredVehicleJourney(jsonReader, busData);
+                BusAdapter.readMonitoredVehicleJourney(jsonReader, builder);
             } else {
                 jsonReader.skipValue();
-            } //end switch
+            } //end if
         } //end while
 
         jsonReader.endObject();
 
-        String id = (String) busData.get("id");
-
-        String lineId = (String) busData.get("lineId");
-
-        String lineName = (String) busData.get("lineName");
-
-        Line line = new Line(lineId, lineName);
-
-        String stopId = (String) busData.get("stopId");
+        Bus bus = builder.build();
 
-        String stopName = (String) busData.get("stopName");
-
-        Stop stop;
-
-        if ((stopId == null) && (stopName == null)) {
-            stop = null;
-        } else {
-            stop = new Stop(stopId, stopName);
+        if (bus == null) {
+            BusAdapter.INCOMPLETE_COUNT.increment();
         } //end if
 
-        String destinationId = (String) busData.get("destinationId");
-
-        String destinationName = (String) busData.get("destinationName");
-
-        Stop destination = new Stop(destinationId, destinationName);
-
-        String direction = (String) busData.get("direction");
-
-        ZonedDateTime arrivalTime = (ZonedDateTime) busData.get("arrivalTime");
-
-        return new Bus(id, line, stop, destination, direction, arrivalTime);
+        return bus;
     } //readBus
 
+    /**
+     * Returns the number of bus journeys that were skipped because they were missing a required field.
+     *
+     * @return the number of bus journeys that were skipped because they were missing a required field
+     */
+    public static long getIncompleteCount() {
+        return BusAdapter.INCOMPLETE_COUNT.sum();
+    } //getIncompleteCount
+
     /**
      * Reads a bus journey using the specified JSON reader.
      *
      * @param jsonReader the JSON reader to be used in the operation
+     * @return the bus read using the specified JSON reader, or {@code null} if the journey is missing a required
+     * field
      * @throws IOException if an I/O error occurs
      */
     @Override
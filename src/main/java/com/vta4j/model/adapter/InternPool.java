@@ -0,0 +1,239 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.adapter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * A concurrent, bounded pool of canonical {@code (id, name)} values, such as lines and stops. Interning an
+ * identical pair returns the same instance, so repeated snapshots share one object per line or stop instead of
+ * allocating a new one for every visit.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ * @param <T> the type of the values of this pool
+ */
+public final class InternPool<T> {
+    /**
+     * A canonical value of an intern pool.
+     *
+     * @param <T> the type of the value of this entry
+     */
+    private static final class Entry<T> {
+        /**
+         * The name of this entry.
+         */
+        private final String name;
+
+        /**
+         * The value of this entry.
+         */
+        private final T value;
+
+        /**
+         * The time this entry was last seen, in nanoseconds.
+         */
+        private volatile long lastSeen;
+
+        /**
+         * Constructs an instance of the {@link Entry} class.
+         *
+         * @param name the name to be used in construction
+         * @param value the value to be used in construction
+         * @param lastSeen the time last seen to be used in construction
+         */
+        private Entry(String name, T value, long lastSeen) {
+            this.name = name;
+
+            this.value = value;
+
+            this.lastSeen = lastSeen;
+        } //Entry
+    } //Entry
+
+    /**
+     * The factory of this pool.
+     */
+    private final BiFunction<String, String, T> factory;
+
+    /**
+     * The entries of this pool, keyed by ID.
+     */
+    private final Map<String, Entry<T>> entries;
+
+    /**
+     * The hit count of this pool.
+     */
+    private final LongAdder hitCount;
+
+    /**
+     * The miss count of this pool.
+     */
+    private final LongAdder missCount;
+
+    /**
+     * The eviction count of this pool.
+     */
+    private final LongAdder evictionCount;
+
+    /**
+     * The maximum size of this pool.
+     */
+    private volatile int maximumSize;
+
+    /**
+     * The coarse clock of this pool, in nanoseconds. It is advanced on each eviction pass, so interning does not
+     * read the system clock.
+     */
+    private volatile long clock;
+
+    /**
+     * Constructs an instance of the {@link InternPool} class.
+     *
+     * @param factory the factory to be used in construction
+     * @param maximumSize the maximum size to be used in construction
+     * @throws NullPointerException if the specified factory is {@code null}
+     * @throws IllegalArgumentException if the specified maximum size is not positive
+     */
+    public InternPool(BiFunction<String, String, T> factory, int maximumSize) {
+        Objects.requireNonNull(factory, "the specified factory is null");
+
+        this.factory = factory;
+
+        this.entries = new ConcurrentHashMap<>();
+
+        this.hitCount = new LongAdder();
+
+        this.missCount = new LongAdder();
+
+        this.evictionCount = new LongAdder();
+
+        this.setMaximumSize(maximumSize);
+
+        this.clock = System.nanoTime();
+    } //InternPool
+
+    /**
+     * Sets the maximum size of this pool. Values seen once the pool is full are returned without being pooled.
+     *
+     * @param maximumSize the maximum size to be used in the operation
+     * @throws IllegalArgumentException if the specified maximum size is not positive
+     */
+    public void setMaximumSize(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("the specified maximum size is not positive");
+        } //end if
+
+        this.maximumSize = maximumSize;
+    } //setMaximumSize
+
+    /**
+     * Returns the canonical value for the specified ID and name, creating and pooling it if necessary.
+     *
+     * @param id the ID to be used in the operation
+     * @param name the name to be used in the operation
+     * @return the canonical value for the specified ID and name
+     * @throws NullPointerException if the specified ID or name is {@code null}
+     */
+    public T intern(String id, String name) {
+        Objects.requireNonNull(id, "the specified ID is null");
+
+        Objects.requireNonNull(name, "the specified name is null");
+
+        long now = this.clock;
+
+        Entry<T> entry = this.entries.get(id);
+
+        if ((entry != null) && entry.name.equals(name)) {
+            this.hitCount.increment();
+
+            if (entry.lastSeen != now) {
+                entry.lastSeen = now;
+            } //end if
+
+            return entry.value;
+        } //end if
+
+        this.missCount.increment();
+
+        T value = this.factory.apply(id, name);
+
+        if ((entry != null) || (this.entries.size() < this.maximumSize)) {
+            Entry<T> newEntry = new Entry<>(name, value, now);
+
+            this.entries.put(id, newEntry);
+        } //end if
+
+        return value;
+    } //intern
+
+    /**
+     * Advances the clock of this pool and evicts every entry that has not been seen for the specified duration.
+     *
+     * @param maximumIdle the maximum idle duration to be used in the operation
+     * @throws NullPointerException if the specified maximum idle duration is {@code null}
+     */
+    public void evictIdle(Duration maximumIdle) {
+        Objects.requireNonNull(maximumIdle, "the specified maximum idle duration is null");
+
+        long now = System.nanoTime();
+
+        this.clock = now;
+
+        long threshold = now - maximumIdle.toNanos();
+
+        this.entries.forEach((id, entry) -> {
+            if (((entry.lastSeen - threshold) < 0L) && this.entries.remove(id, entry)) {
+                this.evictionCount.increment();
+            } //end if
+        });
+    } //evictIdle
+
+    /**
+     * Returns the statistics of this pool.
+     *
+     * @return the statistics of this pool
+     */
+    public InternStats getStats() {
+        long hits = this.hitCount.sum();
+
+        long misses = this.missCount.sum();
+
+        long lookups = hits + misses;
+
+        double hitRatio = (lookups == 0L) ? 0.0 : ((double) hits / lookups);
+
+        long evictions = this.evictionCount.sum();
+
+        int size = this.entries.size();
+
+        return new InternStats(size, hits, misses, hitRatio, evictions);
+    } //getStats
+}
\ No newline at end of file
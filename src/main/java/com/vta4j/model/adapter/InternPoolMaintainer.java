@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.adapter;
+
+import org.springframework.stereotype.Component;
+import org.springframework.beans.factory.annotation.Value;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * A maintainer of the intern pools of the {@link BusAdapter} class. It applies the configured maximum size and
+ * periodically evicts lines and stops that have not been seen for the configured idle period.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+public final class InternPoolMaintainer {
+    /**
+     * The maximum idle duration of this maintainer.
+     */
+    private final Duration maximumIdle;
+
+    /**
+     * The sweep interval of this maintainer.
+     */
+    private final Duration interval;
+
+    /**
+     * The executor of this maintainer.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Constructs an instance of the {@link InternPoolMaintainer} class.
+     *
+     * @param maximumSize the maximum size of each pool to be used in construction
+     * @param maximumIdle the maximum idle duration to be used in construction
+     * @param interval the sweep interval to be used in construction
+     * @throws NullPointerException if the specified maximum idle duration or sweep interval is {@code null}
+     * @throws IllegalArgumentException if the specified maximum size or sweep interval is not positive
+     */
+    public InternPoolMaintainer(@Value("${vta4j.intern.maximum-size:20000}") int maximumSize,
+                                @Value("${vta4j.intern.max-idle:6h}") Duration maximumIdle,
+                                @Value("${vta4j.intern.sweep-interval:1m}") Duration interval) {
+        Objects.requireNonNull(maximumIdle, "the specified maximum idle duration is null");
+
+        Objects.requireNonNull(interval, "the specified sweep interval is null");
+
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("the specified sweep interval is not positive");
+        } //end if
+
+        BusAdapter.getLinePool()
+                  .setMaximumSize(maximumSize);
+
+        BusAdapter.getStopPool()
+                  .setMaximumSize(maximumSize);
+
+        BusAdapter.getDestinationPool()
+                  .setMaximumSize(maximumSize);
+
+        this.maximumIdle = maximumIdle;
+
+        this.interval = interval;
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "intern-pool-maintainer");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    } //InternPoolMaintainer
+
+    /**
+     * Evicts idle values from each intern pool.
+     */
+    void sweep() {
+        BusAdapter.getLinePool()
+                  .evictIdle(this.maximumIdle);
+
+        BusAdapter.getStopPool()
+                  .evictIdle(this.maximumIdle);
+
+        BusAdapter.getDestinationPool()
+                  .evictIdle(this.maximumIdle);
+    } //sweep
+
+    /**
+     * Starts the periodic sweep of this maintainer.
+     */
+    @PostConstruct
+    public void start() {
+        long period = this.interval.toMillis();
+
+        this.executor.scheduleWithFixedDelay(this::sweep, period, period, TimeUnit.MILLISECONDS);
+    } //start
+
+    /**
+     * Stops the periodic sweep of this maintainer.
+     */
+    @PreDestroy
+    public void stop() {
+        this.executor.shutdownNow();
+    } //stop
+
+    /**
+     * Returns the statistics of each intern pool, keyed by name.
+     *
+     * @return the statistics of each intern pool, keyed by name
+     */
+    public Map<String, InternStats> getStats() {
+        InternStats lineStats = BusAdapter.getLinePool()
+                                          .getStats();
+
+        InternStats stopStats = BusAdapter.getStopPool()
+                                          .getStats();
+
+        InternStats destinationStats = BusAdapter.getDestinationPool()
+                                                 .getStats();
+
+        return Map.of(
+            "lines", lineStats,
+            "stops", stopStats,
+            "destinations", destinationStats
+        );
+    } //getStats
+}
\ No newline at end of file
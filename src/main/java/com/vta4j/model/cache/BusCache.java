@@ -0,0 +1,697 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import com.vta4j.model.Bus;
+import com.vta4j.model.BusSource;
+import com.vta4j.model.Model;
+import com.vta4j.model.index.ArrivalIndex;
+import com.vta4j.model.upstream.SchedulerStats;
+import com.vta4j.model.upstream.UpstreamScheduler;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+
+/**
+ * A per-stop snapshot cache of the VTA4j application. Each stop's buses are kept for a fixed time-to-live, and
+ * concurrent misses for the same stop share a single in-flight upstream fetch. Fetches go through the
+ * {@link UpstreamScheduler}; when it defers the refresh of an expired entry, the previous snapshot is served for
+ * another time-to-live. The loader only returns real-time data. When a stop has no snapshot that may be served, and
+ * its fetch is refused or fails, the fallback answers instead. The fallback serves the static schedule if one is
+ * loaded and fails otherwise, so the stop is never reported as empty, and scheduled buses never replace or get cached
+ * as a real-time snapshot. It is the default bus source, used when {@code vta4j.ingestion.mode} is {@code per-stop}.
+ * <p>
+ * Once an entry has expired, its snapshot is still served, marked stale, for up to {@code vta4j.cache.max-stale}
+ * while a single background fetch revalidates it, so readers never wait on a slow or failing upstream service for a
+ * stop that has been fetched before. A failed revalidation keeps the stale snapshot and is retried after another
+ * time-to-live.
+ * <p>
+ * Every fetched snapshot is reported to the {@link ArrivalIndex}, and evicted stops are removed from it.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+@ConditionalOnProperty(name = "vta4j.ingestion.mode", havingValue = "per-stop", matchIfMissing = true)
+public final class BusCache implements BusSource {
+    /**
+     * A cached snapshot of the buses at a stop.
+     */
+    private static final class Entry {
+        /**
+         * The future of this entry.
+         */
+        private final CompletableFuture<Set<Bus>> future;
+
+        /**
+         * The expiration time of this entry, in nanoseconds.
+         */
+        private volatile long expirationTime;
+
+        /**
+         * The last access time of this entry, in nanoseconds.
+         */
+        private volatile long accessTime;
+
+        /**
+         * The time the buses of this entry were fetched, in nanoseconds.
+         */
+        private volatile long loadTime;
+
+        /**
+         * Whether this entry is being revalidated.
+         */
+        private final AtomicBoolean refreshing;
+
+        /**
+         * Constructs an instance of the {@link Entry} class.
+         *
+         * @param accessTime the access time to be used in construction
+         */
+        private Entry(long accessTime) {
+            this.future = new CompletableFuture<>();
+
+            this.expirationTime = Long.MAX_VALUE;
+
+            this.accessTime = accessTime;
+
+            this.loadTime = accessTime;
+
+            this.refreshing = new AtomicBoolean();
+        } //Entry
+
+        /**
+         * Returns whether this entry holds a successfully fetched snapshot.
+         *
+         * @return {@code true}, if this entry holds a successfully fetched snapshot and {@code false} otherwise
+         */
+        private boolean isLoaded() {
+            return this.future.isDone() && !this.future.isCompletedExceptionally();
+        } //isLoaded
+
+        /**
+         * Returns whether this entry has expired at the specified time.
+         *
+         * @param now the time to be used in the operation
+         * @return {@code true}, if this entry has expired at the specified time and {@code false} otherwise
+         */
+        private boolean isExpired(long now) {
+            return (now - this.expirationTime) >= 0L;
+        } //isExpired
+    } //Entry
+
+    /**
+     * The loader of this cache.
+     */
+    private final IntFunction<CompletableFuture<Set<Bus>>> loader;
+
+    /**
+     * The fallback of this cache, used when a stop with no servable snapshot cannot be fetched.
+     */
+    private final BiFunction<Integer, Throwable, CompletableFuture<Set<Bus>>> fallback;
+
+    /**
+     * The upstream scheduler of this cache.
+     */
+    private final UpstreamScheduler scheduler;
+
+    /**
+     * The arrival index of this cache.
+     */
+    private final ArrivalIndex arrivalIndex;
+
+    /**
+     * The time-to-live of this cache, in nanoseconds.
+     */
+    private final long timeToLive;
+
+    /**
+     * The maximum size of this cache.
+     */
+    private final int maximumSize;
+
+    /**
+     * The maximum time an expired snapshot of this cache is served while it is revalidated, in nanoseconds.
+     */
+    private final long maximumStaleness;
+
+    /**
+     * The entries of this cache.
+     */
+    private final Map<Integer, Entry> entries;
+
+    /**
+     * The hit count of this cache.
+     */
+    private final LongAdder hitCount;
+
+    /**
+     * The miss count of this cache.
+     */
+    private final LongAdder missCount;
+
+    /**
+     * The coalesce count of this cache.
+     */
+    private final LongAdder coalesceCount;
+
+    /**
+     * The eviction count of this cache.
+     */
+    private final LongAdder evictionCount;
+
+    /**
+     * The stale count of this cache.
+     */
+    private final LongAdder staleCount;
+
+    /**
+     * The revalidation failure count of this cache.
+     */
+    private final LongAdder revalidationFailureCount;
+
+    /**
+     * Constructs an instance of the {@link BusCache} class.
+     *
+     * @param loader the loader to be used in construction
+     * @param fallback the fallback to be used in construction
+     * @param scheduler the upstream scheduler to be used in construction
+     * @param arrivalIndex the arrival index to be used in construction
+     * @param timeToLive the time-to-live to be used in construction
+     * @param maximumSize the maximum size to be used in construction
+     * @param maximumStaleness the maximum staleness to be used in construction
+     * @throws NullPointerException if the specified loader, fallback, upstream scheduler, arrival index,
+     * time-to-live, or maximum staleness is {@code null}
+     * @throws IllegalArgumentException if the specified time-to-live or maximum staleness is negative or the
+     * specified maximum size is not positive
+     */
+    BusCache(IntFunction<CompletableFuture<Set<Bus>>> loader,
+             BiFunction<Integer, Throwable, CompletableFuture<Set<Bus>>> fallback, UpstreamScheduler scheduler,
+             ArrivalIndex arrivalIndex, Duration timeToLive, int maximumSize, Duration maximumStaleness) {
+        Objects.requireNonNull(loader, "the specified loader is null");
+
+        Objects.requireNonNull(fallback, "the specified fallback is null");
+
+        Objects.requireNonNull(scheduler, "the specified upstream scheduler is null");
+
+        Objects.requireNonNull(arrivalIndex, "the specified arrival index is null");
+
+        Objects.requireNonNull(timeToLive, "the specified time-to-live is null");
+
+        Objects.requireNonNull(maximumStaleness, "the specified maximum staleness is null");
+
+        if (timeToLive.isNegative()) {
+            throw new IllegalArgumentException("the specified time-to-live is negative");
+        } else if (maximumSize <= 0) {
+            throw new IllegalArgumentException("the specified maximum size is not positive");
+        } else if (maximumStaleness.isNegative()) {
+            throw new IllegalArgumentException("the specified maximum staleness is negative");
+        } //end if
+
+        this.loader = loader;
+
+        this.fallback = fallback;
+
+        this.scheduler = scheduler;
+
+        this.arrivalIndex = arrivalIndex;
+
+        this.timeToLive = timeToLive.toNanos();
+
+        this.maximumSize = maximumSize;
+
+        this.maximumStaleness = maximumStaleness.toNanos();
+
+        this.entries = new ConcurrentHashMap<>();
+
+        this.hitCount = new LongAdder();
+
+        this.missCount = new LongAdder();
+
+        this.coalesceCount = new LongAdder();
+
+        this.evictionCount = new LongAdder();
+
+        this.staleCount = new LongAdder();
+
+        this.revalidationFailureCount = new LongAdder();
+    } //BusCache
+
+    /**
+     * Constructs an instance of the {@link BusCache} class with no static schedule to fall back to.
+     *
+     * @param loader the loader to be used in construction
+     * @param scheduler the upstream scheduler to be used in construction
+     * @param arrivalIndex the arrival index to be used in construction
+     * @param timeToLive the time-to-live to be used in construction
+     * @param maximumSize the maximum size to be used in construction
+     * @param maximumStaleness the maximum staleness to be used in construction
+     * @throws NullPointerException if the specified loader, upstream scheduler, arrival index, time-to-live, or
+     * maximum staleness is {@code null}
+     * @throws IllegalArgumentException if the specified time-to-live or maximum staleness is negative or the
+     * specified maximum size is not positive
+     */
+    BusCache(IntFunction<CompletableFuture<Set<Bus>>> loader, UpstreamScheduler scheduler, ArrivalIndex arrivalIndex,
+             Duration timeToLive, int maximumSize, Duration maximumStaleness) {
+        this(loader, (stopId, cause) -> CompletableFuture.failedFuture(cause), scheduler, arrivalIndex, timeToLive,
+             maximumSize, maximumStaleness);
+    } //BusCache
+
+    /**
+     * Constructs an instance of the {@link BusCache} class that does not serve stale snapshots while revalidating.
+     *
+     * @param loader the loader to be used in construction
+     * @param scheduler the upstream scheduler to be used in construction
+     * @param timeToLive the time-to-live to be used in construction
+     * @param maximumSize the maximum size to be used in construction
+     * @throws NullPointerException if the specified loader, upstream scheduler, or time-to-live is {@code null}
+     * @throws IllegalArgumentException if the specified time-to-live is negative or the specified maximum size is not
+     * positive
+     */
+    BusCache(IntFunction<CompletableFuture<Set<Bus>>> loader, UpstreamScheduler scheduler, Duration timeToLive,
+             int maximumSize) {
+        this(loader, scheduler, new ArrivalIndex(), timeToLive, maximumSize, Duration.ZERO);
+    } //BusCache
+
+    /**
+     * Constructs an instance of the {@link BusCache} class with its own arrival index.
+     *
+     * @param loader the loader to be used in construction
+     * @param scheduler the upstream scheduler to be used in construction
+     * @param timeToLive the time-to-live to be used in construction
+     * @param maximumSize the maximum size to be used in construction
+     * @param maximumStaleness the maximum staleness to be used in construction
+     * @throws NullPointerException if the specified loader, upstream scheduler, time-to-live, or maximum staleness is
+     * {@code null}
+     * @throws IllegalArgumentException if the specified time-to-live or maximum staleness is negative or the
+     * specified maximum size is not positive
+     */
+    BusCache(IntFunction<CompletableFuture<Set<Bus>>> loader, UpstreamScheduler scheduler, Duration timeToLive,
+             int maximumSize, Duration maximumStaleness) {
+        this(loader, scheduler, new ArrivalIndex(), timeToLive, maximumSize, maximumStaleness);
+    } //BusCache
+
+    /**
+     * Constructs an instance of the {@link BusCache} class.
+     *
+     * @param model the model to be used in construction
+     * @param scheduler the upstream scheduler to be used in construction
+     * @param arrivalIndex the arrival index to be used in construction
+     * @param timeToLive the time-to-live to be used in construction
+     * @param maximumSize the maximum size to be used in construction
+     * @param maximumStaleness the maximum staleness to be used in construction
+     * @throws NullPointerException if the specified model, upstream scheduler, arrival index, time-to-live, or
+     * maximum staleness is {@code null}
+     * @throws IllegalArgumentException if the specified time-to-live or maximum staleness is negative or the
+     * specified maximum size is not positive
+     */
+    @Autowired
+    public BusCache(Model model, UpstreamScheduler scheduler, ArrivalIndex arrivalIndex,
+                    @Value("${vta4j.cache.ttl:15s}") Duration timeToLive,
+                    @Value("${vta4j.cache.maximum-size:10000}") int maximumSize,
+                    @Value("${vta4j.cache.max-stale:5m}") Duration maximumStaleness) {
+        this(Objects.requireNonNull(model, "the specified model is null")::fetchBusesAsync,
+             model::getScheduledBusesAsync, scheduler, arrivalIndex, timeToLive, maximumSize, maximumStaleness);
+    } //BusCache
+
+    /**
+     * Evicts the expired entries of this cache that can no longer be served stale and, if it is still over capacity,
+     * its least recently used entries. Expired entries within the maximum staleness are kept ahead of that, since
+     * they are what this cache serves while the upstream service is unavailable.
+     *
+     * @param now the time to be used in the operation
+     */
+    private void evict(long now) {
+        this.entries.forEach((stopId, entry) -> {
+            if (entry.isExpired(now) && !this.isServableStale(entry, now) && this.entries.remove(stopId, entry)) {
+                this.arrivalIndex.update(stopId, Set.of());
+
+                this.evictionCount.increment();
+            } //end if
+        });
+
+        int excess = this.entries.size() - this.maximumSize;
+
+        if (excess <= 0) {
+            return;
+        } //end if
+
+        int target = excess + (this.maximumSize / 10);
+
+        Comparator<Map.Entry<Integer, Entry>> comparator = Comparator.comparingLong(mapEntry -> mapEntry.getValue()
+                                                                                                        .accessTime);
+
+        List<Map.Entry<Integer, Entry>> victims = this.entries.entrySet()
+                                                              .stream()
+                                                              .filter(mapEntry -> mapEntry.getValue()
+                                                                                          .future
+                                                                                          .isDone())
+                                                              .sorted(comparator)
+                                                              .limit(target)
+                                                              .map(mapEntry -> Map.entry(mapEntry.getKey(),
+                                                                                         mapEntry.getValue()))
+                                                              .toList();
+
+        for (Map.Entry<Integer, Entry> victim : victims) {
+            if (this.entries.remove(victim.getKey(), victim.getValue())) {
+                this.arrivalIndex.update(victim.getKey(), Set.of());
+
+                this.evictionCount.increment();
+            } //end if
+        } //end for
+    } //evict
+
+    /**
+     * Returns the cause of the specified throwable, if it is a {@link CompletionException}, and the specified
+     * throwable otherwise.
+     *
+     * @param throwable the throwable to be used in the operation
+     * @return the cause of the specified throwable, if it is a {@link CompletionException}, and the specified
+     * throwable otherwise
+     */
+    private static Throwable unwrap(Throwable throwable) {
+        return (throwable instanceof CompletionException) ? throwable.getCause() : throwable;
+    } //unwrap
+
+    /**
+     * Starts loading the buses at the stop with the specified ID into the specified entry. If the upstream scheduler
+     * defers the fetch, the buses of the specified previous entry are served for another time-to-live. If the fetch
+     * fails, the entry is completed exceptionally when the previous entry may still be served stale, so that it is
+     * kept. Otherwise, a deferred or failed entry is completed by the fallback of this cache without being cached.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param entry the entry to be used in the operation
+     * @param previous the previous entry to be used in the operation, or {@code null} if there is none
+     */
+    private void load(int stopId, Entry entry, Entry previous) {
+        Set<Bus> stale = ((previous != null) && previous.isLoaded()) ? previous.future.getNow(null) : null;
+
+        boolean servableStale = (stale != null) && this.isServableStale(previous, System.nanoTime());
+
+        CompletableFuture<Optional<Set<Bus>>> future;
+
+        try {
+            future = this.scheduler.callAsync(stopId, stale != null, () -> this.loader.apply(stopId));
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        } //end try catch
+
+        future.whenComplete((buses, throwable) -> {
+            if ((throwable != null) && servableStale) {
+                this.entries.remove(stopId, entry);
+
+                entry.future.completeExceptionally(BusCache.unwrap(throwable));
+            } else if (throwable != null) {
+                this.entries.remove(stopId, entry);
+
+                this.complete(stopId, entry, BusCache.unwrap(throwable));
+            } else if (buses.isPresent()) {
+                this.arrivalIndex.update(stopId, buses.get());
+
+                long now = System.nanoTime();
+
+                entry.loadTime = now;
+
+                entry.expirationTime = now + this.timeToLive;
+
+                entry.future.complete(buses.get());
+            } else if (stale != null) {
+                entry.loadTime = previous.loadTime;
+
+                entry.expirationTime = System.nanoTime() + this.timeToLive;
+
+                entry.future.complete(stale);
+            } else {
+                this.entries.remove(stopId, entry);
+
+                String message = "no upstream token was available for stop %d".formatted(stopId);
+
+                IllegalStateException exception = new IllegalStateException(message);
+
+                this.complete(stopId, entry, exception);
+            } //end if
+        });
+    } //load
+
+    /**
+     * Completes the specified uncached entry of the stop with the specified ID by the fallback of this cache, for
+     * when no real-time snapshot is available for the specified reason.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param entry the entry to be used in the operation
+     * @param cause the reason no real-time snapshot is available to be used in the operation
+     */
+    private void complete(int stopId, Entry entry, Throwable cause) {
+        CompletableFuture<Set<Bus>> future;
+
+        try {
+            future = this.fallback.apply(stopId, cause);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        } //end try catch
+
+        future.whenComplete((buses, throwable) -> {
+            if (throwable != null) {
+                entry.future.completeExceptionally(BusCache.unwrap(throwable));
+            } else {
+                entry.future.complete(buses);
+            } //end if
+        });
+    } //complete
+
+    /**
+     * Returns whether the specified expired entry may still be served while it is revalidated.
+     *
+     * @param entry the entry to be used in the operation
+     * @param now the time to be used in the operation
+     * @return {@code true}, if the specified expired entry may still be served and {@code false} otherwise
+     */
+    private boolean isServableStale(Entry entry, long now) {
+        if ((this.maximumStaleness == 0L) || !entry.isLoaded()) {
+            return false;
+        } //end if
+
+        long age = now - entry.loadTime;
+
+        return age < (this.timeToLive + this.maximumStaleness);
+    } //isServableStale
+
+    /**
+     * Revalidates the specified expired entry of the stop with the specified ID in the background. A fresh snapshot
+     * replaces the entry, while a failure keeps its snapshot and postpones the next revalidation by one time-to-live.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param entry the entry to be used in the operation
+     */
+    private void revalidate(int stopId, Entry entry) {
+        Entry newEntry = new Entry(entry.accessTime);
+
+        this.load(stopId, newEntry, entry);
+
+        newEntry.future.whenComplete((buses, throwable) -> {
+            if (throwable == null) {
+                this.entries.replace(stopId, entry, newEntry);
+            } else {
+                this.revalidationFailureCount.increment();
+
+                entry.expirationTime = System.nanoTime() + this.timeToLive;
+            } //end if
+
+            entry.refreshing.set(false);
+        });
+    } //revalidate
+
+    /**
+     * Returns a future of a {@link Set} of buses set to arrive at the stop with the specified ID, loading them if
+     * they are not cached or have expired. An expired snapshot within the maximum staleness is returned at once
+     * while it is revalidated in the background. The calling thread never waits for an upstream fetch.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return a future of a {@link Set} of buses set to arrive at the stop with the specified ID
+     */
+    @Override
+    public CompletableFuture<Set<Bus>> getBusesAsync(int stopId) {
+        this.scheduler.recordViews(stopId, 1);
+
+        long now = System.nanoTime();
+
+        Entry entry = this.entries.get(stopId);
+
+        if ((entry != null) && entry.isExpired(now) && this.isServableStale(entry, now)) {
+            entry.accessTime = now;
+
+            this.staleCount.increment();
+
+            if (entry.refreshing.compareAndSet(false, true)) {
+                this.revalidate(stopId, entry);
+            } //end if
+
+            return entry.future.copy();
+        } //end if
+
+        if ((entry == null) || entry.isExpired(now)) {
+            Entry newEntry = new Entry(now);
+
+            Entry[] previous = new Entry[1];
+
+            entry = this.entries.compute(stopId, (key, current) -> {
+                if ((current == null) || current.isExpired(now)) {
+                    previous[0] = current;
+
+                    return newEntry;
+                } //end if
+
+                return current;
+            });
+
+            if (entry == newEntry) {
+                this.missCount.increment();
+
+                if (this.entries.size() > this.maximumSize) {
+                    this.evict(now);
+                } //end if
+
+                this.load(stopId, newEntry, previous[0]);
+
+                return newEntry.future.copy();
+            } //end if
+        } //end if
+
+        entry.accessTime = now;
+
+        if (entry.future.isDone()) {
+            this.hitCount.increment();
+        } else {
+            this.coalesceCount.increment();
+        } //end if
+
+        return entry.future.copy();
+    } //getBusesAsync
+
+    /**
+     * Returns the age of the snapshot of the stop with the specified ID, if it is older than the time-to-live of this
+     * cache.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return the age of the snapshot of the stop with the specified ID, or an empty {@link Optional} if it is fresh
+     * or not cached
+     */
+    @Override
+    public Optional<Duration> getStaleAge(int stopId) {
+        Entry entry = this.entries.get(stopId);
+
+        if ((entry == null) || !entry.isLoaded()) {
+            return Optional.empty();
+        } //end if
+
+        long age = System.nanoTime() - entry.loadTime;
+
+        if (age <= this.timeToLive) {
+            return Optional.empty();
+        } //end if
+
+        Duration staleAge = Duration.ofNanos(age);
+
+        return Optional.of(staleAge);
+    } //getStaleAge
+
+    /**
+     * Returns a {@link Set} of buses set to arrive at the stop with the specified ID, loading them if they are not
+     * cached or have expired.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return a {@link Set} of buses set to arrive at the stop with the specified ID
+     */
+    @Override
+    public Set<Bus> getBuses(int stopId) {
+        try {
+            return this.getBusesAsync(stopId)
+                       .join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } //end if
+
+            throw e;
+        } //end try catch
+    } //getBuses
+
+    /**
+     * Returns the cache statistics of this cache.
+     *
+     * @return the cache statistics of this cache
+     */
+    public CacheStats getCacheStats() {
+        long hits = this.hitCount.sum();
+
+        long misses = this.missCount.sum();
+
+        long coalesced = this.coalesceCount.sum();
+
+        long evictions = this.evictionCount.sum();
+
+        long stale = this.staleCount.sum();
+
+        long revalidationFailures = this.revalidationFailureCount.sum();
+
+        int size = this.entries.size();
+
+        return new CacheStats(hits, misses, coalesced, evictions, stale, revalidationFailures, size);
+    } //getCacheStats
+
+    /**
+     * Returns the statistics of this cache, keyed by name.
+     *
+     * @return the statistics of this cache, keyed by name
+     */
+    @Override
+    public Map<String, ?> getStats() {
+        CacheStats cacheStats = this.getCacheStats();
+
+        SchedulerStats schedulerStats = this.scheduler.getStats();
+
+        return Map.of(
+            "cache", cacheStats,
+            "scheduler", schedulerStats
+        );
+    } //getStats
+}
\ No newline at end of file
@@ -0,0 +1,555 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.capture;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * An append-only log of raw upstream responses of the VTA4j application, for replaying production traffic without
+ * touching the real API. Capturing is enabled by setting {@code vta4j.capture.directory}. Entries are queued by the
+ * request path and written by a single background thread, which syncs the log to disk at most once per flush
+ * interval, so a request never waits on disk I/O; if the queue is full, the entry is dropped and counted. The log is
+ * split into segments of about {@code vta4j.capture.segment-size} bytes, named in the order they were written.
+ * <p>
+ * Each segment starts with the magic number {@code VCAP} and a format version, both 32-bit integers, followed by
+ * entries of the form:
+ * <pre>
+ * length     int, the length of the body
+ * timestamp  long, milliseconds since the epoch
+ * stop ID    int, or -1 for the whole agency
+ * status     int, or 0 if the request failed without a response
+ * checksum   int, the CRC-32 of the body
+ * body       the gzip-compressed body, as received
+ * </pre>
+ * All integers are big-endian. A torn entry at the end of a segment, left by a crash, is ignored by the
+ * {@link CaptureReader}.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+public final class CaptureLog {
+    /**
+     * The stop ID of a request for the whole agency of the {@link CaptureLog} class.
+     */
+    public static final int AGENCY;
+
+    /**
+     * The magic number of a segment of the {@link CaptureLog} class.
+     */
+    static final int MAGIC;
+
+    /**
+     * The format version of the {@link CaptureLog} class.
+     */
+    static final int FORMAT;
+
+    /**
+     * The size of a segment header of the {@link CaptureLog} class.
+     */
+    static final int SEGMENT_HEADER_SIZE;
+
+    /**
+     * The size of an entry header of the {@link CaptureLog} class.
+     */
+    static final int ENTRY_HEADER_SIZE;
+
+    /**
+     * The file name prefix of a segment of the {@link CaptureLog} class.
+     */
+    static final String SEGMENT_PREFIX;
+
+    /**
+     * The file name suffix of a segment of the {@link CaptureLog} class.
+     */
+    static final String SEGMENT_SUFFIX;
+
+    /**
+     * The logger of the {@link CaptureLog} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        AGENCY = -1;
+
+        MAGIC = 0x56434150;
+
+        FORMAT = 1;
+
+        SEGMENT_HEADER_SIZE = 8;
+
+        ENTRY_HEADER_SIZE = 24;
+
+        SEGMENT_PREFIX = "capture-";
+
+        SEGMENT_SUFFIX = ".log";
+
+        LOGGER = LogManager.getLogger();
+    } //static
+
+    /**
+     * The directory of this log, or {@code null} if capturing is disabled.
+     */
+    private final Path directory;
+
+    /**
+     * The maximum segment size of this log, in bytes.
+     */
+    private final long segmentSize;
+
+    /**
+     * The flush interval of this log, in nanoseconds.
+     */
+    private final long flushInterval;
+
+    /**
+     * The queue of this log.
+     */
+    private final BlockingQueue<CaptureEntry> queue;
+
+    /**
+     * The entry counter of this log.
+     */
+    private final LongAdder entryCount;
+
+    /**
+     * The byte counter of this log.
+     */
+    private final LongAdder byteCount;
+
+    /**
+     * The dropped entry counter of this log.
+     */
+    private final LongAdder dropCount;
+
+    /**
+     * The sync counter of this log.
+     */
+    private final LongAdder syncCount;
+
+    /**
+     * The segment counter of this log.
+     */
+    private final LongAdder segmentCount;
+
+    /**
+     * The writer thread of this log, or {@code null} if it has not been started.
+     */
+    private Thread writer;
+
+    /**
+     * Whether this log is running.
+     */
+    private volatile boolean running;
+
+    /**
+     * The channel of the current segment of this log, or {@code null} if none is open.
+     */
+    private FileChannel channel;
+
+    /**
+     * The sequence number of the current segment of this log.
+     */
+    private long sequence;
+
+    /**
+     * Constructs an instance of the {@link CaptureLog} class.
+     *
+     * @param directory the directory to be used in construction, or an empty string to disable capturing
+     * @param segmentSize the maximum segment size to be used in construction
+     * @param flushInterval the flush interval to be used in construction
+     * @param queueSize the queue size to be used in construction
+     * @throws NullPointerException if the specified directory, maximum segment size, or flush interval is
+     * {@code null}
+     * @throws IllegalArgumentException if the specified maximum segment size or queue size is not positive, or the
+     * specified flush interval is negative
+     */
+    public CaptureLog(@Value("${vta4j.capture.directory:}") String directory,
+                      @Value("${vta4j.capture.segment-size:64MB}") DataSize segmentSize,
+                      @Value("${vta4j.capture.flush-interval:1s}") Duration flushInterval,
+                      @Value("${vta4j.capture.queue-size:1024}") int queueSize) {
+        Objects.requireNonNull(directory, "the specified directory is null");
+
+        Objects.requireNonNull(segmentSize, "the specified maximum segment size is null");
+
+        Objects.requireNonNull(flushInterval, "the specified flush interval is null");
+
+        if (segmentSize.toBytes() <= 0L) {
+            throw new IllegalArgumentException("the specified maximum segment size is not positive");
+        } else if (flushInterval.isNegative()) {
+            throw new IllegalArgumentException("the specified flush interval is negative");
+        } else if (queueSize <= 0) {
+            throw new IllegalArgumentException("the specified queue size is not positive");
+        } //end if
+
+        this.directory = directory.isBlank() ? null : Path.of(directory);
+
+        this.segmentSize = segmentSize.toBytes();
+
+        this.flushInterval = flushInterval.toNanos();
+
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+
+        this.entryCount = new LongAdder();
+
+        this.byteCount = new LongAdder();
+
+        this.dropCount = new LongAdder();
+
+        this.syncCount = new LongAdder();
+
+        this.segmentCount = new LongAdder();
+    } //CaptureLog
+
+    /**
+     * Returns whether capturing is enabled for this log.
+     *
+     * @return {@code true} if capturing is enabled for this log, {@code false} otherwise
+     */
+    public boolean isEnabled() {
+        return this.directory != null;
+    } //isEnabled
+
+    /**
+     * Returns the sorted segments of the log in the specified directory.
+     *
+     * @param directory the directory to be used in the operation
+     * @return the sorted segments of the log in the specified directory
+     * @throws IOException if an I/O error occurs
+     */
+    static List<Path> getSegments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        } //end if
+
+        try (var stream = Files.newDirectoryStream(directory, CaptureLog.SEGMENT_PREFIX + "*" +
+            CaptureLog.SEGMENT_SUFFIX)) {
+            stream.forEach(segments::add);
+        } //end try
+
+        segments.sort(null);
+
+        return segments;
+    } //getSegments
+
+    /**
+     * Returns the sequence number of the specified segment.
+     *
+     * @param segment the segment to be used in the operation
+     * @return the sequence number of the specified segment
+     */
+    private static long getSequence(Path segment) {
+        String name = segment.getFileName()
+                             .toString();
+
+        int start = CaptureLog.SEGMENT_PREFIX.length();
+
+        int end = name.length() - CaptureLog.SEGMENT_SUFFIX.length();
+
+        try {
+            return Long.parseLong(name.substring(start, end));
+        } catch (NumberFormatException e) {
+            return 0L;
+        } //end try catch
+    } //getSequence
+
+    /**
+     * Closes the current segment of this log, if any, and opens the next one.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void openSegment() throws IOException {
+        this.closeSegment();
+
+        this.sequence++;
+
+        String name = "%s%010d%s".formatted(CaptureLog.SEGMENT_PREFIX, this.sequence, CaptureLog.SEGMENT_SUFFIX);
+
+        Path path = this.directory.resolve(name);
+
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+
+        ByteBuffer header = ByteBuffer.allocate(CaptureLog.SEGMENT_HEADER_SIZE);
+
+        header.putInt(CaptureLog.MAGIC)
+              .putInt(CaptureLog.FORMAT)
+              .flip();
+
+        while (header.hasRemaining()) {
+            this.channel.write(header);
+        } //end while
+
+        this.byteCount.add(CaptureLog.SEGMENT_HEADER_SIZE);
+
+        this.segmentCount.increment();
+    } //openSegment
+
+    /**
+     * Syncs and closes the current segment of this log, if any.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void closeSegment() throws IOException {
+        if (this.channel == null) {
+            return;
+        } //end if
+
+        try (FileChannel segment = this.channel) {
+            segment.force(false);
+
+            this.syncCount.increment();
+        } finally {
+            this.channel = null;
+        } //end try finally
+    } //closeSegment
+
+    /**
+     * Writes the specified entry to the current segment of this log, opening the next segment first if the entry
+     * would make the current one exceed the maximum segment size.
+     *
+     * @param entry the entry to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void write(CaptureEntry entry) throws IOException {
+        byte[] body = entry.body();
+
+        long size = CaptureLog.ENTRY_HEADER_SIZE + body.length;
+
+        if ((this.channel == null) || ((this.channel.position() > CaptureLog.SEGMENT_HEADER_SIZE) &&
+            ((this.channel.position() + size) > this.segmentSize))) {
+            this.openSegment();
+        } //end if
+
+        CRC32 checksum = new CRC32();
+
+        checksum.update(body);
+
+        ByteBuffer header = ByteBuffer.allocate(CaptureLog.ENTRY_HEADER_SIZE);
+
+        header.putInt(body.length)
+              .putLong(entry.timestamp())
+              .putInt(entry.stopId())
+              .putInt(entry.status())
+              .putInt((int) checksum.getValue())
+              .flip();
+
+        ByteBuffer[] buffers = {header, ByteBuffer.wrap(body)};
+
+        long remaining = size;
+
+        while (remaining > 0L) {
+            remaining -= this.channel.write(buffers);
+        } //end while
+
+        this.entryCount.increment();
+
+        this.byteCount.add(size);
+    } //write
+
+    /**
+     * Writes queued entries until this log is stopped, syncing the current segment to disk at most once per flush
+     * interval, and then writes whatever is left in the queue.
+     */
+    private void run() {
+        List<CaptureEntry> batch = new ArrayList<>();
+
+        boolean dirty = false;
+
+        long syncTime = System.nanoTime() + this.flushInterval;
+
+        while (this.running || !this.queue.isEmpty()) {
+            try {
+                long timeout = Math.max(0L, syncTime - System.nanoTime());
+
+                CaptureEntry entry = this.running ? this.queue.poll(timeout, TimeUnit.NANOSECONDS) : this.queue.poll();
+
+                if (entry != null) {
+                    batch.add(entry);
+
+                    this.queue.drainTo(batch);
+                } //end if
+            } catch (InterruptedException e) {
+                this.running = false;
+            } //end try catch
+
+            for (CaptureEntry entry : batch) {
+                try {
+                    this.write(entry);
+
+                    dirty = true;
+                } catch (IOException e) {
+                    this.dropCount.increment();
+
+                    CaptureLog.LOGGER.atError()
+                                     .withThrowable(e)
+                                     .log();
+                } //end try catch
+            } //end for
+
+            batch.clear();
+
+            long now = System.nanoTime();
+
+            if (dirty && (now >= syncTime) && (this.channel != null)) {
+                try {
+                    this.channel.force(false);
+
+                    this.syncCount.increment();
+                } catch (IOException e) {
+                    CaptureLog.LOGGER.atError()
+                                     .withThrowable(e)
+                                     .log();
+                } //end try catch
+
+                dirty = false;
+            } //end if
+
+            if (now >= syncTime) {
+                syncTime = now + this.flushInterval;
+            } //end if
+        } //end while
+
+        try {
+            this.closeSegment();
+        } catch (IOException e) {
+            CaptureLog.LOGGER.atError()
+                             .withThrowable(e)
+                             .log();
+        } //end try catch
+    } //run
+
+    /**
+     * Starts the writer thread of this log, if capturing is enabled. Each start opens a new segment after those
+     * already in the directory of this log.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @PostConstruct
+    public synchronized void start() throws IOException {
+        if ((this.directory == null) || (this.writer != null)) {
+            return;
+        } //end if
+
+        Files.createDirectories(this.directory);
+
+        List<Path> segments = CaptureLog.getSegments(this.directory);
+
+        if (!segments.isEmpty()) {
+            Path last = segments.get(segments.size() - 1);
+
+            this.sequence = CaptureLog.getSequence(last);
+        } //end if
+
+        this.running = true;
+
+        this.writer = new Thread(this::run, "capture-writer");
+
+        this.writer.setDaemon(true);
+
+        this.writer.start();
+    } //start
+
+    /**
+     * Stops the writer thread of this log after it has written every queued entry, and syncs the log to disk.
+     *
+     * @throws InterruptedException if the operation is interrupted
+     */
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (this.writer == null) {
+            return;
+        } //end if
+
+        this.running = false;
+
+        this.writer.join();
+
+        this.writer = null;
+    } //stop
+
+    /**
+     * Queues the specified entry to be written to this log, without blocking. The entry is dropped if capturing is
+     * disabled or the queue is full.
+     *
+     * @param entry the entry to be used in the operation
+     * @return {@code true} if the specified entry was queued, {@code false} otherwise
+     * @throws NullPointerException if the specified entry is {@code null}
+     */
+    public boolean append(CaptureEntry entry) {
+        Objects.requireNonNull(entry, "the specified entry is null");
+
+        if (!this.running) {
+            return false;
+        } else if (!this.queue.offer(entry)) {
+            this.dropCount.increment();
+
+            return false;
+        } //end if
+
+        return true;
+    } //append
+
+    /**
+     * Returns the directory of this log, or {@code null} if capturing is disabled.
+     *
+     * @return the directory of this log, or {@code null} if capturing is disabled
+     */
+    public Path getDirectory() {
+        return this.directory;
+    } //getDirectory
+
+    /**
+     * Returns the statistics of this log.
+     *
+     * @return the statistics of this log
+     */
+    public CaptureStats getStats() {
+        return new CaptureStats(this.isEnabled(), this.entryCount.sum(), this.byteCount.sum(), this.dropCount.sum(),
+                                this.syncCount.sum(), this.segmentCount.sum());
+    } //getStats
+}
\ No newline at end of file
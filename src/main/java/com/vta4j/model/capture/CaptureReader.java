@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.capture;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * A reader of the segments written by a {@link CaptureLog}. Each segment is memory-mapped rather than read through a
+ * stream, so replaying a large capture does not copy it through the heap twice. Reading stops at the first entry that
+ * is truncated or fails its checksum, which is what a crash in the middle of a write leaves behind.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+public final class CaptureReader {
+    /**
+     * Constructs an instance of the {@link CaptureReader} class.
+     *
+     * @throws UnsupportedOperationException if this constructor is invoked
+     */
+    private CaptureReader() {
+        throw new UnsupportedOperationException();
+    } //CaptureReader
+
+    /**
+     * Returns the segments of the capture log in the specified directory, in the order they were written.
+     *
+     * @param directory the directory to be used in the operation
+     * @return the segments of the capture log in the specified directory, in the order they were written
+     * @throws NullPointerException if the specified directory is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    public static List<Path> getSegments(Path directory) throws IOException {
+        Objects.requireNonNull(directory, "the specified directory is null");
+
+        return CaptureLog.getSegments(directory);
+    } //getSegments
+
+    /**
+     * Reads the entries of the specified segment in the order they were written, passing each to the specified
+     * consumer, and stops at the first truncated or corrupt entry.
+     *
+     * @param segment the segment to be used in the operation
+     * @param consumer the consumer to be used in the operation
+     * @return the number of entries read from the specified segment
+     * @throws NullPointerException if the specified segment or consumer is {@code null}
+     * @throws IOException if an I/O error occurs or the specified segment does not start with a valid header
+     */
+    public static long read(Path segment, Consumer<? super CaptureEntry> consumer) throws IOException {
+        Objects.requireNonNull(segment, "the specified segment is null");
+
+        Objects.requireNonNull(consumer, "the specified consumer is null");
+
+        MappedByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        } //end try
+
+        if ((buffer.remaining() < CaptureLog.SEGMENT_HEADER_SIZE) || (buffer.getInt() != CaptureLog.MAGIC)) {
+            throw new IOException("the segment \"%s\" is not a capture log segment".formatted(segment));
+        } //end if
+
+        int format = buffer.getInt();
+
+        if (format != CaptureLog.FORMAT) {
+            throw new IOException("the segment \"%s\" has an unsupported format %d".formatted(segment, format));
+        } //end if
+
+        CRC32 checksum = new CRC32();
+
+        long count = 0L;
+
+        while (buffer.remaining() >= CaptureLog.ENTRY_HEADER_SIZE) {
+            int length = buffer.getInt();
+
+            long timestamp = buffer.getLong();
+
+            int stopId = buffer.getInt();
+
+            int status = buffer.getInt();
+
+            int expectedChecksum = buffer.getInt();
+
+            if ((length < 0) || (length > buffer.remaining())) {
+                break;
+            } //end if
+
+            byte[] body = new byte[length];
+
+            buffer.get(body);
+
+            checksum.reset();
+
+            checksum.update(body);
+
+            if ((int) checksum.getValue() != expectedChecksum) {
+                break;
+            } //end if
+
+            CaptureEntry entry = new CaptureEntry(timestamp, stopId, status, body);
+
+            consumer.accept(entry);
+
+            count++;
+        } //end while
+
+        return count;
+    } //read
+}
\ No newline at end of file
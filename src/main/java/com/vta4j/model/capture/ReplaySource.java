@@ -0,0 +1,389 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.capture;
+
+import org.springframework.stereotype.Component;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+import com.google.gson.JsonParseException;
+import com.vta4j.model.Bus;
+import com.vta4j.model.BusSource;
+import com.vta4j.model.Model;
+import com.vta4j.model.index.ArrivalIndex;
+import com.vta4j.model.index.StopIndex;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * A bus source of the VTA4j application that replays a {@link CaptureLog} through the parser instead of calling the
+ * upstream service, so production traffic can be reproduced offline. Entries are replayed in the order they were
+ * captured, spaced by the time between their captures divided by {@code vta4j.replay.speed}; a speed of zero replays
+ * them as fast as they can be parsed. Each stop is answered from whichever was replayed last: its own response or the
+ * response for the whole agency. Responses for single stops are dropped once a newer response for the whole agency
+ * is replayed, and at the start of every pass over the log. It is enabled by setting {@code vta4j.ingestion.mode} to
+ * {@code replay}.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+@ConditionalOnProperty(name = "vta4j.ingestion.mode", havingValue = "replay")
+public final class ReplaySource implements BusSource {
+    /**
+     * The logger of the {@link ReplaySource} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger();
+    } //static
+
+    /**
+     * The directory of this source.
+     */
+    private final Path directory;
+
+    /**
+     * The speed of this source, or zero to replay as fast as possible.
+     */
+    private final double speed;
+
+    /**
+     * Whether this source starts over after the last entry.
+     */
+    private final boolean loop;
+
+    /**
+     * The buses of the stops of this source replayed since its last response for the whole agency, keyed by stop ID.
+     */
+    private final Map<Integer, Set<Bus>> stops;
+
+    /**
+     * The entry count of this source.
+     */
+    private final AtomicLong entryCount;
+
+    /**
+     * The failure count of this source.
+     */
+    private final AtomicLong failureCount;
+
+    /**
+     * The pass count of this source.
+     */
+    private final AtomicLong passCount;
+
+    /**
+     * The arrival index of this source.
+     */
+    private final ArrivalIndex arrivalIndex;
+
+    /**
+     * The current index of this source, built from the last response for the whole agency.
+     */
+    private volatile StopIndex index;
+
+    /**
+     * The capture time of the last entry replayed by this source, in milliseconds since the epoch, or zero.
+     */
+    private volatile long timestamp;
+
+    /**
+     * The time the last entry was replayed by this source, in nanoseconds.
+     */
+    private long replayTime;
+
+    /**
+     * The replay thread of this source, or {@code null} if it has not been started.
+     */
+    private Thread replayer;
+
+    /**
+     * Constructs an instance of the {@link ReplaySource} class.
+     *
+     * @param directory the directory to be used in construction
+     * @param speed the speed to be used in construction
+     * @param loop whether to start over after the last entry
+     * @param arrivalIndex the arrival index to be used in construction
+     * @throws NullPointerException if the specified directory or arrival index is {@code null}
+     * @throws IllegalArgumentException if the specified directory is blank or the specified speed is negative
+     */
+    public ReplaySource(@Value("${vta4j.replay.directory:${vta4j.capture.directory:}}") String directory,
+                        @Value("${vta4j.replay.speed:1.0}") double speed,
+                        @Value("${vta4j.replay.loop:false}") boolean loop, ArrivalIndex arrivalIndex) {
+        Objects.requireNonNull(directory, "the specified directory is null");
+
+        Objects.requireNonNull(arrivalIndex, "the specified arrival index is null");
+
+        if (directory.isBlank()) {
+            throw new IllegalArgumentException("the specified directory is blank");
+        } else if (!(speed >= 0.0)) {
+            throw new IllegalArgumentException("the specified speed is negative");
+        } //end if
+
+        this.directory = Path.of(directory);
+
+        this.speed = speed;
+
+        this.loop = loop;
+
+        this.arrivalIndex = arrivalIndex;
+
+        this.stops = new ConcurrentHashMap<>();
+
+        this.entryCount = new AtomicLong();
+
+        this.failureCount = new AtomicLong();
+
+        this.passCount = new AtomicLong();
+
+        this.index = StopIndex.empty();
+    } //ReplaySource
+
+    /**
+     * Waits until the specified entry is due, relative to the last entry replayed by this source.
+     *
+     * @param entry the entry to be used in the operation
+     * @throws InterruptedException if the operation is interrupted
+     */
+    private void await(CaptureEntry entry) throws InterruptedException {
+        long now = System.nanoTime();
+
+        if ((this.speed == 0.0) || (this.timestamp == 0L)) {
+            this.replayTime = now;
+
+            return;
+        } //end if
+
+        long gap = Math.max(0L, entry.timestamp() - this.timestamp);
+
+        long delay = (long) (TimeUnit.MILLISECONDS.toNanos(gap) / this.speed);
+
+        long dueTime = this.replayTime + delay;
+
+        if (dueTime > now) {
+            TimeUnit.NANOSECONDS.sleep(dueTime - now);
+        } //end if
+
+        this.replayTime = dueTime;
+    } //await
+
+    /**
+     * Replays the specified entry, parsing its body if the captured request succeeded.
+     *
+     * @param entry the entry to be used in the operation
+     */
+    private void replay(CaptureEntry entry) {
+        Thread thread = Thread.currentThread();
+
+        if (thread.isInterrupted()) {
+            return;
+        } //end if
+
+        try {
+            this.await(entry);
+        } catch (InterruptedException e) {
+            thread.interrupt();
+
+            return;
+        } //end try catch
+
+        this.timestamp = entry.timestamp();
+
+        this.entryCount.incrementAndGet();
+
+        if ((entry.status() / 100) != 2) {
+            this.failureCount.incrementAndGet();
+
+            return;
+        } //end if
+
+        Set<Bus> buses;
+
+        try {
+            buses = Model.parseCompressedBody(entry.body());
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            this.failureCount.incrementAndGet();
+
+            return;
+        } //end try catch
+
+        if (entry.stopId() == CaptureLog.AGENCY) {
+            Instant buildTime = Instant.ofEpochMilli(entry.timestamp());
+
+            StopIndex previousIndex = this.index;
+
+            this.index = StopIndex.of(buses, buildTime);
+
+            this.arrivalIndex.update(previousIndex, this.index);
+
+            this.clearStops();
+        } else {
+            this.stops.put(entry.stopId(), buses);
+
+            this.arrivalIndex.update(entry.stopId(), buses);
+        } //end if
+    } //replay
+
+    /**
+     * Drops the buses of every stop replayed on its own, so those stops are answered from the current index of this
+     * source again.
+     */
+    private void clearStops() {
+        StopIndex currentIndex = this.index;
+
+        for (Integer stopId : this.stops.keySet()) {
+            this.stops.remove(stopId);
+
+            Set<Bus> buses = currentIndex.getBuses(stopId);
+
+            this.arrivalIndex.update(stopId, buses);
+        } //end for
+    } //clearStops
+
+    /**
+     * Replays every segment in the directory of this source, once or until interrupted if looping.
+     */
+    private void run() {
+        Thread thread = Thread.currentThread();
+
+        do {
+            List<Path> segments;
+
+            try {
+                segments = CaptureReader.getSegments(this.directory);
+            } catch (IOException e) {
+                ReplaySource.LOGGER.atError()
+                                   .withThrowable(e)
+                                   .log();
+
+                return;
+            } //end try catch
+
+            if (segments.isEmpty()) {
+                ReplaySource.LOGGER.atWarn()
+                                   .log("There are no capture log segments in {}", this.directory);
+
+                return;
+            } //end if
+
+            this.clearStops();
+
+            for (Path segment : segments) {
+                if (thread.isInterrupted()) {
+                    return;
+                } //end if
+
+                try {
+                    CaptureReader.read(segment, this::replay);
+                } catch (IOException e) {
+                    ReplaySource.LOGGER.atError()
+                                       .withThrowable(e)
+                                       .log();
+                } //end try catch
+            } //end for
+
+            if (thread.isInterrupted()) {
+                return;
+            } //end if
+
+            this.passCount.incrementAndGet();
+
+            this.timestamp = 0L;
+        } while (this.loop);
+    } //run
+
+    /**
+     * Starts the replay thread of this source.
+     */
+    @PostConstruct
+    public synchronized void start() {
+        if (this.replayer != null) {
+            return;
+        } //end if
+
+        this.replayer = new Thread(this::run, "replay");
+
+        this.replayer.setDaemon(true);
+
+        this.replayer.start();
+    } //start
+
+    /**
+     * Stops the replay thread of this source.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (this.replayer == null) {
+            return;
+        } //end if
+
+        this.replayer.interrupt();
+
+        this.replayer = null;
+    } //stop
+
+    /**
+     * Returns a {@link Set} of buses set to arrive at the stop with the specified ID, as of the last entry replayed.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return a {@link Set} of buses set to arrive at the stop with the specified ID, as of the last entry replayed
+     */
+    @Override
+    public Set<Bus> getBuses(int stopId) {
+        Set<Bus> buses = this.stops.get(stopId);
+
+        if (buses != null) {
+            return buses;
+        } //end if
+
+        return this.index.getBuses(stopId);
+    } //getBuses
+
+    /**
+     * Returns the statistics of this source, keyed by name.
+     *
+     * @return the statistics of this source, keyed by name
+     */
+    @Override
+    public Map<String, ?> getStats() {
+        ReplayStats replayStats = new ReplayStats(this.entryCount.get(), this.failureCount.get(), this.passCount.get(),
+                                                  this.timestamp);
+
+        return Map.of("replay", replayStats);
+    } //getStats
+}
\ No newline at end of file
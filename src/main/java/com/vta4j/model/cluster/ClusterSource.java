@@ -0,0 +1,802 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.cluster;
+
+import org.springframework.stereotype.Component;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+import com.vta4j.controller.BinaryBusDecoder;
+import com.vta4j.controller.BinaryBusEncoder;
+import com.vta4j.model.Bus;
+import com.vta4j.model.BusSource;
+import com.vta4j.model.Model;
+import com.vta4j.model.index.ArrivalIndex;
+import com.vta4j.model.index.StopIndex;
+import com.vta4j.model.upstream.SchedulerStats;
+import com.vta4j.model.upstream.UpstreamScheduler;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * A bus source of the VTA4j application for several nodes, of which only the elected leader calls the upstream
+ * service. The leader fetches the agency-wide feed every {@code vta4j.ingestion.interval}, like the
+ * {@link com.vta4j.model.index.BulkIngester}, and serves the result as a versioned snapshot in the format of the
+ * {@link BinaryBusEncoder}. Followers pull that snapshot every {@code vta4j.cluster.election-interval}, receiving it
+ * only when its version has changed, and answer every stop lookup from it. It is enabled by setting
+ * {@code vta4j.ingestion.mode} to {@code cluster}.
+ * <p>
+ * The leader is chosen by a {@link LeaderElection} every election interval. If {@code vta4j.cluster.peers} lists the
+ * advertised URLs of the nodes, which may run on different hosts, the first live peer leads, as decided by a
+ * {@link PeerElection}. Otherwise, the nodes must share one host: the leader is the node holding the
+ * {@link LeaderLock} at {@code vta4j.cluster.lock-file}, and it announces its {@code vta4j.cluster.advertised-url},
+ * with a heartbeat, next to it. Either way, a follower takes over within a few election intervals of the leader
+ * failing, and keeps serving its last replicated snapshot until its own first fetch completes. Snapshot versions are
+ * the fetch time in epoch milliseconds, so they keep increasing across leaders whose clocks agree.
+ * <p>
+ * A node that holds no snapshot yet, or only one older than {@code vta4j.ingestion.max-age}, answers lookups like a
+ * failed per-stop fetch: from the static schedule if one is loaded, and with a failure otherwise, rather than with an
+ * empty stop.
+ * <p>
+ * The snapshot is only served to callers presenting {@code vta4j.cluster.secret} in the {@link #SECRET_HEADER}
+ * header, which followers send, or to loopback callers if no secret is set.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+@ConditionalOnProperty(name = "vta4j.ingestion.mode", havingValue = "cluster")
+public final class ClusterSource implements BusSource {
+    /**
+     * The logger of the {@link ClusterSource} class.
+     */
+    private static final Logger LOGGER;
+
+    /**
+     * The number of election intervals a leader announcement or a peer heartbeat stays valid for.
+     */
+    private static final int LEASE_ROUNDS;
+
+    /**
+     * The name of the header carrying the shared secret of a cluster.
+     */
+    public static final String SECRET_HEADER;
+
+    static {
+        LOGGER = LogManager.getLogger();
+
+        SECRET_HEADER = "X-VTA4j-Cluster-Secret";
+
+        LEASE_ROUNDS = 3;
+    } //static
+
+    /**
+     * The fetcher of the agency-wide feed of this source.
+     */
+    private final Supplier<Optional<Set<Bus>>> fetcher;
+
+    /**
+     * The fallback of this source, used when it holds no current snapshot.
+     */
+    private final BiFunction<Integer, Throwable, CompletableFuture<Set<Bus>>> fallback;
+
+    /**
+     * The upstream scheduler of this source.
+     */
+    private final UpstreamScheduler scheduler;
+
+    /**
+     * The arrival index of this source.
+     */
+    private final ArrivalIndex arrivalIndex;
+
+    /**
+     * The leader election of this source.
+     */
+    private final LeaderElection election;
+
+    /**
+     * The advertised URL of this source.
+     */
+    private final String advertisedUrl;
+
+    /**
+     * The shared secret of this source, or an empty string if only loopback callers are trusted.
+     */
+    private final String secret;
+
+    /**
+     * The refresh interval of this source, in nanoseconds.
+     */
+    private final long interval;
+
+    /**
+     * The maximum age of a snapshot of this source that is still served.
+     */
+    private final Duration maximumAge;
+
+    /**
+     * The election interval of this source.
+     */
+    private final Duration electionInterval;
+
+    /**
+     * The replication timeout of this source.
+     */
+    private final Duration timeout;
+
+    /**
+     * The HTTP client of this source.
+     */
+    private final HttpClient client;
+
+    /**
+     * The executor of this source.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * The refresh count of this source.
+     */
+    private final AtomicLong refreshCount;
+
+    /**
+     * The replication count of this source.
+     */
+    private final AtomicLong replicationCount;
+
+    /**
+     * The failure count of this source.
+     */
+    private final AtomicLong failureCount;
+
+    /**
+     * The election count of this source.
+     */
+    private final AtomicLong electionCount;
+
+    /**
+     * The time of the next refresh of this source, in nanoseconds.
+     */
+    private long nextRefreshTime;
+
+    /**
+     * Whether this source is the leader.
+     */
+    private volatile boolean leader;
+
+    /**
+     * The URL of the current leader of this source, or {@code null} if none is known.
+     */
+    private volatile String leaderUrl;
+
+    /**
+     * The encoded current snapshot of this source, or {@code null} if there is none.
+     */
+    private volatile byte[] snapshot;
+
+    /**
+     * The current index of this source.
+     */
+    private volatile StopIndex index;
+
+    /**
+     * Constructs an instance of the {@link ClusterSource} class.
+     *
+     * @param fetcher the fetcher of the agency-wide feed to be used in construction
+     * @param fallback the fallback to be used in construction
+     * @param scheduler the upstream scheduler to be used in construction
+     * @param arrivalIndex the arrival index to be used in construction
+     * @param election the leader election to be used in construction
+     * @param advertisedUrl the advertised URL to be used in construction
+     * @param secret the shared secret to be used in construction, or an empty string to trust only loopback callers
+     * @param interval the refresh interval to be used in construction
+     * @param maximumAge the maximum age of a served snapshot to be used in construction
+     * @param electionInterval the election interval to be used in construction
+     * @param timeout the replication timeout to be used in construction
+     * @throws NullPointerException if the specified fetcher, fallback, upstream scheduler, arrival index, leader
+     * election, advertised URL, shared secret, refresh interval, maximum age, election interval, or replication
+     * timeout is {@code null}
+     * @throws IllegalArgumentException if the specified refresh interval, maximum age, election interval, or
+     * replication timeout is not positive
+     */
+    ClusterSource(Supplier<Optional<Set<Bus>>> fetcher,
+                  BiFunction<Integer, Throwable, CompletableFuture<Set<Bus>>> fallback, UpstreamScheduler scheduler,
+                  ArrivalIndex arrivalIndex, LeaderElection election, String advertisedUrl, String secret,
+                  Duration interval,
+                  Duration maximumAge, Duration electionInterval, Duration timeout) {
+        Objects.requireNonNull(fetcher, "the specified fetcher is null");
+
+        Objects.requireNonNull(fallback, "the specified fallback is null");
+
+        Objects.requireNonNull(scheduler, "the specified upstream scheduler is null");
+
+        Objects.requireNonNull(arrivalIndex, "the specified arrival index is null");
+
+        Objects.requireNonNull(election, "the specified leader election is null");
+
+        Objects.requireNonNull(advertisedUrl, "the specified advertised URL is null");
+
+        Objects.requireNonNull(secret, "the specified shared secret is null");
+
+        Objects.requireNonNull(interval, "the specified refresh interval is null");
+
+        Objects.requireNonNull(maximumAge, "the specified maximum age is null");
+
+        Objects.requireNonNull(electionInterval, "the specified election interval is null");
+
+        Objects.requireNonNull(timeout, "the specified replication timeout is null");
+
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("the specified refresh interval is not positive");
+        } else if (maximumAge.isNegative() || maximumAge.isZero()) {
+            throw new IllegalArgumentException("the specified maximum age is not positive");
+        } else if (electionInterval.isNegative() || electionInterval.isZero()) {
+            throw new IllegalArgumentException("the specified election interval is not positive");
+        } else if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("the specified replication timeout is not positive");
+        } //end if
+
+        this.fetcher = fetcher;
+
+        this.fallback = fallback;
+
+        this.scheduler = scheduler;
+
+        this.arrivalIndex = arrivalIndex;
+
+        this.election = election;
+
+        this.advertisedUrl = ClusterSource.normalize(advertisedUrl);
+
+        this.secret = secret;
+
+        this.interval = interval.toNanos();
+
+        this.maximumAge = maximumAge;
+
+        this.electionInterval = electionInterval;
+
+        this.timeout = timeout;
+
+        this.client = HttpClient.newBuilder()
+                                .connectTimeout(timeout)
+                                .build();
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cluster-coordinator");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        this.refreshCount = new AtomicLong();
+
+        this.replicationCount = new AtomicLong();
+
+        this.failureCount = new AtomicLong();
+
+        this.electionCount = new AtomicLong();
+
+        this.nextRefreshTime = 0L;
+
+        this.leader = false;
+
+        this.leaderUrl = null;
+
+        this.snapshot = null;
+
+        this.index = StopIndex.empty();
+    } //ClusterSource
+
+    /**
+     * Returns the specified URL without a trailing slash.
+     *
+     * @param url the URL to be used in the operation
+     * @return the specified URL without a trailing slash
+     * @throws NullPointerException if the specified URL is {@code null}
+     */
+    private static String normalize(String url) {
+        Objects.requireNonNull(url, "the specified URL is null");
+
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    } //normalize
+
+    /**
+     * Returns a new leader election for a node with the specified advertised URL. A {@link PeerElection} is returned
+     * if the specified comma-separated list of peers is not blank, and a {@link LeaderLock} on the specified lock file
+     * otherwise.
+     *
+     * @param lockFile the lock file to be used in the operation
+     * @param peers the comma-separated advertised URLs of the peers to be used in the operation
+     * @param advertisedUrl the advertised URL to be used in the operation
+     * @param secret the shared secret to be used in the operation
+     * @param electionInterval the election interval to be used in the operation
+     * @param timeout the probe timeout to be used in the operation
+     * @return a new leader election for a node with the specified advertised URL
+     * @throws NullPointerException if the specified lock file, list of peers, advertised URL, shared secret, election
+     * interval, or probe timeout is {@code null}
+     * @throws UncheckedIOException if the lock file cannot be opened
+     */
+    private static LeaderElection newElection(String lockFile, String peers, String advertisedUrl, String secret,
+                                              Duration electionInterval, Duration timeout) {
+        Objects.requireNonNull(lockFile, "the specified lock file is null");
+
+        Objects.requireNonNull(peers, "the specified list of peers is null");
+
+        Objects.requireNonNull(secret, "the specified shared secret is null");
+
+        Objects.requireNonNull(electionInterval, "the specified election interval is null");
+
+        Duration lease = electionInterval.multipliedBy(ClusterSource.LEASE_ROUNDS);
+
+        List<String> peerList = Arrays.stream(peers.split(","))
+                                      .map(String::strip)
+                                      .filter(peer -> !peer.isEmpty())
+                                      .map(ClusterSource::normalize)
+                                      .toList();
+
+        if (!peerList.isEmpty()) {
+            if (secret.isEmpty()) {
+                ClusterSource.LOGGER.atWarn()
+                                    .log("peers are listed without a shared secret, so only loopback peers can " +
+                                         "answer each other's heartbeats");
+            } //end if
+
+            String self = ClusterSource.normalize(advertisedUrl);
+
+            return new PeerElection(peerList, self, secret, timeout, lease);
+        } //end if
+
+        try {
+            return new LeaderLock(Path.of(lockFile), lease);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+    } //newElection
+
+    /**
+     * Constructs an instance of the {@link ClusterSource} class.
+     *
+     * @param model the model to be used in construction
+     * @param scheduler the upstream scheduler to be used in construction
+     * @param arrivalIndex the arrival index to be used in construction
+     * @param lockFile the lock file to be used in construction, if no peers are listed
+     * @param peers the comma-separated advertised URLs of the peers to be used in construction, in order of
+     * precedence, or an empty string if every node runs on this host
+     * @param advertisedUrl the advertised URL to be used in construction
+     * @param secret the shared secret to be used in construction, or an empty string to trust only loopback callers
+     * @param interval the refresh interval to be used in construction
+     * @param maximumAge the maximum age of a served snapshot to be used in construction
+     * @param electionInterval the election interval to be used in construction
+     * @param timeout the replication timeout to be used in construction
+     * @throws NullPointerException if the specified model, upstream scheduler, arrival index, lock file, list of
+     * peers, advertised URL, shared secret, refresh interval, maximum age, election interval, or replication timeout
+     * is {@code null}
+     * @throws IllegalArgumentException if the specified list of peers does not contain the specified advertised URL,
+     * or the specified refresh interval, maximum age, election interval, or replication timeout is not positive
+     * @throws UncheckedIOException if the lock file cannot be opened
+     */
+    @Autowired
+    public ClusterSource(Model model, UpstreamScheduler scheduler, ArrivalIndex arrivalIndex,
+                         @Value("${vta4j.cluster.lock-file:${java.io.tmpdir}/vta4j-leader.lock}") String lockFile,
+                         @Value("${vta4j.cluster.peers:}") String peers,
+                         @Value("${vta4j.cluster.advertised-url:http://localhost:${server.port:8080}}")
+                         String advertisedUrl, @Value("${vta4j.cluster.secret:}") String secret,
+                         @Value("${vta4j.ingestion.interval:1m}") Duration interval,
+                         @Value("${vta4j.ingestion.max-age:5m}") Duration maximumAge,
+                         @Value("${vta4j.cluster.election-interval:1s}") Duration electionInterval,
+                         @Value("${vta4j.cluster.timeout:2s}") Duration timeout) {
+        this(Objects.requireNonNull(model, "the specified model is null")::getAllBuses, model::getScheduledBusesAsync,
+             scheduler, arrivalIndex, ClusterSource.newElection(lockFile, peers, advertisedUrl, secret,
+                                                                electionInterval, timeout), advertisedUrl, secret,
+             interval, maximumAge, electionInterval, timeout);
+    } //ClusterSource
+
+    /**
+     * Returns the version of the current snapshot of this source.
+     *
+     * @return the version of the current snapshot of this source
+     */
+    private long getVersion() {
+        return this.index.getBuildTime()
+                         .toEpochMilli();
+    } //getVersion
+
+    /**
+     * Fetches the agency-wide feed and, if the request succeeds, atomically replaces the current snapshot with a new
+     * version.
+     */
+    private void refresh() {
+        Optional<Set<Bus>> buses = this.scheduler.callAgencyWide(this.fetcher);
+
+        if (buses.isEmpty()) {
+            this.failureCount.incrementAndGet();
+
+            return;
+        } //end if
+
+        long now = Instant.now()
+                          .toEpochMilli();
+
+        long version = Math.max(now, this.getVersion() + 1L);
+
+        this.snapshot = BinaryBusEncoder.encode(version, buses.get());
+
+        StopIndex previousIndex = this.index;
+
+        this.index = StopIndex.of(buses.get(), Instant.ofEpochMilli(version));
+
+        this.arrivalIndex.update(previousIndex, this.index);
+
+        this.refreshCount.incrementAndGet();
+    } //refresh
+
+    /**
+     * Acts as the leader, announcing the advertised URL of this source every round and refreshing the current
+     * snapshot once every refresh interval.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void lead() throws IOException {
+        this.election.publish(this.advertisedUrl);
+
+        if (!this.leader) {
+            this.leader = true;
+
+            this.leaderUrl = this.advertisedUrl;
+
+            this.electionCount.incrementAndGet();
+
+            this.nextRefreshTime = System.nanoTime();
+
+            ClusterSource.LOGGER.atInfo()
+                                .log("{} was elected leader", this.advertisedUrl);
+        } //end if
+
+        long now = System.nanoTime();
+
+        if ((now - this.nextRefreshTime) < 0L) {
+            return;
+        } //end if
+
+        this.nextRefreshTime = now + this.interval;
+
+        this.refresh();
+    } //lead
+
+    /**
+     * Replaces the current snapshot with the specified encoded snapshot, unless it is not newer.
+     *
+     * @param bytes the encoded snapshot to be used in the operation
+     */
+    private void apply(byte[] bytes) {
+        BinaryBusDecoder.Snapshot decoded = BinaryBusDecoder.decode(bytes);
+
+        if (decoded.version() <= this.getVersion()) {
+            return;
+        } //end if
+
+        this.snapshot = bytes;
+
+        StopIndex previousIndex = this.index;
+
+        this.index = StopIndex.of(decoded.buses(), Instant.ofEpochMilli(decoded.version()));
+
+        this.arrivalIndex.update(previousIndex, this.index);
+
+        this.replicationCount.incrementAndGet();
+    } //apply
+
+    /**
+     * Acts as a follower, pulling the snapshot of the current leader if it is newer than the current snapshot.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void follow() throws IOException {
+        this.leader = false;
+
+        Optional<String> url = this.election.readLeader();
+
+        if (url.isEmpty() || url.get()
+                                .equals(this.advertisedUrl)) {
+            return;
+        } //end if
+
+        this.leaderUrl = url.get();
+
+        URI uri = URI.create("%s/internal/cluster/snapshot?since=%d".formatted(url.get(), this.getVersion()));
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                                                 .timeout(this.timeout)
+                                                 .header(HttpHeaders.ACCEPT, BinaryBusEncoder.MEDIA_TYPE_VALUE);
+
+        if (!this.secret.isEmpty()) {
+            builder.header(ClusterSource.SECRET_HEADER, this.secret);
+        } //end if
+
+        HttpRequest request = builder.GET()
+                                     .build();
+
+        HttpResponse<byte[]> response;
+
+        try {
+            response = this.client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            this.failureCount.incrementAndGet();
+
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+
+            return;
+        } //end try catch
+
+        int statusCode = response.statusCode();
+
+        if (statusCode == HttpStatus.NO_CONTENT.value()) {
+            return;
+        } else if (statusCode != HttpStatus.OK.value()) {
+            this.failureCount.incrementAndGet();
+
+            return;
+        } //end if
+
+        this.apply(response.body());
+    } //follow
+
+    /**
+     * Runs one round of the election: this source leads if it wins the leader election, and follows otherwise.
+     */
+    void coordinate() {
+        try {
+            if (this.election.tryAcquire()) {
+                this.lead();
+            } else {
+                this.follow();
+            } //end if
+        } catch (IOException | RuntimeException e) {
+            this.failureCount.incrementAndGet();
+
+            ClusterSource.LOGGER.atError()
+                                .withThrowable(e)
+                                .log();
+        } //end try catch
+    } //coordinate
+
+    /**
+     * Starts the election rounds of this source, warning if its refresh interval is shorter than the hourly quota of
+     * its upstream scheduler sustains.
+     */
+    @PostConstruct
+    public void start() {
+        Duration interval = Duration.ofNanos(this.interval);
+
+        Duration minimumInterval = this.scheduler.getMinimumInterval();
+
+        if (interval.compareTo(minimumInterval) < 0) {
+            ClusterSource.LOGGER.atWarn()
+                                .log("vta4j.ingestion.interval of {} exceeds vta4j.scheduler.quota-per-hour, so some "
+                                     + "refreshes will be rejected; use at least {}", interval, minimumInterval);
+        } //end if
+
+        long period = this.electionInterval.toMillis();
+
+        this.executor.scheduleWithFixedDelay(this::coordinate, 0L, period, TimeUnit.MILLISECONDS);
+    } //start
+
+    /**
+     * Stops the election rounds of this source and closes its leader election, so another node can take over.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @PreDestroy
+    public void stop() throws IOException {
+        this.executor.shutdownNow();
+
+        try {
+            this.executor.awaitTermination(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } //end try catch
+
+        this.leader = false;
+
+        this.election.close();
+    } //stop
+
+    /**
+     * Returns whether a caller with the specified address presenting the specified secret may read the snapshot of
+     * this source. If a shared secret is set, the presented secret must equal it; otherwise, the caller must be on a
+     * loopback address.
+     *
+     * @param remoteAddress the IP address of the caller to be used in the operation
+     * @param presentedSecret the secret presented by the caller to be used in the operation, or {@code null}
+     * @return {@code true}, if the caller may read the snapshot of this source and {@code false} otherwise
+     * @throws NullPointerException if the specified remote address is {@code null}
+     */
+    public boolean isAuthorized(String remoteAddress, String presentedSecret) {
+        Objects.requireNonNull(remoteAddress, "the specified remote address is null");
+
+        if (!this.secret.isEmpty()) {
+            if (presentedSecret == null) {
+                return false;
+            } //end if
+
+            byte[] expected = this.secret.getBytes(StandardCharsets.UTF_8);
+
+            byte[] presented = presentedSecret.getBytes(StandardCharsets.UTF_8);
+
+            return MessageDigest.isEqual(expected, presented);
+        } //end if
+
+        try {
+            return InetAddress.getByName(remoteAddress)
+                              .isLoopbackAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        } //end try catch
+    } //isAuthorized
+
+    /**
+     * Returns whether this source is the leader.
+     *
+     * @return {@code true}, if this source is the leader and {@code false} otherwise
+     */
+    public boolean isLeader() {
+        return this.leader;
+    } //isLeader
+
+    /**
+     * Returns the encoded current snapshot of this source, if its version is newer than the specified version.
+     *
+     * @param since the version held by the caller to be used in the operation
+     * @return the encoded current snapshot of this source, or an empty {@link Optional} if it is not newer than the
+     * specified version
+     */
+    public Optional<byte[]> getSnapshot(long since) {
+        byte[] bytes = this.snapshot;
+
+        if ((bytes == null) || (this.getVersion() <= since)) {
+            return Optional.empty();
+        } //end if
+
+        return Optional.of(bytes);
+    } //getSnapshot
+
+    /**
+     * Returns a future of a {@link Set} of buses set to arrive at the stop with the specified ID from the current
+     * snapshot. If there is no current snapshot, the future is completed by the fallback of this source.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return a future of a {@link Set} of buses set to arrive at the stop with the specified ID
+     */
+    @Override
+    public CompletableFuture<Set<Bus>> getBusesAsync(int stopId) {
+        StopIndex currentIndex = this.index;
+
+        if (!currentIndex.isCurrent(Instant.now(), this.maximumAge)) {
+            IllegalStateException exception = new IllegalStateException("there is no current cluster snapshot");
+
+            return this.fallback.apply(stopId, exception);
+        } //end if
+
+        Set<Bus> buses = currentIndex.getBuses(stopId);
+
+        return CompletableFuture.completedFuture(buses);
+    } //getBusesAsync
+
+    /**
+     * Returns a {@link Set} of buses set to arrive at the stop with the specified ID from the current snapshot.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return a {@link Set} of buses set to arrive at the stop with the specified ID from the current snapshot
+     * @throws IllegalStateException if there is no current snapshot and the fallback of this source fails
+     */
+    @Override
+    public Set<Bus> getBuses(int stopId) {
+        try {
+            return this.getBusesAsync(stopId)
+                       .join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } //end if
+
+            throw e;
+        } //end try catch
+    } //getBuses
+
+    /**
+     * Returns the cluster statistics of this source.
+     *
+     * @return the cluster statistics of this source
+     */
+    public ClusterStats getClusterStats() {
+        StopIndex currentIndex = this.index;
+
+        String role = this.leader ? "leader" : "follower";
+
+        long version = currentIndex.getBuildTime()
+                                   .toEpochMilli();
+
+        return new ClusterStats(role, this.leaderUrl, version, currentIndex.getBuildTime(),
+                                currentIndex.getStopCount(), currentIndex.getBusCount(), this.refreshCount.get(),
+                                this.replicationCount.get(), this.failureCount.get(), this.electionCount.get());
+    } //getClusterStats
+
+    /**
+     * Returns the statistics of this source, keyed by name.
+     *
+     * @return the statistics of this source, keyed by name
+     */
+    @Override
+    public Map<String, ?> getStats() {
+        ClusterStats clusterStats = this.getClusterStats();
+
+        SchedulerStats schedulerStats = this.scheduler.getStats();
+
+        return Map.of(
+            "cluster", clusterStats,
+            "scheduler", schedulerStats
+        );
+    } //getStats
+}
\ No newline at end of file
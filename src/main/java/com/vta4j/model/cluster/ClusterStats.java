@@ -0,0 +1,47 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.cluster;
+
+import java.time.Instant;
+
+/**
+ * The statistics of a {@link ClusterSource}.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ * @param role the role of the node, either {@code leader} or {@code follower}
+ * @param leader the URL of the current leader, or {@code null} if none is known
+ * @param version the version of the current snapshot
+ * @param buildTime the time the current snapshot was fetched by the leader
+ * @param stops the number of stops in the current snapshot
+ * @param buses the number of buses in the current snapshot
+ * @param refreshes the number of successful upstream refreshes made as leader
+ * @param replications the number of snapshots replicated from the leader as follower
+ * @param failures the number of failed refreshes and replications
+ * @param elections the number of times the node was elected leader
+ */
+public record ClusterStats(String role, String leader, long version, Instant buildTime, int stops, int buses,
+                           long refreshes, long replications, long failures, long elections) {
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.cluster;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * A leader election of a {@link ClusterSource}, run once per election interval. Implementations decide which nodes
+ * can be coordinated: a {@link LeaderLock} elects among the nodes of one host, and a {@link PeerElection} among the
+ * configured peers of a cluster spread over several hosts.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+interface LeaderElection {
+    /**
+     * Runs one round of this election and returns whether this node is the leader.
+     *
+     * @return {@code true}, if this node is the leader and {@code false} otherwise
+     * @throws IOException if an I/O error occurs
+     */
+    boolean tryAcquire() throws IOException;
+
+    /**
+     * Announces that the leader with the specified URL is alive. The leader calls this once every round, so the
+     * announcement of a leader that stops calling it expires.
+     *
+     * @param url the URL to be used in the operation
+     * @throws NullPointerException if the specified URL is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    void publish(String url) throws IOException;
+
+    /**
+     * Returns the URL of the current leader, if one is known and its announcement has not expired.
+     *
+     * @return the URL of the current leader, if one is known and its announcement has not expired
+     * @throws IOException if an I/O error occurs
+     */
+    Optional<String> readLeader() throws IOException;
+
+    /**
+     * Gives up leadership, if it is held, and releases the resources of this election.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    void close() throws IOException;
+}
\ No newline at end of file
@@ -0,0 +1,221 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.cluster;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A leader lock of a {@link ClusterSource}, held by at most one node on a host. The lock is an exclusive operating
+ * system lock on a file, so it is released as soon as the process holding it exits, however it exits. It can only
+ * coordinate the processes of one host; a cluster spread over several hosts uses a {@link PeerElection}.
+ * <p>
+ * The URL of the leader is published in a separate file next to the lock, since reading or closing the locked file
+ * itself could release the lock on some systems. The leader rewrites it with the current time every round, and an
+ * announcement older than the lease of this lock is ignored, so followers stop pulling from a leader that hangs.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+final class LeaderLock implements LeaderElection {
+    /**
+     * The channel of the lock file of this leader lock.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The lease of the leader announcements of this leader lock.
+     */
+    private final Duration lease;
+
+    /**
+     * The path of the leader file of this leader lock.
+     */
+    private final Path leaderFile;
+
+    /**
+     * The lock of this leader lock, or {@code null} if it is not held.
+     */
+    private FileLock lock;
+
+    /**
+     * Constructs an instance of the {@link LeaderLock} class. The lock file and the leader file, which is the lock
+     * file with {@code .leader} appended, are created if they do not exist.
+     *
+     * @param lockFile the lock file to be used in construction
+     * @param lease the lease of leader announcements to be used in construction
+     * @throws NullPointerException if the specified lock file or lease is {@code null}
+     * @throws IllegalArgumentException if the specified lease is not positive
+     * @throws IOException if an I/O error occurs
+     */
+    LeaderLock(Path lockFile, Duration lease) throws IOException {
+        Objects.requireNonNull(lockFile, "the specified lock file is null");
+
+        Objects.requireNonNull(lease, "the specified lease is null");
+
+        if (lease.isNegative() || lease.isZero()) {
+            throw new IllegalArgumentException("the specified lease is not positive");
+        } //end if
+
+        Path parent = lockFile.toAbsolutePath()
+                              .getParent();
+
+        Files.createDirectories(parent);
+
+        this.channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+        this.lease = lease;
+
+        this.leaderFile = parent.resolve(lockFile.getFileName() + ".leader");
+
+        this.lock = null;
+    } //LeaderLock
+
+    /**
+     * Attempts to acquire this leader lock without blocking.
+     *
+     * @return {@code true}, if this leader lock is held and {@code false} otherwise
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public synchronized boolean tryAcquire() throws IOException {
+        if (this.isHeld()) {
+            return true;
+        } //end if
+
+        try {
+            this.lock = this.channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            this.lock = null;
+        } //end try catch
+
+        return this.lock != null;
+    } //tryAcquire
+
+    /**
+     * Returns whether this leader lock is held.
+     *
+     * @return {@code true}, if this leader lock is held and {@code false} otherwise
+     */
+    synchronized boolean isHeld() {
+        return (this.lock != null) && this.lock.isValid();
+    } //isHeld
+
+    /**
+     * Publishes the specified URL as the URL of the leader, along with the current time. The leader file is replaced
+     * atomically, so readers never see a partial announcement.
+     *
+     * @param url the URL to be used in the operation
+     * @throws NullPointerException if the specified URL is {@code null}
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void publish(String url) throws IOException {
+        Objects.requireNonNull(url, "the specified URL is null");
+
+        Path temporaryFile = this.leaderFile.resolveSibling(this.leaderFile.getFileName() + ".tmp");
+
+        long heartbeat = Instant.now()
+                                .toEpochMilli();
+
+        String announcement = "%s%n%d".formatted(url, heartbeat);
+
+        Files.writeString(temporaryFile, announcement, StandardCharsets.UTF_8);
+
+        Files.move(temporaryFile, this.leaderFile, StandardCopyOption.REPLACE_EXISTING,
+                   StandardCopyOption.ATOMIC_MOVE);
+    } //publish
+
+    /**
+     * Returns the URL of the most recently elected leader, if it has been published within the lease of this lock.
+     *
+     * @return the URL of the most recently elected leader, if it has been published within the lease of this lock
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public Optional<String> readLeader() throws IOException {
+        String announcement;
+
+        try {
+            announcement = Files.readString(this.leaderFile, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } //end try catch
+
+        String[] lines = announcement.strip()
+                                     .split("\\R");
+
+        if (lines.length != 2) {
+            return Optional.empty();
+        } //end if
+
+        Instant heartbeat;
+
+        try {
+            heartbeat = Instant.ofEpochMilli(Long.parseLong(lines[1].strip()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        } //end try catch
+
+        Instant expirationTime = heartbeat.plus(this.lease);
+
+        if (Instant.now()
+                   .isAfter(expirationTime)) {
+            return Optional.empty();
+        } //end if
+
+        String url = lines[0].strip();
+
+        return url.isEmpty() ? Optional.empty() : Optional.of(url);
+    } //readLeader
+
+    /**
+     * Releases this leader lock, if it is held, and closes its lock file.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.isHeld()) {
+            this.lock.release();
+        } //end if
+
+        this.lock = null;
+
+        this.channel.close();
+    } //close
+}
\ No newline at end of file
@@ -0,0 +1,265 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.cluster;
+
+import org.springframework.http.HttpStatus;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A leader election of a {@link ClusterSource} among a fixed list of peers, which may run on different hosts. Every
+ * node is configured with the same list, in the same order, and the first live peer of that list leads. Each round, a
+ * node probes the peers listed before it at {@code /internal/cluster/heartbeat}. It leads only if none of them has
+ * answered within the lease of this election, so a failed leader is replaced within about one lease, and a recovered
+ * peer takes leadership back on the next round.
+ * <p>
+ * Peers that have not answered since this node started are presumed alive for one lease, so that nodes starting
+ * together do not all poll the upstream service at once. A network partition can still leave two leaders, one on
+ * each side, each polling the upstream service until the partition heals.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+final class PeerElection implements LeaderElection {
+    /**
+     * The peers of this election that are listed before this node.
+     */
+    private final List<String> precedingPeers;
+
+    /**
+     * The URL of this node.
+     */
+    private final String self;
+
+    /**
+     * The shared secret of this election, or an empty string if none is set.
+     */
+    private final String secret;
+
+    /**
+     * The probe timeout of this election.
+     */
+    private final Duration timeout;
+
+    /**
+     * The lease of this election, in nanoseconds.
+     */
+    private final long lease;
+
+    /**
+     * The HTTP client of this election.
+     */
+    private final HttpClient client;
+
+    /**
+     * The times the peers of this election last answered, in nanoseconds, keyed by URL.
+     */
+    private final Map<String, Long> lastSeenTimes;
+
+    /**
+     * The time this election started, in nanoseconds.
+     */
+    private final long startTime;
+
+    /**
+     * The URL of the current leader of this election, or {@code null} if none is known.
+     */
+    private volatile String leaderUrl;
+
+    /**
+     * Constructs an instance of the {@link PeerElection} class.
+     *
+     * @param peers the URLs of the peers to be used in construction, including this node, in order of precedence
+     * @param self the URL of this node to be used in construction
+     * @param secret the shared secret to be used in construction, or an empty string if none is set
+     * @param timeout the probe timeout to be used in construction
+     * @param lease the lease to be used in construction
+     * @throws NullPointerException if the specified list of peers, URL, shared secret, probe timeout, or lease is
+     * {@code null}
+     * @throws IllegalArgumentException if the specified list of peers does not contain the specified URL, or the
+     * specified probe timeout or lease is not positive
+     */
+    PeerElection(List<String> peers, String self, String secret, Duration timeout, Duration lease) {
+        Objects.requireNonNull(peers, "the specified list of peers is null");
+
+        Objects.requireNonNull(self, "the specified URL is null");
+
+        Objects.requireNonNull(secret, "the specified shared secret is null");
+
+        Objects.requireNonNull(timeout, "the specified probe timeout is null");
+
+        Objects.requireNonNull(lease, "the specified lease is null");
+
+        int index = peers.indexOf(self);
+
+        if (index == -1) {
+            throw new IllegalArgumentException("the specified list of peers does not contain %s".formatted(self));
+        } else if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("the specified probe timeout is not positive");
+        } else if (lease.isNegative() || lease.isZero()) {
+            throw new IllegalArgumentException("the specified lease is not positive");
+        } //end if
+
+        this.precedingPeers = List.copyOf(peers.subList(0, index));
+
+        this.self = self;
+
+        this.secret = secret;
+
+        this.timeout = timeout;
+
+        this.lease = lease.toNanos();
+
+        this.client = HttpClient.newBuilder()
+                                .connectTimeout(timeout)
+                                .build();
+
+        this.lastSeenTimes = new HashMap<>();
+
+        this.startTime = System.nanoTime();
+
+        this.leaderUrl = null;
+    } //PeerElection
+
+    /**
+     * Returns whether the peer with the specified URL answers its heartbeat endpoint.
+     *
+     * @param peer the URL of the peer to be used in the operation
+     * @return {@code true}, if the peer with the specified URL answers its heartbeat endpoint and {@code false}
+     * otherwise
+     */
+    private boolean probe(String peer) {
+        URI uri = URI.create("%s/internal/cluster/heartbeat".formatted(peer));
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                                                 .timeout(this.timeout);
+
+        if (!this.secret.isEmpty()) {
+            builder.header(ClusterSource.SECRET_HEADER, this.secret);
+        } //end if
+
+        HttpRequest request = builder.GET()
+                                     .build();
+
+        HttpResponse<Void> response;
+
+        try {
+            response = this.client.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+
+            return false;
+        } //end try catch
+
+        return HttpStatus.valueOf(response.statusCode())
+                         .is2xxSuccessful();
+    } //probe
+
+    /**
+     * Returns whether the peer with the specified URL is live at the specified time: it answers now, has answered
+     * within the lease of this election, or has not been heard from since this election started less than a lease
+     * ago.
+     *
+     * @param peer the URL of the peer to be used in the operation
+     * @param now the time to be used in the operation
+     * @return {@code true}, if the peer with the specified URL is live at the specified time and {@code false}
+     * otherwise
+     */
+    private boolean isLive(String peer, long now) {
+        if (this.probe(peer)) {
+            this.lastSeenTimes.put(peer, now);
+
+            return true;
+        } //end if
+
+        long lastSeenTime = this.lastSeenTimes.getOrDefault(peer, this.startTime);
+
+        return (now - lastSeenTime) < this.lease;
+    } //isLive
+
+    /**
+     * Probes the peers listed before this node and returns whether none of them is live, in which case this node
+     * leads.
+     *
+     * @return {@code true}, if this node is the leader and {@code false} otherwise
+     */
+    @Override
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+
+        for (String peer : this.precedingPeers) {
+            if (this.isLive(peer, now)) {
+                this.leaderUrl = peer;
+
+                return false;
+            } //end if
+        } //end for
+
+        this.leaderUrl = this.self;
+
+        return true;
+    } //tryAcquire
+
+    /**
+     * Does nothing, since peers learn that the leader is alive by probing it.
+     *
+     * @param url the URL to be used in the operation
+     * @throws NullPointerException if the specified URL is {@code null}
+     */
+    @Override
+    public void publish(String url) {
+        Objects.requireNonNull(url, "the specified URL is null");
+    } //publish
+
+    /**
+     * Returns the URL of the leader found by the most recent round of this election, if there has been one.
+     *
+     * @return the URL of the leader found by the most recent round of this election, if there has been one
+     */
+    @Override
+    public Optional<String> readLeader() {
+        return Optional.ofNullable(this.leaderUrl);
+    } //readLeader
+
+    /**
+     * Forgets the current leader of this election.
+     */
+    @Override
+    public void close() {
+        this.leaderUrl = null;
+    } //close
+}
\ No newline at end of file
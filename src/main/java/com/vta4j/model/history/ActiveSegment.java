@@ -0,0 +1,333 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The segment of a {@link PredictionStore} that is currently being written. Rows are appended to fixed-size chunks
+ * of primitive integers, so ingestion never copies the rows already written and allocates one chunk per
+ * {@code 16384} rows. A single thread appends at a time, while any number of threads may scan concurrently; a row
+ * becomes visible to them once it has been fully written. When its time partition ends, the segment is written to
+ * disk as a {@link MappedSegment}.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+final class ActiveSegment extends Segment {
+    /**
+     * The base-two logarithm of the number of rows per chunk of the {@link ActiveSegment} class.
+     */
+    private static final int CHUNK_SHIFT;
+
+    /**
+     * The number of rows per chunk of the {@link ActiveSegment} class.
+     */
+    private static final int CHUNK_SIZE;
+
+    /**
+     * The row offset mask of a chunk of the {@link ActiveSegment} class.
+     */
+    private static final int CHUNK_MASK;
+
+    /**
+     * The write buffer size of the {@link ActiveSegment} class.
+     */
+    private static final int BUFFER_SIZE;
+
+    static {
+        CHUNK_SHIFT = 14;
+
+        CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+        CHUNK_MASK = CHUNK_SIZE - 1;
+
+        BUFFER_SIZE = 65_536;
+    } //static
+
+    /**
+     * The dictionary keys of this segment, keyed by value.
+     */
+    private final Map<String, Integer> keys;
+
+    /**
+     * The dictionary values of this segment, indexed by key.
+     */
+    private volatile String[] values;
+
+    /**
+     * The chunks of this segment.
+     */
+    private volatile int[][] chunks;
+
+    /**
+     * The number of rows of this segment.
+     */
+    private volatile int rowCount;
+
+    /**
+     * Constructs an instance of the {@link ActiveSegment} class.
+     *
+     * @param startTime the start time to be used in construction
+     * @param endTime the end time to be used in construction
+     * @throws IllegalArgumentException if the specified end time is not after the specified start time
+     */
+    ActiveSegment(long startTime, long endTime) {
+        super(startTime, endTime);
+
+        this.keys = new ConcurrentHashMap<>();
+
+        this.values = new String[256];
+
+        this.chunks = new int[0][];
+
+        this.rowCount = 0;
+    } //ActiveSegment
+
+    /**
+     * Returns the dictionary key of the specified value in this segment, adding it if it does not occur.
+     *
+     * @param value the value to be used in the operation
+     * @return the dictionary key of the specified value in this segment
+     */
+    private int intern(String value) {
+        Integer key = this.keys.get(value);
+
+        if (key != null) {
+            return key;
+        } //end if
+
+        int newKey = this.keys.size();
+
+        String[] currentValues = this.values;
+
+        if (newKey == currentValues.length) {
+            currentValues = Arrays.copyOf(currentValues, newKey * 2);
+        } //end if
+
+        currentValues[newKey] = value;
+
+        this.values = currentValues;
+
+        this.keys.put(value, newKey);
+
+        return newKey;
+    } //intern
+
+    /**
+     * Appends the specified prediction to this segment. It must not be invoked by more than one thread at a time.
+     *
+     * @param observedTime the observation time to be used in the operation, in seconds since the epoch
+     * @param vehicleId the vehicle ID to be used in the operation
+     * @param stopId the stop ID to be used in the operation
+     * @param lineId the line ID to be used in the operation
+     * @param arrivalTime the predicted arrival time to be used in the operation, in seconds since the epoch
+     */
+    void append(long observedTime, String vehicleId, String stopId, String lineId, long arrivalTime) {
+        int row = this.rowCount;
+
+        int chunkIndex = row >>> ActiveSegment.CHUNK_SHIFT;
+
+        int[][] currentChunks = this.chunks;
+
+        if (chunkIndex == currentChunks.length) {
+            currentChunks = Arrays.copyOf(currentChunks, chunkIndex + 1);
+
+            currentChunks[chunkIndex] = new int[Segment.COLUMN_COUNT * ActiveSegment.CHUNK_SIZE];
+
+            this.chunks = currentChunks;
+        } //end if
+
+        int[] chunk = currentChunks[chunkIndex];
+
+        int offset = row & ActiveSegment.CHUNK_MASK;
+
+        long startTime = this.getStartTime();
+
+        chunk[(Segment.OBSERVED * ActiveSegment.CHUNK_SIZE) + offset] = (int) (observedTime - startTime);
+
+        chunk[(Segment.VEHICLE * ActiveSegment.CHUNK_SIZE) + offset] = this.intern(vehicleId);
+
+        chunk[(Segment.STOP * ActiveSegment.CHUNK_SIZE) + offset] = this.intern(stopId);
+
+        chunk[(Segment.LINE * ActiveSegment.CHUNK_SIZE) + offset] = this.intern(lineId);
+
+        chunk[(Segment.ARRIVAL * ActiveSegment.CHUNK_SIZE) + offset] = (int) (arrivalTime - startTime);
+
+        this.rowCount = row + 1;
+    } //append
+
+    /**
+     * Returns the number of rows of this segment that are fully written.
+     *
+     * @return the number of rows of this segment that are fully written
+     */
+    @Override
+    int getRowCount() {
+        return this.rowCount;
+    } //getRowCount
+
+    /**
+     * Returns the value of the specified column in the specified row of this segment.
+     *
+     * @param column the column to be used in the operation
+     * @param row the row to be used in the operation
+     * @return the value of the specified column in the specified row of this segment
+     */
+    @Override
+    int get(int column, int row) {
+        int[] chunk = this.chunks[row >>> ActiveSegment.CHUNK_SHIFT];
+
+        return chunk[(column * ActiveSegment.CHUNK_SIZE) + (row & ActiveSegment.CHUNK_MASK)];
+    } //get
+
+    /**
+     * Returns the dictionary key of the specified value in this segment, or {@code -1} if it does not occur.
+     *
+     * @param value the value to be used in the operation
+     * @return the dictionary key of the specified value in this segment, or {@code -1} if it does not occur
+     * @throws NullPointerException if the specified value is {@code null}
+     */
+    @Override
+    int getKey(String value) {
+        Objects.requireNonNull(value, "the specified value is null");
+
+        return this.keys.getOrDefault(value, -1);
+    } //getKey
+
+    /**
+     * Returns the value with the specified dictionary key in this segment.
+     *
+     * @param key the key to be used in the operation
+     * @return the value with the specified dictionary key in this segment
+     */
+    @Override
+    String getValue(int key) {
+        return this.values[key];
+    } //getValue
+
+    /**
+     * Returns the size of the chunks of this segment, in bytes.
+     *
+     * @return the size of the chunks of this segment, in bytes
+     */
+    @Override
+    long getSize() {
+        return (long) this.chunks.length * Segment.COLUMN_COUNT * ActiveSegment.CHUNK_SIZE * Integer.BYTES;
+    } //getSize
+
+    /**
+     * Writes the contents of the specified buffer to the specified channel and clears it.
+     *
+     * @param buffer the buffer to be used in the operation
+     * @param channel the channel to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        } //end while
+
+        buffer.clear();
+    } //flush
+
+    /**
+     * Writes this segment to the specified file in the format read by {@link MappedSegment#open(Path)}. The file is
+     * written under a temporary name and then moved into place, so a crash never leaves a partial segment behind.
+     *
+     * @param path the path to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    void write(Path path) throws IOException {
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+
+        int rows = this.rowCount;
+
+        int valueCount = this.keys.size();
+
+        String[] currentValues = this.values;
+
+        ByteBuffer buffer = ByteBuffer.allocate(ActiveSegment.BUFFER_SIZE);
+
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            buffer.putInt(MappedSegment.MAGIC)
+                  .putInt(MappedSegment.FORMAT)
+                  .putLong(this.getStartTime())
+                  .putLong(this.getEndTime())
+                  .putInt(rows)
+                  .putInt(valueCount);
+
+            for (int key = 0; key < valueCount; key++) {
+                byte[] bytes = currentValues[key].getBytes(StandardCharsets.UTF_8);
+
+                if (buffer.remaining() < (Integer.BYTES + bytes.length)) {
+                    ActiveSegment.flush(buffer, channel);
+                } //end if
+
+                if (buffer.remaining() < (Integer.BYTES + bytes.length)) {
+                    ByteBuffer valueBuffer = ByteBuffer.allocate(Integer.BYTES + bytes.length);
+
+                    valueBuffer.putInt(bytes.length)
+                               .put(bytes);
+
+                    ActiveSegment.flush(valueBuffer, channel);
+                } else {
+                    buffer.putInt(bytes.length)
+                          .put(bytes);
+                } //end if
+            } //end for
+
+            for (int column = 0; column < Segment.COLUMN_COUNT; column++) {
+                for (int row = 0; row < rows; row++) {
+                    if (buffer.remaining() < Integer.BYTES) {
+                        ActiveSegment.flush(buffer, channel);
+                    } //end if
+
+                    buffer.putInt(this.get(column, row));
+                } //end for
+            } //end for
+
+            ActiveSegment.flush(buffer, channel);
+
+            channel.force(true);
+        } //end try
+
+        Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } //write
+}
\ No newline at end of file
@@ -0,0 +1,258 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.history;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A sealed segment of a {@link PredictionStore}, memory-mapped from disk. A segment file starts with the magic number
+ * {@code VPRD}, a format version, the start and end times of the segment, its row count, and the size of its
+ * dictionary, followed by the dictionary values, each as a length and UTF-8 bytes, and then each column in turn as
+ * one 32-bit integer per row. All integers are big-endian. The columns are read in place, so a sealed segment holds
+ * almost nothing on the heap.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+final class MappedSegment extends Segment {
+    /**
+     * The magic number of the {@link MappedSegment} class.
+     */
+    static final int MAGIC;
+
+    /**
+     * The format version of the {@link MappedSegment} class.
+     */
+    static final int FORMAT;
+
+    static {
+        MAGIC = 0x56505244;
+
+        FORMAT = 1;
+    } //static
+
+    /**
+     * The path of this segment.
+     */
+    private final Path path;
+
+    /**
+     * The size of this segment, in bytes.
+     */
+    private final long size;
+
+    /**
+     * The number of rows of this segment.
+     */
+    private final int rowCount;
+
+    /**
+     * The dictionary keys of this segment, keyed by value.
+     */
+    private final Map<String, Integer> keys;
+
+    /**
+     * The dictionary values of this segment, indexed by key.
+     */
+    private final String[] values;
+
+    /**
+     * The columns of this segment.
+     */
+    private final IntBuffer[] columns;
+
+    /**
+     * Constructs an instance of the {@link MappedSegment} class.
+     *
+     * @param path the path to be used in construction
+     * @param buffer the mapped contents of the segment to be used in construction
+     * @param startTime the start time to be used in construction
+     * @param endTime the end time to be used in construction
+     * @param rowCount the number of rows to be used in construction
+     * @param values the dictionary values to be used in construction
+     */
+    private MappedSegment(Path path, MappedByteBuffer buffer, long startTime, long endTime, int rowCount,
+                          String[] values) {
+        super(startTime, endTime);
+
+        this.path = path;
+
+        this.size = buffer.capacity();
+
+        this.rowCount = rowCount;
+
+        this.keys = new HashMap<>();
+
+        for (int key = 0; key < values.length; key++) {
+            this.keys.put(values[key], key);
+        } //end for
+
+        this.values = values;
+
+        this.columns = new IntBuffer[Segment.COLUMN_COUNT];
+
+        int columnSize = rowCount * Integer.BYTES;
+
+        for (int column = 0; column < Segment.COLUMN_COUNT; column++) {
+            int offset = buffer.position() + (column * columnSize);
+
+            this.columns[column] = buffer.slice(offset, columnSize)
+                                         .asIntBuffer();
+        } //end for
+    } //MappedSegment
+
+    /**
+     * Opens the segment at the specified path.
+     *
+     * @param path the path to be used in the operation
+     * @return the segment at the specified path
+     * @throws NullPointerException if the specified path is {@code null}
+     * @throws IOException if an I/O error occurs or the specified path is not a valid segment
+     */
+    static MappedSegment open(Path path) throws IOException {
+        Objects.requireNonNull(path, "the specified path is null");
+
+        MappedByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        } //end try
+
+        try {
+            if (buffer.getInt() != MappedSegment.MAGIC) {
+                throw new IOException("the file \"%s\" is not a prediction segment".formatted(path));
+            } //end if
+
+            int format = buffer.getInt();
+
+            if (format != MappedSegment.FORMAT) {
+                throw new IOException("the file \"%s\" has an unsupported format %d".formatted(path, format));
+            } //end if
+
+            long startTime = buffer.getLong();
+
+            long endTime = buffer.getLong();
+
+            int rowCount = buffer.getInt();
+
+            int valueCount = buffer.getInt();
+
+            String[] values = new String[valueCount];
+
+            for (int key = 0; key < valueCount; key++) {
+                byte[] bytes = new byte[buffer.getInt()];
+
+                buffer.get(bytes);
+
+                values[key] = new String(bytes, StandardCharsets.UTF_8);
+            } //end for
+
+            long columnsSize = (long) Segment.COLUMN_COUNT * rowCount * Integer.BYTES;
+
+            if ((rowCount < 0) || (buffer.remaining() != columnsSize)) {
+                throw new IOException("the file \"%s\" is truncated".formatted(path));
+            } //end if
+
+            return new MappedSegment(path, buffer, startTime, endTime, rowCount, values);
+        } catch (RuntimeException e) {
+            throw new IOException("the file \"%s\" is not a valid prediction segment".formatted(path), e);
+        } //end try catch
+    } //open
+
+    /**
+     * Returns the path of this segment.
+     *
+     * @return the path of this segment
+     */
+    Path getPath() {
+        return this.path;
+    } //getPath
+
+    /**
+     * Returns the number of rows of this segment.
+     *
+     * @return the number of rows of this segment
+     */
+    @Override
+    int getRowCount() {
+        return this.rowCount;
+    } //getRowCount
+
+    /**
+     * Returns the value of the specified column in the specified row of this segment.
+     *
+     * @param column the column to be used in the operation
+     * @param row the row to be used in the operation
+     * @return the value of the specified column in the specified row of this segment
+     */
+    @Override
+    int get(int column, int row) {
+        return this.columns[column].get(row);
+    } //get
+
+    /**
+     * Returns the dictionary key of the specified value in this segment, or {@code -1} if it does not occur.
+     *
+     * @param value the value to be used in the operation
+     * @return the dictionary key of the specified value in this segment, or {@code -1} if it does not occur
+     * @throws NullPointerException if the specified value is {@code null}
+     */
+    @Override
+    int getKey(String value) {
+        Objects.requireNonNull(value, "the specified value is null");
+
+        return this.keys.getOrDefault(value, -1);
+    } //getKey
+
+    /**
+     * Returns the value with the specified dictionary key in this segment.
+     *
+     * @param key the key to be used in the operation
+     * @return the value with the specified dictionary key in this segment
+     */
+    @Override
+    String getValue(int key) {
+        return this.values[key];
+    } //getValue
+
+    /**
+     * Returns the size of the file of this segment, in bytes.
+     *
+     * @return the size of the file of this segment, in bytes
+     */
+    @Override
+    long getSize() {
+        return this.size;
+    } //getSize
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.history;
+
+import java.util.Arrays;
+
+/**
+ * The predictions matched by a scan of a {@link PredictionStore}, held in parallel primitive arrays.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+final class Matches {
+    /**
+     * The vehicle IDs of these matches.
+     */
+    String[] vehicleIds;
+
+    /**
+     * The observation times of these matches, in seconds since the epoch.
+     */
+    long[] observedTimes;
+
+    /**
+     * The predicted arrival times of these matches, in seconds since the epoch.
+     */
+    long[] arrivalTimes;
+
+    /**
+     * The size of these matches.
+     */
+    int size;
+
+    /**
+     * Constructs an instance of the {@link Matches} class.
+     */
+    Matches() {
+        this.vehicleIds = new String[16];
+
+        this.observedTimes = new long[16];
+
+        this.arrivalTimes = new long[16];
+
+        this.size = 0;
+    } //Matches
+
+    /**
+     * Ensures that these matches can hold the specified number of predictions.
+     *
+     * @param capacity the capacity to be used in the operation
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= this.vehicleIds.length) {
+            return;
+        } //end if
+
+        int newLength = Math.max(capacity, this.vehicleIds.length * 2);
+
+        this.vehicleIds = Arrays.copyOf(this.vehicleIds, newLength);
+
+        this.observedTimes = Arrays.copyOf(this.observedTimes, newLength);
+
+        this.arrivalTimes = Arrays.copyOf(this.arrivalTimes, newLength);
+    } //ensureCapacity
+
+    /**
+     * Adds the specified prediction to these matches.
+     *
+     * @param vehicleId the vehicle ID to be used in the operation
+     * @param observedTime the observation time to be used in the operation
+     * @param arrivalTime the predicted arrival time to be used in the operation
+     */
+    void add(String vehicleId, long observedTime, long arrivalTime) {
+        this.ensureCapacity(this.size + 1);
+
+        this.vehicleIds[this.size] = vehicleId;
+
+        this.observedTimes[this.size] = observedTime;
+
+        this.arrivalTimes[this.size] = arrivalTime;
+
+        this.size++;
+    } //add
+
+    /**
+     * Adds every prediction of the specified matches to these matches.
+     *
+     * @param matches the matches to be used in the operation
+     * @return these matches
+     */
+    Matches addAll(Matches matches) {
+        this.ensureCapacity(this.size + matches.size);
+
+        System.arraycopy(matches.vehicleIds, 0, this.vehicleIds, this.size, matches.size);
+
+        System.arraycopy(matches.observedTimes, 0, this.observedTimes, this.size, matches.size);
+
+        System.arraycopy(matches.arrivalTimes, 0, this.arrivalTimes, this.size, matches.size);
+
+        this.size += matches.size;
+
+        return this;
+    } //addAll
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.history;
+
+/**
+ * The accuracy of the arrival predictions made a given number of minutes ahead, as measured by a
+ * {@link PredictionStore}. An error is the predicted arrival time minus the actual arrival time, so a positive error
+ * means the bus arrived earlier than predicted.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ * @param leadMinutes the number of whole minutes between each prediction and the actual arrival
+ * @param samples the number of predictions measured
+ * @param meanError the mean error of the predictions, in seconds
+ * @param meanAbsoluteError the mean absolute error of the predictions, in seconds
+ * @param maximumAbsoluteError the maximum absolute error of the predictions, in seconds
+ */
+public record PredictionAccuracy(int leadMinutes, long samples, double meanError, double meanAbsoluteError,
+                                 long maximumAbsoluteError) {
+}
\ No newline at end of file
@@ -0,0 +1,558 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.history;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import com.vta4j.model.Bus;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * An embedded time-series store of the arrival predictions of the VTA4j application. Every prediction of a successful
+ * fetch is recorded with the vehicle, stop, and line it was made for and the time it was observed, so the accuracy of
+ * past predictions can be queried. It is enabled by setting {@code vta4j.history.directory}.
+ * <p>
+ * Predictions are partitioned by observation time into segments of {@code vta4j.history.segment-duration}. The current
+ * segment is held in memory in primitive columns; once its partition ends, it is written to disk and memory-mapped,
+ * and segments older than {@code vta4j.history.retention} are deleted. A query scans the segments in parallel.
+ * <p>
+ * The upstream service reports predictions, not arrivals, so the last prediction of each visit of a vehicle to a stop
+ * is taken as its actual arrival time, provided it was observed at most two minutes before that time. A visit ends
+ * when the vehicle is not observed at the stop for ten minutes.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+public final class PredictionStore {
+    /**
+     * The segments of a store at one point in time, swapped as a whole so a reader never sees a segment both sealed
+     * and being written, or in neither role.
+     *
+     * @param sealed the sealed segments, in order of start time
+     * @param active the segment being written, or {@code null} if there is none
+     */
+    private record Segments(List<MappedSegment> sealed, ActiveSegment active) {
+    } //Segments
+
+    /**
+     * The logger of the {@link PredictionStore} class.
+     */
+    private static final Logger LOGGER;
+
+    /**
+     * The file name prefix of a segment of the {@link PredictionStore} class.
+     */
+    private static final String SEGMENT_PREFIX;
+
+    /**
+     * The file name suffix of a segment of the {@link PredictionStore} class.
+     */
+    private static final String SEGMENT_SUFFIX;
+
+    /**
+     * The maximum time between two observations of the same visit of the {@link PredictionStore} class, in seconds.
+     */
+    private static final long VISIT_GAP;
+
+    /**
+     * The maximum lead time of the last prediction of a measured visit of the {@link PredictionStore} class, in
+     * seconds.
+     */
+    private static final long ARRIVAL_LEAD;
+
+    static {
+        LOGGER = LogManager.getLogger();
+
+        SEGMENT_PREFIX = "predictions-";
+
+        SEGMENT_SUFFIX = ".seg";
+
+        VISIT_GAP = 600L;
+
+        ARRIVAL_LEAD = 120L;
+    } //static
+
+    /**
+     * The directory of this store, or {@code null} if it is disabled.
+     */
+    private final Path directory;
+
+    /**
+     * The segment duration of this store, in seconds.
+     */
+    private final long segmentDuration;
+
+    /**
+     * The retention of this store, in seconds.
+     */
+    private final long retention;
+
+    /**
+     * The seal count of this store.
+     */
+    private final AtomicLong sealCount;
+
+    /**
+     * The expiration count of this store.
+     */
+    private final AtomicLong expirationCount;
+
+    /**
+     * The sealed segments of this store and the segment being written by it.
+     */
+    private volatile Segments segments;
+
+    /**
+     * Constructs an instance of the {@link PredictionStore} class.
+     *
+     * @param directory the directory to be used in construction, or an empty string to disable the store
+     * @param segmentDuration the segment duration to be used in construction
+     * @param retention the retention to be used in construction
+     * @throws NullPointerException if the specified directory, segment duration, or retention is {@code null}
+     * @throws IllegalArgumentException if the specified segment duration is less than one second or the specified
+     * retention is not positive
+     */
+    public PredictionStore(@Value("${vta4j.history.directory:}") String directory,
+                           @Value("${vta4j.history.segment-duration:1h}") Duration segmentDuration,
+                           @Value("${vta4j.history.retention:7d}") Duration retention) {
+        Objects.requireNonNull(directory, "the specified directory is null");
+
+        Objects.requireNonNull(segmentDuration, "the specified segment duration is null");
+
+        Objects.requireNonNull(retention, "the specified retention is null");
+
+        if (segmentDuration.getSeconds() < 1L) {
+            throw new IllegalArgumentException("the specified segment duration is less than one second");
+        } else if (retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("the specified retention is not positive");
+        } //end if
+
+        this.directory = directory.isBlank() ? null : Path.of(directory);
+
+        this.segmentDuration = segmentDuration.getSeconds();
+
+        this.retention = retention.getSeconds();
+
+        this.sealCount = new AtomicLong();
+
+        this.expirationCount = new AtomicLong();
+
+        this.segments = new Segments(List.of(), null);
+    } //PredictionStore
+
+    /**
+     * Returns whether this store is enabled.
+     *
+     * @return {@code true} if this store is enabled, {@code false} otherwise
+     */
+    public boolean isEnabled() {
+        return this.directory != null;
+    } //isEnabled
+
+    /**
+     * Opens the segments already in the directory of this store, if it is enabled, skipping any that are invalid, and
+     * deletes those older than its retention.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @PostConstruct
+    public synchronized void start() throws IOException {
+        if (this.directory == null) {
+            return;
+        } //end if
+
+        Files.createDirectories(this.directory);
+
+        List<MappedSegment> openedSegments = new ArrayList<>();
+
+        String glob = PredictionStore.SEGMENT_PREFIX + "*" + PredictionStore.SEGMENT_SUFFIX;
+
+        try (var stream = Files.newDirectoryStream(this.directory, glob)) {
+            for (Path path : stream) {
+                try {
+                    openedSegments.add(MappedSegment.open(path));
+                } catch (IOException e) {
+                    PredictionStore.LOGGER.atError()
+                                          .withThrowable(e)
+                                          .log();
+                } //end try catch
+            } //end for
+        } //end try
+
+        openedSegments.sort(Comparator.comparingLong(Segment::getStartTime));
+
+        this.segments = new Segments(List.copyOf(openedSegments), this.segments.active());
+
+        long now = Instant.now()
+                          .getEpochSecond();
+
+        this.removeExpired(now);
+    } //start
+
+    /**
+     * Writes the segment being written by this store to disk.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        try {
+            this.seal();
+        } catch (IOException e) {
+            PredictionStore.LOGGER.atError()
+                                  .withThrowable(e)
+                                  .log();
+        } //end try catch
+    } //stop
+
+    /**
+     * Writes the segment being written by this store to disk, if it has any rows, and replaces it with its
+     * memory-mapped copy.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void seal() throws IOException {
+        Segments currentSegments = this.segments;
+
+        ActiveSegment segment = currentSegments.active();
+
+        if ((segment == null) || (segment.getRowCount() == 0)) {
+            this.segments = new Segments(currentSegments.sealed(), null);
+
+            return;
+        } //end if
+
+        String name = "%s%d-%d%s".formatted(PredictionStore.SEGMENT_PREFIX, segment.getStartTime(),
+                                            System.currentTimeMillis(), PredictionStore.SEGMENT_SUFFIX);
+
+        Path path = this.directory.resolve(name);
+
+        segment.write(path);
+
+        MappedSegment mappedSegment = MappedSegment.open(path);
+
+        List<MappedSegment> newSegments = new ArrayList<>(currentSegments.sealed());
+
+        newSegments.add(mappedSegment);
+
+        this.segments = new Segments(List.copyOf(newSegments), null);
+
+        this.sealCount.incrementAndGet();
+    } //seal
+
+    /**
+     * Deletes the sealed segments of this store that ended before its retention, relative to the specified time.
+     *
+     * @param now the current time to be used in the operation, in seconds since the epoch
+     */
+    private void removeExpired(long now) {
+        long cutoff = now - this.retention;
+
+        Segments currentSegments = this.segments;
+
+        List<MappedSegment> retainedSegments = new ArrayList<>();
+
+        for (MappedSegment segment : currentSegments.sealed()) {
+            if (segment.getEndTime() > cutoff) {
+                retainedSegments.add(segment);
+
+                continue;
+            } //end if
+
+            try {
+                Files.deleteIfExists(segment.getPath());
+
+                this.expirationCount.incrementAndGet();
+            } catch (IOException e) {
+                PredictionStore.LOGGER.atError()
+                                      .withThrowable(e)
+                                      .log();
+
+                retainedSegments.add(segment);
+            } //end try catch
+        } //end for
+
+        this.segments = new Segments(List.copyOf(retainedSegments), currentSegments.active());
+    } //removeExpired
+
+    /**
+     * Records the predictions of the specified buses as observed at the specified time, if this store is enabled.
+     * Scheduled buses and buses without a vehicle ID are skipped. If the time falls after the partition of the segment
+     * being written, that segment is first written to disk and expired segments are deleted.
+     *
+     * @param buses the buses to be used in the operation
+     * @param observedAt the observation time to be used in the operation
+     * @throws NullPointerException if the specified buses or observation time is {@code null}
+     */
+    public synchronized void record(Collection<Bus> buses, Instant observedAt) {
+        Objects.requireNonNull(buses, "the specified buses are null");
+
+        Objects.requireNonNull(observedAt, "the specified observation time is null");
+
+        if (this.directory == null) {
+            return;
+        } //end if
+
+        long observedTime = observedAt.getEpochSecond();
+
+        ActiveSegment segment = this.segments.active();
+
+        if ((segment != null) && (observedTime >= segment.getEndTime())) {
+            try {
+                this.seal();
+            } catch (IOException e) {
+                PredictionStore.LOGGER.atError()
+                                      .withThrowable(e)
+                                      .log();
+
+                this.segments = new Segments(this.segments.sealed(), null);
+            } //end try catch
+
+            this.removeExpired(observedTime);
+
+            segment = null;
+        } //end if
+
+        if (segment == null) {
+            long startTime = Math.floorDiv(observedTime, this.segmentDuration) * this.segmentDuration;
+
+            segment = new ActiveSegment(startTime, startTime + this.segmentDuration);
+
+            this.segments = new Segments(this.segments.sealed(), segment);
+        } //end if
+
+        for (Bus bus : buses) {
+            if (bus.scheduled() || (bus.id() == null)) {
+                continue;
+            } //end if
+
+            String stopId = bus.stop()
+                               .id();
+
+            String lineId = bus.line()
+                               .id();
+
+            long arrivalTime = bus.arrivalTime()
+                                  .toEpochSecond();
+
+            segment.append(observedTime, bus.id(), stopId, lineId, arrivalTime);
+        } //end for
+    } //record
+
+    /**
+     * Returns the accuracy of the predictions for the line with the specified ID at the stop with the specified ID
+     * that were observed in the specified interval, by whole minutes of lead time. The segments that overlap the
+     * interval are scanned in parallel.
+     *
+     * @param lineId the line ID to be used in the operation
+     * @param stopId the stop ID to be used in the operation
+     * @param from the start of the interval to be used in the operation
+     * @param to the end of the interval to be used in the operation
+     * @return the accuracy of the matching predictions, by whole minutes of lead time
+     * @throws NullPointerException if the specified line ID, stop ID, start, or end is {@code null}
+     */
+    public List<PredictionAccuracy> getAccuracy(String lineId, String stopId, Instant from, Instant to) {
+        Objects.requireNonNull(lineId, "the specified line ID is null");
+
+        Objects.requireNonNull(stopId, "the specified stop ID is null");
+
+        Objects.requireNonNull(from, "the specified start is null");
+
+        Objects.requireNonNull(to, "the specified end is null");
+
+        Segments currentSegments = this.segments;
+
+        List<Segment> candidates = new ArrayList<>(currentSegments.sealed());
+
+        ActiveSegment segment = currentSegments.active();
+
+        if (segment != null) {
+            candidates.add(segment);
+        } //end if
+
+        long fromTime = from.getEpochSecond();
+
+        long toTime = to.getEpochSecond();
+
+        Matches matches = candidates.parallelStream()
+                                    .collect(Matches::new,
+                                             (partial, candidate) -> candidate.scan(lineId, stopId, fromTime, toTime,
+                                                                                    partial),
+                                             Matches::addAll);
+
+        return PredictionStore.summarize(matches);
+    } //getAccuracy
+
+    /**
+     * Returns the accuracy of the specified matches, by whole minutes of lead time. The matches are grouped into
+     * visits, each a run of predictions for the same vehicle with no more than ten minutes between observations, and
+     * every prediction but the last of a visit is measured against the last.
+     *
+     * @param matches the matches to be used in the operation
+     * @return the accuracy of the specified matches, by whole minutes of lead time
+     */
+    static List<PredictionAccuracy> summarize(Matches matches) {
+        Integer[] order = new Integer[matches.size];
+
+        Arrays.setAll(order, Integer::valueOf);
+
+        Comparator<Integer> comparator = Comparator.<Integer, String>comparing(i -> matches.vehicleIds[i])
+                                                   .thenComparingLong(i -> matches.observedTimes[i]);
+
+        Arrays.sort(order, comparator);
+
+        long[] samples = new long[0];
+
+        long[] errorSums = new long[0];
+
+        long[] absoluteErrorSums = new long[0];
+
+        long[] maximumAbsoluteErrors = new long[0];
+
+        int start = 0;
+
+        while (start < order.length) {
+            int end = start;
+
+            while ((end + 1) < order.length) {
+                int current = order[end];
+
+                int next = order[end + 1];
+
+                if (!matches.vehicleIds[next].equals(matches.vehicleIds[current]) ||
+                    ((matches.observedTimes[next] - matches.observedTimes[current]) > PredictionStore.VISIT_GAP)) {
+                    break;
+                } //end if
+
+                end++;
+            } //end while
+
+            int last = order[end];
+
+            long actualTime = matches.arrivalTimes[last];
+
+            if ((actualTime - matches.observedTimes[last]) <= PredictionStore.ARRIVAL_LEAD) {
+                for (int i = start; i < end; i++) {
+                    int row = order[i];
+
+                    long lead = actualTime - matches.observedTimes[row];
+
+                    if (lead < 0L) {
+                        continue;
+                    } //end if
+
+                    int minute = (int) (lead / 60L);
+
+                    if (minute >= samples.length) {
+                        samples = Arrays.copyOf(samples, minute + 1);
+
+                        errorSums = Arrays.copyOf(errorSums, minute + 1);
+
+                        absoluteErrorSums = Arrays.copyOf(absoluteErrorSums, minute + 1);
+
+                        maximumAbsoluteErrors = Arrays.copyOf(maximumAbsoluteErrors, minute + 1);
+                    } //end if
+
+                    long error = matches.arrivalTimes[row] - actualTime;
+
+                    long absoluteError = Math.abs(error);
+
+                    samples[minute]++;
+
+                    errorSums[minute] += error;
+
+                    absoluteErrorSums[minute] += absoluteError;
+
+                    maximumAbsoluteErrors[minute] = Math.max(maximumAbsoluteErrors[minute], absoluteError);
+                } //end for
+            } //end if
+
+            start = end + 1;
+        } //end while
+
+        List<PredictionAccuracy> accuracies = new ArrayList<>();
+
+        for (int minute = 0; minute < samples.length; minute++) {
+            if (samples[minute] == 0L) {
+                continue;
+            } //end if
+
+            double meanError = (double) errorSums[minute] / samples[minute];
+
+            double meanAbsoluteError = (double) absoluteErrorSums[minute] / samples[minute];
+
+            PredictionAccuracy accuracy = new PredictionAccuracy(minute, samples[minute], meanError, meanAbsoluteError,
+                                                                 maximumAbsoluteErrors[minute]);
+
+            accuracies.add(accuracy);
+        } //end for
+
+        return accuracies;
+    } //summarize
+
+    /**
+     * Returns the statistics of this store.
+     *
+     * @return the statistics of this store
+     */
+    public HistoryStats getStats() {
+        Segments currentSegments = this.segments;
+
+        List<Segment> allSegments = new ArrayList<>(currentSegments.sealed());
+
+        ActiveSegment segment = currentSegments.active();
+
+        if (segment != null) {
+            allSegments.add(segment);
+        } //end if
+
+        long rows = 0L;
+
+        long bytes = 0L;
+
+        for (Segment currentSegment : allSegments) {
+            rows += currentSegment.getRowCount();
+
+            bytes += currentSegment.getSize();
+        } //end for
+
+        return new HistoryStats(this.isEnabled(), rows, allSegments.size(), bytes, this.sealCount.get(),
+                                this.expirationCount.get());
+    } //getStats
+}
\ No newline at end of file
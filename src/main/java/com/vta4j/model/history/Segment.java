@@ -0,0 +1,208 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.history;
+
+/**
+ * A time partition of a {@link PredictionStore}. The predictions of a segment are stored column by column as
+ * primitive integers: the time each was observed and the arrival time it predicted, both in seconds since the start
+ * of the segment, and the vehicle, stop, and line it was made for, each as a key in the dictionary of the segment.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+abstract class Segment {
+    /**
+     * The observation time column of the {@link Segment} class.
+     */
+    static final int OBSERVED;
+
+    /**
+     * The vehicle column of the {@link Segment} class.
+     */
+    static final int VEHICLE;
+
+    /**
+     * The stop column of the {@link Segment} class.
+     */
+    static final int STOP;
+
+    /**
+     * The line column of the {@link Segment} class.
+     */
+    static final int LINE;
+
+    /**
+     * The predicted arrival time column of the {@link Segment} class.
+     */
+    static final int ARRIVAL;
+
+    /**
+     * The number of columns of the {@link Segment} class.
+     */
+    static final int COLUMN_COUNT;
+
+    static {
+        OBSERVED = 0;
+
+        VEHICLE = 1;
+
+        STOP = 2;
+
+        LINE = 3;
+
+        ARRIVAL = 4;
+
+        COLUMN_COUNT = 5;
+    } //static
+
+    /**
+     * The start time of this segment, in seconds since the epoch.
+     */
+    private final long startTime;
+
+    /**
+     * The end time of this segment, in seconds since the epoch.
+     */
+    private final long endTime;
+
+    /**
+     * Constructs an instance of the {@link Segment} class.
+     *
+     * @param startTime the start time to be used in construction
+     * @param endTime the end time to be used in construction
+     * @throws IllegalArgumentException if the specified end time is not after the specified start time
+     */
+    Segment(long startTime, long endTime) {
+        if (endTime <= startTime) {
+            throw new IllegalArgumentException("the specified end time is not after the specified start time");
+        } //end if
+
+        this.startTime = startTime;
+
+        this.endTime = endTime;
+    } //Segment
+
+    /**
+     * Returns the start time of this segment, in seconds since the epoch.
+     *
+     * @return the start time of this segment, in seconds since the epoch
+     */
+    long getStartTime() {
+        return this.startTime;
+    } //getStartTime
+
+    /**
+     * Returns the end time of this segment, in seconds since the epoch.
+     *
+     * @return the end time of this segment, in seconds since the epoch
+     */
+    long getEndTime() {
+        return this.endTime;
+    } //getEndTime
+
+    /**
+     * Returns the number of rows of this segment.
+     *
+     * @return the number of rows of this segment
+     */
+    abstract int getRowCount();
+
+    /**
+     * Returns the value of the specified column in the specified row of this segment.
+     *
+     * @param column the column to be used in the operation
+     * @param row the row to be used in the operation
+     * @return the value of the specified column in the specified row of this segment
+     */
+    abstract int get(int column, int row);
+
+    /**
+     * Returns the dictionary key of the specified value in this segment, or {@code -1} if it does not occur.
+     *
+     * @param value the value to be used in the operation
+     * @return the dictionary key of the specified value in this segment, or {@code -1} if it does not occur
+     */
+    abstract int getKey(String value);
+
+    /**
+     * Returns the value with the specified dictionary key in this segment.
+     *
+     * @param key the key to be used in the operation
+     * @return the value with the specified dictionary key in this segment
+     */
+    abstract String getValue(int key);
+
+    /**
+     * Returns the size of this segment, in bytes.
+     *
+     * @return the size of this segment, in bytes
+     */
+    abstract long getSize();
+
+    /**
+     * Adds every prediction of this segment for the specified line at the specified stop that was observed in the
+     * specified interval to the specified matches. The stop and line are resolved to dictionary keys once, so each
+     * row is matched by comparing integers.
+     *
+     * @param lineId the line ID to be used in the operation
+     * @param stopId the stop ID to be used in the operation
+     * @param from the start of the interval to be used in the operation, in seconds since the epoch
+     * @param to the end of the interval to be used in the operation, in seconds since the epoch
+     * @param matches the matches to be used in the operation
+     */
+    void scan(String lineId, String stopId, long from, long to, Matches matches) {
+        if ((to <= this.startTime) || (from >= this.endTime)) {
+            return;
+        } //end if
+
+        int lineKey = this.getKey(lineId);
+
+        int stopKey = this.getKey(stopId);
+
+        if ((lineKey == -1) || (stopKey == -1)) {
+            return;
+        } //end if
+
+        int rowCount = this.getRowCount();
+
+        for (int row = 0; row < rowCount; row++) {
+            if ((this.get(Segment.STOP, row) != stopKey) || (this.get(Segment.LINE, row) != lineKey)) {
+                continue;
+            } //end if
+
+            long observed = this.startTime + this.get(Segment.OBSERVED, row);
+
+            if ((observed < from) || (observed >= to)) {
+                continue;
+            } //end if
+
+            long arrival = this.startTime + this.get(Segment.ARRIVAL, row);
+
+            String vehicleId = this.getValue(this.get(Segment.VEHICLE, row));
+
+            matches.add(vehicleId, observed, arrival);
+        } //end for
+    } //scan
+}
\ No newline at end of file
@@ -0,0 +1,334 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.index;
+
+import org.springframework.stereotype.Component;
+import com.vta4j.model.Bus;
+import com.vta4j.model.Stop;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Secondary indexes of the arrivals held by the bus source of the VTA4j application, by vehicle and by line, each
+ * sorted by arrival time. Sources report every refreshed stop snapshot, and only the arrivals that were added to or
+ * removed from that stop are applied, so upkeep is proportional to what changed. Readers iterate concurrent skip
+ * lists and never take a lock. The indexes cover the stops the source holds: the whole agency in the {@code bulk}
+ * and {@code cluster} ingestion modes, and the stops that have been requested in the {@code per-stop} mode.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+public final class ArrivalIndex {
+    /**
+     * The arrival order of the {@link ArrivalIndex} class. It ends with every other component of a bus, so that only
+     * equal buses compare as equal and a sorted set never drops a distinct arrival.
+     */
+    private static final Comparator<Bus> ARRIVAL_ORDER;
+
+    static {
+        Comparator<String> idOrder = Comparator.nullsFirst(Comparator.naturalOrder());
+
+        Comparator<Stop> destinationOrder = Comparator.nullsFirst(Comparator.comparing(Stop::id, idOrder)
+                                                                            .thenComparing(Stop::name, idOrder));
+
+        ARRIVAL_ORDER = Comparator.comparing((Bus bus) -> bus.arrivalTime()
+                                                             .toInstant())
+                                  .thenComparing(bus -> bus.stop()
+                                                           .id())
+                                  .thenComparing(bus -> bus.line()
+                                                           .id())
+                                  .thenComparing(Bus::id, idOrder)
+                                  .thenComparing(Bus::direction)
+                                  .thenComparing(Bus::scheduled)
+                                  .thenComparing(bus -> bus.stop()
+                                                           .name(), idOrder)
+                                  .thenComparing(bus -> bus.line()
+                                                           .name(), idOrder)
+                                  .thenComparing(Bus::destination, destinationOrder)
+                                  .thenComparing(bus -> bus.arrivalTime()
+                                                           .getZone()
+                                                           .getId());
+    } //static
+
+    /**
+     * The current buses of this index, keyed by stop ID.
+     */
+    private final Map<Integer, Set<Bus>> stops;
+
+    /**
+     * The arrivals of this index, keyed by vehicle ID.
+     */
+    private final Map<String, NavigableSet<Bus>> vehicles;
+
+    /**
+     * The arrivals of this index, keyed by line ID.
+     */
+    private final Map<String, NavigableSet<Bus>> lines;
+
+    /**
+     * The add count of this index.
+     */
+    private final LongAdder addCount;
+
+    /**
+     * The remove count of this index.
+     */
+    private final LongAdder removeCount;
+
+    /**
+     * Constructs an instance of the {@link ArrivalIndex} class.
+     */
+    public ArrivalIndex() {
+        this.stops = new ConcurrentHashMap<>();
+
+        this.vehicles = new ConcurrentHashMap<>();
+
+        this.lines = new ConcurrentHashMap<>();
+
+        this.addCount = new LongAdder();
+
+        this.removeCount = new LongAdder();
+    } //ArrivalIndex
+
+    /**
+     * Adds the specified bus to the arrivals of the specified key in the specified map.
+     *
+     * @param map the map to be used in the operation
+     * @param key the key to be used in the operation
+     * @param bus the bus to be used in the operation
+     */
+    private static void add(Map<String, NavigableSet<Bus>> map, String key, Bus bus) {
+        map.compute(key, (k, arrivals) -> {
+            NavigableSet<Bus> set = (arrivals == null) ? new ConcurrentSkipListSet<>(ArrivalIndex.ARRIVAL_ORDER)
+                                                       : arrivals;
+
+            set.add(bus);
+
+            return set;
+        });
+    } //add
+
+    /**
+     * Removes the specified bus from the arrivals of the specified key in the specified map, removing the key once it
+     * has none left.
+     *
+     * @param map the map to be used in the operation
+     * @param key the key to be used in the operation
+     * @param bus the bus to be used in the operation
+     */
+    private static void remove(Map<String, NavigableSet<Bus>> map, String key, Bus bus) {
+        map.computeIfPresent(key, (k, arrivals) -> {
+            arrivals.remove(bus);
+
+            return arrivals.isEmpty() ? null : arrivals;
+        });
+    } //remove
+
+    /**
+     * Adds the specified bus to this index.
+     *
+     * @param bus the bus to be used in the operation
+     */
+    private void add(Bus bus) {
+        if (bus.id() != null) {
+            ArrivalIndex.add(this.vehicles, bus.id(), bus);
+        } //end if
+
+        ArrivalIndex.add(this.lines, bus.line()
+                                        .id(), bus);
+
+        this.addCount.increment();
+    } //add
+
+    /**
+     * Removes the specified bus from this index.
+     *
+     * @param bus the bus to be used in the operation
+     */
+    private void remove(Bus bus) {
+        if (bus.id() != null) {
+            ArrivalIndex.remove(this.vehicles, bus.id(), bus);
+        } //end if
+
+        ArrivalIndex.remove(this.lines, bus.line()
+                                           .id(), bus);
+
+        this.removeCount.increment();
+    } //remove
+
+    /**
+     * Replaces the buses of the stop with the specified ID in this index with the specified buses, applying only the
+     * arrivals that were added or removed. Updates of the same stop are applied one at a time, and updates of
+     * different stops concurrently.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param buses the buses to be used in the operation
+     * @throws NullPointerException if the specified buses are {@code null}
+     */
+    public void update(int stopId, Set<Bus> buses) {
+        Objects.requireNonNull(buses, "the specified buses are null");
+
+        this.stops.compute(stopId, (key, previous) -> {
+            Set<Bus> previousBuses = (previous == null) ? Set.of() : previous;
+
+            if ((previousBuses == buses) || previousBuses.equals(buses)) {
+                return buses.isEmpty() ? null : buses;
+            } //end if
+
+            for (Bus bus : previousBuses) {
+                if (!buses.contains(bus)) {
+                    this.remove(bus);
+                } //end if
+            } //end for
+
+            for (Bus bus : buses) {
+                if (!previousBuses.contains(bus)) {
+                    this.add(bus);
+                } //end if
+            } //end for
+
+            return buses.isEmpty() ? null : buses;
+        });
+    } //update
+
+    /**
+     * Replaces the stops of the specified previous stop index in this index with those of the specified next stop
+     * index. Stops that are only in the previous index are emptied.
+     *
+     * @param previous the previous stop index to be used in the operation
+     * @param next the next stop index to be used in the operation
+     * @throws NullPointerException if the specified previous or next stop index is {@code null}
+     */
+    public void update(StopIndex previous, StopIndex next) {
+        Objects.requireNonNull(previous, "the specified previous stop index is null");
+
+        Objects.requireNonNull(next, "the specified next stop index is null");
+
+        for (int stopId : previous.getStopIds()) {
+            if (!next.getStopIds()
+                     .contains(stopId)) {
+                this.update(stopId, Set.of());
+            } //end if
+        } //end for
+
+        for (int stopId : next.getStopIds()) {
+            Set<Bus> buses = next.getBuses(stopId);
+
+            this.update(stopId, buses);
+        } //end for
+    } //update
+
+    /**
+     * Returns up to the specified number of arrivals in the specified set at or after the specified time.
+     *
+     * @param arrivals the arrivals to be used in the operation, or {@code null} if there are none
+     * @param from the time to be used in the operation
+     * @param limit the limit to be used in the operation
+     * @return up to the specified number of arrivals in the specified set at or after the specified time
+     */
+    private static List<Bus> getArrivals(NavigableSet<Bus> arrivals, Instant from, int limit) {
+        if (arrivals == null) {
+            return List.of();
+        } //end if
+
+        return arrivals.stream()
+                       .dropWhile(bus -> bus.arrivalTime()
+                                            .toInstant()
+                                            .isBefore(from))
+                       .limit(limit)
+                       .toList();
+    } //getArrivals
+
+    /**
+     * Returns up to the specified number of arrivals of the vehicle with the specified ID at or after the specified
+     * time, sorted by arrival time.
+     *
+     * @param vehicleId the vehicle ID to be used in the operation
+     * @param from the time to be used in the operation
+     * @param limit the limit to be used in the operation
+     * @return up to the specified number of arrivals of the vehicle with the specified ID at or after the specified
+     * time, sorted by arrival time
+     * @throws NullPointerException if the specified vehicle ID or time is {@code null}
+     * @throws IllegalArgumentException if the specified limit is not positive
+     */
+    public List<Bus> getVehicleArrivals(String vehicleId, Instant from, int limit) {
+        Objects.requireNonNull(vehicleId, "the specified vehicle ID is null");
+
+        Objects.requireNonNull(from, "the specified time is null");
+
+        if (limit <= 0) {
+            throw new IllegalArgumentException("the specified limit is not positive");
+        } //end if
+
+        NavigableSet<Bus> arrivals = this.vehicles.get(vehicleId);
+
+        return ArrivalIndex.getArrivals(arrivals, from, limit);
+    } //getVehicleArrivals
+
+    /**
+     * Returns up to the specified number of arrivals on the line with the specified ID at or after the specified time,
+     * sorted by arrival time.
+     *
+     * @param lineId the line ID to be used in the operation
+     * @param from the time to be used in the operation
+     * @param limit the limit to be used in the operation
+     * @return up to the specified number of arrivals on the line with the specified ID at or after the specified
+     * time, sorted by arrival time
+     * @throws NullPointerException if the specified line ID or time is {@code null}
+     * @throws IllegalArgumentException if the specified limit is not positive
+     */
+    public List<Bus> getLineArrivals(String lineId, Instant from, int limit) {
+        Objects.requireNonNull(lineId, "the specified line ID is null");
+
+        Objects.requireNonNull(from, "the specified time is null");
+
+        if (limit <= 0) {
+            throw new IllegalArgumentException("the specified limit is not positive");
+        } //end if
+
+        NavigableSet<Bus> arrivals = this.lines.get(lineId);
+
+        return ArrivalIndex.getArrivals(arrivals, from, limit);
+    } //getLineArrivals
+
+    /**
+     * Returns the statistics of this index.
+     *
+     * @return the statistics of this index
+     */
+    public ArrivalStats getStats() {
+        return new ArrivalStats(this.stops.size(), this.vehicles.size(), this.lines.size(), this.addCount.sum(),
+                                this.removeCount.sum());
+    } //getStats
+}
\ No newline at end of file
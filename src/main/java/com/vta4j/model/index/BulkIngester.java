@@ -0,0 +1,314 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.index;
+
+import org.springframework.stereotype.Component;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+import com.vta4j.model.Bus;
+import com.vta4j.model.BusSource;
+import com.vta4j.model.Model;
+import com.vta4j.model.upstream.SchedulerStats;
+import com.vta4j.model.upstream.UpstreamScheduler;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * A bus source of the VTA4j application that periodically fetches the agency-wide feed and answers every stop
+ * lookup from an in-memory {@link StopIndex}, so reads never perform upstream I/O. Each fetch draws from the
+ * {@link UpstreamScheduler} ahead of any per-stop call. It is enabled by setting
+ * {@code vta4j.ingestion.mode} to {@code bulk}.
+ * <p>
+ * Until the first fetch succeeds, or once every fetch has failed for longer than {@code vta4j.ingestion.max-age},
+ * lookups are answered like a failed per-stop fetch: from the static schedule if one is loaded, and with a failure
+ * otherwise, rather than with an empty stop.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+@ConditionalOnProperty(name = "vta4j.ingestion.mode", havingValue = "bulk")
+public final class BulkIngester implements BusSource {
+    /**
+     * The logger of the {@link BulkIngester} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger();
+    } //static
+
+    /**
+     * The model of this ingester.
+     */
+    private final Model model;
+
+    /**
+     * The upstream scheduler of this ingester.
+     */
+    private final UpstreamScheduler scheduler;
+
+    /**
+     * The arrival index of this ingester.
+     */
+    private final ArrivalIndex arrivalIndex;
+
+    /**
+     * The refresh interval of this ingester.
+     */
+    private final Duration interval;
+
+    /**
+     * The maximum age of a snapshot of this ingester that is still served.
+     */
+    private final Duration maximumAge;
+
+    /**
+     * The executor of this ingester.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * The refresh count of this ingester.
+     */
+    private final AtomicLong refreshCount;
+
+    /**
+     * The failure count of this ingester.
+     */
+    private final AtomicLong failureCount;
+
+    /**
+     * The current index of this ingester.
+     */
+    private volatile StopIndex index;
+
+    /**
+     * Constructs an instance of the {@link BulkIngester} class.
+     *
+     * @param model the model to be used in construction
+     * @param scheduler the upstream scheduler to be used in construction
+     * @param arrivalIndex the arrival index to be used in construction
+     * @param interval the refresh interval to be used in construction
+     * @param maximumAge the maximum age of a served snapshot to be used in construction
+     * @throws NullPointerException if the specified model, upstream scheduler, arrival index, refresh interval, or
+     * maximum age is {@code null}
+     * @throws IllegalArgumentException if the specified refresh interval or maximum age is not positive
+     */
+    public BulkIngester(Model model, UpstreamScheduler scheduler, ArrivalIndex arrivalIndex,
+                        @Value("${vta4j.ingestion.interval:1m}") Duration interval,
+                        @Value("${vta4j.ingestion.max-age:5m}") Duration maximumAge) {
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(scheduler, "the specified upstream scheduler is null");
+
+        Objects.requireNonNull(arrivalIndex, "the specified arrival index is null");
+
+        Objects.requireNonNull(interval, "the specified refresh interval is null");
+
+        Objects.requireNonNull(maximumAge, "the specified maximum age is null");
+
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("the specified refresh interval is not positive");
+        } else if (maximumAge.isNegative() || maximumAge.isZero()) {
+            throw new IllegalArgumentException("the specified maximum age is not positive");
+        } //end if
+
+        this.model = model;
+
+        this.scheduler = scheduler;
+
+        this.arrivalIndex = arrivalIndex;
+
+        this.interval = interval;
+
+        this.maximumAge = maximumAge;
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bulk-ingester");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        this.refreshCount = new AtomicLong();
+
+        this.failureCount = new AtomicLong();
+
+        this.index = StopIndex.empty();
+    } //BulkIngester
+
+    /**
+     * Fetches the agency-wide feed and, if the request succeeds, atomically replaces the current index and applies
+     * its changes to the arrival index.
+     */
+    void refresh() {
+        Optional<Set<Bus>> buses;
+
+        try {
+            buses = this.scheduler.callAgencyWide(this.model::getAllBuses);
+        } catch (RuntimeException e) {
+            BulkIngester.LOGGER.atError()
+                               .withThrowable(e)
+                               .log();
+
+            buses = Optional.empty();
+        } //end try catch
+
+        if (buses.isEmpty()) {
+            this.failureCount.incrementAndGet();
+
+            return;
+        } //end if
+
+        Instant now = Instant.now();
+
+        StopIndex previousIndex = this.index;
+
+        this.index = StopIndex.of(buses.get(), now);
+
+        this.arrivalIndex.update(previousIndex, this.index);
+
+        this.refreshCount.incrementAndGet();
+    } //refresh
+
+    /**
+     * Starts the periodic refresh of this ingester, warning if its refresh interval is shorter than the hourly quota
+     * of its upstream scheduler sustains.
+     */
+    @PostConstruct
+    public void start() {
+        Duration minimumInterval = this.scheduler.getMinimumInterval();
+
+        if (this.interval.compareTo(minimumInterval) < 0) {
+            BulkIngester.LOGGER.atWarn()
+                               .log("vta4j.ingestion.interval of {} exceeds vta4j.scheduler.quota-per-hour, so some "
+                                    + "refreshes will be rejected; use at least {}", this.interval, minimumInterval);
+        } //end if
+
+        long period = this.interval.toMillis();
+
+        this.executor.scheduleWithFixedDelay(this::refresh, 0L, period, TimeUnit.MILLISECONDS);
+    } //start
+
+    /**
+     * Stops the periodic refresh of this ingester.
+     */
+    @PreDestroy
+    public void stop() {
+        this.executor.shutdownNow();
+    } //stop
+
+    /**
+     * Returns the current index of this ingester.
+     *
+     * @return the current index of this ingester
+     */
+    public StopIndex getIndex() {
+        return this.index;
+    } //getIndex
+
+    /**
+     * Returns a future of a {@link Set} of buses set to arrive at the stop with the specified ID from the current
+     * index. If there is no current index, the future is completed from the static schedule, or exceptionally if no
+     * static schedule is loaded.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return a future of a {@link Set} of buses set to arrive at the stop with the specified ID
+     */
+    @Override
+    public CompletableFuture<Set<Bus>> getBusesAsync(int stopId) {
+        StopIndex currentIndex = this.index;
+
+        if (!currentIndex.isCurrent(Instant.now(), this.maximumAge)) {
+            IllegalStateException exception = new IllegalStateException("there is no current agency-wide snapshot");
+
+            return this.model.getScheduledBusesAsync(stopId, exception);
+        } //end if
+
+        Set<Bus> buses = currentIndex.getBuses(stopId);
+
+        return CompletableFuture.completedFuture(buses);
+    } //getBusesAsync
+
+    /**
+     * Returns a {@link Set} of buses set to arrive at the stop with the specified ID from the current index.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return a {@link Set} of buses set to arrive at the stop with the specified ID from the current index
+     * @throws IllegalStateException if there is no current index and no static schedule is loaded
+     */
+    @Override
+    public Set<Bus> getBuses(int stopId) {
+        try {
+            return this.getBusesAsync(stopId)
+                       .join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } //end if
+
+            throw e;
+        } //end try catch
+    } //getBuses
+
+    /**
+     * Returns the statistics of this ingester, keyed by name.
+     *
+     * @return the statistics of this ingester, keyed by name
+     */
+    @Override
+    public Map<String, ?> getStats() {
+        StopIndex currentIndex = this.index;
+
+        IndexStats indexStats = new IndexStats(currentIndex.getStopCount(), currentIndex.getBusCount(),
+                                               currentIndex.getBuildTime(), this.refreshCount.get(),
+                                               this.failureCount.get());
+
+        SchedulerStats schedulerStats = this.scheduler.getStats();
+
+        return Map.of(
+            "index", indexStats,
+            "scheduler", schedulerStats
+        );
+    } //getStats
+}
\ No newline at end of file
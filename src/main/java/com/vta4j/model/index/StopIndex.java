@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.index;
+
+import com.vta4j.model.Bus;
+import com.vta4j.model.Stop;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable index from stop ID to the buses set to arrive at that stop, built from one agency-wide snapshot. The
+ * empty index stands for having no snapshot at all, which is not the same as a snapshot in which a stop has no buses,
+ * so readers check {@link #isCurrent(Instant, Duration)} before trusting an empty lookup.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+public final class StopIndex {
+    /**
+     * The empty index of the {@link StopIndex} class.
+     */
+    private static final StopIndex EMPTY;
+
+    static {
+        EMPTY = new StopIndex(Map.of(), 0, Instant.EPOCH);
+    } //static
+
+    /**
+     * The buses of this index, keyed by stop ID.
+     */
+    private final Map<Integer, Set<Bus>> buses;
+
+    /**
+     * The number of buses in this index.
+     */
+    private final int busCount;
+
+    /**
+     * The build time of this index.
+     */
+    private final Instant buildTime;
+
+    /**
+     * Constructs an instance of the {@link StopIndex} class.
+     *
+     * @param buses the buses to be used in construction
+     * @param busCount the number of buses to be used in construction
+     * @param buildTime the build time to be used in construction
+     */
+    private StopIndex(Map<Integer, Set<Bus>> buses, int busCount, Instant buildTime) {
+        this.buses = buses;
+
+        this.busCount = busCount;
+
+        this.buildTime = buildTime;
+    } //StopIndex
+
+    /**
+     * Returns the empty index.
+     *
+     * @return the empty index
+     */
+    public static StopIndex empty() {
+        return StopIndex.EMPTY;
+    } //empty
+
+    /**
+     * Returns an index of the specified buses grouped by stop ID. Buses without a numeric stop ID are skipped.
+     *
+     * @param buses the buses to be used in the operation
+     * @param buildTime the build time to be used in the operation
+     * @return an index of the specified buses grouped by stop ID
+     * @throws NullPointerException if the specified buses or build time is {@code null}
+     */
+    public static StopIndex of(Collection<Bus> buses, Instant buildTime) {
+        Objects.requireNonNull(buses, "the specified buses are null");
+
+        Objects.requireNonNull(buildTime, "the specified build time is null");
+
+        Map<Integer, Set<Bus>> busMap = new HashMap<>();
+
+        int busCount = 0;
+
+        for (Bus bus : buses) {
+            Stop stop = bus.stop();
+
+            int stopId;
+
+            try {
+                stopId = Integer.parseInt(stop.id());
+            } catch (NumberFormatException e) {
+                continue;
+            } //end try catch
+
+            busMap.computeIfAbsent(stopId, key -> new HashSet<>())
+                  .add(bus);
+
+            busCount++;
+        } //end for
+
+        busMap.replaceAll((stopId, stopBuses) -> Collections.unmodifiableSet(stopBuses));
+
+        return new StopIndex(Map.copyOf(busMap), busCount, buildTime);
+    } //of
+
+    /**
+     * Returns whether this index was built from a snapshot no older than the specified maximum age at the specified
+     * time. The empty index is never current.
+     *
+     * @param now the time to be used in the operation
+     * @param maximumAge the maximum age to be used in the operation
+     * @return {@code true}, if this index was built from a snapshot no older than the specified maximum age and
+     * {@code false} otherwise
+     * @throws NullPointerException if the specified time or maximum age is {@code null}
+     */
+    public boolean isCurrent(Instant now, Duration maximumAge) {
+        Objects.requireNonNull(now, "the specified time is null");
+
+        Objects.requireNonNull(maximumAge, "the specified maximum age is null");
+
+        if (this == StopIndex.EMPTY) {
+            return false;
+        } //end if
+
+        Duration age = Duration.between(this.buildTime, now);
+
+        return age.compareTo(maximumAge) <= 0;
+    } //isCurrent
+
+    /**
+     * Returns a {@link Set} of buses set to arrive at the stop with the specified ID, which is empty if the snapshot
+     * of this index has no buses at that stop.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return a {@link Set} of buses set to arrive at the stop with the specified ID
+     */
+    public Set<Bus> getBuses(int stopId) {
+        return this.buses.getOrDefault(stopId, Set.of());
+    } //getBuses
+
+    /**
+     * Returns the IDs of the stops of this index.
+     *
+     * @return the IDs of the stops of this index
+     */
+    public Set<Integer> getStopIds() {
+        return this.buses.keySet();
+    } //getStopIds
+
+    /**
+     * Returns the number of stops in this index.
+     *
+     * @return the number of stops in this index
+     */
+    public int getStopCount() {
+        return this.buses.size();
+    } //getStopCount
+
+    /**
+     * Returns the number of buses in this index.
+     *
+     * @return the number of buses in this index
+     */
+    public int getBusCount() {
+        return this.busCount;
+    } //getBusCount
+
+    /**
+     * Returns the build time of this index.
+     *
+     * @return the build time of this index
+     */
+    public Instant getBuildTime() {
+        return this.buildTime;
+    } //getBuildTime
+}
\ No newline at end of file
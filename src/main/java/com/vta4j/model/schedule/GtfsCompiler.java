@@ -0,0 +1,1212 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.schedule;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A compiler of GTFS static feeds into the binary schedule format read by {@link ScheduleIndex}. Agencies, routes,
+ * calendars, stops, trips, and stop times are read from the feed's zip file, and every stop's scheduled arrivals are
+ * laid out as primitive arrays sorted by time, so that the index can be memory-mapped and searched without parsing.
+ * The locations of boardable stops are laid out as an implicit k-d tree, so that the stops nearest a point can be
+ * found the same way.
+ * <p>
+ * The compiler can be run ahead of time with {@code GtfsCompiler <feed zip> <index file>}.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+public final class GtfsCompiler {
+    /**
+     * A growable array of {@code int}s.
+     */
+    private static final class IntList {
+        /**
+         * The values of this list.
+         */
+        private int[] values;
+
+        /**
+         * The size of this list.
+         */
+        private int size;
+
+        /**
+         * Constructs an instance of the {@link IntList} class.
+         */
+        private IntList() {
+            this.values = new int[16];
+
+            this.size = 0;
+        } //IntList
+
+        /**
+         * Appends the specified value to this list.
+         *
+         * @param value the value to be used in the operation
+         */
+        private void add(int value) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size * 2);
+            } //end if
+
+            this.values[this.size] = value;
+
+            this.size++;
+        } //add
+
+        /**
+         * Returns the value at the specified index of this list.
+         *
+         * @param index the index to be used in the operation
+         * @return the value at the specified index of this list
+         */
+        private int get(int index) {
+            return this.values[index];
+        } //get
+
+        /**
+         * Replaces the value at the specified index of this list.
+         *
+         * @param index the index to be used in the operation
+         * @param value the value to be used in the operation
+         */
+        private void set(int index, int value) {
+            this.values[index] = value;
+        } //set
+
+        /**
+         * Returns the values of this list as an array.
+         *
+         * @return the values of this list as an array
+         */
+        private int[] toArray() {
+            return Arrays.copyOf(this.values, this.size);
+        } //toArray
+    } //IntList
+
+    /**
+     * A row of a GTFS table.
+     */
+    private static final class Row {
+        /**
+         * The column indices of this row, keyed by column name.
+         */
+        private final Map<String, Integer> header;
+
+        /**
+         * The fields of this row.
+         */
+        private final List<String> fields;
+
+        /**
+         * Constructs an instance of the {@link Row} class.
+         *
+         * @param header the header to be used in construction
+         * @param fields the fields to be used in construction
+         */
+        private Row(Map<String, Integer> header, List<String> fields) {
+            this.header = header;
+
+            this.fields = fields;
+        } //Row
+
+        /**
+         * Returns the stripped value of the specified column of this row, or an empty string if the column is
+         * absent.
+         *
+         * @param column the column to be used in the operation
+         * @return the stripped value of the specified column of this row, or an empty string if the column is absent
+         */
+        private String get(String column) {
+            Integer index = this.header.get(column);
+
+            if ((index == null) || (index >= this.fields.size())) {
+                return "";
+            } //end if
+
+            return this.fields.get(index)
+                              .strip();
+        } //get
+    } //Row
+
+    /**
+     * A handler of the rows of a GTFS table.
+     */
+    @FunctionalInterface
+    private interface RowHandler {
+        /**
+         * Handles the specified row.
+         *
+         * @param row the row to be used in the operation
+         */
+        void handle(Row row);
+    } //RowHandler
+
+    /**
+     * The logger of the {@link GtfsCompiler} class.
+     */
+    private static final Logger LOGGER;
+
+    /**
+     * The magic number of the binary schedule format of the {@link GtfsCompiler} class.
+     */
+    static final int MAGIC;
+
+    /**
+     * The version of the binary schedule format of the {@link GtfsCompiler} class.
+     */
+    static final int FORMAT;
+
+    /**
+     * The time zone used when a feed does not specify one of the {@link GtfsCompiler} class.
+     */
+    private static final String DEFAULT_TIME_ZONE;
+
+    static {
+        LOGGER = LogManager.getLogger();
+
+        MAGIC = 0x47544653;
+
+        FORMAT = 2;
+
+        DEFAULT_TIME_ZONE = "America/Los_Angeles";
+    } //static
+
+    /**
+     * The string indices of this compiler, keyed by string.
+     */
+    private final Map<String, Integer> stringIndices;
+
+    /**
+     * The strings of this compiler, in index order.
+     */
+    private final List<String> strings;
+
+    /**
+     * The string index of the time zone of this compiler, or {@code -1} if no agency has been read.
+     */
+    private int timeZone;
+
+    /**
+     * The route indices of this compiler, keyed by route ID.
+     */
+    private final Map<String, Integer> routeIndices;
+
+    /**
+     * The short name string indices of the routes of this compiler.
+     */
+    private final IntList routeShortNames;
+
+    /**
+     * The long name string indices of the routes of this compiler.
+     */
+    private final IntList routeLongNames;
+
+    /**
+     * The service indices of this compiler, keyed by service ID.
+     */
+    private final Map<String, Integer> serviceIndices;
+
+    /**
+     * The weekday masks of the services of this compiler, with Monday as the lowest bit.
+     */
+    private final IntList serviceDays;
+
+    /**
+     * The start dates of the services of this compiler, as {@code yyyymmdd}.
+     */
+    private final IntList serviceStartDates;
+
+    /**
+     * The end dates of the services of this compiler, as {@code yyyymmdd}.
+     */
+    private final IntList serviceEndDates;
+
+    /**
+     * The exceptions of the services of this compiler, each packed as its service index, date, and type.
+     */
+    private final List<long[]> exceptions;
+
+    /**
+     * The stop indices of this compiler, keyed by GTFS stop ID.
+     */
+    private final Map<String, Integer> stopIndices;
+
+    /**
+     * The public ID string indices of the stops of this compiler.
+     */
+    private final IntList stopIds;
+
+    /**
+     * The name string indices of the stops of this compiler.
+     */
+    private final IntList stopNames;
+
+    /**
+     * The numeric codes of the stops of this compiler, or {@code -1} if a stop has none.
+     */
+    private final IntList stopCodes;
+
+    /**
+     * The latitudes of the stops of this compiler, in microdegrees.
+     */
+    private final IntList stopLatitudes;
+
+    /**
+     * The longitudes of the stops of this compiler, in microdegrees.
+     */
+    private final IntList stopLongitudes;
+
+    /**
+     * The indices of the boardable stops of this compiler that have a valid location.
+     */
+    private final IntList locatedStops;
+
+    /**
+     * The trip indices of this compiler, keyed by trip ID.
+     */
+    private final Map<String, Integer> tripIndices;
+
+    /**
+     * The route indices of the trips of this compiler.
+     */
+    private final IntList tripRoutes;
+
+    /**
+     * The service indices of the trips of this compiler.
+     */
+    private final IntList tripServices;
+
+    /**
+     * The headsign string indices of the trips of this compiler.
+     */
+    private final IntList tripHeadsigns;
+
+    /**
+     * The direction IDs of the trips of this compiler, or {@code -1} if a trip has none.
+     */
+    private final IntList tripDirections;
+
+    /**
+     * The stop indices of the last stops of the trips of this compiler, or {@code -1} if a trip has no stop times.
+     */
+    private final IntList tripLastStops;
+
+    /**
+     * The stop sequences of the last stops of the trips of this compiler.
+     */
+    private final IntList tripLastSequences;
+
+    /**
+     * The stop indices of the stop times of this compiler.
+     */
+    private final IntList stopTimeStops;
+
+    /**
+     * The trip indices of the stop times of this compiler.
+     */
+    private final IntList stopTimeTrips;
+
+    /**
+     * The times of the stop times of this compiler, in seconds since the start of the service day.
+     */
+    private final IntList stopTimeTimes;
+
+    /**
+     * Constructs an instance of the {@link GtfsCompiler} class.
+     */
+    private GtfsCompiler() {
+        this.stringIndices = new HashMap<>();
+
+        this.strings = new ArrayList<>();
+
+        this.routeIndices = new HashMap<>();
+
+        this.routeShortNames = new IntList();
+
+        this.routeLongNames = new IntList();
+
+        this.serviceIndices = new HashMap<>();
+
+        this.serviceDays = new IntList();
+
+        this.serviceStartDates = new IntList();
+
+        this.serviceEndDates = new IntList();
+
+        this.exceptions = new ArrayList<>();
+
+        this.stopIndices = new HashMap<>();
+
+        this.stopIds = new IntList();
+
+        this.stopNames = new IntList();
+
+        this.stopCodes = new IntList();
+
+        this.stopLatitudes = new IntList();
+
+        this.stopLongitudes = new IntList();
+
+        this.locatedStops = new IntList();
+
+        this.tripIndices = new HashMap<>();
+
+        this.tripRoutes = new IntList();
+
+        this.tripServices = new IntList();
+
+        this.tripHeadsigns = new IntList();
+
+        this.tripDirections = new IntList();
+
+        this.tripLastStops = new IntList();
+
+        this.tripLastSequences = new IntList();
+
+        this.stopTimeStops = new IntList();
+
+        this.stopTimeTrips = new IntList();
+
+        this.stopTimeTimes = new IntList();
+
+        this.timeZone = -1;
+    } //GtfsCompiler
+
+    /**
+     * Returns the fields of the specified CSV line. Quoted fields may contain commas and doubled quotes.
+     *
+     * @param line the line to be used in the operation
+     * @return the fields of the specified CSV line
+     */
+    private static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+
+        StringBuilder builder = new StringBuilder();
+
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c != '"') {
+                    builder.append(c);
+                } else if (((i + 1) < line.length()) && (line.charAt(i + 1) == '"')) {
+                    builder.append('"');
+
+                    i++;
+                } else {
+                    quoted = false;
+                } //end if
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(builder.toString());
+
+                builder.setLength(0);
+            } else {
+                builder.append(c);
+            } //end if
+        } //end for
+
+        fields.add(builder.toString());
+
+        return fields;
+    } //parseLine
+
+    /**
+     * Passes every row of the table with the specified name in the specified feed to the specified handler.
+     *
+     * @param zipFile the feed to be used in the operation
+     * @param name the name of the table to be used in the operation
+     * @param required whether the table is required
+     * @param handler the handler to be used in the operation
+     * @throws IOException if an I/O error occurs or a required table is missing
+     */
+    private static void readTable(ZipFile zipFile, String name, boolean required, RowHandler handler)
+        throws IOException {
+        ZipEntry entry = zipFile.getEntry(name);
+
+        if (entry == null) {
+            if (required) {
+                String message = "the feed does not contain %s".formatted(name);
+
+                throw new IOException(message);
+            } //end if
+
+            return;
+        } //end if
+
+        try (InputStream inputStream = zipFile.getInputStream(entry);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream,
+                                                                              StandardCharsets.UTF_8))) {
+            String headerLine = reader.readLine();
+
+            if (headerLine == null) {
+                return;
+            } //end if
+
+            if (headerLine.startsWith("\uFEFF")) {
+                headerLine = headerLine.substring(1);
+            } //end if
+
+            List<String> columns = GtfsCompiler.parseLine(headerLine);
+
+            Map<String, Integer> header = new HashMap<>();
+
+            for (int i = 0; i < columns.size(); i++) {
+                String column = columns.get(i)
+                                       .strip();
+
+                header.put(column, i);
+            } //end for
+
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                } //end if
+
+                List<String> fields = GtfsCompiler.parseLine(line);
+
+                handler.handle(new Row(header, fields));
+            } //end while
+        } //end try
+    } //readTable
+
+    /**
+     * Returns the number of seconds since the start of the service day of the specified GTFS time, or {@code -1} if
+     * it is not a valid time. Hours may exceed 23 for trips that run past midnight.
+     *
+     * @param time the time to be used in the operation
+     * @return the number of seconds since the start of the service day of the specified GTFS time, or {@code -1}
+     */
+    static int parseTime(String time) {
+        String[] parts = time.split(":");
+
+        if (parts.length != 3) {
+            return -1;
+        } //end if
+
+        try {
+            int hours = Integer.parseInt(parts[0].strip());
+
+            int minutes = Integer.parseInt(parts[1]);
+
+            int seconds = Integer.parseInt(parts[2]);
+
+            if ((hours < 0) || (minutes < 0) || (minutes > 59) || (seconds < 0) || (seconds > 59)) {
+                return -1;
+            } //end if
+
+            return (hours * 3_600) + (minutes * 60) + seconds;
+        } catch (NumberFormatException e) {
+            return -1;
+        } //end try catch
+    } //parseTime
+
+    /**
+     * Returns the specified string as an {@code int}, or the specified default value if it is not one.
+     *
+     * @param string the string to be used in the operation
+     * @param defaultValue the default value to be used in the operation
+     * @return the specified string as an {@code int}, or the specified default value if it is not one
+     */
+    private static int parseInt(String string, int defaultValue) {
+        try {
+            return Integer.parseInt(string);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        } //end try catch
+    } //parseInt
+
+    /**
+     * Returns the specified coordinate in microdegrees, or {@link Integer#MIN_VALUE} if it is not a number whose
+     * magnitude is at most the specified limit.
+     *
+     * @param coordinate the coordinate, in degrees, to be used in the operation
+     * @param limit the limit, in degrees, to be used in the operation
+     * @return the specified coordinate in microdegrees, or {@link Integer#MIN_VALUE}
+     */
+    static int parseCoordinate(String coordinate, double limit) {
+        double degrees;
+
+        try {
+            degrees = Double.parseDouble(coordinate);
+        } catch (NumberFormatException e) {
+            return Integer.MIN_VALUE;
+        } //end try catch
+
+        if (!(Math.abs(degrees) <= limit)) {
+            return Integer.MIN_VALUE;
+        } //end if
+
+        return (int) Math.round(degrees * 1_000_000.0);
+    } //parseCoordinate
+
+    /**
+     * Returns the index of the specified string, adding it to the string table of this compiler if necessary.
+     *
+     * @param string the string to be used in the operation
+     * @return the index of the specified string
+     */
+    private int intern(String string) {
+        return this.stringIndices.computeIfAbsent(string, key -> {
+            this.strings.add(key);
+
+            return this.strings.size() - 1;
+        });
+    } //intern
+
+    /**
+     * Returns the index of the service with the specified ID, adding it with no regular days if necessary.
+     *
+     * @param serviceId the service ID to be used in the operation
+     * @return the index of the service with the specified ID
+     */
+    private int getService(String serviceId) {
+        Integer index = this.serviceIndices.get(serviceId);
+
+        if (index != null) {
+            return index;
+        } //end if
+
+        int newIndex = this.serviceDays.size;
+
+        this.serviceIndices.put(serviceId, newIndex);
+
+        this.serviceDays.add(0);
+
+        this.serviceStartDates.add(0);
+
+        this.serviceEndDates.add(0);
+
+        return newIndex;
+    } //getService
+
+    /**
+     * Reads the time zone of the agency of the specified row, if no agency has been read yet.
+     *
+     * @param row the row to be used in the operation
+     */
+    private void readAgency(Row row) {
+        String agencyTimeZone = row.get("agency_timezone");
+
+        if (!agencyTimeZone.isEmpty() && (this.timeZone < 0)) {
+            this.timeZone = this.intern(agencyTimeZone);
+        } //end if
+    } //readAgency
+
+    /**
+     * Reads the route of the specified row.
+     *
+     * @param row the row to be used in the operation
+     */
+    private void readRoute(Row row) {
+        String routeId = row.get("route_id");
+
+        if (routeId.isEmpty() || this.routeIndices.containsKey(routeId)) {
+            return;
+        } //end if
+
+        String shortName = row.get("route_short_name");
+
+        if (shortName.isEmpty()) {
+            shortName = routeId;
+        } //end if
+
+        String longName = row.get("route_long_name");
+
+        this.routeIndices.put(routeId, this.routeShortNames.size);
+
+        this.routeShortNames.add(this.intern(shortName));
+
+        this.routeLongNames.add(this.intern(longName));
+    } //readRoute
+
+    /**
+     * Reads the regular service of the specified row.
+     *
+     * @param row the row to be used in the operation
+     */
+    private void readCalendar(Row row) {
+        String serviceId = row.get("service_id");
+
+        if (serviceId.isEmpty()) {
+            return;
+        } //end if
+
+        String[] columns = {
+            "monday",
+            "tuesday",
+            "wednesday",
+            "thursday",
+            "friday",
+            "saturday",
+            "sunday"
+        };
+
+        int days = 0;
+
+        for (int i = 0; i < columns.length; i++) {
+            if (Objects.equals(row.get(columns[i]), "1")) {
+                days |= 1 << i;
+            } //end if
+        } //end for
+
+        int index = this.getService(serviceId);
+
+        this.serviceDays.set(index, days);
+
+        this.serviceStartDates.set(index, GtfsCompiler.parseInt(row.get("start_date"), 0));
+
+        this.serviceEndDates.set(index, GtfsCompiler.parseInt(row.get("end_date"), 0));
+    } //readCalendar
+
+    /**
+     * Reads the service exception of the specified row.
+     *
+     * @param row the row to be used in the operation
+     */
+    private void readCalendarDate(Row row) {
+        String serviceId = row.get("service_id");
+
+        int date = GtfsCompiler.parseInt(row.get("date"), -1);
+
+        int type = GtfsCompiler.parseInt(row.get("exception_type"), -1);
+
+        if (serviceId.isEmpty() || (date < 0) || ((type != 1) && (type != 2))) {
+            return;
+        } //end if
+
+        int index = this.getService(serviceId);
+
+        this.exceptions.add(new long[] {index, date, type});
+    } //readCalendarDate
+
+    /**
+     * Reads the stop of the specified row. A stop's public ID is its stop code if it is numeric, and its stop ID
+     * otherwise, since that is how stops are identified by real-time data. Only stops and platforms that have a
+     * location are added to the k-d tree; stations, entrances, and other location types are not boarded.
+     *
+     * @param row the row to be used in the operation
+     */
+    private void readStop(Row row) {
+        String stopId = row.get("stop_id");
+
+        if (stopId.isEmpty() || this.stopIndices.containsKey(stopId)) {
+            return;
+        } //end if
+
+        String stopCode = row.get("stop_code");
+
+        int code = GtfsCompiler.parseInt(stopCode, -1);
+
+        String publicId = stopCode;
+
+        if (code < 0) {
+            code = GtfsCompiler.parseInt(stopId, -1);
+
+            publicId = stopId;
+        } //end if
+
+        this.stopIndices.put(stopId, this.stopIds.size);
+
+        this.stopIds.add(this.intern(publicId));
+
+        this.stopNames.add(this.intern(row.get("stop_name")));
+
+        this.stopCodes.add(code);
+
+        int latitude = GtfsCompiler.parseCoordinate(row.get("stop_lat"), 90.0);
+
+        int longitude = GtfsCompiler.parseCoordinate(row.get("stop_lon"), 180.0);
+
+        boolean located = (latitude != Integer.MIN_VALUE) && (longitude != Integer.MIN_VALUE) &&
+            ((latitude != 0) || (longitude != 0));
+
+        this.stopLatitudes.add(located ? latitude : 0);
+
+        this.stopLongitudes.add(located ? longitude : 0);
+
+        String locationType = row.get("location_type");
+
+        boolean boardable = locationType.isEmpty() || locationType.equals("0");
+
+        if (located && boardable) {
+            this.locatedStops.add(this.stopLatitudes.size - 1);
+        } //end if
+    } //readStop
+
+    /**
+     * Reads the trip of the specified row. Trips of unknown routes are skipped.
+     *
+     * @param row the row to be used in the operation
+     */
+    private void readTrip(Row row) {
+        String tripId = row.get("trip_id");
+
+        Integer route = this.routeIndices.get(row.get("route_id"));
+
+        if (tripId.isEmpty() || (route == null) || this.tripIndices.containsKey(tripId)) {
+            return;
+        } //end if
+
+        int service = this.getService(row.get("service_id"));
+
+        this.tripIndices.put(tripId, this.tripRoutes.size);
+
+        this.tripRoutes.add(route);
+
+        this.tripServices.add(service);
+
+        this.tripHeadsigns.add(this.intern(row.get("trip_headsign")));
+
+        this.tripDirections.add(GtfsCompiler.parseInt(row.get("direction_id"), -1));
+
+        this.tripLastStops.add(-1);
+
+        this.tripLastSequences.add(Integer.MIN_VALUE);
+    } //readTrip
+
+    /**
+     * Reads the stop time of the specified row. Stop times of unknown trips or stops, or without a time, are
+     * skipped.
+     *
+     * @param row the row to be used in the operation
+     */
+    private void readStopTime(Row row) {
+        Integer trip = this.tripIndices.get(row.get("trip_id"));
+
+        Integer stop = this.stopIndices.get(row.get("stop_id"));
+
+        if ((trip == null) || (stop == null)) {
+            return;
+        } //end if
+
+        int sequence = GtfsCompiler.parseInt(row.get("stop_sequence"), 0);
+
+        if (sequence > this.tripLastSequences.get(trip)) {
+            this.tripLastSequences.set(trip, sequence);
+
+            this.tripLastStops.set(trip, stop);
+        } //end if
+
+        String timeString = row.get("arrival_time");
+
+        if (timeString.isEmpty()) {
+            timeString = row.get("departure_time");
+        } //end if
+
+        int time = GtfsCompiler.parseTime(timeString);
+
+        if (time < 0) {
+            return;
+        } //end if
+
+        this.stopTimeStops.add(stop);
+
+        this.stopTimeTrips.add(trip);
+
+        this.stopTimeTimes.add(time);
+    } //readStopTime
+
+    /**
+     * Reads every table of the specified feed into this compiler.
+     *
+     * @param zipFile the feed to be used in the operation
+     * @throws IOException if an I/O error occurs or a required table is missing
+     */
+    private void read(ZipFile zipFile) throws IOException {
+        GtfsCompiler.readTable(zipFile, "agency.txt", false, this::readAgency);
+
+        GtfsCompiler.readTable(zipFile, "routes.txt", true, this::readRoute);
+
+        GtfsCompiler.readTable(zipFile, "calendar.txt", false, this::readCalendar);
+
+        GtfsCompiler.readTable(zipFile, "calendar_dates.txt", false, this::readCalendarDate);
+
+        GtfsCompiler.readTable(zipFile, "stops.txt", true, this::readStop);
+
+        GtfsCompiler.readTable(zipFile, "trips.txt", true, this::readTrip);
+
+        GtfsCompiler.readTable(zipFile, "stop_times.txt", true, this::readStopTime);
+
+        if (this.timeZone < 0) {
+            this.timeZone = this.intern(GtfsCompiler.DEFAULT_TIME_ZONE);
+        } //end if
+    } //read
+
+    /**
+     * Writes the specified array, preceded by its length, to the specified output stream.
+     *
+     * @param outputStream the output stream to be used in the operation
+     * @param values the values to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeArray(DataOutputStream outputStream, int[] values) throws IOException {
+        outputStream.writeInt(values.length);
+
+        for (int value : values) {
+            outputStream.writeInt(value);
+        } //end for
+    } //writeArray
+
+    /**
+     * Lays out the specified range of the specified k-d tree. The range is sorted by latitude or longitude, its median
+     * becomes the node splitting it, and the halves on either side are laid out by the other coordinate, so the tree
+     * needs no pointers: the children of the node at the middle of a range are the middles of its halves.
+     *
+     * @param tree the stop indices of the tree to be used in the operation
+     * @param keys the scratch array, as long as the tree, to be used in the operation
+     * @param from the start of the range, inclusive, to be used in the operation
+     * @param to the end of the range, exclusive, to be used in the operation
+     * @param byLatitude whether the range is split by latitude
+     */
+    private void layOut(int[] tree, long[] keys, int from, int to, boolean byLatitude) {
+        if ((to - from) <= 1) {
+            return;
+        } //end if
+
+        IntList coordinates = byLatitude ? this.stopLatitudes : this.stopLongitudes;
+
+        for (int i = from; i < to; i++) {
+            keys[i] = ((long) coordinates.get(tree[i]) << 32) | tree[i];
+        } //end for
+
+        Arrays.sort(keys, from, to);
+
+        for (int i = from; i < to; i++) {
+            tree[i] = (int) keys[i];
+        } //end for
+
+        int middle = (from + to) >>> 1;
+
+        this.layOut(tree, keys, from, middle, !byLatitude);
+
+        this.layOut(tree, keys, middle + 1, to, !byLatitude);
+    } //layOut
+
+    /**
+     * Writes the string table of this compiler to the specified output stream, as the byte offsets of each string
+     * followed by their UTF-8 bytes, padded to a multiple of four bytes.
+     *
+     * @param outputStream the output stream to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeStrings(DataOutputStream outputStream) throws IOException {
+        int[] offsets = new int[this.strings.size() + 1];
+
+        byte[][] encoded = new byte[this.strings.size()][];
+
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = this.strings.get(i)
+                                     .getBytes(StandardCharsets.UTF_8);
+
+            offsets[i + 1] = offsets[i] + encoded[i].length;
+        } //end for
+
+        GtfsCompiler.writeArray(outputStream, offsets);
+
+        for (byte[] bytes : encoded) {
+            outputStream.write(bytes);
+        } //end for
+
+        int length = offsets[encoded.length];
+
+        int padding = (4 - (length % 4)) % 4;
+
+        outputStream.write(new byte[padding]);
+    } //writeStrings
+
+    /**
+     * Writes the compiled schedule of this compiler to the specified output stream.
+     *
+     * @param outputStream the output stream to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void write(DataOutputStream outputStream) throws IOException {
+        int stopCount = this.stopIds.size;
+
+        int stopTimeCount = this.stopTimeTimes.size;
+
+        int[] arrivalOffsets = new int[stopCount + 1];
+
+        for (int i = 0; i < stopTimeCount; i++) {
+            arrivalOffsets[this.stopTimeStops.get(i) + 1]++;
+        } //end for
+
+        for (int i = 0; i < stopCount; i++) {
+            arrivalOffsets[i + 1] += arrivalOffsets[i];
+        } //end for
+
+        long[] arrivals = new long[stopTimeCount];
+
+        int[] positions = Arrays.copyOf(arrivalOffsets, stopCount);
+
+        for (int i = 0; i < stopTimeCount; i++) {
+            int stop = this.stopTimeStops.get(i);
+
+            long time = this.stopTimeTimes.get(i);
+
+            arrivals[positions[stop]] = (time << 32) | this.stopTimeTrips.get(i);
+
+            positions[stop]++;
+        } //end for
+
+        for (int i = 0; i < stopCount; i++) {
+            Arrays.sort(arrivals, arrivalOffsets[i], arrivalOffsets[i + 1]);
+        } //end for
+
+        int[] arrivalTimes = new int[stopTimeCount];
+
+        int[] arrivalTrips = new int[stopTimeCount];
+
+        for (int i = 0; i < stopTimeCount; i++) {
+            arrivalTimes[i] = (int) (arrivals[i] >>> 32);
+
+            arrivalTrips[i] = (int) arrivals[i];
+        } //end for
+
+        long[] lookup = new long[stopCount];
+
+        int lookupCount = 0;
+
+        for (int i = 0; i < stopCount; i++) {
+            int code = this.stopCodes.get(i);
+
+            if (code >= 0) {
+                lookup[lookupCount] = ((long) code << 32) | i;
+
+                lookupCount++;
+            } //end if
+        } //end for
+
+        Arrays.sort(lookup, 0, lookupCount);
+
+        IntList lookupCodes = new IntList();
+
+        IntList lookupStops = new IntList();
+
+        for (int i = 0; i < lookupCount; i++) {
+            int code = (int) (lookup[i] >>> 32);
+
+            if ((lookupCodes.size > 0) && (lookupCodes.get(lookupCodes.size - 1) == code)) {
+                continue;
+            } //end if
+
+            lookupCodes.add(code);
+
+            lookupStops.add((int) lookup[i]);
+        } //end for
+
+        int[] stopTree = this.locatedStops.toArray();
+
+        this.layOut(stopTree, new long[stopTree.length], 0, stopTree.length, true);
+
+        int serviceCount = this.serviceDays.size;
+
+        this.exceptions.sort((exception0, exception1) -> Arrays.compare(exception0, exception1));
+
+        int[] exceptionOffsets = new int[serviceCount + 1];
+
+        int[] exceptionDates = new int[this.exceptions.size()];
+
+        int[] exceptionTypes = new int[this.exceptions.size()];
+
+        for (int i = 0; i < exceptionDates.length; i++) {
+            long[] exception = this.exceptions.get(i);
+
+            exceptionOffsets[(int) exception[0] + 1]++;
+
+            exceptionDates[i] = (int) exception[1];
+
+            exceptionTypes[i] = (int) exception[2];
+        } //end for
+
+        for (int i = 0; i < serviceCount; i++) {
+            exceptionOffsets[i + 1] += exceptionOffsets[i];
+        } //end for
+
+        outputStream.writeInt(GtfsCompiler.MAGIC);
+
+        outputStream.writeInt(GtfsCompiler.FORMAT);
+
+        this.writeStrings(outputStream);
+
+        outputStream.writeInt(this.timeZone);
+
+        GtfsCompiler.writeArray(outputStream, this.routeShortNames.toArray());
+
+        GtfsCompiler.writeArray(outputStream, this.routeLongNames.toArray());
+
+        GtfsCompiler.writeArray(outputStream, this.stopIds.toArray());
+
+        GtfsCompiler.writeArray(outputStream, this.stopNames.toArray());
+
+        GtfsCompiler.writeArray(outputStream, this.stopLatitudes.toArray());
+
+        GtfsCompiler.writeArray(outputStream, this.stopLongitudes.toArray());
+
+        GtfsCompiler.writeArray(outputStream, stopTree);
+
+        GtfsCompiler.writeArray(outputStream, arrivalOffsets);
+
+        GtfsCompiler.writeArray(outputStream, lookupCodes.toArray());
+
+        GtfsCompiler.writeArray(outputStream, lookupStops.toArray());
+
+        GtfsCompiler.writeArray(outputStream, this.tripRoutes.toArray());
+
+        GtfsCompiler.writeArray(outputStream, this.tripServices.toArray());
+
+        GtfsCompiler.writeArray(outputStream, this.tripHeadsigns.toArray());
+
+        GtfsCompiler.writeArray(outputStream, this.tripDirections.toArray());
+
+        GtfsCompiler.writeArray(outputStream, this.tripLastStops.toArray());
+
+        GtfsCompiler.writeArray(outputStream, this.serviceDays.toArray());
+
+        GtfsCompiler.writeArray(outputStream, this.serviceStartDates.toArray());
+
+        GtfsCompiler.writeArray(outputStream, this.serviceEndDates.toArray());
+
+        GtfsCompiler.writeArray(outputStream, exceptionOffsets);
+
+        GtfsCompiler.writeArray(outputStream, exceptionDates);
+
+        GtfsCompiler.writeArray(outputStream, exceptionTypes);
+
+        GtfsCompiler.writeArray(outputStream, arrivalTimes);
+
+        GtfsCompiler.writeArray(outputStream, arrivalTrips);
+    } //write
+
+    /**
+     * Returns whether the file at the specified path is a schedule index in the format written by this compiler.
+     *
+     * @param indexPath the index path to be used in the operation
+     * @return {@code true}, if the file at the specified path is a schedule index in the format written by this
+     * compiler and {@code false} otherwise
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if the specified index path is {@code null}
+     */
+    static boolean isCurrent(Path indexPath) throws IOException {
+        Objects.requireNonNull(indexPath, "the specified index path is null");
+
+        try (DataInputStream inputStream = new DataInputStream(Files.newInputStream(indexPath))) {
+            return (inputStream.readInt() == GtfsCompiler.MAGIC) && (inputStream.readInt() == GtfsCompiler.FORMAT);
+        } catch (EOFException e) {
+            return false;
+        } //end try catch
+    } //isCurrent
+
+    /**
+     * Compiles the GTFS static feed at the specified path into a binary schedule at the specified index path. The
+     * index is written to a temporary file and moved into place, so a reader never sees a partial index.
+     *
+     * @param feedPath the feed path to be used in the operation
+     * @param indexPath the index path to be used in the operation
+     * @throws IOException if an I/O error occurs or the feed is missing a required table
+     * @throws NullPointerException if the specified feed path or index path is {@code null}
+     */
+    public static void compile(Path feedPath, Path indexPath) throws IOException {
+        Objects.requireNonNull(feedPath, "the specified feed path is null");
+
+        Objects.requireNonNull(indexPath, "the specified index path is null");
+
+        GtfsCompiler compiler = new GtfsCompiler();
+
+        try (ZipFile zipFile = new ZipFile(feedPath.toFile())) {
+            compiler.read(zipFile);
+        } //end try
+
+        Path absolutePath = indexPath.toAbsolutePath();
+
+        Path directory = absolutePath.getParent();
+
+        Files.createDirectories(directory);
+
+        Path temporaryPath = Files.createTempFile(directory, absolutePath.getFileName()
+                                                                         .toString(), ".tmp");
+
+        try {
+            try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporaryPath)))) {
+                compiler.write(outputStream);
+            } //end try
+
+            Files.move(temporaryPath, absolutePath, StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        } //end try finally
+
+        GtfsCompiler.LOGGER.atInfo()
+                           .log("Compiled {} stops, {} trips, and {} stop times from {}", compiler.stopIds.size,
+                                compiler.tripRoutes.size, compiler.stopTimeTimes.size, feedPath);
+    } //compile
+
+    /**
+     * Compiles the GTFS static feed at the first specified path into a binary schedule at the second.
+     *
+     * @param args the command-line arguments to be used in the operation
+     * @throws IOException if an I/O error occurs or the feed is missing a required table
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: GtfsCompiler <feed zip> <index file>");
+
+            System.exit(1);
+        } //end if
+
+        GtfsCompiler.compile(Path.of(args[0]), Path.of(args[1]));
+    } //main
+}
\ No newline at end of file
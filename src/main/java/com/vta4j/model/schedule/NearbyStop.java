@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.schedule;
+
+import com.vta4j.model.Stop;
+import java.util.Objects;
+
+/**
+ * A stop near a location, found in a {@link ScheduleIndex}.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ * @param stop the stop
+ * @param latitude the latitude of the stop, in degrees
+ * @param longitude the longitude of the stop, in degrees
+ * @param distance the distance from the location to the stop, in meters
+ */
+public record NearbyStop(Stop stop, double latitude, double longitude, int distance) {
+    /**
+     * Constructs an instance of the {@link NearbyStop} class.
+     *
+     * @param stop the stop to be used in construction
+     * @param latitude the latitude to be used in construction
+     * @param longitude the longitude to be used in construction
+     * @param distance the distance to be used in construction
+     * @throws NullPointerException if the specified stop is {@code null}
+     */
+    public NearbyStop {
+        Objects.requireNonNull(stop, "the specified stop is null");
+    } //NearbyStop
+}
\ No newline at end of file
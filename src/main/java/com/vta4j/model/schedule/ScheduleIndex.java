@@ -0,0 +1,963 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.schedule;
+
+import com.vta4j.model.Bus;
+import com.vta4j.model.Line;
+import com.vta4j.model.Stop;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A read-only index of a static schedule, memory-mapped from a file written by {@link GtfsCompiler}. Every array of
+ * the file is read in place, so opening an index only maps the file, and a lookup is a binary search over a stop's
+ * arrivals followed by a scan of those within the horizon. The lines, stops, and strings of buses are decoded once
+ * and shared, so a lookup only allocates the buses it returns. The stops nearest a location are found by a
+ * depth-first search of the k-d tree laid out by the compiler, which prunes every subtree that cannot hold a stop
+ * nearer than those already found.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+public final class ScheduleIndex {
+    /**
+     * The services that run on a day, along with the start of that day.
+     *
+     * @param epochDay the epoch day of the day
+     * @param start the start of the day's schedule, in epoch seconds
+     * @param active whether each service runs on the day
+     */
+    private record ServiceDay(long epochDay, long start, boolean[] active) {
+    }
+
+    /**
+     * A bounded max-heap of the stops nearest a location, keyed by squared distance. It holds the result of a
+     * search, so a search allocates nothing else.
+     */
+    private static final class Neighbors {
+        /**
+         * The stop indices of these neighbors.
+         */
+        private final int[] stops;
+
+        /**
+         * The squared distances of these neighbors, in scaled microdegrees.
+         */
+        private final double[] distances;
+
+        /**
+         * The size of these neighbors.
+         */
+        private int size;
+
+        /**
+         * Constructs an instance of the {@link Neighbors} class.
+         *
+         * @param capacity the capacity to be used in construction
+         */
+        private Neighbors(int capacity) {
+            this.stops = new int[capacity];
+
+            this.distances = new double[capacity];
+
+            this.size = 0;
+        } //Neighbors
+
+        /**
+         * Returns whether the specified squared distance may be nearer than one of these neighbors.
+         *
+         * @param distance the squared distance to be used in the operation
+         * @return {@code true}, if the specified squared distance may be nearer than one of these neighbors and
+         * {@code false} otherwise
+         */
+        private boolean accepts(double distance) {
+            return (this.size < this.stops.length) || (distance < this.distances[0]);
+        } //accepts
+
+        /**
+         * Swaps the neighbors at the specified indices.
+         *
+         * @param i the first index to be used in the operation
+         * @param j the second index to be used in the operation
+         */
+        private void swap(int i, int j) {
+            int stop = this.stops[i];
+
+            this.stops[i] = this.stops[j];
+
+            this.stops[j] = stop;
+
+            double distance = this.distances[i];
+
+            this.distances[i] = this.distances[j];
+
+            this.distances[j] = distance;
+        } //swap
+
+        /**
+         * Moves the neighbor at the specified index down the first specified number of neighbors until neither of
+         * its children is farther.
+         *
+         * @param index the index to be used in the operation
+         * @param end the number of neighbors to be used in the operation
+         */
+        private void siftDown(int index, int end) {
+            int parent = index;
+
+            while (true) {
+                int farthest = parent;
+
+                int left = (2 * parent) + 1;
+
+                int right = left + 1;
+
+                if ((left < end) && (this.distances[left] > this.distances[farthest])) {
+                    farthest = left;
+                } //end if
+
+                if ((right < end) && (this.distances[right] > this.distances[farthest])) {
+                    farthest = right;
+                } //end if
+
+                if (farthest == parent) {
+                    return;
+                } //end if
+
+                this.swap(parent, farthest);
+
+                parent = farthest;
+            } //end while
+        } //siftDown
+
+        /**
+         * Offers the stop with the specified index at the specified squared distance, replacing the farthest of these
+         * neighbors if they are full and it is nearer.
+         *
+         * @param stop the stop index to be used in the operation
+         * @param distance the squared distance to be used in the operation
+         */
+        private void offer(int stop, double distance) {
+            if (this.size < this.stops.length) {
+                int child = this.size;
+
+                this.stops[child] = stop;
+
+                this.distances[child] = distance;
+
+                this.size++;
+
+                while (child > 0) {
+                    int parent = (child - 1) / 2;
+
+                    if (this.distances[parent] >= this.distances[child]) {
+                        break;
+                    } //end if
+
+                    this.swap(parent, child);
+
+                    child = parent;
+                } //end while
+            } else if (distance < this.distances[0]) {
+                this.stops[0] = stop;
+
+                this.distances[0] = distance;
+
+                this.siftDown(0, this.size);
+            } //end if
+        } //offer
+
+        /**
+         * Sorts these neighbors from nearest to farthest, after which they are no longer a heap.
+         */
+        private void sort() {
+            for (int end = this.size - 1; end > 0; end--) {
+                this.swap(0, end);
+
+                this.siftDown(0, end);
+            } //end for
+        } //sort
+    } //Neighbors
+
+    /**
+     * The number of service days cached by the {@link ScheduleIndex} class, which must be more than the number of
+     * days a lookup spans.
+     */
+    private static final int CACHED_DAYS;
+
+    /**
+     * The number of meters in a microdegree of latitude of the {@link ScheduleIndex} class.
+     */
+    private static final double METERS_PER_MICRODEGREE;
+
+    static {
+        CACHED_DAYS = 4;
+
+        METERS_PER_MICRODEGREE = Math.toRadians(1.0E-6) * 6_371_008.8;
+    } //static
+
+    /**
+     * The string offsets of this index.
+     */
+    private final IntBuffer stringOffsets;
+
+    /**
+     * The string bytes of this index.
+     */
+    private final ByteBuffer stringBytes;
+
+    /**
+     * The time zone of this index.
+     */
+    private final ZoneId zoneId;
+
+    /**
+     * The short name string indices of the routes of this index.
+     */
+    private final IntBuffer routeShortNames;
+
+    /**
+     * The long name string indices of the routes of this index.
+     */
+    private final IntBuffer routeLongNames;
+
+    /**
+     * The public ID string indices of the stops of this index.
+     */
+    private final IntBuffer stopIds;
+
+    /**
+     * The name string indices of the stops of this index.
+     */
+    private final IntBuffer stopNames;
+
+    /**
+     * The latitudes of the stops of this index, in microdegrees.
+     */
+    private final IntBuffer stopLatitudes;
+
+    /**
+     * The longitudes of the stops of this index, in microdegrees.
+     */
+    private final IntBuffer stopLongitudes;
+
+    /**
+     * The stop indices of the k-d tree of this index, split by latitude at the root and alternating with each level.
+     */
+    private final IntBuffer stopTree;
+
+    /**
+     * The offsets of the arrivals of each stop of this index.
+     */
+    private final IntBuffer arrivalOffsets;
+
+    /**
+     * The sorted stop codes of this index.
+     */
+    private final IntBuffer lookupCodes;
+
+    /**
+     * The stop indices of the sorted stop codes of this index.
+     */
+    private final IntBuffer lookupStops;
+
+    /**
+     * The route indices of the trips of this index.
+     */
+    private final IntBuffer tripRoutes;
+
+    /**
+     * The service indices of the trips of this index.
+     */
+    private final IntBuffer tripServices;
+
+    /**
+     * The headsign string indices of the trips of this index.
+     */
+    private final IntBuffer tripHeadsigns;
+
+    /**
+     * The direction IDs of the trips of this index.
+     */
+    private final IntBuffer tripDirections;
+
+    /**
+     * The last stop indices of the trips of this index.
+     */
+    private final IntBuffer tripLastStops;
+
+    /**
+     * The weekday masks of the services of this index.
+     */
+    private final IntBuffer serviceDays;
+
+    /**
+     * The start dates of the services of this index.
+     */
+    private final IntBuffer serviceStartDates;
+
+    /**
+     * The end dates of the services of this index.
+     */
+    private final IntBuffer serviceEndDates;
+
+    /**
+     * The offsets of the exceptions of each service of this index.
+     */
+    private final IntBuffer exceptionOffsets;
+
+    /**
+     * The dates of the exceptions of this index.
+     */
+    private final IntBuffer exceptionDates;
+
+    /**
+     * The types of the exceptions of this index.
+     */
+    private final IntBuffer exceptionTypes;
+
+    /**
+     * The times of the arrivals of this index, grouped by stop and sorted by time.
+     */
+    private final IntBuffer arrivalTimes;
+
+    /**
+     * The trip indices of the arrivals of this index.
+     */
+    private final IntBuffer arrivalTrips;
+
+    /**
+     * The decoded strings of this index.
+     */
+    private final String[] strings;
+
+    /**
+     * The decoded lines of this index, by route index.
+     */
+    private final Line[] lines;
+
+    /**
+     * The decoded stops of this index, by stop index.
+     */
+    private final Stop[] stops;
+
+    /**
+     * The decoded destinations of this index, by trip index.
+     */
+    private final Stop[] destinations;
+
+    /**
+     * The recently used service days of this index, by epoch day.
+     */
+    private final AtomicReferenceArray<ServiceDay> serviceDayCache;
+
+    /**
+     * Constructs an instance of the {@link ScheduleIndex} class.
+     *
+     * @param buffer the buffer to be used in construction
+     * @throws IOException if the specified buffer does not contain a schedule index
+     */
+    private ScheduleIndex(ByteBuffer buffer) throws IOException {
+        if ((buffer.getInt() != GtfsCompiler.MAGIC) || (buffer.getInt() != GtfsCompiler.FORMAT)) {
+            throw new IOException("the specified file is not a schedule index of a supported format");
+        } //end if
+
+        this.stringOffsets = ScheduleIndex.nextArray(buffer);
+
+        int stringCount = this.stringOffsets.limit() - 1;
+
+        int stringLength = this.stringOffsets.get(stringCount);
+
+        int position = buffer.position();
+
+        this.stringBytes = buffer.slice(position, stringLength);
+
+        buffer.position(position + stringLength + ((4 - (stringLength % 4)) % 4));
+
+        this.strings = new String[stringCount];
+
+        this.zoneId = ZoneId.of(this.getString(buffer.getInt()));
+
+        this.routeShortNames = ScheduleIndex.nextArray(buffer);
+
+        this.routeLongNames = ScheduleIndex.nextArray(buffer);
+
+        this.stopIds = ScheduleIndex.nextArray(buffer);
+
+        this.stopNames = ScheduleIndex.nextArray(buffer);
+
+        this.stopLatitudes = ScheduleIndex.nextArray(buffer);
+
+        this.stopLongitudes = ScheduleIndex.nextArray(buffer);
+
+        this.stopTree = ScheduleIndex.nextArray(buffer);
+
+        this.arrivalOffsets = ScheduleIndex.nextArray(buffer);
+
+        this.lookupCodes = ScheduleIndex.nextArray(buffer);
+
+        this.lookupStops = ScheduleIndex.nextArray(buffer);
+
+        this.tripRoutes = ScheduleIndex.nextArray(buffer);
+
+        this.tripServices = ScheduleIndex.nextArray(buffer);
+
+        this.tripHeadsigns = ScheduleIndex.nextArray(buffer);
+
+        this.tripDirections = ScheduleIndex.nextArray(buffer);
+
+        this.tripLastStops = ScheduleIndex.nextArray(buffer);
+
+        this.serviceDays = ScheduleIndex.nextArray(buffer);
+
+        this.serviceStartDates = ScheduleIndex.nextArray(buffer);
+
+        this.serviceEndDates = ScheduleIndex.nextArray(buffer);
+
+        this.exceptionOffsets = ScheduleIndex.nextArray(buffer);
+
+        this.exceptionDates = ScheduleIndex.nextArray(buffer);
+
+        this.exceptionTypes = ScheduleIndex.nextArray(buffer);
+
+        this.arrivalTimes = ScheduleIndex.nextArray(buffer);
+
+        this.arrivalTrips = ScheduleIndex.nextArray(buffer);
+
+        this.lines = new Line[this.routeShortNames.limit()];
+
+        this.stops = new Stop[this.stopIds.limit()];
+
+        this.destinations = new Stop[this.tripRoutes.limit()];
+
+        this.serviceDayCache = new AtomicReferenceArray<>(ScheduleIndex.CACHED_DAYS);
+    } //ScheduleIndex
+
+    /**
+     * Returns a view of the next array of the specified buffer, and advances the buffer past it.
+     *
+     * @param buffer the buffer to be used in the operation
+     * @return a view of the next array of the specified buffer
+     */
+    private static IntBuffer nextArray(ByteBuffer buffer) {
+        int length = buffer.getInt();
+
+        int position = buffer.position();
+
+        int byteLength = length * Integer.BYTES;
+
+        IntBuffer array = buffer.slice(position, byteLength)
+                                .asIntBuffer();
+
+        buffer.position(position + byteLength);
+
+        return array;
+    } //nextArray
+
+    /**
+     * Opens the schedule index at the specified path by memory-mapping it.
+     *
+     * @param path the path to be used in the operation
+     * @return the schedule index at the specified path
+     * @throws IOException if an I/O error occurs or the file is not a schedule index
+     * @throws NullPointerException if the specified path is {@code null}
+     */
+    public static ScheduleIndex open(Path path) throws IOException {
+        Objects.requireNonNull(path, "the specified path is null");
+
+        ByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        } //end try
+
+        try {
+            return new ScheduleIndex(buffer);
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("the specified file is not a valid schedule index", e);
+        } //end try catch
+    } //open
+
+    /**
+     * Returns the string with the specified index.
+     *
+     * @param index the index to be used in the operation
+     * @return the string with the specified index
+     */
+    private String getString(int index) {
+        String string = this.strings[index];
+
+        if (string == null) {
+            int offset = this.stringOffsets.get(index);
+
+            byte[] bytes = new byte[this.stringOffsets.get(index + 1) - offset];
+
+            this.stringBytes.get(offset, bytes);
+
+            string = new String(bytes, StandardCharsets.UTF_8);
+
+            this.strings[index] = string;
+        } //end if
+
+        return string;
+    } //getString
+
+    /**
+     * Returns the line of the route with the specified index.
+     *
+     * @param route the route index to be used in the operation
+     * @return the line of the route with the specified index
+     */
+    private Line getLine(int route) {
+        Line line = this.lines[route];
+
+        if (line == null) {
+            String id = this.getString(this.routeShortNames.get(route));
+
+            String name = this.getString(this.routeLongNames.get(route));
+
+            line = new Line(id, name);
+
+            this.lines[route] = line;
+        } //end if
+
+        return line;
+    } //getLine
+
+    /**
+     * Returns the stop with the specified index.
+     *
+     * @param index the stop index to be used in the operation
+     * @return the stop with the specified index
+     */
+    private Stop getStop(int index) {
+        Stop stop = this.stops[index];
+
+        if (stop == null) {
+            String id = this.getString(this.stopIds.get(index));
+
+            String name = this.getString(this.stopNames.get(index));
+
+            stop = new Stop(id, name);
+
+            this.stops[index] = stop;
+        } //end if
+
+        return stop;
+    } //getStop
+
+    /**
+     * Returns the destination of the trip with the specified index, named by its headsign if it has one, or
+     * {@code null} if the trip has no last stop.
+     *
+     * @param trip the trip index to be used in the operation
+     * @return the destination of the trip with the specified index, or {@code null}
+     */
+    private Stop getDestination(int trip) {
+        Stop destination = this.destinations[trip];
+
+        int lastStop = this.tripLastStops.get(trip);
+
+        if ((destination == null) && (lastStop >= 0)) {
+            Stop stop = this.getStop(lastStop);
+
+            String headsign = this.getString(this.tripHeadsigns.get(trip));
+
+            destination = headsign.isEmpty() ? stop : new Stop(stop.id(), headsign);
+
+            this.destinations[trip] = destination;
+        } //end if
+
+        return destination;
+    } //getDestination
+
+    /**
+     * Returns whether the service with the specified index runs on the specified date.
+     *
+     * @param service the service index to be used in the operation
+     * @param date the date, as {@code yyyymmdd}, to be used in the operation
+     * @param dayOfWeek the day of the week of the date to be used in the operation
+     * @return {@code true}, if the service with the specified index runs on the specified date and {@code false}
+     * otherwise
+     */
+    private boolean isActive(int service, int date, DayOfWeek dayOfWeek) {
+        int from = this.exceptionOffsets.get(service);
+
+        int to = this.exceptionOffsets.get(service + 1);
+
+        for (int i = from; i < to; i++) {
+            if (this.exceptionDates.get(i) == date) {
+                return this.exceptionTypes.get(i) == 1;
+            } //end if
+        } //end for
+
+        if ((date < this.serviceStartDates.get(service)) || (date > this.serviceEndDates.get(service))) {
+            return false;
+        } //end if
+
+        int bit = 1 << (dayOfWeek.getValue() - 1);
+
+        return (this.serviceDays.get(service) & bit) != 0;
+    } //isActive
+
+    /**
+     * Returns the service day with the specified epoch day. The start of a service day is noon minus twelve hours,
+     * as defined by GTFS, which is midnight except on days with a daylight saving time change.
+     *
+     * @param epochDay the epoch day to be used in the operation
+     * @return the service day with the specified epoch day
+     */
+    private ServiceDay getServiceDay(long epochDay) {
+        int slot = Math.floorMod(epochDay, ScheduleIndex.CACHED_DAYS);
+
+        ServiceDay serviceDay = this.serviceDayCache.get(slot);
+
+        if ((serviceDay != null) && (serviceDay.epochDay() == epochDay)) {
+            return serviceDay;
+        } //end if
+
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+
+        long start = ZonedDateTime.of(date, LocalTime.NOON, this.zoneId)
+                                  .minusHours(12)
+                                  .toEpochSecond();
+
+        int dateValue = (date.getYear() * 10_000) + (date.getMonthValue() * 100) + date.getDayOfMonth();
+
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+
+        boolean[] active = new boolean[this.serviceDays.limit()];
+
+        for (int i = 0; i < active.length; i++) {
+            active[i] = this.isActive(i, dateValue, dayOfWeek);
+        } //end for
+
+        serviceDay = new ServiceDay(epochDay, start, active);
+
+        this.serviceDayCache.set(slot, serviceDay);
+
+        return serviceDay;
+    } //getServiceDay
+
+    /**
+     * Returns the index of the first arrival in the specified range whose time is not before the specified time.
+     *
+     * @param from the start of the range, inclusive, to be used in the operation
+     * @param to the end of the range, exclusive, to be used in the operation
+     * @param time the time to be used in the operation
+     * @return the index of the first arrival in the specified range whose time is not before the specified time
+     */
+    private int lowerBound(int from, int to, long time) {
+        int low = from;
+
+        int high = to;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (this.arrivalTimes.get(middle) < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            } //end if
+        } //end while
+
+        return low;
+    } //lowerBound
+
+    /**
+     * Returns the index of the stop with the specified code, or {@code -1} if there is no such stop.
+     *
+     * @param stopId the stop code to be used in the operation
+     * @return the index of the stop with the specified code, or {@code -1}
+     */
+    private int findStop(int stopId) {
+        int low = 0;
+
+        int high = this.lookupCodes.limit() - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            int code = this.lookupCodes.get(middle);
+
+            if (code < stopId) {
+                low = middle + 1;
+            } else if (code > stopId) {
+                high = middle - 1;
+            } else {
+                return this.lookupStops.get(middle);
+            } //end if
+        } //end while
+
+        return -1;
+    } //findStop
+
+    /**
+     * Returns the direction of the trip with the specified index.
+     *
+     * @param trip the trip index to be used in the operation
+     * @return the direction of the trip with the specified index
+     */
+    private String getDirection(int trip) {
+        return switch (this.tripDirections.get(trip)) {
+            case 0 -> "OUTBOUND";
+            case 1 -> "INBOUND";
+            default -> "";
+        }; //end switch
+    } //getDirection
+
+    /**
+     * Returns a {@link Set} of buses scheduled to arrive at the stop with the specified ID within the specified
+     * horizon of the specified time. The buses are flagged as scheduled and have no vehicle ID.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param now the time to be used in the operation
+     * @param horizon the horizon to be used in the operation
+     * @return a {@link Set} of buses scheduled to arrive at the stop with the specified ID within the specified
+     * horizon of the specified time
+     * @throws NullPointerException if the specified time or horizon is {@code null}
+     */
+    public Set<Bus> getBuses(int stopId, Instant now, Duration horizon) {
+        Objects.requireNonNull(now, "the specified time is null");
+
+        Objects.requireNonNull(horizon, "the specified horizon is null");
+
+        int stop = this.findStop(stopId);
+
+        if (stop < 0) {
+            return Set.of();
+        } //end if
+
+        int from = this.arrivalOffsets.get(stop);
+
+        int to = this.arrivalOffsets.get(stop + 1);
+
+        if (from == to) {
+            return Set.of();
+        } //end if
+
+        long nowSecond = now.getEpochSecond();
+
+        long horizonSeconds = horizon.toSeconds();
+
+        long today = LocalDate.ofInstant(now, this.zoneId)
+                              .toEpochDay();
+
+        Set<Bus> buses = null;
+
+        for (long epochDay = today - 1; epochDay <= (today + 1); epochDay++) {
+            ServiceDay serviceDay = this.getServiceDay(epochDay);
+
+            long start = nowSecond - serviceDay.start();
+
+            long end = start + horizonSeconds;
+
+            for (int i = this.lowerBound(from, to, start); i < to; i++) {
+                int time = this.arrivalTimes.get(i);
+
+                if (time > end) {
+                    break;
+                } //end if
+
+                int trip = this.arrivalTrips.get(i);
+
+                if (!serviceDay.active()[this.tripServices.get(trip)]) {
+                    continue;
+                } //end if
+
+                Line line = this.getLine(this.tripRoutes.get(trip));
+
+                ZonedDateTime arrivalTime = Instant.ofEpochSecond(serviceDay.start() + time)
+                                                   .atZone(this.zoneId);
+
+                Bus bus = new Bus(null, line, this.getStop(stop), this.getDestination(trip), this.getDirection(trip),
+                                  arrivalTime, true);
+
+                if (buses == null) {
+                    buses = new HashSet<>();
+                } //end if
+
+                buses.add(bus);
+            } //end for
+        } //end for
+
+        return (buses == null) ? Set.of() : Collections.unmodifiableSet(buses);
+    } //getBuses
+
+    /**
+     * Offers the stops of the specified range of the k-d tree of this index to the specified neighbors, searching the
+     * half of the range on the side of the location first and skipping the other half if the splitting plane is
+     * farther than every neighbor. Distances are measured on a plane whose longitudes are scaled by the specified
+     * factor, which is exact enough at the scale of a city.
+     *
+     * @param from the start of the range, inclusive, to be used in the operation
+     * @param to the end of the range, exclusive, to be used in the operation
+     * @param byLatitude whether the range is split by latitude
+     * @param latitude the latitude of the location, in microdegrees, to be used in the operation
+     * @param longitude the longitude of the location, in microdegrees, to be used in the operation
+     * @param scale the factor longitudes are scaled by to be used in the operation
+     * @param neighbors the neighbors to be used in the operation
+     */
+    private void search(int from, int to, boolean byLatitude, double latitude, double longitude, double scale,
+                        Neighbors neighbors) {
+        if (from >= to) {
+            return;
+        } //end if
+
+        int middle = (from + to) >>> 1;
+
+        int stop = this.stopTree.get(middle);
+
+        double latitudeDifference = latitude - this.stopLatitudes.get(stop);
+
+        double longitudeDifference = (longitude - this.stopLongitudes.get(stop)) * scale;
+
+        double distance = (latitudeDifference * latitudeDifference) + (longitudeDifference * longitudeDifference);
+
+        neighbors.offer(stop, distance);
+
+        double split = byLatitude ? latitudeDifference : longitudeDifference;
+
+        if (split < 0.0) {
+            this.search(from, middle, !byLatitude, latitude, longitude, scale, neighbors);
+
+            if (neighbors.accepts(split * split)) {
+                this.search(middle + 1, to, !byLatitude, latitude, longitude, scale, neighbors);
+            } //end if
+        } else {
+            this.search(middle + 1, to, !byLatitude, latitude, longitude, scale, neighbors);
+
+            if (neighbors.accepts(split * split)) {
+                this.search(from, middle, !byLatitude, latitude, longitude, scale, neighbors);
+            } //end if
+        } //end if
+    } //search
+
+    /**
+     * Returns a {@link List} of at most the specified number of stops nearest the specified location, sorted from
+     * nearest to farthest. Only boardable stops with a location in the feed are considered.
+     *
+     * @param latitude the latitude, in degrees, to be used in the operation
+     * @param longitude the longitude, in degrees, to be used in the operation
+     * @param count the maximum number of stops to be used in the operation
+     * @return a {@link List} of at most the specified number of stops nearest the specified location
+     * @throws IllegalArgumentException if the specified latitude or longitude is out of range, or the specified count
+     * is not positive
+     */
+    public List<NearbyStop> getNearbyStops(double latitude, double longitude, int count) {
+        if (!(Math.abs(latitude) <= 90.0)) {
+            throw new IllegalArgumentException("the specified latitude is out of range");
+        } else if (!(Math.abs(longitude) <= 180.0)) {
+            throw new IllegalArgumentException("the specified longitude is out of range");
+        } else if (count <= 0) {
+            throw new IllegalArgumentException("the specified count is not positive");
+        } //end if
+
+        int treeSize = this.stopTree.limit();
+
+        if (treeSize == 0) {
+            return List.of();
+        } //end if
+
+        Neighbors neighbors = new Neighbors(Math.min(count, treeSize));
+
+        double scale = Math.cos(Math.toRadians(latitude));
+
+        this.search(0, treeSize, true, latitude * 1_000_000.0, longitude * 1_000_000.0, scale, neighbors);
+
+        neighbors.sort();
+
+        NearbyStop[] nearbyStops = new NearbyStop[neighbors.size];
+
+        for (int i = 0; i < neighbors.size; i++) {
+            int stop = neighbors.stops[i];
+
+            double stopLatitude = this.stopLatitudes.get(stop) / 1_000_000.0;
+
+            double stopLongitude = this.stopLongitudes.get(stop) / 1_000_000.0;
+
+            double meters = Math.sqrt(neighbors.distances[i]) * ScheduleIndex.METERS_PER_MICRODEGREE;
+
+            nearbyStops[i] = new NearbyStop(this.getStop(stop), stopLatitude, stopLongitude,
+                                            (int) Math.round(meters));
+        } //end for
+
+        return List.of(nearbyStops);
+    } //getNearbyStops
+
+    /**
+     * Returns the number of stops of this index with a location.
+     *
+     * @return the number of stops of this index with a location
+     */
+    public int getLocatedStopCount() {
+        return this.stopTree.limit();
+    } //getLocatedStopCount
+
+    /**
+     * Returns the number of stops of this index.
+     *
+     * @return the number of stops of this index
+     */
+    public int getStopCount() {
+        return this.stopIds.limit();
+    } //getStopCount
+
+    /**
+     * Returns the number of trips of this index.
+     *
+     * @return the number of trips of this index
+     */
+    public int getTripCount() {
+        return this.tripRoutes.limit();
+    } //getTripCount
+
+    /**
+     * Returns the number of scheduled arrivals of this index.
+     *
+     * @return the number of scheduled arrivals of this index
+     */
+    public int getArrivalCount() {
+        return this.arrivalTimes.limit();
+    } //getArrivalCount
+}
\ No newline at end of file
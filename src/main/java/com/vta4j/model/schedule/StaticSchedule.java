@@ -0,0 +1,320 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.schedule;
+
+import org.springframework.stereotype.Component;
+import org.springframework.beans.factory.annotation.Value;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+import com.vta4j.model.Bus;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PostConstruct;
+
+/**
+ * The static schedule of the VTA4j application, used in place of real-time data when it is unavailable and to find
+ * the stops near a location. The schedule is memory-mapped from the index at {@code vta4j.schedule.index}. If a GTFS
+ * static feed is configured at {@code vta4j.schedule.feed} and the index is missing, older than it, or in an older
+ * format, the index is compiled from the feed on a background thread, so startup is never held up by compilation.
+ * Meanwhile, an existing index in the current format is served, and it is swapped for the new one once compilation
+ * finishes. Without either, the schedule is empty.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+public final class StaticSchedule {
+    /**
+     * The logger of the {@link StaticSchedule} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger();
+    } //static
+
+    /**
+     * The feed path of this schedule, or {@code null} if no feed is configured.
+     */
+    private final Path feedPath;
+
+    /**
+     * The index path of this schedule.
+     */
+    private final Path indexPath;
+
+    /**
+     * The horizon of this schedule.
+     */
+    private final Duration horizon;
+
+    /**
+     * The lookup count of this schedule.
+     */
+    private final LongAdder lookupCount;
+
+    /**
+     * The nearby stop lookup count of this schedule.
+     */
+    private final LongAdder nearbyLookupCount;
+
+    /**
+     * The index of this schedule, or {@code null} if none is loaded.
+     */
+    private volatile ScheduleIndex index;
+
+    /**
+     * Constructs an instance of the {@link StaticSchedule} class.
+     *
+     * @param feed the feed path to be used in construction, or an empty string
+     * @param index the index path to be used in construction
+     * @param horizon the horizon to be used in construction
+     * @throws NullPointerException if the specified feed path, index path, or horizon is {@code null}
+     * @throws IllegalArgumentException if the specified horizon is not positive
+     */
+    public StaticSchedule(@Value("${vta4j.schedule.feed:}") String feed,
+                          @Value("${vta4j.schedule.index:schedule.idx}") String index,
+                          @Value("${vta4j.schedule.horizon:60m}") Duration horizon) {
+        Objects.requireNonNull(feed, "the specified feed path is null");
+
+        Objects.requireNonNull(index, "the specified index path is null");
+
+        Objects.requireNonNull(horizon, "the specified horizon is null");
+
+        if (horizon.isNegative() || horizon.isZero()) {
+            throw new IllegalArgumentException("the specified horizon is not positive");
+        } //end if
+
+        this.feedPath = feed.isBlank() ? null : Path.of(feed);
+
+        this.indexPath = Path.of(index);
+
+        this.horizon = horizon;
+
+        this.lookupCount = new LongAdder();
+
+        this.nearbyLookupCount = new LongAdder();
+
+        this.index = null;
+    } //StaticSchedule
+
+    /**
+     * Opens the index of this schedule. A failure is logged and leaves the current index, if any, in place.
+     */
+    private void open() {
+        try {
+            this.index = ScheduleIndex.open(this.indexPath);
+        } catch (IOException e) {
+            StaticSchedule.LOGGER.atError()
+                                 .withThrowable(e)
+                                 .log();
+        } //end try catch
+    } //open
+
+    /**
+     * Compiles the feed of this schedule into its index and opens it. A failure is logged and leaves the current
+     * index, if any, in place.
+     */
+    private void compile() {
+        try {
+            GtfsCompiler.compile(this.feedPath, this.indexPath);
+        } catch (IOException | RuntimeException e) {
+            StaticSchedule.LOGGER.atError()
+                                 .withThrowable(e)
+                                 .log();
+
+            return;
+        } //end try catch
+
+        this.open();
+    } //compile
+
+    /**
+     * Returns whether the index of this schedule needs to be compiled from its feed.
+     *
+     * @return {@code true}, if the index of this schedule needs to be compiled from its feed and {@code false}
+     * otherwise
+     * @throws IOException if an I/O error occurs
+     */
+    private boolean isStale() throws IOException {
+        if ((this.feedPath == null) || !Files.exists(this.feedPath)) {
+            return false;
+        } else if (!Files.exists(this.indexPath) || !GtfsCompiler.isCurrent(this.indexPath)) {
+            return true;
+        } //end if
+
+        FileTime feedTime = Files.getLastModifiedTime(this.feedPath);
+
+        FileTime indexTime = Files.getLastModifiedTime(this.indexPath);
+
+        return feedTime.compareTo(indexTime) > 0;
+    } //isStale
+
+    /**
+     * Returns whether the index of this schedule exists and is in the current format, so it can be opened.
+     *
+     * @return {@code true}, if the index of this schedule exists and is in the current format and {@code false}
+     * otherwise
+     */
+    private boolean isOpenable() {
+        if (!Files.exists(this.indexPath)) {
+            return false;
+        } //end if
+
+        try {
+            return GtfsCompiler.isCurrent(this.indexPath);
+        } catch (IOException e) {
+            StaticSchedule.LOGGER.atError()
+                                 .withThrowable(e)
+                                 .log();
+
+            return false;
+        } //end try catch
+    } //isOpenable
+
+    /**
+     * Loads the index of this schedule, compiling it from the feed on a background thread if it is stale. A stale
+     * index in the current format is opened first, so it is served until compilation finishes.
+     */
+    @PostConstruct
+    public void load() {
+        boolean stale;
+
+        try {
+            stale = this.isStale();
+        } catch (IOException e) {
+            StaticSchedule.LOGGER.atError()
+                                 .withThrowable(e)
+                                 .log();
+
+            stale = false;
+        } //end try catch
+
+        if (stale) {
+            if (this.isOpenable()) {
+                this.open();
+            } //end if
+
+            Thread thread = new Thread(this::compile, "schedule-compiler");
+
+            thread.setDaemon(true);
+
+            thread.start();
+        } else if (Files.exists(this.indexPath)) {
+            this.open();
+        } //end if
+    } //load
+
+    /**
+     * Returns whether an index is loaded in this schedule.
+     *
+     * @return {@code true} if an index is loaded in this schedule, {@code false} otherwise
+     */
+    public boolean isLoaded() {
+        return this.index != null;
+    } //isLoaded
+
+    /**
+     * Returns a {@link Set} of buses scheduled to arrive at the stop with the specified ID within the horizon of this
+     * schedule, flagged as scheduled. The {@link Set} is empty if no schedule is loaded.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return a {@link Set} of buses scheduled to arrive at the stop with the specified ID within the horizon of this
+     * schedule
+     */
+    public Set<Bus> getBuses(int stopId) {
+        ScheduleIndex scheduleIndex = this.index;
+
+        if (scheduleIndex == null) {
+            return Set.of();
+        } //end if
+
+        this.lookupCount.increment();
+
+        Instant now = Instant.now();
+
+        return scheduleIndex.getBuses(stopId, now, this.horizon);
+    } //getBuses
+
+    /**
+     * Returns a {@link List} of at most the specified number of stops nearest the specified location, sorted from
+     * nearest to farthest. The {@link List} is empty if no schedule is loaded.
+     *
+     * @param latitude the latitude, in degrees, to be used in the operation
+     * @param longitude the longitude, in degrees, to be used in the operation
+     * @param count the maximum number of stops to be used in the operation
+     * @return a {@link List} of at most the specified number of stops nearest the specified location
+     * @throws IllegalArgumentException if the specified latitude or longitude is out of range, or the specified count
+     * is not positive
+     */
+    public List<NearbyStop> getNearbyStops(double latitude, double longitude, int count) {
+        ScheduleIndex scheduleIndex = this.index;
+
+        if (scheduleIndex == null) {
+            return List.of();
+        } //end if
+
+        List<NearbyStop> nearbyStops = scheduleIndex.getNearbyStops(latitude, longitude, count);
+
+        this.nearbyLookupCount.increment();
+
+        return nearbyStops;
+    } //getNearbyStops
+
+    /**
+     * Returns the statistics of this schedule.
+     *
+     * @return the statistics of this schedule
+     */
+    public ScheduleStats getStats() {
+        ScheduleIndex scheduleIndex = this.index;
+
+        long lookups = this.lookupCount.sum();
+
+        long nearbyLookups = this.nearbyLookupCount.sum();
+
+        if (scheduleIndex == null) {
+            return new ScheduleStats(false, 0, 0, 0, 0, lookups, nearbyLookups);
+        } //end if
+
+        int stops = scheduleIndex.getStopCount();
+
+        int located = scheduleIndex.getLocatedStopCount();
+
+        int trips = scheduleIndex.getTripCount();
+
+        int arrivals = scheduleIndex.getArrivalCount();
+
+        return new ScheduleStats(true, stops, located, trips, arrivals, lookups, nearbyLookups);
+    } //getStats
+}
\ No newline at end of file
@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.upstream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.beans.factory.annotation.Value;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A circuit breaker of the upstream calls of the VTA4j application. After {@code vta4j.breaker.failure-threshold}
+ * consecutive failures, the breaker opens and every call is rejected without touching the upstream service. Once
+ * {@code vta4j.breaker.open-duration} has passed, a single call is let through as a probe: if it succeeds, the
+ * breaker closes, and if it fails, the breaker opens again. A call fails if it throws or the upstream service responds
+ * with a server error or {@code 429 Too Many Requests}.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+public final class CircuitBreaker {
+    /**
+     * The state of a circuit breaker.
+     */
+    private enum State {
+        /**
+         * Calls are let through.
+         */
+        CLOSED,
+
+        /**
+         * Calls are rejected.
+         */
+        OPEN,
+
+        /**
+         * A single probe call is in flight, and other calls are rejected.
+         */
+        HALF_OPEN
+    } //State
+
+    /**
+     * The number of consecutive failures that opens this breaker.
+     */
+    private final int failureThreshold;
+
+    /**
+     * The time this breaker stays open before probing, in nanoseconds.
+     */
+    private final long openDuration;
+
+    /**
+     * The state of this breaker.
+     */
+    private State state;
+
+    /**
+     * The number of consecutive failures of this breaker.
+     */
+    private int consecutiveFailures;
+
+    /**
+     * The time this breaker opened, in nanoseconds.
+     */
+    private long openTime;
+
+    /**
+     * The open count of this breaker.
+     */
+    private long openCount;
+
+    /**
+     * The rejection count of this breaker.
+     */
+    private long rejectionCount;
+
+    /**
+     * The probe count of this breaker.
+     */
+    private long probeCount;
+
+    /**
+     * Constructs an instance of the {@link CircuitBreaker} class.
+     *
+     * @param failureThreshold the failure threshold to be used in construction
+     * @param openDuration the open duration to be used in construction
+     * @throws NullPointerException if the specified open duration is {@code null}
+     * @throws IllegalArgumentException if the specified failure threshold or open duration is not positive
+     */
+    public CircuitBreaker(@Value("${vta4j.breaker.failure-threshold:5}") int failureThreshold,
+                          @Value("${vta4j.breaker.open-duration:30s}") Duration openDuration) {
+        Objects.requireNonNull(openDuration, "the specified open duration is null");
+
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("the specified failure threshold is not positive");
+        } else if (openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("the specified open duration is not positive");
+        } //end if
+
+        this.failureThreshold = failureThreshold;
+
+        this.openDuration = openDuration.toNanos();
+
+        this.state = State.CLOSED;
+    } //CircuitBreaker
+
+    /**
+     * Returns whether the specified status code counts as a failure of the upstream service.
+     *
+     * @param statusCode the status code to be used in the operation
+     * @return {@code true} if the specified status code counts as a failure, {@code false} otherwise
+     */
+    public static boolean isFailure(int statusCode) {
+        return (statusCode >= 500) || (statusCode == 429);
+    } //isFailure
+
+    /**
+     * Returns whether a call may be made. If this breaker has been open for its open duration, it becomes half-open
+     * and the call is let through as its probe. Every permitted call must be followed by {@link #onSuccess()} or
+     * {@link #onFailure()}.
+     *
+     * @return {@code true} if a call may be made, {@code false} otherwise
+     */
+    public synchronized boolean tryAcquire() {
+        if (this.state == State.CLOSED) {
+            return true;
+        } else if ((this.state == State.OPEN) && ((System.nanoTime() - this.openTime) >= this.openDuration)) {
+            this.state = State.HALF_OPEN;
+
+            this.probeCount++;
+
+            return true;
+        } //end if
+
+        this.rejectionCount++;
+
+        return false;
+    } //tryAcquire
+
+    /**
+     * Returns whether this breaker is closed, meaning the upstream service is considered healthy.
+     *
+     * @return {@code true} if this breaker is closed, {@code false} otherwise
+     */
+    public synchronized boolean isClosed() {
+        return this.state == State.CLOSED;
+    } //isClosed
+
+    /**
+     * Records a successful call, closing this breaker.
+     */
+    public synchronized void onSuccess() {
+        this.state = State.CLOSED;
+
+        this.consecutiveFailures = 0;
+    } //onSuccess
+
+    /**
+     * Records a failed call, opening this breaker if it was probing or has reached its failure threshold.
+     */
+    public synchronized void onFailure() {
+        this.consecutiveFailures++;
+
+        if ((this.state == State.HALF_OPEN) || ((this.state == State.CLOSED) &&
+            (this.consecutiveFailures >= this.failureThreshold))) {
+            this.state = State.OPEN;
+
+            this.openTime = System.nanoTime();
+
+            this.openCount++;
+        } //end if
+    } //onFailure
+
+    /**
+     * Returns the statistics of this breaker.
+     *
+     * @return the statistics of this breaker
+     */
+    public synchronized BreakerStats getStats() {
+        String stateName = this.state.name()
+                                     .toLowerCase()
+                                     .replace('_', '-');
+
+        return new BreakerStats(stateName, this.consecutiveFailures, this.openCount, this.rejectionCount,
+                                this.probeCount);
+    } //getStats
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.upstream;
+
+/**
+ * The statistics of an {@link UpstreamScheduler}.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ * @param remaining the number of tokens currently in the bucket
+ * @param capacity the capacity of the bucket
+ * @param quotaPerHour the hourly quota the bucket is refilled at
+ * @param queueDepth the number of calls waiting for a token
+ * @param granted the number of calls granted a token
+ * @param hedged the number of hedged duplicates of granted calls that were given a token of their own
+ * @param deferred the number of refreshes deferred in favour of serving existing data
+ * @param rejected the number of calls without data that timed out waiting for a token
+ */
+public record SchedulerStats(double remaining, int capacity, double quotaPerHour, int queueDepth, long granted,
+                             long hedged, long deferred, long rejected) {
+}
\ No newline at end of file
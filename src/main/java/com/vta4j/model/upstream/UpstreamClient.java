@@ -0,0 +1,597 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.upstream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.URI;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.PreDestroy;
+
+/**
+ * A long-lived HTTP client for the 511 API of the VTA4j application. A single instance is shared by every upstream
+ * request, so connections are pooled, kept alive, and multiplexed over HTTP/2 instead of being renegotiated on each
+ * call. The latency of every request is recorded in the {@code vta4j.upstream.requests} timer, tagged by status
+ * code and outcome.
+ * <p>
+ * Every request goes through the {@link CircuitBreaker}, so a failing upstream service is not hammered. While the
+ * breaker is closed, a request that has not completed by the {@code vta4j.upstream.hedge-percentile} latency of recent
+ * successful requests, but no sooner than {@code vta4j.upstream.hedge-min-delay}, is hedged with one duplicate, and
+ * whichever succeeds first is used. Hedging costs about one extra upstream call per {@code 1 - percentile} requests;
+ * a percentile of zero disables it. Each duplicate takes its own token from the {@link UpstreamScheduler} and is not
+ * sent if none can be spared, so hedges count against the hourly quota like any other call.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+public final class UpstreamClient {
+    /**
+     * The name of the request timer of the {@link UpstreamClient} class.
+     */
+    private static final String TIMER_NAME;
+
+    /**
+     * The status tag of failed requests of the {@link UpstreamClient} class.
+     */
+    private static final String IO_ERROR;
+
+    /**
+     * The number of recent latencies the hedge delay is computed from of the {@link UpstreamClient} class.
+     */
+    private static final int LATENCY_WINDOW;
+
+    /**
+     * The number of latencies between recomputations of the hedge delay of the {@link UpstreamClient} class.
+     */
+    private static final int RECOMPUTE_INTERVAL;
+
+    static {
+        TIMER_NAME = "vta4j.upstream.requests";
+
+        IO_ERROR = "IO_ERROR";
+
+        LATENCY_WINDOW = 256;
+
+        RECOMPUTE_INTERVAL = 16;
+    } //static
+
+    /**
+     * The executor of this upstream client.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * The HTTP client of this upstream client.
+     */
+    private final HttpClient client;
+
+    /**
+     * The request timeout of this upstream client.
+     */
+    private final Duration requestTimeout;
+
+    /**
+     * The meter registry of this upstream client.
+     */
+    private final MeterRegistry registry;
+
+    /**
+     * The request timers of this upstream client, keyed by status code.
+     */
+    private final Map<Integer, Timer> timers;
+
+    /**
+     * The timer of failed requests of this upstream client.
+     */
+    private final Timer failureTimer;
+
+    /**
+     * The circuit breaker of this upstream client.
+     */
+    private final CircuitBreaker breaker;
+
+    /**
+     * The upstream scheduler of this upstream client.
+     */
+    private final UpstreamScheduler scheduler;
+
+    /**
+     * The hedge percentile of this upstream client, or zero if hedging is disabled.
+     */
+    private final double hedgePercentile;
+
+    /**
+     * The minimum hedge delay of this upstream client, in nanoseconds.
+     */
+    private final long hedgeMinDelay;
+
+    /**
+     * The recent latencies of successful requests of this upstream client, in nanoseconds.
+     */
+    private final long[] latencies;
+
+    /**
+     * The lock of the recent latencies of this upstream client.
+     */
+    private final ReentrantLock latencyLock;
+
+    /**
+     * The number of latencies recorded by this upstream client.
+     */
+    private long latencyCount;
+
+    /**
+     * The current hedge delay of this upstream client, in nanoseconds, or zero if requests are not hedged.
+     */
+    private volatile long hedgeDelay;
+
+    /**
+     * The counter of hedged requests of this upstream client.
+     */
+    private final Counter hedgeCounter;
+
+    /**
+     * The counter of hedged requests won by the duplicate of this upstream client.
+     */
+    private final Counter hedgeWinCounter;
+
+    /**
+     * The counter of duplicates skipped for lack of a token of this upstream client.
+     */
+    private final Counter hedgeSkipCounter;
+
+    /**
+     * Constructs an instance of the {@link UpstreamClient} class.
+     *
+     * @param connectTimeout the connect timeout to be used in construction
+     * @param requestTimeout the request timeout to be used in construction
+     * @param threads the number of executor threads to be used in construction
+     * @param hedgePercentile the hedge percentile to be used in construction, or zero to disable hedging
+     * @param hedgeMinDelay the minimum hedge delay to be used in construction
+     * @param breaker the circuit breaker to be used in construction
+     * @param scheduler the upstream scheduler to be used in construction
+     * @param registry the meter registry to be used in construction
+     * @throws NullPointerException if the specified connect timeout, request timeout, minimum hedge delay, circuit
+     * breaker, upstream scheduler, or meter registry is {@code null}
+     * @throws IllegalArgumentException if the specified number of executor threads is not positive, the specified
+     * hedge percentile is not between zero and one, or the specified minimum hedge delay is negative
+     */
+    public UpstreamClient(@Value("${vta4j.upstream.connect-timeout:5s}") Duration connectTimeout,
+                          @Value("${vta4j.upstream.request-timeout:10s}") Duration requestTimeout,
+                          @Value("${vta4j.upstream.threads:4}") int threads,
+                          @Value("${vta4j.upstream.hedge-percentile:0.95}") double hedgePercentile,
+                          @Value("${vta4j.upstream.hedge-min-delay:50ms}") Duration hedgeMinDelay,
+                          CircuitBreaker breaker, UpstreamScheduler scheduler, MeterRegistry registry) {
+        Objects.requireNonNull(connectTimeout, "the specified connect timeout is null");
+
+        Objects.requireNonNull(requestTimeout, "the specified request timeout is null");
+
+        Objects.requireNonNull(hedgeMinDelay, "the specified minimum hedge delay is null");
+
+        Objects.requireNonNull(breaker, "the specified circuit breaker is null");
+
+        Objects.requireNonNull(scheduler, "the specified upstream scheduler is null");
+
+        Objects.requireNonNull(registry, "the specified meter registry is null");
+
+        if (threads <= 0) {
+            throw new IllegalArgumentException("the specified number of executor threads is not positive");
+        } else if ((hedgePercentile < 0.0) || (hedgePercentile > 1.0)) {
+            throw new IllegalArgumentException("the specified hedge percentile is not between zero and one");
+        } else if (hedgeMinDelay.isNegative()) {
+            throw new IllegalArgumentException("the specified minimum hedge delay is negative");
+        } //end if
+
+        AtomicInteger threadCount = new AtomicInteger();
+
+        ThreadFactory threadFactory = runnable -> {
+            String name = "upstream-%d".formatted(threadCount.incrementAndGet());
+
+            Thread thread = new Thread(runnable, name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        };
+
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                               threadFactory);
+
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.client = HttpClient.newBuilder()
+                                .version(HttpClient.Version.HTTP_2)
+                                .connectTimeout(connectTimeout)
+                                .followRedirects(HttpClient.Redirect.NORMAL)
+                                .executor(this.executor)
+                                .build();
+
+        this.requestTimeout = requestTimeout;
+
+        this.registry = registry;
+
+        this.timers = new ConcurrentHashMap<>();
+
+        this.failureTimer = Timer.builder(UpstreamClient.TIMER_NAME)
+                                 .tag("status", UpstreamClient.IO_ERROR)
+                                 .tag("outcome", Outcome.UNKNOWN.name())
+                                 .publishPercentileHistogram()
+                                 .register(registry);
+
+        this.breaker = breaker;
+
+        this.scheduler = scheduler;
+
+        this.hedgePercentile = hedgePercentile;
+
+        this.hedgeMinDelay = hedgeMinDelay.toNanos();
+
+        this.latencies = new long[UpstreamClient.LATENCY_WINDOW];
+
+        this.latencyLock = new ReentrantLock();
+
+        this.hedgeCounter = Counter.builder("vta4j.upstream.hedges")
+                                   .description("The upstream requests that were hedged with a duplicate")
+                                   .register(registry);
+
+        this.hedgeWinCounter = Counter.builder("vta4j.upstream.hedges.won")
+                                      .description("The hedged upstream requests answered first by the duplicate")
+                                      .register(registry);
+
+        this.hedgeSkipCounter = Counter.builder("vta4j.upstream.hedges.skipped")
+                                       .description("The duplicates not sent because no upstream token was spare")
+                                       .register(registry);
+    } //UpstreamClient
+
+    /**
+     * Returns the request timer of this upstream client for the specified status code.
+     *
+     * @param statusCode the status code to be used in the operation
+     * @return the request timer of this upstream client for the specified status code
+     */
+    private Timer getTimer(int statusCode) {
+        Timer timer = this.timers.get(statusCode);
+
+        if (timer != null) {
+            return timer;
+        } //end if
+
+        return this.timers.computeIfAbsent(statusCode, key -> Timer.builder(UpstreamClient.TIMER_NAME)
+                                                                   .tag("status", String.valueOf(key))
+                                                                   .tag("outcome", Outcome.forStatus(key)
+                                                                                          .name())
+                                                                   .publishPercentileHistogram()
+                                                                   .register(this.registry));
+    } //getTimer
+
+    /**
+     * Adds the specified latency of a successful request to the recent latencies of this upstream client, and
+     * periodically recomputes the hedge delay from them.
+     *
+     * @param latency the latency to be used in the operation, in nanoseconds
+     */
+    private void recordLatency(long latency) {
+        if (this.hedgePercentile == 0.0) {
+            return;
+        } //end if
+
+        long[] window;
+
+        this.latencyLock.lock();
+
+        try {
+            int index = (int) (this.latencyCount % UpstreamClient.LATENCY_WINDOW);
+
+            this.latencies[index] = latency;
+
+            this.latencyCount++;
+
+            if ((this.latencyCount < UpstreamClient.RECOMPUTE_INTERVAL) ||
+                ((this.latencyCount % UpstreamClient.RECOMPUTE_INTERVAL) != 0L)) {
+                return;
+            } //end if
+
+            int size = (int) Math.min(this.latencyCount, UpstreamClient.LATENCY_WINDOW);
+
+            window = Arrays.copyOf(this.latencies, size);
+        } finally {
+            this.latencyLock.unlock();
+        } //end try finally
+
+        Arrays.sort(window);
+
+        int rank = (int) Math.ceil(this.hedgePercentile * window.length) - 1;
+
+        long percentile = window[Math.max(0, rank)];
+
+        this.hedgeDelay = Math.max(percentile, this.hedgeMinDelay);
+    } //recordLatency
+
+    /**
+     * Records the latency of a request that started at the specified time and ended with the specified response or
+     * throwable. Requests cancelled because a hedge won are not recorded.
+     *
+     * @param startTime the start time, in nanoseconds, to be used in the operation
+     * @param response the response to be used in the operation, or {@code null} if the request failed
+     * @param throwable the throwable to be used in the operation, or {@code null} if the request succeeded
+     */
+    private void record(long startTime, HttpResponse<?> response, Throwable throwable) {
+        if (throwable instanceof CancellationException) {
+            return;
+        } //end if
+
+        long duration = System.nanoTime() - startTime;
+
+        Timer timer = (response == null) ? this.failureTimer : this.getTimer(response.statusCode());
+
+        timer.record(duration, TimeUnit.NANOSECONDS);
+
+        if ((response != null) && !CircuitBreaker.isFailure(response.statusCode())) {
+            this.recordLatency(duration);
+        } //end if
+    } //record
+
+    /**
+     * Reports the outcome of a request with the specified response or throwable to the circuit breaker of this
+     * upstream client.
+     *
+     * @param response the response to be used in the operation, or {@code null} if the request failed
+     * @param throwable the throwable to be used in the operation, or {@code null} if the request succeeded
+     */
+    private void reportOutcome(HttpResponse<?> response, Throwable throwable) {
+        if ((throwable != null) || CircuitBreaker.isFailure(response.statusCode())) {
+            this.breaker.onFailure();
+        } else {
+            this.breaker.onSuccess();
+        } //end if
+    } //reportOutcome
+
+    /**
+     * Returns a new {@code GET} request to the specified URI.
+     *
+     * @param uri the URI to be used in the operation
+     * @return a new {@code GET} request to the specified URI
+     */
+    private HttpRequest newRequest(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                          .timeout(this.requestTimeout)
+                          .header("Accept-Encoding", "gzip")
+                          .GET()
+                          .build();
+    } //newRequest
+
+    /**
+     * Sends the specified request once without blocking, recording its latency.
+     *
+     * @param request the request to be used in the operation
+     * @return a future of the response to the specified request, which cancels the request if it is cancelled
+     */
+    private CompletableFuture<HttpResponse<byte[]>> sendOnce(HttpRequest request) {
+        HttpResponse.BodyHandler<byte[]> bodyHandler = HttpResponse.BodyHandlers.ofByteArray();
+
+        long startTime = System.nanoTime();
+
+        CompletableFuture<HttpResponse<byte[]>> future = this.client.sendAsync(request, bodyHandler);
+
+        future.whenComplete((response, throwable) -> this.record(startTime, response, throwable));
+
+        return future;
+    } //sendOnce
+
+    /**
+     * Completes the specified result with the specified response of one attempt of a hedged request, unless another
+     * attempt is still outstanding and this one failed.
+     *
+     * @param result the result to be used in the operation
+     * @param settled whether a successful attempt has already claimed the result
+     * @param remaining the number of outstanding attempts to be used in the operation
+     * @param hedged whether the attempt was the duplicate
+     * @param response the response to be used in the operation, or {@code null} if the attempt failed
+     * @param throwable the throwable to be used in the operation, or {@code null} if the attempt succeeded
+     */
+    private void complete(CompletableFuture<HttpResponse<byte[]>> result, AtomicBoolean settled,
+                          AtomicInteger remaining, boolean hedged, HttpResponse<byte[]> response,
+                          Throwable throwable) {
+        int left = remaining.decrementAndGet();
+
+        if ((throwable == null) && !CircuitBreaker.isFailure(response.statusCode())) {
+            if (!settled.compareAndSet(false, true)) {
+                return;
+            } //end if
+
+            if (hedged) {
+                this.hedgeWinCounter.increment();
+            } //end if
+
+            result.complete(response);
+
+            return;
+        } else if (left > 0) {
+            return;
+        } //end if
+
+        if (throwable != null) {
+            result.completeExceptionally(throwable);
+        } else {
+            result.complete(response);
+        } //end if
+    } //complete
+
+    /**
+     * Returns a future of the first successful response to the specified request, sending one duplicate if the
+     * specified first attempt has not completed after the specified delay and the upstream scheduler has a token to
+     * spare for it. The attempt that loses is cancelled. The duplicate is only sent, and its token only taken, while
+     * the result is still pending: the check and the send are made under the same lock as the cancellation of the
+     * attempts, so a duplicate is never sent after the result is done or left running after the result completes.
+     *
+     * @param request the request to be used in the operation
+     * @param primary the first attempt to be used in the operation
+     * @param delay the delay to be used in the operation, in nanoseconds
+     * @return a future of the first successful response to the specified request
+     */
+    private CompletableFuture<HttpResponse<byte[]>> hedge(HttpRequest request,
+                                                         CompletableFuture<HttpResponse<byte[]>> primary, long delay) {
+        CompletableFuture<HttpResponse<byte[]>> result = new CompletableFuture<>();
+
+        List<CompletableFuture<HttpResponse<byte[]>>> attempts = new ArrayList<>();
+
+        attempts.add(primary);
+
+        ReentrantLock attemptLock = new ReentrantLock();
+
+        AtomicBoolean settled = new AtomicBoolean();
+
+        AtomicInteger remaining = new AtomicInteger(1);
+
+        primary.whenComplete((response, throwable) -> this.complete(result, settled, remaining, false, response,
+                                                                    throwable));
+
+        Executor delayedExecutor = CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, this.executor);
+
+        CompletableFuture.runAsync(() -> {
+            CompletableFuture<HttpResponse<byte[]>> secondary;
+
+            attemptLock.lock();
+
+            try {
+                if (result.isDone()) {
+                    return;
+                } else if (!this.scheduler.tryAcquireHedge()) {
+                    this.hedgeSkipCounter.increment();
+
+                    return;
+                } //end if
+
+                remaining.incrementAndGet();
+
+                this.hedgeCounter.increment();
+
+                secondary = this.sendOnce(request);
+
+                attempts.add(secondary);
+            } finally {
+                attemptLock.unlock();
+            } //end try finally
+
+            secondary.whenComplete((response, throwable) -> this.complete(result, settled, remaining, true,
+                                                                          response, throwable));
+        }, delayedExecutor);
+
+        result.whenComplete((response, throwable) -> {
+            attemptLock.lock();
+
+            try {
+                attempts.forEach(attempt -> attempt.cancel(true));
+            } finally {
+                attemptLock.unlock();
+            } //end try finally
+        });
+
+        return result;
+    } //hedge
+
+    /**
+     * Sends a {@code GET} request to the specified URI without blocking. The returned future is completed on the
+     * executor of this upstream client once the whole body has been received, so no thread waits on upstream I/O. If
+     * the circuit breaker is open, the future fails immediately without a request being sent.
+     *
+     * @param uri the URI to be used in the operation
+     * @return a future of the response to a {@code GET} request to the specified URI
+     * @throws NullPointerException if the specified URI is {@code null}
+     */
+    public CompletableFuture<HttpResponse<byte[]>> sendAsync(URI uri) {
+        Objects.requireNonNull(uri, "the specified URI is null");
+
+        if (!this.breaker.tryAcquire()) {
+            IOException exception = new IOException("the circuit breaker is open");
+
+            return CompletableFuture.failedFuture(exception);
+        } //end if
+
+        HttpRequest request = this.newRequest(uri);
+
+        CompletableFuture<HttpResponse<byte[]>> future = this.sendOnce(request);
+
+        long delay = this.hedgeDelay;
+
+        if ((delay > 0L) && this.breaker.isClosed()) {
+            future = this.hedge(request, future, delay);
+        } //end if
+
+        return future.whenComplete(this::reportOutcome);
+    } //sendAsync
+
+    /**
+     * Returns the statistics of this upstream client.
+     *
+     * @return the statistics of this upstream client
+     */
+    public UpstreamStats getStats() {
+        long hedges = (long) this.hedgeCounter.count();
+
+        long hedgesWon = (long) this.hedgeWinCounter.count();
+
+        long hedgesSkipped = (long) this.hedgeSkipCounter.count();
+
+        Duration currentHedgeDelay = Duration.ofNanos(this.hedgeDelay);
+
+        BreakerStats breakerStats = this.breaker.getStats();
+
+        return new UpstreamStats(currentHedgeDelay.toMillis(), hedges, hedgesWon, hedgesSkipped, breakerStats);
+    } //getStats
+
+    /**
+     * Shuts down the executor of this upstream client.
+     */
+    @PreDestroy
+    public void close() {
+        this.executor.shutdown();
+    } //close
+}
\ No newline at end of file
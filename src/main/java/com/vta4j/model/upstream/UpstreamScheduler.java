@@ -0,0 +1,650 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.upstream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.beans.factory.annotation.Value;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+
+/**
+ * A quota-aware scheduler of upstream calls of the VTA4j application. Calls draw from a token bucket sized to the
+ * hourly quota of the 511 API key. Waiting calls are granted in order of how many viewers their stop has. When the
+ * bucket runs low, refreshes of cold stops that already have data are deferred, which stretches their refresh
+ * interval instead of failing them. Waiting calls hold no thread: they are granted by a timer when the bucket
+ * refills. A hedged duplicate of a call takes a token of its own, but only one that can be spared, so hedging never
+ * pushes usage past the quota.
+ *
+ * @author Logan Kulinski, lbkulinski@gmail.com
+ * @version October 17, 2026
+ */
+@Component
+public final class UpstreamScheduler {
+    /**
+     * A call waiting for a token.
+     *
+     * @param priority the priority of this ticket
+     * @param sequence the sequence number of this ticket
+     * @param future the future of this ticket, completed with whether a token was granted
+     */
+    private record Ticket(double priority, long sequence, CompletableFuture<Boolean> future) {
+    } //Ticket
+
+    /**
+     * The decaying viewer count of a stop.
+     */
+    private static final class Viewers {
+        /**
+         * The score of these viewers.
+         */
+        private double score;
+
+        /**
+         * The time these viewers were last updated, in nanoseconds.
+         */
+        private long updateTime;
+
+        /**
+         * Constructs an instance of the {@link Viewers} class.
+         *
+         * @param updateTime the update time to be used in construction
+         */
+        private Viewers(long updateTime) {
+            this.updateTime = updateTime;
+        } //Viewers
+    } //Viewers
+
+    /**
+     * The priority of agency-wide calls of the {@link UpstreamScheduler} class.
+     */
+    private static final double AGENCY_PRIORITY;
+
+    static {
+        AGENCY_PRIORITY = Double.MAX_VALUE;
+    } //static
+
+    /**
+     * The capacity of the token bucket of this scheduler.
+     */
+    private final int capacity;
+
+    /**
+     * The refill rate of the token bucket of this scheduler, in tokens per nanosecond.
+     */
+    private final double refillRate;
+
+    /**
+     * The viewer count at which a stop is considered hot.
+     */
+    private final double hotViewers;
+
+    /**
+     * The fraction of the token bucket kept in reserve for hot stops.
+     */
+    private final double reserve;
+
+    /**
+     * The maximum time a call without data waits for a token, in nanoseconds.
+     */
+    private final long maximumWait;
+
+    /**
+     * The half-life of viewer counts, in nanoseconds.
+     */
+    private final double halfLife;
+
+    /**
+     * The lock of this scheduler.
+     */
+    private final ReentrantLock lock;
+
+    /**
+     * The timer of this scheduler.
+     */
+    private final ScheduledExecutorService timer;
+
+    /**
+     * The queue of waiting calls of this scheduler.
+     */
+    private final Queue<Ticket> queue;
+
+    /**
+     * The viewers of this scheduler, keyed by stop ID.
+     */
+    private final Map<Integer, Viewers> viewers;
+
+    /**
+     * The grant count of this scheduler.
+     */
+    private final LongAdder grantCount;
+
+    /**
+     * The hedge count of this scheduler.
+     */
+    private final LongAdder hedgeCount;
+
+    /**
+     * The deferral count of this scheduler.
+     */
+    private final LongAdder deferralCount;
+
+    /**
+     * The rejection count of this scheduler.
+     */
+    private final LongAdder rejectionCount;
+
+    /**
+     * The number of tokens in the bucket of this scheduler.
+     */
+    private double tokens;
+
+    /**
+     * The time the bucket of this scheduler was last refilled, in nanoseconds.
+     */
+    private long refillTime;
+
+    /**
+     * The next sequence number of this scheduler.
+     */
+    private long sequence;
+
+    /**
+     * Whether a dispatch of the queue of this scheduler is scheduled.
+     */
+    private boolean dispatchScheduled;
+
+    /**
+     * Constructs an instance of the {@link UpstreamScheduler} class.
+     *
+     * @param quotaPerHour the hourly quota to be used in construction
+     * @param capacity the capacity of the token bucket to be used in construction
+     * @param hotViewers the viewer count at which a stop is considered hot to be used in construction
+     * @param reserve the fraction of the bucket kept in reserve for hot stops to be used in construction
+     * @param maximumWait the maximum wait of a call without data to be used in construction
+     * @param halfLife the half-life of viewer counts to be used in construction
+     * @throws NullPointerException if the specified maximum wait or half-life is {@code null}
+     * @throws IllegalArgumentException if the specified hourly quota, capacity, or half-life is not positive, or the
+     * specified reserve is not between zero and one
+     */
+    public UpstreamScheduler(@Value("${vta4j.scheduler.quota-per-hour:60}") double quotaPerHour,
+                             @Value("${vta4j.scheduler.burst:10}") int capacity,
+                             @Value("${vta4j.scheduler.hot-viewers:5}") double hotViewers,
+                             @Value("${vta4j.scheduler.reserve:0.5}") double reserve,
+                             @Value("${vta4j.scheduler.max-wait:2s}") Duration maximumWait,
+                             @Value("${vta4j.scheduler.viewer-half-life:5m}") Duration halfLife) {
+        Objects.requireNonNull(maximumWait, "the specified maximum wait is null");
+
+        Objects.requireNonNull(halfLife, "the specified half-life is null");
+
+        if (quotaPerHour <= 0.0) {
+            throw new IllegalArgumentException("the specified hourly quota is not positive");
+        } else if (capacity <= 0) {
+            throw new IllegalArgumentException("the specified capacity is not positive");
+        } else if ((reserve < 0.0) || (reserve > 1.0)) {
+            throw new IllegalArgumentException("the specified reserve is not between zero and one");
+        } else if (halfLife.isNegative() || halfLife.isZero()) {
+            throw new IllegalArgumentException("the specified half-life is not positive");
+        } //end if
+
+        this.capacity = capacity;
+
+        this.refillRate = quotaPerHour / TimeUnit.HOURS.toNanos(1L);
+
+        this.hotViewers = hotViewers;
+
+        this.reserve = reserve;
+
+        this.maximumWait = maximumWait.toNanos();
+
+        this.halfLife = halfLife.toNanos();
+
+        this.lock = new ReentrantLock();
+
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "upstream-scheduler");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        Comparator<Ticket> comparator = Comparator.comparingDouble(Ticket::priority)
+                                                  .reversed()
+                                                  .thenComparingLong(Ticket::sequence);
+
+        this.queue = new PriorityQueue<>(comparator);
+
+        this.viewers = new ConcurrentHashMap<>();
+
+        this.grantCount = new LongAdder();
+
+        this.hedgeCount = new LongAdder();
+
+        this.deferralCount = new LongAdder();
+
+        this.rejectionCount = new LongAdder();
+
+        this.tokens = capacity;
+
+        this.refillTime = System.nanoTime();
+    } //UpstreamScheduler
+
+    /**
+     * Returns the specified viewer score decayed from the specified update time to the specified time.
+     *
+     * @param score the score to be used in the operation
+     * @param updateTime the update time to be used in the operation
+     * @param now the time to be used in the operation
+     * @return the specified viewer score decayed from the specified update time to the specified time
+     */
+    private double decay(double score, long updateTime, long now) {
+        double halfLives = (now - updateTime) / this.halfLife;
+
+        return score * Math.pow(0.5, halfLives);
+    } //decay
+
+    /**
+     * Records the specified number of views of the stop with the specified ID.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param count the number of views to be used in the operation
+     */
+    public void recordViews(int stopId, int count) {
+        if (count <= 0) {
+            return;
+        } //end if
+
+        long now = System.nanoTime();
+
+        this.viewers.compute(stopId, (key, current) -> {
+            Viewers value = (current == null) ? new Viewers(now) : current;
+
+            value.score = this.decay(value.score, value.updateTime, now) + count;
+
+            value.updateTime = now;
+
+            return value;
+        });
+    } //recordViews
+
+    /**
+     * Returns the decayed viewer count of the stop with the specified ID.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @return the decayed viewer count of the stop with the specified ID
+     */
+    public double getViewers(int stopId) {
+        Viewers value = this.viewers.get(stopId);
+
+        if (value == null) {
+            return 0.0;
+        } //end if
+
+        long now = System.nanoTime();
+
+        return this.decay(value.score, value.updateTime, now);
+    } //getViewers
+
+    /**
+     * Refills the token bucket of this scheduler. The lock must be held.
+     *
+     * @param now the time to be used in the operation
+     */
+    private void refill(long now) {
+        double refilled = this.tokens + ((now - this.refillTime) * this.refillRate);
+
+        this.tokens = Math.min(this.capacity, refilled);
+
+        this.refillTime = now;
+    } //refill
+
+    /**
+     * Schedules a dispatch of the queue of this scheduler for when the next token is available, unless one is already
+     * scheduled. The lock must be held.
+     */
+    private void scheduleDispatch() {
+        if (this.dispatchScheduled) {
+            return;
+        } //end if
+
+        long delay = 0L;
+
+        if (this.tokens < 1.0) {
+            delay = (long) Math.ceil((1.0 - this.tokens) / this.refillRate);
+        } //end if
+
+        this.dispatchScheduled = true;
+
+        this.timer.schedule(this::dispatch, delay, TimeUnit.NANOSECONDS);
+    } //scheduleDispatch
+
+    /**
+     * Grants a token to each waiting call at the head of the queue of this scheduler for which one is available.
+     */
+    private void dispatch() {
+        List<Ticket> granted = new ArrayList<>();
+
+        this.lock.lock();
+
+        try {
+            this.dispatchScheduled = false;
+
+            long now = System.nanoTime();
+
+            this.refill(now);
+
+            while (!this.queue.isEmpty() && (this.tokens >= 1.0)) {
+                granted.add(this.queue.poll());
+
+                this.tokens -= 1.0;
+            } //end while
+
+            if (!this.queue.isEmpty()) {
+                this.scheduleDispatch();
+            } //end if
+        } finally {
+            this.lock.unlock();
+        } //end try finally
+
+        granted.forEach(ticket -> ticket.future()
+                                        .complete(true));
+    } //dispatch
+
+    /**
+     * Removes the specified ticket from the queue of this scheduler if it is still waiting, and completes it without
+     * a token.
+     *
+     * @param ticket the ticket to be used in the operation
+     */
+    private void expire(Ticket ticket) {
+        boolean removed;
+
+        this.lock.lock();
+
+        try {
+            removed = this.queue.remove(ticket);
+        } finally {
+            this.lock.unlock();
+        } //end try finally
+
+        if (removed) {
+            ticket.future()
+                  .complete(false);
+        } //end if
+    } //expire
+
+    /**
+     * Attempts to take a token for a call with the specified priority, waiting at most the specified time for calls
+     * with a higher priority and for the bucket to refill.
+     *
+     * @param priority the priority to be used in the operation
+     * @param wait the maximum wait to be used in the operation, in nanoseconds
+     * @return a future completed with {@code true}, if a token was taken and {@code false} otherwise
+     */
+    private CompletableFuture<Boolean> acquire(double priority, long wait) {
+        Ticket ticket;
+
+        this.lock.lock();
+
+        try {
+            long now = System.nanoTime();
+
+            this.refill(now);
+
+            if (this.queue.isEmpty() && (this.tokens >= 1.0)) {
+                this.tokens -= 1.0;
+
+                return CompletableFuture.completedFuture(true);
+            } else if (wait <= 0L) {
+                return CompletableFuture.completedFuture(false);
+            } //end if
+
+            ticket = new Ticket(priority, this.sequence++, new CompletableFuture<>());
+
+            this.queue.add(ticket);
+
+            this.scheduleDispatch();
+        } finally {
+            this.lock.unlock();
+        } //end try finally
+
+        this.timer.schedule(() -> this.expire(ticket), wait, TimeUnit.NANOSECONDS);
+
+        return ticket.future();
+    } //acquire
+
+    /**
+     * Returns whether the token bucket of this scheduler is below its reserve.
+     *
+     * @return {@code true}, if the token bucket of this scheduler is below its reserve and {@code false} otherwise
+     */
+    private boolean isBelowReserve() {
+        this.lock.lock();
+
+        try {
+            long now = System.nanoTime();
+
+            this.refill(now);
+
+            return this.tokens < (this.capacity * this.reserve);
+        } finally {
+            this.lock.unlock();
+        } //end try finally
+    } //isBelowReserve
+
+    /**
+     * Attempts to take a token for a hedged duplicate of a call that has already been granted one. A token is only
+     * taken if no call is waiting and the bucket is not below its reserve, so hedges never delay other calls or use
+     * up the reserve of hot stops.
+     *
+     * @return {@code true}, if a token was taken and {@code false} otherwise
+     */
+    public boolean tryAcquireHedge() {
+        this.lock.lock();
+
+        try {
+            long now = System.nanoTime();
+
+            this.refill(now);
+
+            if (!this.queue.isEmpty() || (this.tokens < 1.0) || (this.tokens < (this.capacity * this.reserve))) {
+                return false;
+            } //end if
+
+            this.tokens -= 1.0;
+        } finally {
+            this.lock.unlock();
+        } //end try finally
+
+        this.hedgeCount.increment();
+
+        return true;
+    } //tryAcquireHedge
+
+    /**
+     * Decides whether an upstream call for the stop with the specified ID may proceed. A stop that already has data
+     * is never made to wait: its refresh is deferred if no token is free, or if the bucket is below its reserve and
+     * the stop is cold. A stop without data waits, in order of viewer count, for at most the configured maximum wait.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param stale whether the stop already has data that can be served while the call is deferred
+     * @return a future completed with {@code true}, if the call may proceed and {@code false} otherwise
+     */
+    private CompletableFuture<Boolean> admit(int stopId, boolean stale) {
+        double priority = this.getViewers(stopId);
+
+        if (stale) {
+            boolean cold = priority < this.hotViewers;
+
+            boolean granted = !(cold && this.isBelowReserve()) && this.acquire(priority, 0L)
+                                                                      .join();
+
+            if (granted) {
+                this.grantCount.increment();
+            } else {
+                this.deferralCount.increment();
+            } //end if
+
+            return CompletableFuture.completedFuture(granted);
+        } //end if
+
+        return this.acquire(priority, this.maximumWait)
+                   .thenApply(granted -> {
+                       if (granted) {
+                           this.grantCount.increment();
+                       } else {
+                           this.rejectionCount.increment();
+                       } //end if
+
+                       return granted;
+                   });
+    } //admit
+
+    /**
+     * Starts the specified asynchronous upstream call for the stop with the specified ID once the quota allows it.
+     * The call may be started on the timer thread of this scheduler, so it must not block.
+     *
+     * @param stopId the stop ID to be used in the operation
+     * @param stale whether the stop already has data that can be served while the call is deferred
+     * @param call the call to be used in the operation
+     * @param <T> the type of the result of the call
+     * @return a future of the result of the specified call, completed with an empty {@link Optional} if it was
+     * deferred or rejected
+     * @throws NullPointerException if the specified call is {@code null}
+     */
+    public <T> CompletableFuture<Optional<T>> callAsync(int stopId, boolean stale,
+                                                        Supplier<CompletableFuture<T>> call) {
+        Objects.requireNonNull(call, "the specified call is null");
+
+        return this.admit(stopId, stale)
+                   .thenCompose(granted -> {
+                       if (!granted) {
+                           return CompletableFuture.completedFuture(Optional.empty());
+                       } //end if
+
+                       return call.get()
+                                  .thenApply(Optional::ofNullable);
+                   });
+    } //callAsync
+
+    /**
+     * Runs the specified agency-wide upstream call on the calling thread if the quota allows it. Agency-wide calls
+     * take precedence over every per-stop call.
+     *
+     * @param call the call to be used in the operation
+     * @param <T> the type of the result of the call
+     * @return the result of the specified call, or an empty {@link Optional} if it was rejected
+     * @throws NullPointerException if the specified call is {@code null}
+     */
+    public <T> Optional<T> callAgencyWide(Supplier<Optional<T>> call) {
+        Objects.requireNonNull(call, "the specified call is null");
+
+        boolean granted = this.acquire(UpstreamScheduler.AGENCY_PRIORITY, this.maximumWait)
+                              .join();
+
+        if (!granted) {
+            this.rejectionCount.increment();
+
+            return Optional.empty();
+        } //end if
+
+        this.grantCount.increment();
+
+        return call.get();
+    } //callAgencyWide
+
+    /**
+     * Returns the shortest interval between upstream calls that the hourly quota of this scheduler sustains.
+     *
+     * @return the shortest interval between upstream calls that the hourly quota of this scheduler sustains
+     */
+    public Duration getMinimumInterval() {
+        long nanos = (long) Math.ceil(1.0 / this.refillRate);
+
+        return Duration.ofNanos(nanos);
+    } //getMinimumInterval
+
+    /**
+     * Returns the statistics of this scheduler.
+     *
+     * @return the statistics of this scheduler
+     */
+    public SchedulerStats getStats() {
+        double remaining;
+
+        int queueDepth;
+
+        this.lock.lock();
+
+        try {
+            long now = System.nanoTime();
+
+            this.refill(now);
+
+            remaining = this.tokens;
+
+            queueDepth = this.queue.size();
+        } finally {
+            this.lock.unlock();
+        } //end try finally
+
+        double quotaPerHour = this.refillRate * TimeUnit.HOURS.toNanos(1L);
+
+        long granted = this.grantCount.sum();
+
+        long hedged = this.hedgeCount.sum();
+
+        long deferred = this.deferralCount.sum();
+
+        long rejected = this.rejectionCount.sum();
+
+        return new SchedulerStats(remaining, this.capacity, quotaPerHour, queueDepth, granted, hedged, deferred,
+                                  rejected);
+    } //getStats
+
+    /**
+     * Stops the timer of this scheduler.
+     */
+    @PreDestroy
+    public void stop() {
+        this.timer.shutdownNow();
+    } //stop
+}
\ No newline at end of file
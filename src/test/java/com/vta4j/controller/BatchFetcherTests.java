@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import org.junit.jupiter.api.Test;
+import com.vta4j.model.Bus;
+import com.vta4j.model.BusSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class BatchFetcherTests {
+    private static final class FakeBusSource implements BusSource {
+        @Override
+        public Set<Bus> getBuses(int stopId) {
+            return this.getBusesAsync(stopId)
+                       .join();
+        } //getBuses
+
+        @Override
+        public CompletableFuture<Set<Bus>> getBusesAsync(int stopId) {
+            return switch (stopId) {
+                case 2 -> new CompletableFuture<>();
+                case 3 -> CompletableFuture.failedFuture(new IllegalStateException());
+                default -> CompletableFuture.completedFuture(Set.of());
+            }; //end switch
+        } //getBusesAsync
+
+        @Override
+        public Map<String, ?> getStats() {
+            return Map.of();
+        } //getStats
+    } //FakeBusSource
+
+    @Test
+    public void eachStopGetsItsOwnStatus() {
+        BatchFetcher fetcher = new BatchFetcher(new FakeBusSource(), Duration.ofMillis(200L), 20);
+
+        long start = System.nanoTime();
+
+        Map<Integer, StopStatus> statuses = fetcher.fetchAsync(List.of(1, 2, 3, 1))
+                                                   .join();
+
+        long elapsed = System.nanoTime() - start;
+
+        assertTrue(elapsed < Duration.ofSeconds(5)
+                                     .toNanos());
+
+        assertEquals(List.of(1, 2, 3), List.copyOf(statuses.keySet()));
+
+        assertEquals(StopStatus.success(Set.of()), statuses.get(1));
+
+        assertEquals(StopStatus.failure("the request for stop 2 timed out"), statuses.get(2));
+
+        assertEquals(StopStatus.failure("the request for stop 3 failed"), statuses.get(3));
+    } //eachStopGetsItsOwnStatus
+
+    @Test
+    public void oversizedBatchesAreRejected() {
+        BatchFetcher fetcher = new BatchFetcher(new FakeBusSource(), Duration.ofSeconds(1L), 2);
+
+        assertThrows(IllegalArgumentException.class, () -> fetcher.fetchAsync(List.of(1, 4, 5)));
+    } //oversizedBatchesAreRejected
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import org.junit.jupiter.api.Test;
+import com.google.gson.stream.JsonWriter;
+import com.vta4j.model.Bus;
+import com.vta4j.model.Line;
+import com.vta4j.model.Stop;
+import java.io.StringWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class BinaryBusEncoderTests {
+    static Set<Bus> newBuses(int count) {
+        Line[] lines = {
+            new Line("22", "EASTRIDGE - PALO ALTO"),
+            new Line("522", "RAPID EASTRIDGE - PALO ALTO"),
+            new Line("68", "GILROY - SAN JOSE DIRIDON"),
+            new Line("Orange", "ALUM ROCK - MOUNTAIN VIEW")
+        };
+
+        Stop stop = new Stop("60461", "Santa Clara & 1st");
+
+        Stop[] destinations = {
+            new Stop("60002", "Palo Alto Transit Center"),
+            new Stop("60118", "Eastridge Transit Center"),
+            null
+        };
+
+        ZonedDateTime start = ZonedDateTime.of(2026, 10, 17, 12, 0, 0, 0, ZoneId.of("America/Los_Angeles"));
+
+        Set<Bus> buses = new HashSet<>();
+
+        for (int i = 0; i < count; i++) {
+            String id = (i % 7 == 6) ? null : String.valueOf(1000 + i);
+
+            ZonedDateTime arrivalTime = start.plusSeconds(i * 137L);
+
+            if (i % 5 == 4) {
+                arrivalTime = arrivalTime.withZoneSameInstant(ZoneOffset.UTC);
+            } //end if
+
+            buses.add(new Bus(id, lines[i % lines.length], stop, destinations[i % destinations.length],
+                              (i % 2 == 0) ? "WEST" : "EAST", arrivalTime, i % 3 == 0));
+        } //end for
+
+        return buses;
+    } //newBuses
+
+    private static Set<Bus> truncate(Set<Bus> buses) {
+        return buses.stream()
+                    .map(bus -> new Bus(bus.id(), bus.line(), bus.stop(), bus.destination(), bus.direction(),
+                                        bus.arrivalTime()
+                                           .truncatedTo(ChronoUnit.SECONDS)
+                                           .toOffsetDateTime()
+                                           .toZonedDateTime(), bus.scheduled()))
+                    .collect(Collectors.toSet());
+    } //truncate
+
+    @Test
+    public void decoderReadsWhatTheEncoderWrites() {
+        Set<Bus> buses = BinaryBusEncoderTests.newBuses(40);
+
+        byte[] bytes = BinaryBusEncoder.encode(1_234_567_890_123L, buses);
+
+        BinaryBusDecoder.Snapshot snapshot = BinaryBusDecoder.decode(bytes);
+
+        assertEquals(1_234_567_890_123L, snapshot.version());
+
+        assertEquals(BinaryBusEncoderTests.truncate(buses), snapshot.buses());
+
+        BinaryBusDecoder.Snapshot empty = BinaryBusDecoder.decode(BinaryBusEncoder.encode(1L, Set.of()));
+
+        assertTrue(empty.buses()
+                        .isEmpty());
+    } //decoderReadsWhatTheEncoderWrites
+
+    @Test
+    public void binaryIsSmallerThanJson() throws IOException {
+        for (int count : new int[] {1, 20, 200}) {
+            Set<Bus> buses = BinaryBusEncoderTests.newBuses(count);
+
+            StringWriter writer = new StringWriter();
+
+            BusMessageConverter.writeSnapshot(new JsonWriter(writer), 1_234_567_890_123L, buses);
+
+            int jsonSize = writer.toString()
+                                 .getBytes(StandardCharsets.UTF_8).length;
+
+            int binarySize = BinaryBusEncoder.encode(1_234_567_890_123L, buses).length;
+
+            assertTrue(binarySize * 2 < jsonSize, "%d buses: %d binary vs %d JSON bytes".formatted(count, binarySize,
+                                                                                                   jsonSize));
+        } //end for
+    } //binaryIsSmallerThanJson
+}
\ No newline at end of file
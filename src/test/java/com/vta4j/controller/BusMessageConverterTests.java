@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.stream.JsonWriter;
+import com.vta4j.model.Bus;
+import com.vta4j.model.Line;
+import com.vta4j.model.Stop;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class BusMessageConverterTests {
+    private static Set<Bus> newBuses() {
+        Line line = new Line("22", "EASTRIDGE - PALO ALTO");
+
+        Stop stop = new Stop("60461", "Santa Clara & 1st Caf\u00e9 \uD83D\uDE8C");
+
+        Stop destination = new Stop("60002", "Palo Alto \"Transit\" Center");
+
+        ZoneId zoneId = ZoneId.of("GMT-07:00");
+
+        Bus bus0 = new Bus("1001", line, stop, destination, "WEST", ZonedDateTime.of(2022, 4, 23, 12, 56, 12, 0,
+                                                                                   zoneId));
+
+        Bus bus1 = new Bus(null, line, stop, null, "EAST", ZonedDateTime.of(2022, 4, 23, 13, 5, 0, 250_000_000,
+                                                                            zoneId), true);
+
+        return Set.of(bus0, bus1);
+    } //newBuses
+
+    @Test
+    public void busesMatchSpringJsonMapper() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                                                               .featuresToDisable(WRITE_DATES_AS_TIMESTAMPS)
+                                                               .build();
+
+        Set<Bus> buses = BusMessageConverterTests.newBuses();
+
+        StringWriter writer = new StringWriter();
+
+        BusMessageConverter.writeBuses(new JsonWriter(writer), buses);
+
+        Map<String, ?> responseMap = Map.of(
+            "success", true,
+            "buses", buses
+        );
+
+        JsonNode expected = objectMapper.valueToTree(responseMap);
+
+        assertEquals(expected, objectMapper.readTree(writer.toString()));
+    } //busesMatchSpringJsonMapper
+
+    @Test
+    public void batchesAreStreamedToTheBody() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                                                               .featuresToDisable(WRITE_DATES_AS_TIMESTAMPS)
+                                                               .build();
+
+        Set<Bus> buses = BusMessageConverterTests.newBuses();
+
+        Map<Integer, StopStatus> stops = new LinkedHashMap<>();
+
+        stops.put(60461, StopStatus.success(buses));
+
+        stops.put(60462, StopStatus.failure("the request for stop 60462 timed out"));
+
+        BusMessageConverter converter = new BusMessageConverter();
+
+        assertTrue(converter.canWrite(BatchResponse.class, null));
+
+        assertFalse(converter.canRead(BatchResponse.class, null));
+
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        converter.write(new BatchResponse(stops), null, outputMessage);
+
+        Map<String, ?> expectedMap = Map.of(
+            "success", true,
+            "stops", Map.of(
+                "60461", Map.of(
+                    "success", true,
+                    "buses", buses
+                ),
+                "60462", Map.of(
+                    "success", false,
+                    "message", "the request for stop 60462 timed out"
+                )
+            )
+        );
+
+        JsonNode expected = objectMapper.valueToTree(expectedMap);
+
+        assertEquals(expected, objectMapper.readTree(outputMessage.getBodyAsString()));
+
+        assertEquals("application/json", String.valueOf(outputMessage.getHeaders()
+                                                                     .getContentType()));
+    } //batchesAreStreamedToTheBody
+}
\ No newline at end of file
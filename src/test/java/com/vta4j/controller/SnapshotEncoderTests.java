@@ -0,0 +1,212 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import com.vta4j.model.Bus;
+import com.vta4j.model.Line;
+import com.vta4j.model.Stop;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.nio.charset.StandardCharsets;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SnapshotEncoderTests {
+    private static Bus newBus(String id) {
+        Line line = new Line("22", "EASTRIDGE - PALO ALTO");
+
+        Stop stop = new Stop("60461", "Santa Clara & 1st");
+
+        Stop destination = new Stop("60002", "Palo Alto Transit Center");
+
+        ZonedDateTime arrivalTime = ZonedDateTime.of(2022, 4, 23, 12, 56, 12, 0, ZoneId.of("GMT-07:00"));
+
+        return new Bus(id, line, stop, destination, "WEST", arrivalTime);
+    } //newBus
+
+    @Test
+    public void snapshotsAreEncodedOncePerInstance() throws IOException {
+        SnapshotEncoder encoder = new SnapshotEncoder(10, 2);
+
+        Set<Bus> buses = Set.of(SnapshotEncoderTests.newBus("1001"));
+
+        EncodedSnapshot snapshot = encoder.encode(60461, buses);
+
+        assertSame(snapshot, encoder.encode(60461, buses));
+
+        EncodedSnapshot copy = encoder.encode(60461, new HashSet<>(buses));
+
+        assertEquals(snapshot.etag(), copy.etag());
+
+        EncodedSnapshot changed = encoder.encode(60461, Set.of(SnapshotEncoderTests.newBus("1002")));
+
+        assertNotEquals(snapshot.etag(), changed.etag());
+
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(snapshot.gzip()))) {
+            assertArrayEquals(snapshot.body(), inputStream.readAllBytes());
+        } //end try
+
+        SnapshotStats stats = encoder.getStats();
+
+        assertEquals(2, stats.encodes());
+
+        assertEquals(2, stats.reuses());
+    } //snapshotsAreEncodedOncePerInstance
+
+    private static Bus newBus(String id, int minutes) {
+        Bus bus = SnapshotEncoderTests.newBus(id);
+
+        ZonedDateTime arrivalTime = bus.arrivalTime()
+                                       .plusMinutes(minutes);
+
+        return new Bus(id, bus.line(), bus.stop(), bus.destination(), bus.direction(), arrivalTime);
+    } //newBus
+
+    private static JsonObject parse(EncodedSnapshot snapshot) {
+        String json = new String(snapshot.body(), StandardCharsets.UTF_8);
+
+        return JsonParser.parseString(json)
+                         .getAsJsonObject();
+    } //parse
+
+    private static List<String> ids(JsonObject object, String name) {
+        List<String> ids = new ArrayList<>();
+
+        object.getAsJsonArray(name)
+              .forEach(element -> ids.add(element.getAsJsonObject()
+                                                 .get("id")
+                                                 .getAsString()));
+
+        ids.sort(null);
+
+        return ids;
+    } //ids
+
+    @Test
+    public void deltasContainOnlyChangedBuses() {
+        SnapshotEncoder encoder = new SnapshotEncoder(10, 2);
+
+        Set<Bus> first = Set.of(SnapshotEncoderTests.newBus("1001", 0), SnapshotEncoderTests.newBus("1002", 0),
+                                SnapshotEncoderTests.newBus("1003", 0));
+
+        long firstVersion = SnapshotEncoderTests.parse(encoder.encode(60461, first))
+                                                .get("version")
+                                                .getAsLong();
+
+        Set<Bus> second = Set.of(SnapshotEncoderTests.newBus("1001", 0), SnapshotEncoderTests.newBus("1002", 1),
+                                 SnapshotEncoderTests.newBus("1004", 0));
+
+        EncodedSnapshot delta = encoder.encodeSince(60461, second, firstVersion);
+
+        JsonObject object = SnapshotEncoderTests.parse(delta);
+
+        long secondVersion = object.get("version")
+                                   .getAsLong();
+
+        assertTrue(secondVersion > firstVersion);
+
+        assertEquals(firstVersion, object.get("since")
+                                         .getAsLong());
+
+        assertEquals(List.of("1004"), SnapshotEncoderTests.ids(object, "added"));
+
+        assertEquals(List.of("1002"), SnapshotEncoderTests.ids(object, "updated"));
+
+        assertEquals(List.of("1003"), SnapshotEncoderTests.ids(object, "removed"));
+
+        assertSame(delta, encoder.encodeSince(60461, second, firstVersion));
+
+        JsonObject unchanged = SnapshotEncoderTests.parse(encoder.encodeSince(60461, second, secondVersion));
+
+        assertEquals(0, unchanged.getAsJsonArray("added")
+                                 .size());
+
+        encoder.encode(60461, Set.of(SnapshotEncoderTests.newBus("1005", 0)));
+
+        encoder.encode(60461, Set.of(SnapshotEncoderTests.newBus("1006", 0)));
+
+        JsonObject full = SnapshotEncoderTests.parse(encoder.encodeSince(60461, Set.of(), firstVersion));
+
+        assertTrue(full.has("buses"));
+
+        assertFalse(full.has("since"));
+
+        assertEquals(2, encoder.getStats()
+                               .deltas());
+    } //deltasContainOnlyChangedBuses
+
+    @Test
+    public void busesWithoutIdsAreSentInFull() {
+        SnapshotEncoder encoder = new SnapshotEncoder(10, 2);
+
+        Set<Bus> buses = Set.of(SnapshotEncoderTests.newBus(null));
+
+        long version = SnapshotEncoderTests.parse(encoder.encode(60461, buses))
+                                           .get("version")
+                                           .getAsLong();
+
+        EncodedSnapshot snapshot = encoder.encodeSince(60461, Set.of(SnapshotEncoderTests.newBus("1001")), version);
+
+        assertTrue(SnapshotEncoderTests.parse(snapshot)
+                                       .has("buses"));
+    } //busesWithoutIdsAreSentInFull
+
+    @Test
+    public void ifNoneMatchIsCompared() {
+        EncodedSnapshot snapshot = new EncodedSnapshot(new byte[0], new byte[0], "\"abc\"", MediaType.APPLICATION_JSON);
+
+        assertEquals("\"abc-gz\"", snapshot.gzipEtag());
+
+        assertTrue(snapshot.matches("\"abc\""));
+
+        assertTrue(snapshot.matches("\"abc-gz\""));
+
+        assertTrue(snapshot.matches("W/\"abc-gz\""));
+
+        assertTrue(snapshot.matches("\"xyz\", W/\"abc\""));
+
+        assertTrue(snapshot.matches("*"));
+
+        assertFalse(snapshot.matches("\"xyz\""));
+
+        assertFalse(snapshot.matches(null));
+    } //ifNoneMatchIsCompared
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model;
+
+import org.junit.jupiter.api.Test;
+import com.google.gson.JsonParseException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class ModelTests {
+    private static Set<Bus> parseFixture(String name) throws IOException {
+        InputStream inputStream = ModelTests.class.getResourceAsStream("/" + name);
+
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            return Model.parseBody(reader);
+        } //end try
+    } //parseFixture
+
+    @Test
+    public void parseBodyStreamsVisits() throws IOException {
+        Set<Bus> buses = ModelTests.parseFixture("stop-monitoring.json");
+
+        assertEquals(2, buses.size());
+
+        Set<String> ids = buses.stream()
+                               .map(Bus::id)
+                               .collect(Collectors.toSet());
+
+        assertEquals(Set.of("1001", "1002"), ids);
+
+        for (Bus bus : buses) {
+            assertEquals("60461", bus.stop()
+                                     .id());
+        } //end for
+    } //parseBodyStreamsVisits
+
+    @Test
+    public void readDeliveryCountsSkippedVisits() throws IOException {
+        InputStream inputStream = ModelTests.class.getResourceAsStream("/stop-monitoring.json");
+
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            Model.Delivery delivery = Model.readDelivery(reader);
+
+            assertEquals(3, delivery.visitCount);
+
+            assertEquals(1, delivery.skipCount);
+
+            assertEquals(2, delivery.buses.size());
+
+            assertTrue(delivery.status);
+        } //end try
+    } //readDeliveryCountsSkippedVisits
+
+    @Test
+    public void parseBodyHonorsStatus() throws IOException {
+        String body = """
+            {"ServiceDelivery": {"Status": true, "StopMonitoringDelivery": {"Status": false}}}""";
+
+        Set<Bus> buses = Model.parseBody(new StringReader(body));
+
+        assertTrue(buses.isEmpty());
+    } //parseBodyHonorsStatus
+
+    @Test
+    public void parseBodyRejectsMissingDelivery() {
+        assertThrows(JsonParseException.class, () -> Model.parseBody(new StringReader("{}")));
+    } //parseBodyRejectsMissingDelivery
+}
\ No newline at end of file
@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.adapter;
+
+import org.junit.jupiter.api.Test;
+import com.google.gson.stream.JsonReader;
+import com.vta4j.model.Bus;
+import com.vta4j.model.Line;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class BusAdapterTests {
+    @Test
+    public void parseInstantMatchesInstantParse() {
+        Random random = new Random(42L);
+
+        for (int i = 0; i < 10_000; i++) {
+            long epochSecond = random.nextLong(0L, 4_102_444_800L);
+
+            Instant expected = Instant.ofEpochSecond(epochSecond);
+
+            String timestamp = expected.toString();
+
+            assertEquals(expected, BusAdapter.parseInstant(timestamp));
+        } //end for
+
+        assertEquals(Instant.parse("2022-04-23T19:56:12.250Z"), BusAdapter.parseInstant("2022-04-23T19:56:12.25Z"));
+
+        assertEquals(Instant.parse("2024-02-29T00:00:00Z"), BusAdapter.parseInstant("2024-02-29T00:00:00Z"));
+    } //parseInstantMatchesInstantParse
+
+    @Test
+    public void parseInstantRejectsInvalidTimestamps() {
+        assertNull(BusAdapter.parseInstant(""));
+
+        assertNull(BusAdapter.parseInstant("2022-04-23 19:56:12Z"));
+
+        assertNull(BusAdapter.parseInstant("2022-13-23T19:56:12Z"));
+
+        assertNull(BusAdapter.parseInstant("2023-02-29T19:56:12Z"));
+
+        assertNull(BusAdapter.parseInstant("2022-04-23T24:56:12Z"));
+
+        assertNull(BusAdapter.parseInstant("2022-04-23T19:56:12.Z"));
+
+        assertNull(BusAdapter.parseInstant("2022-04-23T19:56:12-07:00"));
+    } //parseInstantRejectsInvalidTimestamps
+
+    @Test
+    public void formatTimeMatchesDateTimeFormatter() {
+        Random random = new Random(42L);
+
+        for (int i = 0; i < 10_000; i++) {
+            long epochSecond = random.nextLong(0L, 4_102_444_800L);
+
+            int nano = switch (i % 3) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(1_000) * 1_000_000;
+                default -> random.nextInt(1_000_000_000);
+            }; //end switch
+
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds(random.nextInt(-18 * 60, (18 * 60) + 1) * 60);
+
+            ZonedDateTime time = Instant.ofEpochSecond(epochSecond, nano)
+                                        .atZone(offset);
+
+            assertEquals(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(time), BusAdapter.formatTime(time));
+        } //end for
+
+        ZonedDateTime time = ZonedDateTime.of(12_022, 4, 23, 12, 56, 12, 0, ZoneOffset.ofHoursMinutesSeconds(1, 2, 3));
+
+        assertEquals(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(time), BusAdapter.formatTime(time));
+    } //formatTimeMatchesDateTimeFormatter
+
+    @Test
+    public void readBusSkipsIncompleteJourneys() throws IOException {
+        String journey = """
+            {"MonitoredVehicleJourney": {"LineRef": "22", "PublishedLineName": "EASTRIDGE - PALO ALTO",
+             "DirectionRef": "WEST", "DestinationRef": "60002", "DestinationName": "Palo Alto Transit Center",
+             "VehicleRef": "1001", "MonitoredCall": {"StopPointRef": "60461", "StopPointName": "Santa Clara & 1st",
+             "ExpectedArrivalTime": null}}}""";
+
+        long incompleteCount = BusAdapter.getIncompleteCount();
+
+        Bus bus = BusAdapter.readBus(new JsonReader(new StringReader(journey)));
+
+        assertNull(bus);
+
+        assertEquals(incompleteCount + 1, BusAdapter.getIncompleteCount());
+    } //readBusSkipsIncompleteJourneys
+
+    @Test
+    public void internPoolReturnsCanonicalValues() throws InterruptedException {
+        InternPool<Line> pool = new InternPool<>(Line::new, 2);
+
+        Line line = pool.intern("22", "EASTRIDGE - PALO ALTO");
+
+        assertSame(line, pool.intern(new String("22"), new String("EASTRIDGE - PALO ALTO")));
+
+        assertNotSame(line, pool.intern("22", "EASTRIDGE - STANFORD"));
+
+        pool.intern("23", "ALUM ROCK - DE ANZA COLLEGE");
+
+        Line unpooled = pool.intern("25", "ALUM ROCK - DE ANZA COLLEGE");
+
+        assertNotSame(unpooled, pool.intern("25", "ALUM ROCK - DE ANZA COLLEGE"));
+
+        assertEquals(2, pool.getStats()
+                            .size());
+
+        Thread.sleep(5L);
+
+        pool.evictIdle(Duration.ofMillis(1L));
+
+        assertEquals(0, pool.getStats()
+                            .size());
+    } //internPoolReturnsCanonicalValues
+}
\ No newline at end of file
@@ -0,0 +1,393 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.cache;
+
+import org.junit.jupiter.api.Test;
+import com.vta4j.model.Bus;
+import com.vta4j.model.index.ArrivalIndex;
+import com.vta4j.model.upstream.SchedulerStats;
+import com.vta4j.model.upstream.UpstreamScheduler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class BusCacheTests {
+    private static UpstreamScheduler newScheduler(int capacity) {
+        return new UpstreamScheduler(1.0, capacity, 5.0, 0.0, Duration.ZERO, Duration.ofMinutes(5));
+    } //newScheduler
+
+    @Test
+    public void concurrentMissesShareOneFetch() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+
+        CountDownLatch release = new CountDownLatch(1);
+
+        Set<Bus> buses = Set.of();
+
+        BusCache cache = new BusCache(stopId -> {
+            loads.incrementAndGet();
+
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            } //end try catch
+
+            return CompletableFuture.completedFuture(buses);
+        }, BusCacheTests.newScheduler(1_000), Duration.ofMinutes(1), 10);
+
+        int callers = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        List<Future<Set<Bus>>> futures = new ArrayList<>();
+
+        for (int i = 0; i < callers; i++) {
+            futures.add(executor.submit(() -> cache.getBuses(60461)));
+        } //end for
+
+        while ((cache.getCacheStats()
+                     .coalesced() + cache.getCacheStats()
+                                         .misses()) < callers) {
+            Thread.onSpinWait();
+        } //end while
+
+        release.countDown();
+
+        for (Future<Set<Bus>> future : futures) {
+            assertSame(buses, future.get(5, TimeUnit.SECONDS));
+        } //end for
+
+        executor.shutdown();
+
+        assertEquals(1, loads.get());
+
+        CacheStats stats = cache.getCacheStats();
+
+        assertEquals(1, stats.misses());
+
+        assertEquals(callers - 1, stats.coalesced());
+
+        cache.getBuses(60461);
+
+        assertEquals(1, cache.getCacheStats()
+                             .hits());
+    } //concurrentMissesShareOneFetch
+
+    @Test
+    public void expiredEntriesAreReloaded() {
+        AtomicInteger loads = new AtomicInteger();
+
+        BusCache cache = new BusCache(stopId -> {
+            loads.incrementAndGet();
+
+            return CompletableFuture.completedFuture(Set.of());
+        }, BusCacheTests.newScheduler(1_000), Duration.ZERO, 10);
+
+        cache.getBuses(1);
+
+        cache.getBuses(1);
+
+        assertEquals(2, loads.get());
+    } //expiredEntriesAreReloaded
+
+    @Test
+    public void sizeIsBounded() {
+        BusCache cache = new BusCache(stopId -> CompletableFuture.completedFuture(Set.of()),
+                                      BusCacheTests.newScheduler(1_000), Duration.ofMinutes(1), 10);
+
+        for (int stopId = 0; stopId < 100; stopId++) {
+            cache.getBuses(stopId);
+        } //end for
+
+        CacheStats stats = cache.getCacheStats();
+
+        assertTrue(stats.size() <= 11);
+
+        assertTrue(stats.evictions() > 0);
+    } //sizeIsBounded
+
+    @Test
+    public void evictionKeepsServableStaleSnapshots() {
+        BusCache cache = new BusCache(stopId -> CompletableFuture.completedFuture(Set.of()),
+                                      BusCacheTests.newScheduler(1_000), Duration.ZERO, 10, Duration.ofMinutes(1));
+
+        for (int stopId = 0; stopId < 11; stopId++) {
+            cache.getBuses(stopId);
+        } //end for
+
+        CacheStats stats = cache.getCacheStats();
+
+        assertEquals(9, stats.size());
+
+        assertEquals(2, stats.evictions());
+
+        BusCache expiringCache = new BusCache(stopId -> CompletableFuture.completedFuture(Set.of()),
+                                              BusCacheTests.newScheduler(1_000), Duration.ZERO, 10, Duration.ZERO);
+
+        for (int stopId = 0; stopId < 11; stopId++) {
+            expiringCache.getBuses(stopId);
+        } //end for
+
+        CacheStats expiringStats = expiringCache.getCacheStats();
+
+        assertEquals(1, expiringStats.size());
+
+        assertEquals(10, expiringStats.evictions());
+    } //evictionKeepsServableStaleSnapshots
+
+    @Test
+    public void deferredRefreshesServeStaleSnapshots() {
+        AtomicInteger loads = new AtomicInteger();
+
+        UpstreamScheduler scheduler = BusCacheTests.newScheduler(1);
+
+        BusCache cache = new BusCache(stopId -> {
+            loads.incrementAndGet();
+
+            return CompletableFuture.completedFuture(new HashSet<>());
+        }, scheduler, Duration.ZERO, 10);
+
+        Set<Bus> buses = cache.getBuses(1);
+
+        assertSame(buses, cache.getBuses(1));
+
+        assertThrows(IllegalStateException.class, () -> cache.getBuses(2));
+
+        assertEquals(1, loads.get());
+
+        SchedulerStats stats = scheduler.getStats();
+
+        assertEquals(1, stats.granted());
+
+        assertEquals(1, stats.deferred());
+
+        assertEquals(1, stats.rejected());
+    } //deferredRefreshesServeStaleSnapshots
+
+    @Test
+    public void coldStopsWithoutTokensFallBack() {
+        AtomicInteger loads = new AtomicInteger();
+
+        Set<Bus> scheduledBuses = new HashSet<>();
+
+        List<Integer> fallbacks = new ArrayList<>();
+
+        BusCache cache = new BusCache(stopId -> {
+            loads.incrementAndGet();
+
+            return CompletableFuture.completedFuture(new HashSet<>());
+        }, (stopId, cause) -> {
+            fallbacks.add(stopId);
+
+            return CompletableFuture.completedFuture(scheduledBuses);
+        }, BusCacheTests.newScheduler(1), new ArrivalIndex(), Duration.ofMinutes(1), 10, Duration.ZERO);
+
+        cache.getBuses(1);
+
+        assertSame(scheduledBuses, cache.getBuses(2));
+
+        assertSame(scheduledBuses, cache.getBuses(2));
+
+        assertEquals(1, loads.get());
+
+        assertEquals(List.of(2, 2), fallbacks);
+
+        assertEquals(1, cache.getCacheStats()
+                             .size());
+    } //coldStopsWithoutTokensFallBack
+
+    @Test
+    public void failedRevalidationsKeepLiveSnapshots() {
+        AtomicInteger loads = new AtomicInteger();
+
+        Set<Bus> liveBuses = new HashSet<>();
+
+        Set<Bus> scheduledBuses = new HashSet<>();
+
+        List<Integer> fallbacks = new ArrayList<>();
+
+        BusCache cache = new BusCache(stopId -> {
+            if ((stopId == 1) && (loads.getAndIncrement() == 0)) {
+                return CompletableFuture.completedFuture(liveBuses);
+            } //end if
+
+            return CompletableFuture.failedFuture(new IllegalStateException("the upstream service is down"));
+        }, (stopId, cause) -> {
+            fallbacks.add(stopId);
+
+            return CompletableFuture.completedFuture(scheduledBuses);
+        }, BusCacheTests.newScheduler(1_000), new ArrivalIndex(), Duration.ZERO, 10, Duration.ofMinutes(1));
+
+        assertSame(liveBuses, cache.getBuses(1));
+
+        assertSame(liveBuses, cache.getBuses(1));
+
+        assertSame(liveBuses, cache.getBuses(1));
+
+        assertTrue(cache.getStaleAge(1)
+                        .isPresent());
+
+        assertSame(scheduledBuses, cache.getBuses(2));
+
+        assertEquals(List.of(2), fallbacks);
+
+        CacheStats stats = cache.getCacheStats();
+
+        assertTrue(stats.revalidationFailures() > 0);
+    } //failedRevalidationsKeepLiveSnapshots
+
+    @Test
+    public void expiredSnapshotsAreServedWhileRevalidating() {
+        AtomicInteger loads = new AtomicInteger();
+
+        List<CompletableFuture<Set<Bus>>> refreshes = new ArrayList<>();
+
+        Set<Bus> buses = new HashSet<>();
+
+        BusCache cache = new BusCache(stopId -> {
+            if (loads.getAndIncrement() == 0) {
+                return CompletableFuture.completedFuture(buses);
+            } //end if
+
+            CompletableFuture<Set<Bus>> refresh = new CompletableFuture<>();
+
+            refreshes.add(refresh);
+
+            return refresh;
+        }, BusCacheTests.newScheduler(1_000), Duration.ZERO, 10, Duration.ofMinutes(1));
+
+        cache.getBuses(1);
+
+        assertSame(buses, cache.getBuses(1));
+
+        assertSame(buses, cache.getBuses(1));
+
+        assertEquals(2, loads.get());
+
+        assertTrue(cache.getStaleAge(1)
+                        .isPresent());
+
+        refreshes.get(0)
+                 .completeExceptionally(new IllegalStateException());
+
+        assertSame(buses, cache.getBuses(1));
+
+        assertEquals(3, loads.get());
+
+        Set<Bus> freshBuses = new HashSet<>();
+
+        refreshes.get(1)
+                 .complete(freshBuses);
+
+        assertSame(freshBuses, cache.getBuses(1));
+
+        CacheStats stats = cache.getCacheStats();
+
+        assertEquals(4, stats.stale());
+
+        assertEquals(1, stats.revalidationFailures());
+    } //expiredSnapshotsAreServedWhileRevalidating
+
+    @Test
+    public void freshSnapshotsAreNotStale() {
+        BusCache cache = new BusCache(stopId -> CompletableFuture.completedFuture(Set.of()),
+                                      BusCacheTests.newScheduler(1_000), Duration.ofMinutes(1), 10,
+                                      Duration.ofMinutes(1));
+
+        cache.getBuses(1);
+
+        assertEquals(Optional.empty(), cache.getStaleAge(1));
+
+        assertEquals(Optional.empty(), cache.getStaleAge(2));
+    } //freshSnapshotsAreNotStale
+
+    @Test
+    public void asyncLookupsReleaseCallerThreads() throws Exception {
+        Executor upstream = CompletableFuture.delayedExecutor(200L, TimeUnit.MILLISECONDS);
+
+        BusCache cache = new BusCache(stopId -> CompletableFuture.supplyAsync(Set::of, upstream),
+                                      BusCacheTests.newScheduler(1_000), Duration.ZERO, 1_000);
+
+        int threads = 8;
+
+        int requests = 64;
+
+        ExecutorService container = Executors.newFixedThreadPool(threads);
+
+        long start = System.nanoTime();
+
+        List<Future<Set<Bus>>> blockingFutures = new ArrayList<>();
+
+        for (int i = 0; i < requests; i++) {
+            int stopId = i;
+
+            blockingFutures.add(container.submit(() -> cache.getBuses(stopId)));
+        } //end for
+
+        for (Future<Set<Bus>> future : blockingFutures) {
+            future.get(10, TimeUnit.SECONDS);
+        } //end for
+
+        long blockingElapsed = System.nanoTime() - start;
+
+        start = System.nanoTime();
+
+        List<Future<CompletableFuture<Set<Bus>>>> asyncFutures = new ArrayList<>();
+
+        for (int i = 0; i < requests; i++) {
+            int stopId = requests + i;
+
+            asyncFutures.add(container.submit(() -> cache.getBusesAsync(stopId)));
+        } //end for
+
+        for (Future<CompletableFuture<Set<Bus>>> future : asyncFutures) {
+            future.get(10, TimeUnit.SECONDS)
+                  .get(10, TimeUnit.SECONDS);
+        } //end for
+
+        long asyncElapsed = System.nanoTime() - start;
+
+        container.shutdown();
+
+        assertTrue(asyncElapsed < (blockingElapsed / 2), "async: %d ms, blocking: %d ms".formatted(
+            TimeUnit.NANOSECONDS.toMillis(asyncElapsed), TimeUnit.NANOSECONDS.toMillis(blockingElapsed)));
+    } //asyncLookupsReleaseCallerThreads
+}
\ No newline at end of file
@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.capture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class CaptureLogTests {
+    @TempDir
+    Path directory;
+
+    private CaptureLog newLog() {
+        return new CaptureLog(this.directory.toString(), DataSize.ofBytes(256L), Duration.ZERO, 64);
+    } //newLog
+
+    private static CaptureEntry newEntry(int i) {
+        byte[] body = new byte[100];
+
+        Arrays.fill(body, (byte) i);
+
+        int stopId = (i == 0) ? CaptureLog.AGENCY : 60000 + i;
+
+        return new CaptureEntry(1_000L * i, stopId, 200, body);
+    } //newEntry
+
+    private List<CaptureEntry> readAll() throws IOException {
+        List<CaptureEntry> entries = new ArrayList<>();
+
+        for (Path segment : CaptureReader.getSegments(this.directory)) {
+            CaptureReader.read(segment, entries::add);
+        } //end for
+
+        return entries;
+    } //readAll
+
+    @Test
+    public void entriesAreReadBackInOrderAcrossSegments() throws IOException, InterruptedException {
+        CaptureLog log = this.newLog();
+
+        log.start();
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(log.append(CaptureLogTests.newEntry(i)));
+        } //end for
+
+        log.stop();
+
+        List<CaptureEntry> entries = this.readAll();
+
+        assertEquals(10, entries.size());
+
+        for (int i = 0; i < 10; i++) {
+            CaptureEntry expected = CaptureLogTests.newEntry(i);
+
+            CaptureEntry actual = entries.get(i);
+
+            assertEquals(expected.timestamp(), actual.timestamp());
+
+            assertEquals(expected.stopId(), actual.stopId());
+
+            assertEquals(expected.status(), actual.status());
+
+            assertArrayEquals(expected.body(), actual.body());
+        } //end for
+
+        CaptureStats stats = log.getStats();
+
+        assertEquals(10L, stats.entries());
+
+        assertEquals(0L, stats.dropped());
+
+        assertTrue(stats.segments() > 1L);
+
+        assertEquals(stats.segments(), CaptureReader.getSegments(this.directory)
+                                                    .size());
+    } //entriesAreReadBackInOrderAcrossSegments
+
+    @Test
+    public void restartAppendsNewSegments() throws IOException, InterruptedException {
+        CaptureLog log = this.newLog();
+
+        log.start();
+
+        log.append(CaptureLogTests.newEntry(1));
+
+        log.stop();
+
+        CaptureLog restartedLog = this.newLog();
+
+        restartedLog.start();
+
+        restartedLog.append(CaptureLogTests.newEntry(2));
+
+        restartedLog.stop();
+
+        List<CaptureEntry> entries = this.readAll();
+
+        assertEquals(2, entries.size());
+
+        assertEquals(1_000L, entries.get(0)
+                                    .timestamp());
+
+        assertEquals(2_000L, entries.get(1)
+                                    .timestamp());
+    } //restartAppendsNewSegments
+
+    @Test
+    public void readStopsAtTornTail() throws IOException, InterruptedException {
+        CaptureLog log = new CaptureLog(this.directory.toString(), DataSize.ofMegabytes(1L), Duration.ZERO, 64);
+
+        log.start();
+
+        for (int i = 0; i < 3; i++) {
+            log.append(CaptureLogTests.newEntry(i));
+        } //end for
+
+        log.stop();
+
+        List<Path> segments = CaptureReader.getSegments(this.directory);
+
+        assertEquals(1, segments.size());
+
+        Path segment = segments.get(0);
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5L);
+        } //end try
+
+        List<CaptureEntry> entries = new ArrayList<>();
+
+        assertEquals(2L, CaptureReader.read(segment, entries::add));
+
+        assertEquals(1_000L, entries.get(1)
+                                    .timestamp());
+    } //readStopsAtTornTail
+
+    @Test
+    public void disabledLogDropsEntries() throws IOException {
+        CaptureLog log = new CaptureLog("", DataSize.ofMegabytes(1L), Duration.ZERO, 64);
+
+        log.start();
+
+        assertFalse(log.isEnabled());
+
+        assertFalse(log.append(CaptureLogTests.newEntry(1)));
+
+        assertTrue(CaptureReader.getSegments(this.directory)
+                                .isEmpty());
+    } //disabledLogDropsEntries
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.capture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import com.vta4j.model.Bus;
+import com.vta4j.model.index.ArrivalIndex;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class ReplaySourceTests {
+    @TempDir
+    Path directory;
+
+    private static byte[] newBody(String vehicleId) {
+        String json = """
+            {"ServiceDelivery": {"Status": true, "StopMonitoringDelivery": {"Status": true, "MonitoredStopVisit": [
+            {"MonitoredVehicleJourney": {"LineRef": "22", "DirectionRef": "WEST",
+            "PublishedLineName": "EASTRIDGE - PALO ALTO", "DestinationRef": "60002",
+            "DestinationName": "Palo Alto Transit Center", "VehicleRef": "%s",
+            "MonitoredCall": {"StopPointRef": "60461", "StopPointName": "Santa Clara & 1st",
+            "ExpectedArrivalTime": "2022-04-23T19:56:12Z"}}}]}}}""".formatted(vehicleId);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+
+        return outputStream.toByteArray();
+    } //newBody
+
+    private static Set<String> ids(Set<Bus> buses) {
+        return buses.stream()
+                    .map(Bus::id)
+                    .collect(Collectors.toSet());
+    } //ids
+
+    @Test
+    public void newerAgencySnapshotsReplaceStopSnapshots() throws IOException, InterruptedException {
+        CaptureLog log = new CaptureLog(this.directory.toString(), DataSize.ofMegabytes(1L), Duration.ZERO, 64);
+
+        log.start();
+
+        assertTrue(log.append(new CaptureEntry(1_000L, 60461, 200, ReplaySourceTests.newBody("1001"))));
+
+        assertTrue(log.append(new CaptureEntry(2_000L, CaptureLog.AGENCY, 200, ReplaySourceTests.newBody("2002"))));
+
+        log.stop();
+
+        ArrivalIndex arrivalIndex = new ArrivalIndex();
+
+        ReplaySource source = new ReplaySource(this.directory.toString(), 0.0, false, arrivalIndex);
+
+        source.start();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10)
+                                                    .toNanos();
+
+        while (((ReplayStats) source.getStats()
+                                    .get("replay")).passes() == 0L) {
+            assertTrue(System.nanoTime() < deadline, "the log was not replayed in time");
+
+            Thread.sleep(10L);
+        } //end while
+
+        source.stop();
+
+        assertEquals(Set.of("2002"), ReplaySourceTests.ids(source.getBuses(60461)));
+
+        assertTrue(arrivalIndex.getVehicleArrivals("1001", Instant.EPOCH, 10)
+                               .isEmpty());
+
+        assertEquals(1, arrivalIndex.getVehicleArrivals("2002", Instant.EPOCH, 10)
+                                    .size());
+    } //newerAgencySnapshotsReplaceStopSnapshots
+}
\ No newline at end of file
@@ -0,0 +1,376 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.cluster;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.vta4j.model.Bus;
+import com.vta4j.model.Line;
+import com.vta4j.model.Stop;
+import com.vta4j.model.index.ArrivalIndex;
+import com.vta4j.model.upstream.UpstreamScheduler;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class ClusterSourceTests {
+    @TempDir
+    Path directory;
+
+    private static final class Node {
+        private final AtomicInteger fetches = new AtomicInteger();
+
+        private final HttpServer server;
+
+        private final ClusterSource source;
+
+        private Node(HttpServer server, LeaderElection election, String vehicleId) {
+            this.server = server;
+
+            Line line = new Line("22", "Line 22");
+
+            Stop stop = new Stop("60461", "Santa Clara & 1st");
+
+            ZonedDateTime arrivalTime = ZonedDateTime.now()
+                                                     .withNano(0);
+
+            Bus bus = new Bus(vehicleId, line, stop, null, "East", arrivalTime);
+
+            UpstreamScheduler scheduler = new UpstreamScheduler(1.0, 1_000, 5.0, 0.0, Duration.ZERO,
+                                                                Duration.ofMinutes(5));
+
+            this.source = new ClusterSource(() -> {
+                this.fetches.incrementAndGet();
+
+                return Optional.of(Set.of(bus));
+            }, (stopId, cause) -> CompletableFuture.failedFuture(cause), scheduler, new ArrivalIndex(), election,
+                ClusterSourceTests.urlOf(server), "secret", Duration.ofMillis(100), Duration.ofMinutes(1),
+                Duration.ofMillis(50), Duration.ofSeconds(1));
+
+            this.server.createContext("/internal/cluster/snapshot", this::handle);
+
+            this.server.createContext("/internal/cluster/heartbeat", this::handleHeartbeat);
+
+            this.server.start();
+
+            this.source.start();
+        } //Node
+
+        private Node(Path lockFile, String vehicleId) throws IOException {
+            this(ClusterSourceTests.newServer(), new LeaderLock(lockFile, ClusterSourceTests.LEASE), vehicleId);
+        } //Node
+
+        private boolean isAuthorized(HttpExchange exchange) {
+            String remoteAddress = exchange.getRemoteAddress()
+                                           .getAddress()
+                                           .getHostAddress();
+
+            String secret = exchange.getRequestHeaders()
+                                    .getFirst(ClusterSource.SECRET_HEADER);
+
+            return this.source.isAuthorized(remoteAddress, secret);
+        } //isAuthorized
+
+        private void handleHeartbeat(HttpExchange exchange) throws IOException {
+            int statusCode = this.isAuthorized(exchange) ? 204 : 403;
+
+            exchange.sendResponseHeaders(statusCode, -1);
+
+            exchange.close();
+        } //handleHeartbeat
+
+        private void handle(HttpExchange exchange) throws IOException {
+            String query = URI.create(exchange.getRequestURI()
+                                              .toString())
+                              .getQuery();
+
+            long since = Long.parseLong(query.substring(query.indexOf('=') + 1));
+
+            if (!this.isAuthorized(exchange)) {
+                exchange.sendResponseHeaders(403, -1);
+
+                return;
+            } //end if
+
+            if (!this.source.isLeader()) {
+                exchange.sendResponseHeaders(503, -1);
+
+                return;
+            } //end if
+
+            Optional<byte[]> snapshot = this.source.getSnapshot(since);
+
+            if (snapshot.isEmpty()) {
+                exchange.sendResponseHeaders(204, -1);
+
+                return;
+            } //end if
+
+            exchange.sendResponseHeaders(200, snapshot.get().length);
+
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(snapshot.get());
+            } //end try
+        } //handle
+
+        private void stop() throws IOException {
+            this.source.stop();
+
+            this.server.stop(0);
+        } //stop
+    }
+
+    private static final Duration LEASE = Duration.ofMillis(150);
+
+    private static HttpServer newServer() throws IOException {
+        return HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    } //newServer
+
+    private static String urlOf(HttpServer server) {
+        int port = server.getAddress()
+                         .getPort();
+
+        return "http://localhost:%d".formatted(port);
+    } //urlOf
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10)
+                                                    .toNanos();
+
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "the condition was not met in time");
+
+            Thread.sleep(10L);
+        } //end while
+    } //await
+
+    private static String getVehicleId(ClusterSource source) {
+        return source.getBusesAsync(60461)
+                     .handle((buses, throwable) -> (buses == null) ? Set.<Bus>of() : buses)
+                     .join()
+                     .stream()
+                     .map(Bus::id)
+                     .findFirst()
+                     .orElse(null);
+    } //getVehicleId
+
+    @Test
+    public void nodesWithoutSnapshotsDoNotReportEmptyStops() throws IOException {
+        Path lockFile = this.directory.resolve("leader.lock");
+
+        LeaderLock holder = new LeaderLock(lockFile, ClusterSourceTests.LEASE);
+
+        assertTrue(holder.tryAcquire());
+
+        Node follower = new Node(lockFile, "2002");
+
+        assertThrows(IllegalStateException.class, () -> follower.source.getBuses(60461));
+
+        assertFalse(follower.source.isLeader());
+
+        follower.stop();
+
+        holder.close();
+    } //nodesWithoutSnapshotsDoNotReportEmptyStops
+
+    @Test
+    public void followersReplicateAndTakeOver() throws Exception {
+        Path lockFile = this.directory.resolve("leader.lock");
+
+        Node leader = new Node(lockFile, "1001");
+
+        ClusterSourceTests.await(() -> "1001".equals(ClusterSourceTests.getVehicleId(leader.source)));
+
+        assertTrue(leader.source.isLeader());
+
+        Node follower = new Node(lockFile, "2002");
+
+        ClusterSourceTests.await(() -> "1001".equals(ClusterSourceTests.getVehicleId(follower.source)));
+
+        assertFalse(follower.source.isLeader());
+
+        assertEquals(0, follower.fetches.get());
+
+        ClusterStats stats = follower.source.getClusterStats();
+
+        assertEquals("follower", stats.role());
+
+        assertTrue(stats.replications() >= 1L);
+
+        assertEquals(leader.source.getClusterStats()
+                                  .leader(), stats.leader());
+
+        leader.stop();
+
+        ClusterSourceTests.await(() -> "2002".equals(ClusterSourceTests.getVehicleId(follower.source)));
+
+        assertTrue(follower.source.isLeader());
+
+        assertEquals(1L, follower.source.getClusterStats()
+                                        .elections());
+
+        follower.stop();
+    } //followersReplicateAndTakeOver
+
+    private static ClusterSource newSource(Path lockFile, String secret) {
+        UpstreamScheduler scheduler = new UpstreamScheduler(1.0, 1_000, 5.0, 0.0, Duration.ZERO,
+                                                            Duration.ofMinutes(5));
+
+        LeaderElection election;
+
+        try {
+            election = new LeaderLock(lockFile, ClusterSourceTests.LEASE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+
+        return new ClusterSource(Optional::empty, (stopId, cause) -> CompletableFuture.failedFuture(cause), scheduler,
+                                 new ArrivalIndex(), election, "http://localhost:0", secret, Duration.ofMillis(100),
+                                 Duration.ofMinutes(1), Duration.ofMillis(50), Duration.ofSeconds(1));
+    } //newSource
+
+    @Test
+    public void peersOnDifferentHostsElectOneLeader() throws Exception {
+        HttpServer firstServer = ClusterSourceTests.newServer();
+
+        HttpServer secondServer = ClusterSourceTests.newServer();
+
+        String firstUrl = ClusterSourceTests.urlOf(firstServer);
+
+        String secondUrl = ClusterSourceTests.urlOf(secondServer);
+
+        List<String> peers = List.of(firstUrl, secondUrl);
+
+        Node leader = new Node(firstServer, new PeerElection(peers, firstUrl, "secret", Duration.ofSeconds(1),
+                                                             ClusterSourceTests.LEASE), "1001");
+
+        Node follower = new Node(secondServer, new PeerElection(peers, secondUrl, "secret", Duration.ofSeconds(1),
+                                                                ClusterSourceTests.LEASE), "2002");
+
+        ClusterSourceTests.await(() -> "1001".equals(ClusterSourceTests.getVehicleId(follower.source)));
+
+        assertTrue(leader.source.isLeader());
+
+        assertFalse(follower.source.isLeader());
+
+        assertEquals(0, follower.fetches.get());
+
+        assertEquals(firstUrl, follower.source.getClusterStats()
+                                              .leader());
+
+        leader.stop();
+
+        ClusterSourceTests.await(() -> "2002".equals(ClusterSourceTests.getVehicleId(follower.source)));
+
+        assertTrue(follower.source.isLeader());
+
+        follower.stop();
+    } //peersOnDifferentHostsElectOneLeader
+
+    @Test
+    public void announcementsExpireWithoutHeartbeats() throws Exception {
+        Path lockFile = this.directory.resolve("leader.lock");
+
+        LeaderLock holder = new LeaderLock(lockFile, ClusterSourceTests.LEASE);
+
+        assertTrue(holder.tryAcquire());
+
+        holder.publish("http://localhost:6942");
+
+        assertEquals(Optional.of("http://localhost:6942"), holder.readLeader());
+
+        ClusterSourceTests.await(() -> {
+            try {
+                return holder.readLeader()
+                             .isEmpty();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } //end try catch
+        });
+
+        holder.close();
+    } //announcementsExpireWithoutHeartbeats
+
+    @Test
+    public void onlyMembersMayReadSnapshots() {
+        Path lockFile = this.directory.resolve("leader.lock");
+
+        ClusterSource loopbackOnly = ClusterSourceTests.newSource(lockFile, "");
+
+        assertTrue(loopbackOnly.isAuthorized("127.0.0.1", null));
+
+        assertTrue(loopbackOnly.isAuthorized("0:0:0:0:0:0:0:1", null));
+
+        assertFalse(loopbackOnly.isAuthorized("203.0.113.7", null));
+
+        ClusterSource shared = ClusterSourceTests.newSource(lockFile, "secret");
+
+        assertTrue(shared.isAuthorized("203.0.113.7", "secret"));
+
+        assertFalse(shared.isAuthorized("127.0.0.1", null));
+
+        assertFalse(shared.isAuthorized("127.0.0.1", "guess"));
+    } //onlyMembersMayReadSnapshots
+
+    @Test
+    public void onlyOneNodeHoldsTheLock() throws IOException {
+        Path lockFile = this.directory.resolve("leader.lock");
+
+        LeaderLock first = new LeaderLock(lockFile, Duration.ofMinutes(1));
+
+        LeaderLock second = new LeaderLock(lockFile, Duration.ofMinutes(1));
+
+        assertTrue(first.tryAcquire());
+
+        assertFalse(second.tryAcquire());
+
+        first.publish("http://localhost:6942");
+
+        assertEquals(Optional.of("http://localhost:6942"), second.readLeader());
+
+        first.close();
+
+        assertTrue(second.tryAcquire());
+
+        second.close();
+    } //onlyOneNodeHoldsTheLock
+}
\ No newline at end of file
@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.vta4j.model.Bus;
+import com.vta4j.model.Line;
+import com.vta4j.model.Stop;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class PredictionStoreTests {
+    private static final ZoneId ZONE_ID;
+
+    static {
+        ZONE_ID = ZoneId.of("America/Los_Angeles");
+    } //static
+
+    @TempDir
+    Path directory;
+
+    private PredictionStore newStore(Duration retention) throws IOException {
+        PredictionStore store = new PredictionStore(this.directory.toString(), Duration.ofMinutes(10), retention);
+
+        store.start();
+
+        return store;
+    } //newStore
+
+    private static Bus newBus(String vehicleId, String lineId, Instant arrivalTime) {
+        Line line = new Line(lineId, "Line " + lineId);
+
+        Stop stop = new Stop("60461", "Santa Clara & 1st");
+
+        ZonedDateTime arrival = ZonedDateTime.ofInstant(arrivalTime, PredictionStoreTests.ZONE_ID);
+
+        return new Bus(vehicleId, line, stop, null, "East", arrival);
+    } //newBus
+
+    private static Instant getStartTime() {
+        long now = Instant.now()
+                          .getEpochSecond();
+
+        return Instant.ofEpochSecond(now - (now % 600L) - 3_600L);
+    } //getStartTime
+
+    private static void recordApproach(PredictionStore store, Instant startTime) {
+        Instant actualTime = startTime.plusSeconds(1_800L);
+
+        for (long offset = 0L; offset < 1_800L; offset += 60L) {
+            long lead = 1_800L - offset;
+
+            long error = (lead >= 600L) ? 30L : 0L;
+
+            Bus bus = PredictionStoreTests.newBus("1001", "22", actualTime.plusSeconds(error));
+
+            Bus otherBus = PredictionStoreTests.newBus("1002", "522", actualTime.plusSeconds(300L));
+
+            store.record(Set.of(bus, otherBus), startTime.plusSeconds(offset));
+        } //end for
+    } //recordApproach
+
+    private static PredictionAccuracy find(List<PredictionAccuracy> accuracies, int leadMinutes) {
+        return accuracies.stream()
+                         .filter(accuracy -> accuracy.leadMinutes() == leadMinutes)
+                         .findFirst()
+                         .orElse(null);
+    } //find
+
+    @Test
+    public void accuracyIsMeasuredAgainstTheLastPrediction() throws IOException {
+        PredictionStore store = this.newStore(Duration.ofDays(7));
+
+        Instant startTime = PredictionStoreTests.getStartTime();
+
+        PredictionStoreTests.recordApproach(store, startTime);
+
+        List<PredictionAccuracy> accuracies = store.getAccuracy("22", "60461", startTime,
+                                                                startTime.plusSeconds(3_600L));
+
+        PredictionAccuracy far = PredictionStoreTests.find(accuracies, 20);
+
+        assertEquals(1L, far.samples());
+
+        assertEquals(30.0, far.meanError());
+
+        assertEquals(30L, far.maximumAbsoluteError());
+
+        PredictionAccuracy near = PredictionStoreTests.find(accuracies, 5);
+
+        assertEquals(1L, near.samples());
+
+        assertEquals(0.0, near.meanError());
+
+        assertEquals(null, PredictionStoreTests.find(accuracies, 1));
+
+        assertEquals(29, accuracies.size());
+
+        assertTrue(store.getAccuracy("522", "60461", startTime, startTime.plusSeconds(3_600L))
+                        .isEmpty());
+
+        HistoryStats stats = store.getStats();
+
+        assertEquals(60L, stats.rows());
+
+        assertEquals(2L, stats.sealed());
+
+        assertEquals(3L, stats.segments());
+    } //accuracyIsMeasuredAgainstTheLastPrediction
+
+    @Test
+    public void sealedSegmentsSurviveRestart() throws IOException {
+        PredictionStore store = this.newStore(Duration.ofDays(7));
+
+        Instant startTime = PredictionStoreTests.getStartTime();
+
+        PredictionStoreTests.recordApproach(store, startTime);
+
+        Instant endTime = startTime.plusSeconds(3_600L);
+
+        List<PredictionAccuracy> accuracies = store.getAccuracy("22", "60461", startTime, endTime);
+
+        store.stop();
+
+        PredictionStore reopenedStore = this.newStore(Duration.ofDays(7));
+
+        assertEquals(accuracies, reopenedStore.getAccuracy("22", "60461", startTime, endTime));
+
+        assertEquals(60L, reopenedStore.getStats()
+                                       .rows());
+    } //sealedSegmentsSurviveRestart
+
+    @Test
+    public void expiredSegmentsAreDeleted() throws IOException {
+        PredictionStore store = this.newStore(Duration.ofHours(1));
+
+        Instant startTime = PredictionStoreTests.getStartTime();
+
+        Bus bus = PredictionStoreTests.newBus("1001", "22", startTime.plusSeconds(600L));
+
+        store.record(Set.of(bus), startTime);
+
+        store.record(Set.of(bus), startTime.plusSeconds(7_200L));
+
+        HistoryStats stats = store.getStats();
+
+        assertEquals(1L, stats.sealed());
+
+        assertEquals(1L, stats.expired());
+
+        assertEquals(1L, stats.rows());
+
+        assertTrue(store.getAccuracy("22", "60461", startTime, startTime.plusSeconds(600L))
+                        .isEmpty());
+    } //expiredSegmentsAreDeleted
+
+    @Test
+    public void disabledStoreRecordsNothing() {
+        PredictionStore store = new PredictionStore("", Duration.ofHours(1), Duration.ofDays(7));
+
+        Instant startTime = PredictionStoreTests.getStartTime();
+
+        store.record(Set.of(PredictionStoreTests.newBus("1001", "22", startTime)), startTime);
+
+        HistoryStats stats = store.getStats();
+
+        assertFalse(stats.enabled());
+
+        assertEquals(0L, stats.rows());
+    } //disabledStoreRecordsNothing
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.index;
+
+import org.junit.jupiter.api.Test;
+import com.vta4j.model.Bus;
+import com.vta4j.model.Line;
+import com.vta4j.model.Stop;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class ArrivalIndexTests {
+    private static final Instant NOW = Instant.parse("2026-10-17T12:00:00Z");
+
+    private static Bus newBus(String vehicleId, String lineId, String stopId, long minutes) {
+        Line line = new Line(lineId, "Line " + lineId);
+
+        Stop stop = new Stop(stopId, "Stop " + stopId);
+
+        ZonedDateTime arrivalTime = ZonedDateTime.ofInstant(ArrivalIndexTests.NOW.plusSeconds(minutes * 60L),
+                                                            ZoneId.of("America/Los_Angeles"));
+
+        return new Bus(vehicleId, line, stop, null, "East", arrivalTime);
+    } //newBus
+
+    @Test
+    public void arrivalsAreIndexedByVehicleAndLine() {
+        ArrivalIndex index = new ArrivalIndex();
+
+        Bus first = ArrivalIndexTests.newBus("4012", "22", "1", 5L);
+
+        Bus second = ArrivalIndexTests.newBus("4012", "22", "2", 9L);
+
+        Bus other = ArrivalIndexTests.newBus("5001", "22", "1", 2L);
+
+        Bus past = ArrivalIndexTests.newBus("5002", "22", "2", -3L);
+
+        Bus elsewhere = ArrivalIndexTests.newBus("6003", "522", "2", 1L);
+
+        index.update(1, Set.of(first, other));
+
+        index.update(2, Set.of(second, past, elsewhere));
+
+        assertEquals(List.of(first, second), index.getVehicleArrivals("4012", ArrivalIndexTests.NOW, 10));
+
+        assertEquals(List.of(other, first, second), index.getLineArrivals("22", ArrivalIndexTests.NOW, 10));
+
+        assertEquals(List.of(other), index.getLineArrivals("22", ArrivalIndexTests.NOW, 1));
+
+        assertTrue(index.getVehicleArrivals("9999", ArrivalIndexTests.NOW, 10)
+                        .isEmpty());
+    } //arrivalsAreIndexedByVehicleAndLine
+
+    @Test
+    public void updatesApplyOnlyWhatChanged() {
+        ArrivalIndex index = new ArrivalIndex();
+
+        Bus first = ArrivalIndexTests.newBus("4012", "22", "1", 5L);
+
+        Bus other = ArrivalIndexTests.newBus("5001", "22", "1", 2L);
+
+        index.update(1, Set.of(first, other));
+
+        Bus moved = ArrivalIndexTests.newBus("4012", "22", "1", 7L);
+
+        index.update(1, Set.of(moved, other));
+
+        assertEquals(List.of(moved), index.getVehicleArrivals("4012", ArrivalIndexTests.NOW, 10));
+
+        ArrivalStats stats = index.getStats();
+
+        assertEquals(3L, stats.added());
+
+        assertEquals(1L, stats.removed());
+
+        index.update(1, Set.of(moved, other));
+
+        assertEquals(3L, index.getStats()
+                              .added());
+
+        index.update(1, Set.of());
+
+        stats = index.getStats();
+
+        assertEquals(0, stats.stops());
+
+        assertEquals(0, stats.vehicles());
+
+        assertEquals(0, stats.lines());
+    } //updatesApplyOnlyWhatChanged
+
+    @Test
+    public void stopIndexesAreDiffed() {
+        ArrivalIndex index = new ArrivalIndex();
+
+        Bus first = ArrivalIndexTests.newBus("4012", "22", "1", 5L);
+
+        Bus second = ArrivalIndexTests.newBus("4012", "22", "2", 9L);
+
+        StopIndex previous = StopIndex.of(Set.of(first, second), ArrivalIndexTests.NOW);
+
+        index.update(StopIndex.empty(), previous);
+
+        StopIndex next = StopIndex.of(Set.of(second), ArrivalIndexTests.NOW.plusSeconds(30L));
+
+        index.update(previous, next);
+
+        assertEquals(List.of(second), index.getVehicleArrivals("4012", ArrivalIndexTests.NOW, 10));
+
+        assertEquals(1, index.getStats()
+                             .stops());
+    } //stopIndexesAreDiffed
+
+    @Test
+    public void arrivalsWithDifferentDestinationsAreKept() {
+        ArrivalIndex index = new ArrivalIndex();
+
+        Bus bus = ArrivalIndexTests.newBus("4012", "22", "1", 5L);
+
+        Bus eastridge = new Bus(bus.id(), bus.line(), bus.stop(), new Stop("60001", "Eastridge"), bus.direction(),
+                                bus.arrivalTime());
+
+        Bus paloAlto = new Bus(bus.id(), bus.line(), bus.stop(), new Stop("60002", "Palo Alto"), bus.direction(),
+                               bus.arrivalTime());
+
+        index.update(1, Set.of(bus, eastridge, paloAlto));
+
+        assertEquals(List.of(bus, eastridge, paloAlto), index.getVehicleArrivals("4012", ArrivalIndexTests.NOW, 10));
+
+        index.update(1, Set.of(bus, paloAlto));
+
+        assertEquals(List.of(bus, paloAlto), index.getVehicleArrivals("4012", ArrivalIndexTests.NOW, 10));
+    } //arrivalsWithDifferentDestinationsAreKept
+}
\ No newline at end of file
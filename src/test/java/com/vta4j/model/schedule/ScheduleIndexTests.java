@@ -0,0 +1,327 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.schedule;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.vta4j.model.Bus;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class ScheduleIndexTests {
+    private static final ZoneId ZONE_ID;
+
+    static {
+        ZONE_ID = ZoneId.of("America/Los_Angeles");
+    } //static
+
+    @TempDir
+    Path directory;
+
+    private ScheduleIndex compile(Map<String, String> tables) throws IOException {
+        Path feedPath = this.directory.resolve("gtfs.zip");
+
+        try (OutputStream outputStream = Files.newOutputStream(feedPath);
+             ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            for (Map.Entry<String, String> entry : tables.entrySet()) {
+                zipOutputStream.putNextEntry(new ZipEntry(entry.getKey()));
+
+                zipOutputStream.write(entry.getValue()
+                                           .getBytes(StandardCharsets.UTF_8));
+
+                zipOutputStream.closeEntry();
+            } //end for
+        } //end try
+
+        Path indexPath = this.directory.resolve("schedule.idx");
+
+        GtfsCompiler.compile(feedPath, indexPath);
+
+        return ScheduleIndex.open(indexPath);
+    } //compile
+
+    private ScheduleIndex compile() throws IOException {
+        Map<String, String> tables = Map.of(
+            "agency.txt", """
+                \uFEFFagency_id,agency_name,agency_url,agency_timezone
+                VTA,VTA,https://www.vta.org,America/Los_Angeles
+                """,
+            "routes.txt", """
+                route_id,route_short_name,route_long_name,route_type
+                R22,22,EASTRIDGE - PALO ALTO,3
+                """,
+            "calendar.txt", """
+                service_id,monday,tuesday,wednesday,thursday,friday,saturday,sunday,start_date,end_date
+                WK,1,1,1,1,1,0,0,20260101,20261231
+                SA,0,0,0,0,0,1,0,20260101,20261231
+                """,
+            "calendar_dates.txt", """
+                service_id,date,exception_type
+                WK,20261016,2
+                """,
+            "stops.txt", """
+                stop_id,stop_code,stop_name,stop_lat,stop_lon,location_type
+                S1,60461,"Santa Clara & 1st, Eastbound",37.336014,-121.889143,0
+                S2,60002,Palo Alto Transit Center,37.443434,-122.164854,
+                S3,60003,Palo Alto Station,37.443500,-122.165000,1
+                S4,60004,Unknown Location,,,0
+                """,
+            "trips.txt", """
+                route_id,service_id,trip_id,trip_headsign,direction_id
+                R22,WK,T1,Palo Alto,0
+                R22,WK,T2,,1
+                R22,SA,T3,Palo Alto,0
+                """,
+            "stop_times.txt", """
+                trip_id,arrival_time,departure_time,stop_id,stop_sequence
+                T1,08:10:00,08:10:00,S1,1
+                T1,09:00:00,09:00:00,S2,2
+                T2,24:30:00,24:30:00,S1,1
+                T2,25:00:00,25:00:00,S2,2
+                T3,08:20:00,08:20:00,S1,1
+                T3,09:10:00,09:10:00,S2,2
+                """
+        );
+
+        return this.compile(tables);
+    } //compile
+
+    private static Instant at(int year, int month, int day, int hour, int minute) {
+        return ZonedDateTime.of(year, month, day, hour, minute, 0, 0, ScheduleIndexTests.ZONE_ID)
+                            .toInstant();
+    } //at
+
+    @Test
+    public void scheduledArrivalsAreFound() throws IOException {
+        ScheduleIndex index = this.compile();
+
+        assertEquals(4, index.getStopCount());
+
+        assertEquals(3, index.getTripCount());
+
+        assertEquals(6, index.getArrivalCount());
+
+        Duration horizon = Duration.ofMinutes(60);
+
+        Set<Bus> buses = index.getBuses(60461, ScheduleIndexTests.at(2026, 10, 14, 8, 0), horizon);
+
+        assertEquals(1, buses.size());
+
+        Bus bus = buses.iterator()
+                       .next();
+
+        assertNull(bus.id());
+
+        assertTrue(bus.scheduled());
+
+        assertEquals("22", bus.line()
+                              .id());
+
+        assertEquals("EASTRIDGE - PALO ALTO", bus.line()
+                                                 .name());
+
+        assertEquals("Santa Clara & 1st, Eastbound", bus.stop()
+                                                        .name());
+
+        assertEquals("60002", bus.destination()
+                                 .id());
+
+        assertEquals("Palo Alto", bus.destination()
+                                     .name());
+
+        assertEquals("OUTBOUND", bus.direction());
+
+        assertEquals(ScheduleIndexTests.at(2026, 10, 14, 8, 10), bus.arrivalTime()
+                                                                    .toInstant());
+
+        Set<Bus> saturday = index.getBuses(60461, ScheduleIndexTests.at(2026, 10, 17, 8, 0), horizon);
+
+        assertEquals(1, saturday.size());
+
+        assertTrue(index.getBuses(60461, ScheduleIndexTests.at(2026, 10, 14, 9, 30), horizon)
+                        .isEmpty());
+
+        assertTrue(index.getBuses(12345, ScheduleIndexTests.at(2026, 10, 14, 8, 0), horizon)
+                        .isEmpty());
+    } //scheduledArrivalsAreFound
+
+    @Test
+    public void serviceDaysSpanMidnightAndExceptions() throws IOException {
+        ScheduleIndex index = this.compile();
+
+        Duration horizon = Duration.ofMinutes(60);
+
+        Set<Bus> buses = index.getBuses(60461, ScheduleIndexTests.at(2026, 10, 15, 0, 0), horizon);
+
+        assertEquals(1, buses.size());
+
+        Bus bus = buses.iterator()
+                       .next();
+
+        assertEquals(ScheduleIndexTests.at(2026, 10, 15, 0, 30), bus.arrivalTime()
+                                                                    .toInstant());
+
+        assertEquals("Palo Alto Transit Center", bus.destination()
+                                                    .name());
+
+        assertTrue(index.getBuses(60461, ScheduleIndexTests.at(2026, 10, 16, 8, 0), horizon)
+                        .isEmpty());
+    } //serviceDaysSpanMidnightAndExceptions
+
+    @Test
+    public void nearbyStopsAreSortedByDistance() throws IOException {
+        ScheduleIndex index = this.compile();
+
+        assertEquals(2, index.getLocatedStopCount());
+
+        List<NearbyStop> nearbyStops = index.getNearbyStops(37.3352, -121.8811, 5);
+
+        assertEquals(2, nearbyStops.size());
+
+        NearbyStop nearest = nearbyStops.get(0);
+
+        assertEquals("60461", nearest.stop()
+                                     .id());
+
+        assertEquals(37.336014, nearest.latitude());
+
+        assertEquals(-121.889143, nearest.longitude());
+
+        assertTrue((nearest.distance() > 700) && (nearest.distance() < 730));
+
+        assertEquals("60002", nearbyStops.get(1)
+                                         .stop()
+                                         .id());
+
+        assertEquals(List.of(nearest), index.getNearbyStops(37.3352, -121.8811, 1));
+
+        assertThrows(IllegalArgumentException.class, () -> index.getNearbyStops(91.0, 0.0, 1));
+
+        assertThrows(IllegalArgumentException.class, () -> index.getNearbyStops(0.0, 0.0, 0));
+    } //nearbyStopsAreSortedByDistance
+
+    @Test
+    public void nearbyStopsMatchAnExhaustiveSearch() throws IOException {
+        Random random = new Random(42L);
+
+        int stopCount = 2_000;
+
+        double[] latitudes = new double[stopCount];
+
+        double[] longitudes = new double[stopCount];
+
+        StringBuilder stops = new StringBuilder("stop_id,stop_name,stop_lat,stop_lon\n");
+
+        for (int i = 0; i < stopCount; i++) {
+            latitudes[i] = 37.2 + (random.nextInt(300_000) / 1_000_000.0);
+
+            longitudes[i] = -122.1 + (random.nextInt(400_000) / 1_000_000.0);
+
+            stops.append("%d,Stop %d,%.6f,%.6f\n".formatted(i + 1, i + 1, latitudes[i], longitudes[i]));
+        } //end for
+
+        Map<String, String> tables = Map.of(
+            "routes.txt", "route_id,route_short_name,route_long_name,route_type\n",
+            "stops.txt", stops.toString(),
+            "trips.txt", "route_id,service_id,trip_id\n",
+            "stop_times.txt", "trip_id,arrival_time,departure_time,stop_id,stop_sequence\n"
+        );
+
+        ScheduleIndex index = this.compile(tables);
+
+        for (int query = 0; query < 200; query++) {
+            double latitude = 37.2 + (random.nextDouble() * 0.3);
+
+            double longitude = -122.1 + (random.nextDouble() * 0.4);
+
+            double scale = Math.cos(Math.toRadians(latitude));
+
+            List<Integer> expected = IntStream.range(0, stopCount)
+                                              .boxed()
+                                              .sorted(Comparator.comparingDouble(i -> {
+                                                  double dy = latitudes[i] - latitude;
+
+                                                  double dx = (longitudes[i] - longitude) * scale;
+
+                                                  return (dx * dx) + (dy * dy);
+                                              }))
+                                              .limit(8)
+                                              .map(i -> i + 1)
+                                              .toList();
+
+            List<Integer> actual = index.getNearbyStops(latitude, longitude, 8)
+                                        .stream()
+                                        .map(nearbyStop -> Integer.parseInt(nearbyStop.stop()
+                                                                                      .id()))
+                                        .toList();
+
+            assertEquals(expected, actual);
+        } //end for
+    } //nearbyStopsMatchAnExhaustiveSearch
+
+    @Test
+    public void staleIndexesAreServedWhileRecompiling() throws IOException {
+        this.compile();
+
+        Path feedPath = this.directory.resolve("gtfs.zip");
+
+        Files.writeString(feedPath, "not a feed");
+
+        Path indexPath = this.directory.resolve("schedule.idx");
+
+        FileTime indexTime = Files.getLastModifiedTime(indexPath);
+
+        Files.setLastModifiedTime(feedPath, FileTime.fromMillis(indexTime.toMillis() + 60_000L));
+
+        StaticSchedule schedule = new StaticSchedule(feedPath.toString(), indexPath.toString(), Duration.ofHours(1L));
+
+        schedule.load();
+
+        assertTrue(schedule.isLoaded());
+
+        assertEquals(4, schedule.getStats()
+                                .stops());
+    } //staleIndexesAreServedWhileRecompiling
+}
\ No newline at end of file
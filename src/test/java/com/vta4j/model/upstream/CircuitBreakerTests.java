@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.upstream;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class CircuitBreakerTests {
+    @Test
+    public void consecutiveFailuresOpenTheBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker(3, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(breaker.tryAcquire());
+
+            breaker.onFailure();
+        } //end for
+
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onSuccess();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(breaker.tryAcquire());
+
+            breaker.onFailure();
+        } //end for
+
+        assertFalse(breaker.isClosed());
+
+        assertFalse(breaker.tryAcquire());
+
+        BreakerStats stats = breaker.getStats();
+
+        assertEquals("open", stats.state());
+
+        assertEquals(1L, stats.opened());
+
+        assertEquals(1L, stats.rejected());
+    } //consecutiveFailuresOpenTheBreaker
+
+    @Test
+    public void probesCloseOrReopenTheBreaker() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofMillis(20));
+
+        breaker.tryAcquire();
+
+        breaker.onFailure();
+
+        Thread.sleep(40L);
+
+        assertTrue(breaker.tryAcquire());
+
+        assertFalse(breaker.tryAcquire());
+
+        breaker.onFailure();
+
+        assertFalse(breaker.tryAcquire());
+
+        Thread.sleep(40L);
+
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onSuccess();
+
+        assertTrue(breaker.isClosed());
+
+        BreakerStats stats = breaker.getStats();
+
+        assertEquals("closed", stats.state());
+
+        assertEquals(2L, stats.probes());
+
+        assertEquals(2L, stats.opened());
+    } //probesCloseOrReopenTheBreaker
+
+    @Test
+    public void throttlingAndServerErrorsAreFailures() {
+        assertTrue(CircuitBreaker.isFailure(503));
+
+        assertTrue(CircuitBreaker.isFailure(429));
+
+        assertFalse(CircuitBreaker.isFailure(404));
+
+        assertFalse(CircuitBreaker.isFailure(200));
+    } //throttlingAndServerErrorsAreFailures
+}
\ No newline at end of file
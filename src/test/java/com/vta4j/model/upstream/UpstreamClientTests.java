@@ -0,0 +1,226 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.upstream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class UpstreamClientTests {
+    private HttpServer server;
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private volatile int slowRequest = -1;
+
+    private volatile int status = 200;
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int request = this.requests.incrementAndGet();
+
+        if (request == this.slowRequest) {
+            try {
+                Thread.sleep(2_000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            } //end try catch
+        } //end if
+
+        byte[] body = "{}".getBytes();
+
+        exchange.sendResponseHeaders(this.status, body.length);
+
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        } //end try
+    } //handle
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+
+        this.server.createContext("/", this::handle);
+
+        this.server.setExecutor(Executors.newCachedThreadPool());
+
+        this.server.start();
+    } //startServer
+
+    @AfterEach
+    public void stopServer() {
+        this.server.stop(0);
+    } //stopServer
+
+    private URI getUri() {
+        int port = this.server.getAddress()
+                              .getPort();
+
+        return URI.create("http://localhost:%d/".formatted(port));
+    } //getUri
+
+    private static UpstreamScheduler newScheduler(int capacity) {
+        return new UpstreamScheduler(1.0, capacity, 5.0, 0.0, Duration.ZERO, Duration.ofMinutes(5));
+    } //newScheduler
+
+    private UpstreamClient newClient(double hedgePercentile, CircuitBreaker breaker, UpstreamScheduler scheduler) {
+        return new UpstreamClient(Duration.ofSeconds(5), Duration.ofSeconds(10), 4, hedgePercentile,
+                                  Duration.ofMillis(50), breaker, scheduler, new SimpleMeterRegistry());
+    } //newClient
+
+    private UpstreamClient newClient(double hedgePercentile, CircuitBreaker breaker) {
+        return this.newClient(hedgePercentile, breaker, UpstreamClientTests.newScheduler(1_000));
+    } //newClient
+
+    private void warmUp(UpstreamClient client) throws Exception {
+        URI uri = this.getUri();
+
+        for (int i = 0; i < 32; i++) {
+            client.sendAsync(uri)
+                  .get(5, TimeUnit.SECONDS);
+        } //end for
+    } //warmUp
+
+    @Test
+    public void slowRequestsAreHedged() throws Exception {
+        UpstreamScheduler scheduler = UpstreamClientTests.newScheduler(1_000);
+
+        UpstreamClient client = this.newClient(0.95, new CircuitBreaker(5, Duration.ofMinutes(1)), scheduler);
+
+        URI uri = this.getUri();
+
+        this.warmUp(client);
+
+        UpstreamStats warmStats = client.getStats();
+
+        this.slowRequest = this.requests.get() + 1;
+
+        long startTime = System.nanoTime();
+
+        HttpResponse<byte[]> response = client.sendAsync(uri)
+                                              .get(5, TimeUnit.SECONDS);
+
+        long elapsed = System.nanoTime() - startTime;
+
+        assertEquals(200, response.statusCode());
+
+        assertTrue(elapsed < TimeUnit.SECONDS.toNanos(1), "elapsed: %d ms".formatted(
+            TimeUnit.NANOSECONDS.toMillis(elapsed)));
+
+        UpstreamStats stats = client.getStats();
+
+        assertEquals(1L, stats.hedges() - warmStats.hedges());
+
+        assertEquals(1L, stats.hedgesWon() - warmStats.hedgesWon());
+
+        assertEquals(stats.hedges(), scheduler.getStats()
+                                              .hedged());
+
+        client.close();
+    } //slowRequestsAreHedged
+
+    @Test
+    public void hedgesWithoutTokensAreSkipped() throws Exception {
+        UpstreamScheduler scheduler = UpstreamClientTests.newScheduler(1);
+
+        UpstreamClient client = this.newClient(0.95, new CircuitBreaker(5, Duration.ofMinutes(1)), scheduler);
+
+        URI uri = this.getUri();
+
+        this.warmUp(client);
+
+        scheduler.callAsync(60461, false, () -> CompletableFuture.completedFuture(true))
+                 .join();
+
+        UpstreamStats warmStats = client.getStats();
+
+        int warmRequests = this.requests.get();
+
+        this.slowRequest = warmRequests + 1;
+
+        HttpResponse<byte[]> response = client.sendAsync(uri)
+                                              .get(5, TimeUnit.SECONDS);
+
+        assertEquals(200, response.statusCode());
+
+        assertEquals(warmRequests + 1, this.requests.get());
+
+        UpstreamStats stats = client.getStats();
+
+        assertEquals(warmStats.hedges(), stats.hedges());
+
+        assertEquals(1L, stats.hedgesSkipped() - warmStats.hedgesSkipped());
+
+        assertEquals(stats.hedges(), scheduler.getStats()
+                                              .hedged());
+
+        client.close();
+    } //hedgesWithoutTokensAreSkipped
+
+    @Test
+    public void openBreakerRejectsRequests() throws Exception {
+        UpstreamClient client = this.newClient(0.0, new CircuitBreaker(2, Duration.ofMinutes(1)));
+
+        URI uri = this.getUri();
+
+        this.status = 503;
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(503, client.sendAsync(uri)
+                                    .get(5, TimeUnit.SECONDS)
+                                    .statusCode());
+        } //end for
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> client.sendAsync(uri)
+                                                                                          .get(5, TimeUnit.SECONDS));
+
+        assertTrue(exception.getCause() instanceof IOException);
+
+        assertEquals(2, this.requests.get());
+
+        assertEquals("open", client.getStats()
+                                   .breaker()
+                                   .state());
+
+        client.close();
+    } //openBreakerRejectsRequests
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Logan Kulinski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.vta4j.model.upstream;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class UpstreamSchedulerTests {
+    @Test
+    public void coldStopsAreDeferredBelowReserve() {
+        UpstreamScheduler scheduler = new UpstreamScheduler(1.0, 2, 5.0, 1.0, Duration.ZERO, Duration.ofMinutes(5));
+
+        assertEquals(Optional.of(1), scheduler.callAsync(1, false, () -> CompletableFuture.completedFuture(1))
+                                              .join());
+
+        scheduler.recordViews(2, 10);
+
+        assertEquals(Optional.empty(), scheduler.callAsync(1, true, () -> CompletableFuture.completedFuture(1))
+                                                .join());
+
+        assertEquals(Optional.of(2), scheduler.callAsync(2, true, () -> CompletableFuture.completedFuture(2))
+                                              .join());
+
+        SchedulerStats stats = scheduler.getStats();
+
+        assertEquals(2, stats.granted());
+
+        assertEquals(1, stats.deferred());
+
+        assertTrue(stats.remaining() < 1.0);
+    } //coldStopsAreDeferredBelowReserve
+
+    @Test
+    public void waitingCallsAreGrantedByViewerCount() throws Exception {
+        UpstreamScheduler scheduler = new UpstreamScheduler(3_600.0, 1, 5.0, 0.0, Duration.ofSeconds(10),
+                                                            Duration.ofMinutes(5));
+
+        scheduler.callAsync(0, false, () -> CompletableFuture.completedFuture(0))
+                 .join();
+
+        scheduler.recordViews(1, 1);
+
+        scheduler.recordViews(2, 10);
+
+        List<Integer> order = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Optional<Boolean>> cold = scheduler.callAsync(1, false, () -> {
+            boolean added = order.add(1);
+
+            return CompletableFuture.completedFuture(added);
+        });
+
+        while (scheduler.getStats()
+                        .queueDepth() < 1) {
+            Thread.onSpinWait();
+        } //end while
+
+        CompletableFuture<Optional<Boolean>> hot = scheduler.callAsync(2, false, () -> {
+            boolean added = order.add(2);
+
+            return CompletableFuture.completedFuture(added);
+        });
+
+        cold.get(10, TimeUnit.SECONDS);
+
+        hot.get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of(2, 1), order);
+    } //waitingCallsAreGrantedByViewerCount
+}
\ No newline at end of file